@@ -20,12 +20,12 @@
 package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 
 public interface FeatureFunction {
 
-    Variable<Matrix> apply(Graph graph, long[] nodeIds, HugeObjectArray<double[]> features);
+    Variable<Matrix> apply(Graph graph, long[] nodeIds, NodeFeatures features);
 
 }
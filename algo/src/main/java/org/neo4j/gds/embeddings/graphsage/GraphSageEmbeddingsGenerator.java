@@ -27,6 +27,10 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.FeaturePrecision;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
+import org.neo4j.gds.ml.core.functions.Constant;
+import org.neo4j.gds.ml.core.functions.NormalizeRows;
 import org.neo4j.gds.ml.core.subgraph.SubGraph;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
@@ -62,7 +66,7 @@ public class GraphSageEmbeddingsGenerator {
 
     public HugeObjectArray<double[]> makeEmbeddings(
         Graph graph,
-        HugeObjectArray<double[]> features
+        NodeFeatures features
     ) {
         HugeObjectArray<double[]> result = HugeObjectArray.newArray(
             double[].class,
@@ -84,10 +88,89 @@ public class GraphSageEmbeddingsGenerator {
         return result;
     }
 
+    /**
+     * Computes the embeddings one layer at a time for all nodes, instead of evaluating the sampled multi-hop
+     * neighborhood of every batch. The representations of a layer are computed once per node and stored in
+     * the given precision, so the work is linear in the number of sampled relationships times the number of layers.
+     * As neighborhoods are sampled deterministically per node and layer, the embeddings are the same as
+     * computed by {@link #makeEmbeddings(Graph, NodeFeatures)} when the representations are stored in double precision.
+     */
+    public HugeObjectArray<double[]> makeEmbeddingsLayerWise(
+        Graph graph,
+        NodeFeatures features,
+        FeaturePrecision representationPrecision
+    ) {
+        HugeObjectArray<double[]> result = HugeObjectArray.newArray(
+            double[].class,
+            graph.nodeCount()
+        );
+
+        progressTracker.beginSubTask();
+
+        NodeFeatures previousLayerRepresentations = null;
+        for (int layerIdx = 0; layerIdx < layers.length; layerIdx++) {
+            var layer = layers[layerIdx];
+            var lastLayer = layerIdx == layers.length - 1;
+            var inputRepresentations = previousLayerRepresentations;
+            var layerOutput = lastLayer
+                ? LayerRepresentations.of(result)
+                : LayerRepresentations.of(representationPrecision, graph.nodeCount());
+
+            var tasks = PartitionUtils.rangePartitionWithBatchSize(
+                graph.nodeCount(),
+                batchSize,
+                partition -> (Runnable) () -> {
+                    SubGraph subGraph = SubGraph.buildSubGraph(
+                        partition.stream().toArray(),
+                        layer::neighborhoodFunction,
+                        graph,
+                        isWeighted
+                    );
+
+                    Variable<Matrix> layerInput = inputRepresentations == null
+                        ? featureFunction.apply(graph, subGraph.originalNodeIds(), features)
+                        : representationsOf(subGraph.originalNodeIds(), inputRepresentations);
+
+                    Variable<Matrix> layerRepresentations = layer.aggregator().aggregate(layerInput, subGraph);
+                    if (lastLayer) {
+                        layerRepresentations = new NormalizeRows(layerRepresentations);
+                    }
+
+                    Matrix representations = new ComputationContext().forward(layerRepresentations);
+
+                    var partitionStartNodeId = partition.startNode();
+                    var partitionNodeCount = partition.nodeCount();
+                    for (int partitionIdx = 0; partitionIdx < partitionNodeCount; partitionIdx++) {
+                        layerOutput.set(partitionStartNodeId + partitionIdx, representations.getRow(partitionIdx));
+                    }
+
+                    progressTracker.logProgress(partitionNodeCount);
+                }
+            );
+
+            ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+
+            previousLayerRepresentations = layerOutput.features();
+        }
+
+        progressTracker.endSubTask();
+
+        return result;
+    }
+
+    private static Variable<Matrix> representationsOf(long[] nodeIds, NodeFeatures representations) {
+        int dimension = representations.featureDimension(nodeIds[0]);
+        var data = new double[nodeIds.length * dimension];
+        for (int i = 0; i < nodeIds.length; i++) {
+            representations.copyInto(nodeIds[i], data, i * dimension);
+        }
+        return Constant.matrix(data, nodeIds.length, dimension);
+    }
+
     private Runnable createEmbeddings(
         Graph graph,
         Partition partition,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         HugeObjectArray<double[]> result
     ) {
         return () -> {
@@ -122,4 +205,47 @@ public class GraphSageEmbeddingsGenerator {
             progressTracker.logProgress(partitionNodeCount);
         };
     }
+
+    private interface LayerRepresentations {
+        void set(long nodeId, double[] representation);
+
+        NodeFeatures features();
+
+        static LayerRepresentations of(HugeObjectArray<double[]> representations) {
+            return new LayerRepresentations() {
+                @Override
+                public void set(long nodeId, double[] representation) {
+                    representations.set(nodeId, representation);
+                }
+
+                @Override
+                public NodeFeatures features() {
+                    return NodeFeatures.of(representations);
+                }
+            };
+        }
+
+        static LayerRepresentations of(FeaturePrecision precision, long nodeCount) {
+            if (precision == FeaturePrecision.DOUBLE) {
+                return of(HugeObjectArray.newArray(double[].class, nodeCount));
+            }
+
+            var representations = HugeObjectArray.newArray(float[].class, nodeCount);
+            return new LayerRepresentations() {
+                @Override
+                public void set(long nodeId, double[] representation) {
+                    var singlePrecision = new float[representation.length];
+                    for (int i = 0; i < representation.length; i++) {
+                        singlePrecision[i] = (float) representation[i];
+                    }
+                    representations.set(nodeId, singlePrecision);
+                }
+
+                @Override
+                public NodeFeatures features() {
+                    return NodeFeatures.ofFloats(representations);
+                }
+            };
+        }
+    }
 }
@@ -33,9 +33,13 @@ import org.neo4j.gds.embeddings.graphsage.algo.MultiLabelFeatureExtractors;
 import org.neo4j.gds.ml.core.NeighborhoodFunction;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.features.BiasFeature;
+import org.neo4j.gds.ml.core.features.FeatureConsumer;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
 import org.neo4j.gds.ml.core.features.FeatureExtractor;
+import org.neo4j.gds.ml.core.features.FeaturePrecision;
 import org.neo4j.gds.ml.core.features.HugeObjectArrayFeatureConsumer;
+import org.neo4j.gds.ml.core.features.HugeObjectArrayFloatFeatureConsumer;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.NormalizeRows;
 import org.neo4j.gds.ml.core.subgraph.SubGraph;
 import org.neo4j.gds.ml.core.tensor.Matrix;
@@ -48,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
@@ -124,6 +129,13 @@ public final class GraphSageHelper {
                 sizeOfIntArray(max) + sizeOfObjectArray(max) + max * sizeOfIntArray(sampleSize) + sizeOfLongArray(
                     maxNextNodeCount)
             );
+            if (config.isWeighted()) {
+                // cached relationship weights of the sampled neighbors
+                subgraphRange = subgraphRange.add(MemoryRange.of(
+                    sizeOfObjectArray(min) + min * sizeOfDoubleArray(0),
+                    sizeOfObjectArray(max) + max * sizeOfDoubleArray(sampleSize)
+                ));
+            }
 
             computationGraphBuilder.add(MemoryEstimations.of("subgraph " + (i + 1), subgraphRange));
         }
@@ -207,14 +219,13 @@ public final class GraphSageHelper {
         return computationGraphBuilder.endField().build();
     }
 
-    public static HugeObjectArray<double[]> initializeSingleLabelFeatures(
+    public static NodeFeatures initializeSingleLabelFeatures(
         Graph graph,
         GraphSageTrainConfig config
     ) {
-        var features = HugeObjectArray.newArray(double[].class, graph.nodeCount());
         var extractors = featureExtractors(graph, config);
 
-        return FeatureExtraction.extract(graph, extractors, features);
+        return FeatureExtraction.extract(graph, extractors, config.featurePrecision());
     }
 
     public static List<FeatureExtractor> featureExtractors(Graph graph, GraphSageTrainConfig config) {
@@ -248,22 +259,49 @@ public final class GraphSageHelper {
         return new MultiLabelFeatureExtractors(featureCountPerLabel, extractorsPerLabel);
     }
 
-    public static HugeObjectArray<double[]> initializeMultiLabelFeatures(
+    public static NodeFeatures initializeMultiLabelFeatures(
         Graph graph,
-        MultiLabelFeatureExtractors multiLabelFeatureExtractors
+        MultiLabelFeatureExtractors multiLabelFeatureExtractors,
+        FeaturePrecision precision
     ) {
+        if (precision == FeaturePrecision.FLOAT) {
+            var features = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+            extractMultiLabelFeatures(
+                graph,
+                multiLabelFeatureExtractors,
+                features,
+                float[]::new,
+                new HugeObjectArrayFloatFeatureConsumer(features)
+            );
+            return NodeFeatures.ofFloats(features);
+        }
+
         var features = HugeObjectArray.newArray(double[].class, graph.nodeCount());
-        var featureConsumer = new HugeObjectArrayFeatureConsumer(features);
+        extractMultiLabelFeatures(
+            graph,
+            multiLabelFeatureExtractors,
+            features,
+            double[]::new,
+            new HugeObjectArrayFeatureConsumer(features)
+        );
+        return NodeFeatures.of(features);
+    }
+
+    private static <FEATURES> void extractMultiLabelFeatures(
+        Graph graph,
+        MultiLabelFeatureExtractors multiLabelFeatureExtractors,
+        HugeObjectArray<FEATURES> features,
+        IntFunction<FEATURES> newFeatures,
+        FeatureConsumer featureConsumer
+    ) {
         graph.forEachNode(nodeId -> {
             var nodeLabel = labelOf(graph, nodeId);
             var extractors = multiLabelFeatureExtractors.extractorsPerLabel().get(nodeLabel);
             var featureCount = multiLabelFeatureExtractors.featureCountPerLabel().get(nodeLabel);
-            features.set(nodeId, new double[featureCount]);
+            features.set(nodeId, newFeatures.apply(featureCount));
             FeatureExtraction.extract(nodeId, nodeId, extractors, featureConsumer);
             return true;
         });
-
-        return features;
     }
 
     private static Map<NodeLabel, Set<String>> propertyKeysPerNodeLabel(GraphSchema graphSchema) {
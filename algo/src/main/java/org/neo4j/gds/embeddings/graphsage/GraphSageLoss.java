@@ -110,7 +110,7 @@ public class GraphSageLoss extends SingleParentVariable<Matrix, Scalar> {
         }
 
         Matrix embeddings = ctx.data(combinedEmbeddings);
-        Matrix gradientResult = embeddings.createWithSameDimensions();
+        Matrix gradientResult = ctx.allocateLike(embeddings);
 
 
         int bucketSize = embeddings.rows() / SAMPLING_BUCKETS;
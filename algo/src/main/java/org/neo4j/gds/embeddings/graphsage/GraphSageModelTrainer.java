@@ -21,12 +21,12 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import com.carrotsearch.hppc.LongHashSet;
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.ImmutableRelationshipCursor;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -36,6 +36,7 @@ import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.Weights;
 import org.neo4j.gds.ml.core.optimizer.AdamOptimizer;
 import org.neo4j.gds.ml.core.samplers.WeightedUniformSampler;
@@ -52,12 +53,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.neo4j.gds.embeddings.graphsage.GraphSageHelper.embeddingsComputationGraph;
@@ -125,7 +129,7 @@ public class GraphSageModelTrainer {
         );
     }
 
-    public ModelTrainResult train(Graph graph, HugeObjectArray<double[]> features) {
+    public ModelTrainResult train(Graph graph, NodeFeatures features) {
         progressTracker.beginSubTask("GraphSageTrain");
 
         var layers = layerConfigsFunction.apply(graph).stream()
@@ -139,11 +143,10 @@ public class GraphSageModelTrainer {
 
         progressTracker.beginSubTask("Prepare batches");
 
-        var batchTasks = PartitionUtils.rangePartitionWithBatchSize(
-            graph.nodeCount(),
-            batchSize,
-            batch -> createBatchTask(graph, features, layers, weights, batch)
-        );
+        // at most `concurrency` batch tasks run at the same time, so at most that many contexts are created
+        var computationContexts = new ConcurrentLinkedQueue<ComputationContext>();
+
+        var batchTasks = prepareBatchTasks(graph, features, layers, weights, computationContexts);
 
         progressTracker.endSubTask("Prepare batches");
 
@@ -172,12 +175,39 @@ public class GraphSageModelTrainer {
         return ModelTrainResult.of(epochLosses, converged, layers);
     }
 
+    private List<BatchTask> prepareBatchTasks(
+        Graph graph,
+        NodeFeatures features,
+        Layer[] layers,
+        ArrayList<Weights<? extends Tensor<?>>> weights,
+        Queue<ComputationContext> computationContexts
+    ) {
+        var batches = PartitionUtils.rangePartitionWithBatchSize(graph.nodeCount(), batchSize, Function.identity());
+        var batchTasks = new BatchTask[batches.size()];
+
+        // sampling the subgraphs of the batches dominates the preparation, so the batches are prepared in parallel
+        var preparationTasks = IntStream.range(0, batchTasks.length)
+            .mapToObj(batchIdx -> (Runnable) () -> batchTasks[batchIdx] = createBatchTask(
+                graph,
+                features,
+                layers,
+                weights,
+                batches.get(batchIdx),
+                computationContexts
+            ))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, preparationTasks, executor);
+
+        return Arrays.asList(batchTasks);
+    }
+
     private BatchTask createBatchTask(
         Graph graph,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         Layer[] layers,
         ArrayList<Weights<? extends Tensor<?>>> weights,
-        Partition batch
+        Partition batch,
+        Queue<ComputationContext> computationContexts
     ) {
         var localGraph = graph.concurrentCopy();
 
@@ -200,7 +230,7 @@ public class GraphSageModelTrainer {
             negativeSampleWeight
         );
 
-        return new BatchTask(lossFunction, weights, tolerance, progressTracker);
+        return new BatchTask(lossFunction, weights, tolerance, computationContexts, progressTracker);
     }
 
     private double trainEpoch(List<BatchTask> batchTasks, List<Weights<? extends Tensor<?>>> weights) {
@@ -242,7 +272,10 @@ public class GraphSageModelTrainer {
 
         private final Variable<Scalar> lossFunction;
         private final List<Weights<? extends Tensor<?>>> weightVariables;
-        private List<? extends Tensor<?>> weightGradients;
+        // contexts with reusable buffers, shared by all batch tasks and taken by one running task at a time
+        private final Queue<ComputationContext> computationContexts;
+        // copied out of the context, as the context is reused by other batches before the gradients are consumed
+        private @Nullable List<Tensor<?>> weightGradients;
         private final double tolerance;
         private final ProgressTracker progressTracker;
         private boolean converged;
@@ -252,11 +285,13 @@ public class GraphSageModelTrainer {
             Variable<Scalar> lossFunction,
             List<Weights<? extends Tensor<?>>> weightVariables,
             double tolerance,
+            Queue<ComputationContext> computationContexts,
             ProgressTracker progressTracker
         ) {
             this.lossFunction = lossFunction;
             this.weightVariables = weightVariables;
             this.tolerance = tolerance;
+            this.computationContexts = computationContexts;
             this.progressTracker = progressTracker;
         }
 
@@ -266,18 +301,40 @@ public class GraphSageModelTrainer {
                 return;
             }
 
-            var localCtx = new ComputationContext();
-            var loss = localCtx.forward(lossFunction).value();
-
-            converged = Math.abs(prevLoss - loss) < tolerance;
-            prevLoss = loss;
-
-            localCtx.backward(lossFunction);
-            weightGradients = weightVariables.stream().map(localCtx::gradient).collect(Collectors.toList());
+            var localCtx = computationContexts.poll();
+            if (localCtx == null) {
+                localCtx = ComputationContext.withBufferReuse();
+            }
+            try {
+                // releases the buffers of the previous batch computed with this context
+                localCtx.reset();
+                var loss = localCtx.forward(lossFunction).value();
+
+                converged = Math.abs(prevLoss - loss) < tolerance;
+                prevLoss = loss;
+
+                localCtx.backward(lossFunction);
+                copyWeightGradients(localCtx);
+            } finally {
+                computationContexts.add(localCtx);
+            }
 
             progressTracker.logProgress();
         }
 
+        private void copyWeightGradients(ComputationContext ctx) {
+            if (weightGradients == null) {
+                weightGradients = weightVariables.stream()
+                    .<Tensor<?>>map(weights -> ctx.gradient(weights).copy())
+                    .collect(Collectors.toList());
+                return;
+            }
+            for (int i = 0; i < weightVariables.size(); i++) {
+                var gradient = ctx.gradient(weightVariables.get(i)).data();
+                System.arraycopy(gradient, 0, weightGradients.get(i).data(), 0, gradient.length);
+            }
+        }
+
         public double loss() {
             return prevLoss;
         }
@@ -22,8 +22,8 @@ package org.neo4j.gds.embeddings.graphsage;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.LabelwiseFeatureProjection;
 import org.neo4j.gds.ml.core.functions.Weights;
 import org.neo4j.gds.ml.core.tensor.Matrix;
@@ -53,7 +53,7 @@ public class MultiLabelFeatureFunction implements FeatureFunction {
      * @return Create a matrix variable around a batch of nodes.
      */
     @Override
-    public Variable<Matrix> apply(Graph graph, long[] nodeIds, HugeObjectArray<double[]> features) {
+    public Variable<Matrix> apply(Graph graph, long[] nodeIds, NodeFeatures features) {
         var labels = new NodeLabel[nodeIds.length];
         var consumer = new SingleNodeLabelConsumer();
 
@@ -21,8 +21,9 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.functions.LazyConstant;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
@@ -30,25 +31,27 @@ public class SingleLabelFeatureFunction implements FeatureFunction {
 
     @Override
     public Variable<Matrix> apply(
-        Graph graph, long[] nodeIds, HugeObjectArray<double[]> features
+        Graph graph, long[] nodeIds, NodeFeatures features
     ) {
-        int featureDimension = features.get(0).length;
+        int featureDimension = features.featureDimension(0);
         int[] dimension = {nodeIds.length, featureDimension};
 
-        return new LazyConstant<>(() -> batchedFeatureExtractor(nodeIds, features, featureDimension), dimension);
+        return new LazyConstant<>(ctx -> batchedFeatureExtractor(ctx, nodeIds, features, featureDimension), dimension);
     }
 
     @NotNull
     private Matrix batchedFeatureExtractor(
+        ComputationContext ctx,
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         int featureDimension
     ) {
         int batchLength = nodeIds.length;
-        var batchFeatures = new Matrix(batchLength, featureDimension);
+        var batchFeatures = ctx.allocateMatrix(batchLength, featureDimension);
+        var batchFeatureData = batchFeatures.data();
 
         for (int batchIdx = 0; batchIdx < batchLength; batchIdx++) {
-            batchFeatures.setRow(batchIdx, features.get(nodeIds[batchIdx]));
+            features.copyInto(nodeIds[batchIdx], batchFeatureData, batchIdx * featureDimension);
         }
 
         return batchFeatures;
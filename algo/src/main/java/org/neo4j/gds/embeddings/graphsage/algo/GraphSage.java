@@ -77,14 +77,14 @@ public class GraphSage extends Algorithm<GraphSage.GraphSageResult> {
         var features = trainConfig.isMultiLabel() ?
             initializeMultiLabelFeatures(
                 graph,
-                GraphSageHelper.multiLabelFeatureExtractors(graph, trainConfig)
+                GraphSageHelper.multiLabelFeatureExtractors(graph, trainConfig),
+                trainConfig.featurePrecision()
             )
             : initializeSingleLabelFeatures(graph, trainConfig);
 
-        HugeObjectArray<double[]> embeddings = embeddingsGenerator.makeEmbeddings(
-            graph,
-            features
-        );
+        HugeObjectArray<double[]> embeddings = config.layerWiseInference()
+            ? embeddingsGenerator.makeEmbeddingsLayerWise(graph, features, trainConfig.featurePrecision())
+            : embeddingsGenerator.makeEmbeddings(graph, features);
         return GraphSageResult.of(embeddings);
     }
 
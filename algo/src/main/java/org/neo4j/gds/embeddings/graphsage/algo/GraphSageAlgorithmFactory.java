@@ -88,17 +88,28 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             graphDimensions -> withNodeCount(
                 model.trainConfig(),
                 graphDimensions.nodeCount(),
-                config instanceof MutateConfig
+                config instanceof MutateConfig,
+                config.layerWiseInference()
             )
         );
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.layerWiseInference()) {
+            // every layer is computed for all nodes
+            var model = resolveModel(modelCatalog, config.username(), config.modelName());
+            return Tasks.leaf(taskName(), graph.nodeCount() * model.trainConfig().sampleSizes().size());
+        }
         return Tasks.leaf(taskName(), graph.nodeCount());
     }
 
-    private MemoryEstimation withNodeCount(GraphSageTrainConfig config, long nodeCount, boolean mutate) {
+    private MemoryEstimation withNodeCount(
+        GraphSageTrainConfig config,
+        long nodeCount,
+        boolean mutate,
+        boolean layerWise
+    ) {
         var gsBuilder = MemoryEstimations.builder("GraphSage");
 
         if (mutate) {
@@ -114,7 +125,9 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             .field("this.instance", GraphSage.class)
             .add(
                 "initialFeatures",
-                HugeObjectArray.memoryEstimation(sizeOfDoubleArray(config.estimationFeatureDimension()))
+                HugeObjectArray.memoryEstimation(
+                    config.featurePrecision().sizeOfFeatureArray(config.estimationFeatureDimension())
+                )
             )
             .perThread(
                 "concurrentBatches",
@@ -122,6 +135,16 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
                     GraphSageHelper.embeddingsEstimation(config, config.batchSize(), nodeCount, 0, false)
                 ).build()
             );
+        // the representations of the previous and the current layer, the last layer writes into the result
+        int intermediateLayers = Math.min(2, config.sampleSizes().size() - 1);
+        if (layerWise && intermediateLayers > 0) {
+            builder = builder.add(
+                "layerRepresentations",
+                HugeObjectArray
+                    .memoryEstimation(config.featurePrecision().sizeOfFeatureArray(config.embeddingDimension()))
+                    .times(intermediateLayers)
+            );
+        }
         if (!mutate) {
             builder = builder.add(
                 "resultFeatures",
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.graphsage.algo;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.BatchSizeConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -26,4 +27,13 @@ import org.neo4j.gds.model.ModelConfig;
 
 public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig, RelationshipWeightConfig {
     long serialVersionUID = 0x42L;
+
+    /**
+     * Whether to compute the representations of each layer once for all nodes,
+     * instead of evaluating the sampled multi-hop neighborhood of every batch.
+     */
+    @Value.Default
+    default boolean layerWiseInference() {
+        return false;
+    }
 }
@@ -112,9 +112,10 @@ public final class GraphSageTrainAlgorithmFactory extends GraphAlgorithmFactory<
 
         var isMultiLabel = config.isMultiLabel();
 
+        var featurePrecision = config.featurePrecision();
         var perNodeFeaturesMemory = MemoryRange.of(
-            sizeOfDoubleArray(isMultiLabel ? 1 : config.estimationFeatureDimension()),
-            sizeOfDoubleArray(config.estimationFeatureDimension())
+            featurePrecision.sizeOfFeatureArray(isMultiLabel ? 1 : config.estimationFeatureDimension()),
+            featurePrecision.sizeOfFeatureArray(config.estimationFeatureDimension())
         );
         var initialFeaturesMemory = HugeObjectArray.memoryEstimation(MemoryEstimations.of("", perNodeFeaturesMemory));
 
@@ -35,6 +35,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.embeddings.graphsage.ActivationFunction;
 import org.neo4j.gds.embeddings.graphsage.Aggregator;
 import org.neo4j.gds.embeddings.graphsage.LayerConfig;
+import org.neo4j.gds.ml.core.features.FeaturePrecision;
 import org.neo4j.gds.model.ModelConfig;
 
 import java.util.ArrayList;
@@ -130,6 +131,13 @@ public interface GraphSageTrainConfig extends
         return 20;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.ml.core.features.FeaturePrecision#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.ml.core.features.FeaturePrecision#toString")
+    default FeaturePrecision featurePrecision() {
+        return FeaturePrecision.DOUBLE;
+    }
+
     @Configuration.IntegerRange(min = 1)
     Optional<Integer> projectedFeatureDimension();
 
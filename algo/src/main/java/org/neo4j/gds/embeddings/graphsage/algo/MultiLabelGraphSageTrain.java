@@ -74,7 +74,7 @@ public class MultiLabelGraphSageTrain extends GraphSageTrain {
 
         var trainResult = trainer.train(
             graph,
-            initializeMultiLabelFeatures(graph, multiLabelFeatureExtractors)
+            initializeMultiLabelFeatures(graph, multiLabelFeatureExtractors, config.featurePrecision())
         );
 
         return Model.of(
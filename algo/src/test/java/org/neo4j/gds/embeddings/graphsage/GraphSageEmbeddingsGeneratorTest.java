@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.graphsage;
 
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -35,6 +36,7 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.ml.core.features.FeaturePrecision;
 
 import java.util.Collections;
 import java.util.List;
@@ -126,7 +128,8 @@ class GraphSageEmbeddingsGeneratorTest {
         var embeddings = embeddingsGenerator.makeEmbeddings(
             graph,
             GraphSageHelper.initializeMultiLabelFeatures(graph,
-                GraphSageHelper.multiLabelFeatureExtractors(graph, config)
+                GraphSageHelper.multiLabelFeatureExtractors(graph, config),
+                config.featurePrecision()
             )
         );
 
@@ -136,6 +139,43 @@ class GraphSageEmbeddingsGeneratorTest {
         LongStream.range(0, graph.nodeCount()).forEach(n -> assertEquals(EMBEDDING_DIMENSION, embeddings.get(n).length));
     }
 
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void layerWiseEmbeddingsMatchBatchedEmbeddings(Aggregator.AggregatorType aggregatorType) {
+        var config = ImmutableGraphSageTrainConfig.builder()
+            .aggregator(aggregatorType)
+            .embeddingDimension(EMBEDDING_DIMENSION)
+            .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
+            .sampleSizes(List.of(3, 2))
+            .batchSize(3)
+            .randomSeed(42L)
+            .modelName(MODEL_NAME)
+            .build();
+
+        var features = GraphSageHelper.initializeSingleLabelFeatures(graph, config);
+        var result = new GraphSageModelTrainer(config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).train(graph, features);
+
+        var embeddingsGenerator = new GraphSageEmbeddingsGenerator(
+            result.layers(),
+            config.batchSize(),
+            config.concurrency(),
+            config.isWeighted(),
+            new SingleLabelFeatureFunction(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var batchedEmbeddings = embeddingsGenerator.makeEmbeddings(graph, features);
+        var layerWiseEmbeddings = embeddingsGenerator.makeEmbeddingsLayerWise(graph, features, FeaturePrecision.DOUBLE);
+        var singlePrecisionEmbeddings = embeddingsGenerator.makeEmbeddingsLayerWise(graph, features, FeaturePrecision.FLOAT);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            var expected = batchedEmbeddings.get(nodeId);
+            assertThat(layerWiseEmbeddings.get(nodeId)).containsExactly(expected, Offset.offset(1e-12));
+            assertThat(singlePrecisionEmbeddings.get(nodeId)).containsExactly(expected, Offset.offset(1e-5));
+        }
+    }
+
     @Test
     void embeddingsForNodeFilteredGraph() {
         GdlFactory factory = GdlFactory.of(
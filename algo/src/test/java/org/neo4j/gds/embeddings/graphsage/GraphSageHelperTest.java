@@ -35,6 +35,7 @@ import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.ml.core.features.FeatureExtractionBaseTest;
+import org.neo4j.gds.ml.core.features.FeaturePrecision;
 
 import java.util.List;
 import java.util.Set;
@@ -61,7 +62,8 @@ class GraphSageHelperTest {
         var multiLabelFeatureExtractors = GraphSageHelper.multiLabelFeatureExtractors(graph, config);
         var actual = config.isMultiLabel() ? GraphSageHelper.initializeMultiLabelFeatures(
             graph,
-            multiLabelFeatureExtractors
+            multiLabelFeatureExtractors,
+            config.featurePrecision()
         ) : GraphSageHelper.initializeSingleLabelFeatures(graph, config);
 
         assertEquals(expected.size(), actual.size());
@@ -80,7 +82,8 @@ class GraphSageHelperTest {
             .build();
         var exception = assertThrows(IllegalArgumentException.class, () ->
             GraphSageHelper.initializeMultiLabelFeatures(graph,
-                GraphSageHelper.multiLabelFeatureExtractors(graph, config)
+                GraphSageHelper.multiLabelFeatureExtractors(graph, config),
+                config.featurePrecision()
             )
         );
         assertThat(exception).hasMessage(
@@ -181,6 +184,24 @@ class GraphSageHelperTest {
             assertThat(features.get(validIdFunction.of("a"))).contains(new double[] {1.4, -1.1, 2.5}, Offset.offset(1e-6));
             assertThat(features.get(validIdFunction.of("b"))).contains(new double[] {1.8, 1.0, 2.0}, Offset.offset(1e-6));
         }
+
+        @Test
+        void shouldStoreFeaturesInSinglePrecision() {
+            GraphSageTrainConfig graphSageTrainConfig = ImmutableGraphSageTrainConfig.builder()
+                .modelName("foo")
+                .featureProperties(List.of("prop", "arrayProp"))
+                .featurePrecision(FeaturePrecision.FLOAT)
+                .build();
+
+            var features = GraphSageHelper.initializeSingleLabelFeatures(
+                validGraph,
+                graphSageTrainConfig
+            );
+
+            assertThat(features.precision()).isEqualTo(FeaturePrecision.FLOAT);
+            assertThat(features.get(validIdFunction.of("a"))).containsExactly((float) 1.4, (float) -1.1, (float) 2.5);
+            assertThat(features.get(validIdFunction.of("b"))).containsExactly((float) 1.8, (float) 1.0, (float) 2.0);
+        }
     }
 
     @Nested
@@ -40,6 +40,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.ml.core.AbstractVariable;
 import org.neo4j.gds.ml.core.Dimensions;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.helper.TensorTestUtils;
 
 import java.util.Collections;
@@ -76,17 +77,18 @@ class GraphSageModelTrainerTest {
     private Graph graph;
     @Inject
     private Graph arrayGraph;
-    private HugeObjectArray<double[]> features;
+    private NodeFeatures features;
     private ImmutableGraphSageTrainConfig.Builder configBuilder;
 
 
     @BeforeEach
     void setUp() {
         long nodeCount = graph.nodeCount();
-        features = HugeObjectArray.newArray(double[].class, nodeCount);
+        var featureArray = HugeObjectArray.newArray(double[].class, nodeCount);
 
         Random random = new Random(19L);
-        LongStream.range(0, nodeCount).forEach(n -> features.set(n, random.doubles(FEATURES_COUNT).toArray()));
+        LongStream.range(0, nodeCount).forEach(n -> featureArray.set(n, random.doubles(FEATURES_COUNT).toArray()));
+        features = NodeFeatures.of(featureArray);
         configBuilder = ImmutableGraphSageTrainConfig.builder()
             .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
             .embeddingDimension(EMBEDDING_DIMENSION);
@@ -187,7 +189,7 @@ class GraphSageModelTrainerTest {
 
         var trainer = new GraphSageModelTrainer(config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
 
-        var result = trainer.train(arrayGraph, arrayFeatures);
+        var result = trainer.train(arrayGraph, NodeFeatures.of(arrayFeatures));
 
         assertThat(result.layers())
             .allSatisfy(layer -> assertThat(layer.weights())
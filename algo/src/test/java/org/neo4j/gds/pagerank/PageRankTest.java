@@ -593,9 +593,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2478440L, 2478440L),
+            Arguments.of(4, 2675432L, 2675432L),
+            Arguments.of(42, 5170664L, 5170664L)
         );
     }
 
@@ -652,8 +652,8 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            241_286_621_640L,
-            241_286_621_640L
+            241_286_884_072L,
+            241_286_884_072L
         );
     }
 
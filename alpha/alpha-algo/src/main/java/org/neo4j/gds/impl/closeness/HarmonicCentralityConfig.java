@@ -39,6 +39,13 @@ public interface HarmonicCentralityConfig extends
         return "centrality";
     }
 
+    @Value.Check
+    default void validateSynchronousWrite() {
+        if (asyncWrite()) {
+            throw new IllegalArgumentException("Asynchronous writes are not supported by Harmonic Centrality.");
+        }
+    }
+
     static HarmonicCentralityConfig of(CypherMapWrapper config) {
         return new HarmonicCentralityConfigImpl(config);
     }
@@ -37,6 +37,13 @@ public interface SccConfig extends AlgoBaseConfig, WritePropertyConfig {
         return "componentId";
     }
 
+    @Value.Check
+    default void validateSynchronousWrite() {
+        if (asyncWrite()) {
+            throw new IllegalArgumentException("Asynchronous writes are not supported by Strongly Connected Components.");
+        }
+    }
+
     static SccConfig of(CypherMapWrapper userInput) {
         return new SccConfigImpl(userInput);
     }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.spanningtree;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -35,4 +36,11 @@ public interface SpanningTreeBaseConfig extends
 
     @Configuration.Parameter
     DoubleUnaryOperator minMax();
+
+    @Value.Check
+    default void validateSynchronousWrite() {
+        if (asyncWrite()) {
+            throw new IllegalArgumentException("Asynchronous writes are not supported by Spanning Tree.");
+        }
+    }
 }
@@ -59,6 +59,18 @@ public interface AdjacencyCursor extends AutoCloseable {
      */
     long nextVLong();
 
+    /**
+     * Read and decode up to {@code buffer.length} target ids into the given buffer, starting at index 0.
+     * Returns the number of decoded target ids, which is {@code 0} iff this cursor is exhausted.
+     */
+    default int nextVLongs(long[] buffer) {
+        int decoded = 0;
+        while (decoded < buffer.length && hasNextVLong()) {
+            buffer[decoded++] = nextVLong();
+        }
+        return decoded;
+    }
+
     /**
      * Decode and peek the next target id. Does not progress the internal cursor unlike {@link #nextVLong()}.
      *
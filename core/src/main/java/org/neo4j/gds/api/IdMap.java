@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.api;
 
+import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.NodeLabel;
 
 import java.util.Collection;
@@ -96,6 +97,15 @@ public interface IdMap extends PartialIdMap, NodeIterator, BatchNodeIterable {
         throw new UnsupportedOperationException("This node mapping does not support label filtering");
     }
 
+    /**
+     * Returns a mapping that only contains the nodes whose ids are set in the given bit set
+     * and only exposes the given node labels.
+     * The returned mapping is nested, i.e. its original ids are the ids of this mapping.
+     */
+    default IdMap withFilteredNodes(BitSet nodes, Collection<NodeLabel> nodeLabels, int concurrency) {
+        throw new UnsupportedOperationException("This node mapping does not support node filtering");
+    }
+
     @FunctionalInterface
     interface NodeLabelConsumer {
 
@@ -45,6 +45,18 @@ public interface PropertyCursor extends AutoCloseable {
      */
     long nextLong();
 
+    /**
+     * Read up to {@code buffer.length} property values into the given buffer, starting at index 0.
+     * Returns the number of read values, which is {@code 0} iff this cursor is exhausted.
+     */
+    default int nextLongs(long[] buffer) {
+        int read = 0;
+        while (read < buffer.length && hasNextLong()) {
+            buffer[read++] = nextLong();
+        }
+        return read;
+    }
+
     @Override
     void close();
 
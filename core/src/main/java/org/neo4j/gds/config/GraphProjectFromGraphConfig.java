@@ -53,6 +53,16 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return ConcurrencyConfig.DEFAULT_CONCURRENCY;
     }
 
+    /**
+     * Whether the subgraph should be a view on the original graph instead of a copy.
+     * A lazy subgraph only stores its node id mapping and shares the topology and properties with the original graph.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean lazy() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyValidatorService.validator().validate(concurrency(), "concurrency", ConcurrencyConfig.CONCURRENCY_LIMITATION);
@@ -19,11 +19,16 @@
  */
 package org.neo4j.gds.config;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.Optional;
 
 import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
 import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface WritePropertyConfig extends WriteConfig {
 
@@ -33,6 +38,35 @@ public interface WritePropertyConfig extends WriteConfig {
     @Configuration.Key(WRITE_PROPERTY_KEY)
     String writeProperty();
 
+    /**
+     * If {@code true}, the procedure returns as soon as the result is computed.
+     * The result is then written by a background job that is tracked under {@link #jobId()}.
+     */
+    @Value.Default
+    default boolean asyncWrite() {
+        return false;
+    }
+
+    /**
+     * The id under which the background job of an asynchronous write is tracked.
+     * If none is given, a random id is used.
+     */
+    Optional<String> jobId();
+
+    @Value.Check
+    default void validateJobId() {
+        jobId().ifPresent(jobId -> {
+            if (!asyncWrite()) {
+                throw new IllegalArgumentException("The `jobId` can only be set for asynchronous writes using `asyncWrite: true`.");
+            }
+            try {
+                JobId.fromString(jobId);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(formatWithLocale("The `jobId` `%s` is not a valid job id.", jobId), e);
+            }
+        });
+    }
+
     static @Nullable String validatePropertyName(String input) {
         return validateNoWhiteCharacter(emptyToNull(input), "writeProperty");
     }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.config;
 
+import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.core.StringIdentifierValidations;
@@ -27,9 +28,36 @@ public interface WriteRelationshipConfig extends WriteConfig {
 
     String WRITE_RELATIONSHIP_TYPE_KEY = "writeRelationshipType";
 
+    int DEFAULT_WRITE_BATCH_SIZE = 10_000;
+
     @Configuration.ConvertWith("validatePropertyName")
     String writeRelationshipType();
 
+    /**
+     * The maximum number of relationships that are committed in a single transaction.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int writeBatchSize() {
+        return DEFAULT_WRITE_BATCH_SIZE;
+    }
+
+    /**
+     * Whether relationships are committed by {@link #writeConcurrency()} writers instead of a single one.
+     * Writers that lock the same nodes may deadlock, which is resolved by retrying with smaller transactions.
+     */
+    @Value.Default
+    default boolean parallelRelationshipWrite() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateAsyncWrite() {
+        if (this instanceof WritePropertyConfig && ((WritePropertyConfig) this).asyncWrite()) {
+            throw new IllegalArgumentException("Asynchronous writes are only supported for node properties.");
+        }
+    }
+
     static @Nullable String validatePropertyName(String input) {
         return StringIdentifierValidations.validateNoWhiteCharacter(input, "writeRelationshipType");
     }
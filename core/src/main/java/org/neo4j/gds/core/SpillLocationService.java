@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.compat.GraphStoreExportSettings;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Provides the server-side directory in which algorithms can store data
+ * outside the JVM heap. The directory is a subdirectory of the configured
+ * export location. Directory names that are provided by users are always
+ * resolved within that directory.
+ */
+public final class SpillLocationService {
+
+    public static final String SPILL_DIR = "spill";
+
+    private static final SpillLocationService NONE = new SpillLocationService(null);
+
+    private final @Nullable Path spillLocation;
+
+    public static SpillLocationService none() {
+        return NONE;
+    }
+
+    public static SpillLocationService of(@Nullable Path exportLocation) {
+        return exportLocation != null
+            ? new SpillLocationService(exportLocation.resolve(SPILL_DIR).toAbsolutePath().normalize())
+            : NONE;
+    }
+
+    public static SpillLocationService of(@Nullable GraphDatabaseAPI api) {
+        if (api == null) {
+            return NONE;
+        }
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        return of(neo4jConfig.get(GraphStoreExportSettings.export_location_setting));
+    }
+
+    private SpillLocationService(@Nullable Path spillLocation) {
+        this.spillLocation = spillLocation;
+    }
+
+    /**
+     * Resolves the given directory name within the spill location
+     * and creates the directory if it does not exist yet.
+     *
+     * @throws IllegalArgumentException if no export location is configured
+     *                                  or the name points outside the spill location
+     */
+    public Path resolve(String directoryName) {
+        var rootPath = spillLocation;
+        if (rootPath == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The configuration option '%s' must be set in order to spill data to disk.",
+                GraphStoreExportSettings.export_location_setting.name()
+            ));
+        }
+
+        var resolvedPath = rootPath.resolve(directoryName).normalize();
+        if (!resolvedPath.startsWith(rootPath)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal spill directory '%s'. It attempts to write into a forbidden directory.",
+                directoryName
+            ));
+        }
+
+        try {
+            Files.createDirectories(resolvedPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not create spill directory '%s'.", resolvedPath), e);
+        }
+
+        return resolvedPath;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compress;
+
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.kernel.database.NamedDatabaseId;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+
+/**
+ * Records how well the adjacency lists of projected graphs compress.
+ *
+ * {@link CompressedAdjacencyList#adjacencyListEstimation(long, long)} can only bound the size of the
+ * delta encoded targets by a best and a worst case delta. After a projection, we sample the actual
+ * delta distribution per relationship projection, so that later estimations of the same projection
+ * on the same database and of a similar order of magnitude of nodes can narrow that range.
+ */
+public final class AdjacencyCompressionCalibration {
+
+    // upper bound of adjacency lists that are decoded per sample
+    static final int SAMPLE_SIZE = 10_000;
+    // headroom on top of the sampled average, covers variance between projections
+    static final double SAFETY_FACTOR = 1.25;
+
+    // upper bound of retained samples, the least recently used sample is dropped first
+    static final int MAX_SAMPLES = 1024;
+
+    private static final int BATCH_SIZE = 64;
+
+    private static final Map<Key, Double> BYTES_PER_DELTA = Collections.synchronizedMap(
+        new LinkedHashMap<Key, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+                return size() > MAX_SAMPLES;
+            }
+        }
+    );
+
+    private AdjacencyCompressionCalibration() {}
+
+    /**
+     * Decodes the adjacency lists of up to {@link #SAMPLE_SIZE} evenly spaced nodes and records the average number
+     * of bytes needed to encode the delta between two consecutive targets. The first target of every adjacency list
+     * is not a delta and is left out, as the estimation accounts for it separately.
+     * If an earlier sample exists, the larger value is kept.
+     */
+    public static void sample(Projection projection, AdjacencyList adjacencyList, long nodeCount) {
+        long stride = Math.max(1L, nodeCount / SAMPLE_SIZE);
+        long[] targets = new long[BATCH_SIZE];
+        AdjacencyCursor cursor = null;
+
+        long encodedBytes = 0L;
+        long deltas = 0L;
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += stride) {
+            if (adjacencyList.degree(nodeId) < 2) {
+                continue;
+            }
+            cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+            long previous = -1L;
+            int decoded;
+            while ((decoded = cursor.nextVLongs(targets)) > 0) {
+                for (int i = 0; i < decoded; i++) {
+                    if (previous != -1L) {
+                        encodedBytes += encodedVLongSize(targets[i] - previous);
+                        deltas++;
+                    }
+                    previous = targets[i];
+                }
+            }
+        }
+
+        if (deltas == 0) {
+            return;
+        }
+
+        BYTES_PER_DELTA.merge(
+            new Key(projection, magnitude(nodeCount)),
+            (double) encodedBytes / deltas,
+            Math::max
+        );
+    }
+
+    /**
+     * Returns the sampled average number of bytes per delta including {@link #SAFETY_FACTOR},
+     * or an empty optional if no graph of similar size has been sampled for the given projection.
+     */
+    public static OptionalDouble estimatedBytesPerDelta(Projection projection, long nodeCount) {
+        var sampled = BYTES_PER_DELTA.get(new Key(projection, magnitude(nodeCount)));
+        return sampled == null
+            ? OptionalDouble.empty()
+            : OptionalDouble.of(sampled * SAFETY_FACTOR);
+    }
+
+    public static void clear() {
+        BYTES_PER_DELTA.clear();
+    }
+
+    // the encoded size of deltas depends on the id space, graphs are considered similar within a power of two
+    private static int magnitude(long nodeCount) {
+        return 64 - Long.numberOfLeadingZeros(nodeCount);
+    }
+
+    /**
+     * Identifies the projection of a single relationship type. Only projections of the same
+     * database with equal node and relationship projections share their samples.
+     */
+    public static final class Projection {
+        private final NamedDatabaseId databaseId;
+        private final NodeProjections nodeProjections;
+        private final RelationshipType relationshipType;
+        private final RelationshipProjection relationshipProjection;
+
+        private Projection(
+            NamedDatabaseId databaseId,
+            NodeProjections nodeProjections,
+            RelationshipType relationshipType,
+            RelationshipProjection relationshipProjection
+        ) {
+            this.databaseId = databaseId;
+            this.nodeProjections = nodeProjections;
+            this.relationshipType = relationshipType;
+            this.relationshipProjection = relationshipProjection;
+        }
+
+        public static Projection of(
+            NamedDatabaseId databaseId,
+            NodeProjections nodeProjections,
+            RelationshipType relationshipType,
+            RelationshipProjection relationshipProjection
+        ) {
+            return new Projection(databaseId, nodeProjections, relationshipType, relationshipProjection);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Projection that = (Projection) o;
+            return databaseId.equals(that.databaseId) &&
+                   nodeProjections.equals(that.nodeProjections) &&
+                   relationshipType.equals(that.relationshipType) &&
+                   relationshipProjection.equals(that.relationshipProjection);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(databaseId, nodeProjections, relationshipType, relationshipProjection);
+        }
+    }
+
+    private static final class Key {
+        private final Projection projection;
+        private final int magnitude;
+
+        private Key(Projection projection, int magnitude) {
+            this.projection = projection;
+            this.magnitude = magnitude;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return magnitude == key.magnitude &&
+                   projection.equals(key.projection);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projection, magnitude);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.Optional;
 import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
@@ -94,6 +95,16 @@ public interface AdjacencyListBehavior {
             : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
     }
 
+    static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        Optional<AdjacencyCompressionCalibration.Projection> projection
+    ) {
+        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
+            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected, projection);
+    }
+
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
         return UncompressedAdjacencyList.adjacencyPropertiesEstimation(relationshipType, undirected);
     }
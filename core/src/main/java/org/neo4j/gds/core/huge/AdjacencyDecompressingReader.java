@@ -77,6 +77,22 @@ final class AdjacencyDecompressingReader {
         return readNextBlock(remaining);
     }
 
+    int next(int remaining, long[] buffer) {
+        int length = Math.min(remaining, buffer.length);
+        int copied = 0;
+        while (copied < length) {
+            if (pos >= CHUNK_SIZE) {
+                readNextBlock(remaining - copied);
+                pos = 0;
+            }
+            int inBlock = Math.min(length - copied, CHUNK_SIZE - pos);
+            System.arraycopy(block, pos, buffer, copied, inBlock);
+            pos += inBlock;
+            copied += inBlock;
+        }
+        return length;
+    }
+
     long peek(int remaining) {
         int pos = this.pos;
         if (pos < CHUNK_SIZE) {
@@ -26,6 +26,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compress.AdjacencyCompressionCalibration;
 import org.neo4j.gds.core.loading.BumpAllocator;
 import org.neo4j.gds.core.loading.MutableIntValue;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -34,6 +35,9 @@ import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Optional;
 
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.collections.PageUtil.indexInPage;
@@ -44,6 +48,18 @@ import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 public final class CompressedAdjacencyList implements AdjacencyList {
 
     public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return adjacencyListEstimation(relationshipType, undirected, Optional.empty());
+    }
+
+    /**
+     * If the given projection has been sampled by {@link AdjacencyCompressionCalibration},
+     * the sampled compression narrows the estimated range.
+     */
+    public static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        Optional<AdjacencyCompressionCalibration.Projection> projection
+    ) {
         return MemoryEstimations.setup("", dimensions -> {
             long nodeCount = dimensions.nodeCount();
             long relCountForType = dimensions
@@ -51,6 +67,19 @@ public final class CompressedAdjacencyList implements AdjacencyList {
                 .getOrDefault(relationshipType, dimensions.relCountUpperBound());
             long relCount = undirected ? relCountForType * 2 : relCountForType;
             long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            if (projection.isPresent() && GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled()) {
+                var bytesPerDelta = AdjacencyCompressionCalibration.estimatedBytesPerDelta(
+                    projection.get(),
+                    nodeCount
+                );
+                if (bytesPerDelta.isPresent()) {
+                    return CompressedAdjacencyList.adjacencyListEstimation(
+                        avgDegree,
+                        nodeCount,
+                        bytesPerDelta.getAsDouble()
+                    );
+                }
+            }
             return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
         });
     }
@@ -69,6 +98,33 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
         long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
 
+        return adjacencyListEstimationForSizes(bestCaseAdjacencySize, worstCaseAdjacencySize);
+    }
+
+    /**
+     * Estimates the adjacency list using the bytes per delta that were sampled from an earlier projection.
+     * The sampled size is the estimate, i.e. the minimum, and the worst case of the formula stays the maximum.
+     * Skewed graphs can exceed the formula's worst case, in which case the sampled size is used for both.
+     */
+    public static MemoryEstimation adjacencyListEstimation(
+        long avgDegree,
+        long nodeCount,
+        double bytesPerDelta
+    ) {
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+        long calibratedAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, bytesPerDelta);
+
+        return adjacencyListEstimationForSizes(
+            calibratedAdjacencySize,
+            Math.max(worstCaseAdjacencySize, calibratedAdjacencySize)
+        );
+    }
+
+    private static MemoryEstimation adjacencyListEstimationForSizes(
+        long bestCaseAdjacencySize,
+        long worstCaseAdjacencySize
+    ) {
         int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
         int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
 
@@ -93,12 +149,23 @@ public final class CompressedAdjacencyList implements AdjacencyList {
 
     /* test private */
     static long computeAdjacencyByteSize(long avgDegree, long nodeCount, long delta) {
-        long firstAdjacencyIdAvgByteSize = (avgDegree > 0) ? ceilDiv(encodedVLongSize(nodeCount), 2) : 0L;
+        long firstAdjacencyIdAvgByteSize = firstAdjacencyIdAvgByteSize(avgDegree, nodeCount);
         int relationshipByteSize = encodedVLongSize(delta);
         long compressedAdjacencyByteSize = relationshipByteSize * Math.max(0, (avgDegree - 1));
         return (firstAdjacencyIdAvgByteSize + compressedAdjacencyByteSize) * nodeCount;
     }
 
+    /* test private */
+    static long computeAdjacencyByteSize(long avgDegree, long nodeCount, double bytesPerDelta) {
+        long firstAdjacencyIdAvgByteSize = firstAdjacencyIdAvgByteSize(avgDegree, nodeCount);
+        double compressedAdjacencyByteSize = bytesPerDelta * Math.max(0, (avgDegree - 1));
+        return (long) Math.ceil((firstAdjacencyIdAvgByteSize + compressedAdjacencyByteSize) * nodeCount);
+    }
+
+    private static long firstAdjacencyIdAvgByteSize(long avgDegree, long nodeCount) {
+        return (avgDegree > 0) ? ceilDiv(encodedVLongSize(nodeCount), 2) : 0L;
+    }
+
     private byte[][] pages;
     private HugeIntArray degrees;
     private HugeLongArray offsets;
@@ -209,6 +276,13 @@ public final class CompressedAdjacencyList implements AdjacencyList {
             return decompress.next(remaining);
         }
 
+        @Override
+        public int nextVLongs(long[] buffer) {
+            int decoded = decompress.next(maxTargets - currentPosition, buffer);
+            currentPosition += decoded;
+            return decoded;
+        }
+
         @Override
         public long peekVLong() {
             int remaining = maxTargets - currentPosition;
@@ -222,6 +222,14 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset++];
         }
 
+        @Override
+        public int nextLongs(long[] buffer) {
+            int length = Math.min(buffer.length, limit - offset);
+            System.arraycopy(currentPage, offset, buffer, 0, length);
+            offset += length;
+            return length;
+        }
+
         @Override
         public int size() {
             return degree;
@@ -242,6 +250,11 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset++];
         }
 
+        @Override
+        public int nextVLongs(long[] buffer) {
+            return nextLongs(buffer);
+        }
+
         @Override
         public long peekVLong() {
             return currentPage[offset];
@@ -30,10 +30,13 @@ import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.LongArrayBuffer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -53,6 +56,9 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
  *     <li>Compresses raw records into compressed long arrays</li>
  *     <li>Creates tasks that write compressed long arrays into the final adjacency list using a specific compressor</li>
  * </ul>
+ *
+ * If the degrees of the source nodes have been counted upfront, see {@link #addDegrees(long[], int)},
+ * the buffers of each node are sized according to that degree instead of growing in powers of two.
  */
 @Value.Style(typeBuilder = "AdjacencyBufferBuilder")
 public final class AdjacencyBuffer {
@@ -67,6 +73,8 @@ public final class AdjacencyBuffer {
     private final Aggregation[] aggregations;
     private final boolean atLeastOnePropertyToLoad;
 
+    private @Nullable HugeIntArray degrees;
+
     public static MemoryEstimation memoryEstimation(
         RelationshipType relationshipType,
         int propertyCount,
@@ -94,14 +102,19 @@ public final class AdjacencyBuffer {
         //noinspection OptionalGetWithoutIsPresent -- pageSize is defined because we have a nodeCount
         var pageSize = importSizing.pageSize().getAsInt();
 
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(AdjacencyBuffer.class)
             .fixed("ChunkedAdjacencyLists pages", sizeOfObjectArray(numberOfPages))
             .add(
                 "ChunkedAdjacencyLists",
                 ChunkedAdjacencyLists.memoryEstimation(avgDegree, pageSize, propertyCount).times(numberOfPages)
-            )
-            .build();
+            );
+
+        if (GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()) {
+            builder.fixed("degrees", HugeIntArray.memoryEstimation(nodeCount));
+        }
+
+        return builder.build();
     }
 
     @Builder.Factory
@@ -207,10 +220,19 @@ public final class AdjacencyBuffer {
                 ChunkedAdjacencyLists compressedTargets = this.chunkedAdjacencyLists[pageIndex];
 
                 var targetsToImport = endOffset - startOffset;
+                var expectedDegree = degrees == null ? 0 : degrees.get(source);
                 if (propertyValues == null) {
-                    compressedTargets.add(localId, targets, startOffset, endOffset, targetsToImport);
+                    compressedTargets.add(localId, targets, startOffset, endOffset, targetsToImport, expectedDegree);
                 } else {
-                    compressedTargets.add(localId, targets, propertyValues, startOffset, endOffset, targetsToImport);
+                    compressedTargets.add(
+                        localId,
+                        targets,
+                        propertyValues,
+                        startOffset,
+                        endOffset,
+                        targetsToImport,
+                        expectedDegree
+                    );
                 }
 
                 startOffset = endOffset;
@@ -222,8 +244,51 @@ public final class AdjacencyBuffer {
         }
     }
 
+    /**
+     * Prepares this buffer for a first import pass that only counts the degree of each source node.
+     */
+    void prepareDegreeCounting(long nodeCount) {
+        this.degrees = HugeIntArray.newArray(nodeCount);
+    }
+
+    /**
+     * @param batch       two-tuple values sorted by source (source, target)
+     * @param batchLength length of the batch, i.e. twice the number of relationships
+     */
+    void addDegrees(long[] batch, int batchLength) {
+        var paging = this.paging;
+        var degrees = Objects.requireNonNull(this.degrees);
+
+        ThreadLocalRelationshipsBuilder builder = null;
+        int lastPageIndex = -1;
+        try {
+            for (int i = 0; i < batchLength; i += 2) {
+                long source = batch[i];
+                int pageIndex = paging.pageId(source);
+
+                // degrees of a page are guarded by the same lock as the adjacency lists of that page
+                if (pageIndex != lastPageIndex) {
+                    if (builder != null) {
+                        builder.unlock();
+                    }
+                    builder = localBuilders[pageIndex];
+                    builder.lock();
+                    lastPageIndex = pageIndex;
+                }
+
+                degrees.addTo(source, 1);
+            }
+        } finally {
+            if (builder != null && builder.isLockedByCurrentThread()) {
+                builder.unlock();
+            }
+        }
+    }
+
     Collection<AdjacencyListBuilderTask> adjacencyListBuilderTasks(Optional<AdjacencyCompressor.ValueMapper> mapper) {
         adjacencyCompressorFactory.init();
+        // all targets have been added, the degrees are no longer needed
+        this.degrees = null;
 
         var tasks = new ArrayList<AdjacencyListBuilderTask>(localBuilders.length + 1);
         for (int page = 0; page < localBuilders.length; page++) {
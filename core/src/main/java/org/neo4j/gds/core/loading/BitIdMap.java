@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeCursor;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * An id map for dense original id ranges that stores the set of original ids
+ * as a bitmap with an additional rank/select index. The internal id of a node
+ * is the rank of its original id, i.e. the number of smaller original ids.
+ * <br>
+ * Compared to {@link HugeIdMap}, which stores 8 bytes per node for the mapping
+ * to original ids and a sparse array over all original ids for the reverse
+ * direction, both directions are served by the bitmap, which costs slightly
+ * more than a single bit per possible original id.
+ */
+public final class BitIdMap implements IdMap {
+
+    // A rank block covers 8 words, i.e. 512 original ids.
+    private static final int BLOCK_SHIFT = 3;
+    // The block of every 4096th internal id is sampled to speed up select.
+    private static final int SELECT_SHIFT = 12;
+
+    private final HugeAtomicLongArray words;
+    // number of set bits in all previous blocks
+    private final HugeLongArray blockRanks;
+    // block that contains the internal id `i << SELECT_SHIFT`
+    private final HugeLongArray selectSamples;
+
+    private final long nodeCount;
+    private final long highestNeoId;
+
+    // assigned once during build, since the label information is keyed by mapped ids
+    private LabelInformation labelInformation;
+
+    /**
+     * Builds a bitmap based id map from the given original ids.
+     *
+     * @return an empty optional, if the original ids contain duplicates
+     */
+    static Optional<BitIdMap> build(
+        HugeLongArray graphIds,
+        long nodeCount,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNeoId,
+        int concurrency
+    ) {
+        var words = HugeAtomicLongArray.newArray(BitUtil.ceilDiv(highestNeoId + 1, Long.SIZE));
+
+        ParallelUtil.readParallel(
+            concurrency,
+            nodeCount,
+            Pools.DEFAULT,
+            (start, end) -> setBits(graphIds, words, start, end)
+        );
+
+        long numberOfBlocks = BitUtil.ceilDiv(words.size(), 1L << BLOCK_SHIFT);
+        var blockRanks = HugeLongArray.newArray(numberOfBlocks);
+        var selectSamples = HugeLongArray.newArray(BitUtil.ceilDiv(nodeCount, 1L << SELECT_SHIFT));
+
+        long rank = 0L;
+        long nextSample = 0L;
+        for (long block = 0; block < numberOfBlocks; block++) {
+            blockRanks.set(block, rank);
+            long firstWord = block << BLOCK_SHIFT;
+            long lastWord = Math.min(words.size(), firstWord + (1L << BLOCK_SHIFT));
+            for (long wordIndex = firstWord; wordIndex < lastWord; wordIndex++) {
+                rank += Long.bitCount(words.get(wordIndex));
+            }
+            while (nextSample < selectSamples.size() && (nextSample << SELECT_SHIFT) < rank) {
+                selectSamples.set(nextSample++, block);
+            }
+        }
+
+        if (rank != nodeCount) {
+            // Duplicate original ids are not representable in a bitmap.
+            return Optional.empty();
+        }
+
+        var idMap = new BitIdMap(words, blockRanks, selectSamples, nodeCount, highestNeoId);
+        idMap.labelInformation = labelInformationBuilder.build(nodeCount, idMap::toMappedNodeId);
+        return Optional.of(idMap);
+    }
+
+    private static void setBits(HugeLongArray graphIds, HugeAtomicLongArray words, long startNode, long endNode) {
+        try (HugeCursor<long[]> cursor = graphIds.initCursor(graphIds.newCursor(), startNode, endNode)) {
+            while (cursor.next()) {
+                long[] array = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    long originalId = array[i];
+                    long wordIndex = originalId >>> 6;
+                    long mask = 1L << originalId;
+                    long current = words.get(wordIndex);
+                    while ((current & mask) == 0) {
+                        long witness = words.compareAndExchange(wordIndex, current, current | mask);
+                        if (witness == current) {
+                            break;
+                        }
+                        current = witness;
+                    }
+                }
+            }
+        }
+    }
+
+    private BitIdMap(
+        HugeAtomicLongArray words,
+        HugeLongArray blockRanks,
+        HugeLongArray selectSamples,
+        long nodeCount,
+        long highestNeoId
+    ) {
+        this.words = words;
+        this.blockRanks = blockRanks;
+        this.selectSamples = selectSamples;
+        this.nodeCount = nodeCount;
+        this.highestNeoId = highestNeoId;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId > highestNeoId) {
+            return NOT_FOUND;
+        }
+        long wordIndex = nodeId >>> 6;
+        long word = words.get(wordIndex);
+        long mask = 1L << nodeId;
+        if ((word & mask) == 0) {
+            return NOT_FOUND;
+        }
+
+        long rank = blockRanks.get(wordIndex >>> BLOCK_SHIFT);
+        for (long w = (wordIndex >>> BLOCK_SHIFT) << BLOCK_SHIFT; w < wordIndex; w++) {
+            rank += Long.bitCount(words.get(w));
+        }
+        return rank + Long.bitCount(word & (mask - 1));
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        long sample = nodeId >>> SELECT_SHIFT;
+        long lo = selectSamples.get(sample);
+        long hi = sample + 1 < selectSamples.size()
+            ? selectSamples.get(sample + 1)
+            : blockRanks.size() - 1;
+
+        // find the last block that starts at or before the given rank
+        while (lo < hi) {
+            long mid = (lo + hi + 1) >>> 1;
+            if (blockRanks.get(mid) <= nodeId) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        long remaining = nodeId - blockRanks.get(lo);
+        long wordIndex = lo << BLOCK_SHIFT;
+        while (true) {
+            long word = words.get(wordIndex);
+            int bitCount = Long.bitCount(word);
+            if (remaining < bitCount) {
+                for (int i = 0; i < remaining; i++) {
+                    // clear the lowest set bit
+                    word &= word - 1;
+                }
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            remaining -= bitCount;
+            wordIndex++;
+        }
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return toMappedNodeId(nodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount);
+    }
+
+    @Override
+    public long highestNeoId() {
+        return highestNeoId;
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        for (long i = 0L; i < nodeCount; i++) {
+            if (!consumer.test(i)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount);
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator(Set<NodeLabel> labels) {
+        return labelInformation.nodeIterator(labels, nodeCount);
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(
+            nodeCount,
+            batchSize,
+            IdIterable::new
+        );
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return labelInformation.availableNodeLabels();
+    }
+
+    @Override
+    public List<NodeLabel> nodeLabels(long nodeId) {
+        return labelInformation.nodeLabelsForNodeId(nodeId);
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        labelInformation.forEachNodeLabel(nodeId, consumer);
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return labelInformation.hasLabel(nodeId, label);
+    }
+
+    @Override
+    public IdMap withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return this;
+        }
+
+        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount);
+
+        return HugeIdMap.filteredIdMap(
+            this,
+            unionBitSet,
+            nodeCount,
+            labelInformation.filter(nodeLabels),
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    @Override
+    public IdMap withFilteredNodes(BitSet nodes, Collection<NodeLabel> nodeLabels, int concurrency) {
+        return HugeIdMap.filteredIdMap(
+            this,
+            nodes,
+            nodeCount,
+            labelInformation.filter(nodeLabels),
+            highestNeoId,
+            concurrency
+        );
+    }
+}
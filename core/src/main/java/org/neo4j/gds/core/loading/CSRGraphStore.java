@@ -97,6 +97,10 @@ public class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    private int dependentGraphStores;
+
+    private boolean releaseRequested;
+
     @Builder.Factory
     public static CSRGraphStore of(
         NamedDatabaseId databaseId,
@@ -510,10 +514,28 @@ public class CSRGraphStore implements GraphStore {
 
     @Override
     public void release() {
+        synchronized (this) {
+            // graph stores sharing our internals release us once they are released themselves
+            if (dependentGraphStores > 0) {
+                releaseRequested = true;
+                return;
+            }
+        }
         createdGraphs.forEach(Graph::release);
         releaseInternals();
     }
 
+    synchronized void addDependentGraphStore() {
+        dependentGraphStores++;
+    }
+
+    synchronized void removeDependentGraphStore() {
+        dependentGraphStores--;
+        if (dependentGraphStores == 0 && releaseRequested) {
+            release();
+        }
+    }
+
     private void releaseInternals() {
         var closeables = Stream.<AutoCloseable>builder();
         if (this.nodes instanceof AutoCloseable) {
@@ -543,6 +565,18 @@ public class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
+    int concurrency() {
+        return concurrency;
+    }
+
+    NodePropertyStore nodePropertyStore() {
+        return nodeProperties;
+    }
+
+    Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores() {
+        return relationshipProperties;
+    }
+
     private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
         updateFunction.accept(this);
         this.modificationTime = TimeUtil.now();
@@ -613,7 +647,7 @@ public class CSRGraphStore implements GraphStore {
     }
 
     @NotNull
-    private Optional<IdMap> getFilteredIdMap(Collection<NodeLabel> filteredLabels) {
+    protected Optional<IdMap> getFilteredIdMap(Collection<NodeLabel> filteredLabels) {
         boolean loadAllNodes = filteredLabels.containsAll(nodeLabels());
 
         return loadAllNodes || schema().nodeSchema().containsOnlyAllNodesLabel()
@@ -666,7 +700,7 @@ public class CSRGraphStore implements GraphStore {
             .stream()
             .collect(toMap(
                 Function.identity(),
-                this::nodePropertyValues
+                propertyKey -> this.nodeProperties.get(propertyKey).values()
             ));
     }
 
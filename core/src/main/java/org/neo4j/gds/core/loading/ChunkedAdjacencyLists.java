@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.HugeSparseCollections;
 import org.neo4j.gds.collections.HugeSparseIntList;
 import org.neo4j.gds.collections.HugeSparseLongArrayList;
 import org.neo4j.gds.collections.HugeSparseLongList;
+import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -113,6 +114,20 @@ public final class ChunkedAdjacencyLists {
      * @param end    end index in values
      */
     public void add(long index, long[] values, int start, int end, int valuesToAdd) {
+        add(index, values, start, end, valuesToAdd, 0);
+    }
+
+    /**
+     * For memory efficiency, we reuse the {@code values}. They cannot be reused after calling this method.
+     *
+     * @param values         values to write
+     * @param start          start index in values
+     * @param end            end index in values
+     * @param valuesToAdd    the actual number of targets to import from this range
+     * @param expectedLength the total number of values that will be added to this index, or 0 if unknown;
+     *                       allows growing the buffers to their final size instead of the next power of two
+     */
+    public void add(long index, long[] values, int start, int end, int valuesToAdd, int expectedLength) {
         // not inlined to avoid field access
         long currentLastValue = this.lastValues.get(index);
         long delta;
@@ -127,7 +142,13 @@ public final class ChunkedAdjacencyLists {
         }
         var position = positions.get(index);
 
-        var compressedTargets = ensureCompressedTargetsCapacity(index, position, requiredBytes);
+        var compressedTargets = ensureCompressedTargetsCapacity(
+            index,
+            position,
+            requiredBytes,
+            expectedLength,
+            valuesToAdd
+        );
 
         var newPosition = encodeVLongs(values, start, end, compressedTargets, position);
 
@@ -147,13 +168,36 @@ public final class ChunkedAdjacencyLists {
      * @param valuesToAdd the actual number of targets to import from this range
      */
     public void add(long index, long[] values, long[][] allProperties, int start, int end, int valuesToAdd) {
+        add(index, values, allProperties, start, end, valuesToAdd, 0);
+    }
+
+    /**
+     * For memory efficiency, we reuse the {@code values}. They cannot be reused after calling this method.
+     *
+     * @param values         values to write
+     * @param allProperties  properties to write
+     * @param start          start index in values and properties
+     * @param end            end index in values and properties
+     * @param valuesToAdd    the actual number of targets to import from this range
+     * @param expectedLength the total number of values that will be added to this index, or 0 if unknown;
+     *                       allows growing the buffers to their final size instead of the next power of two
+     */
+    public void add(
+        long index,
+        long[] values,
+        long[][] allProperties,
+        int start,
+        int end,
+        int valuesToAdd,
+        int expectedLength
+    ) {
         // write properties
         for (int i = 0; i < allProperties.length; i++) {
-            addProperties(index, allProperties[i], start, end, i, valuesToAdd);
+            addProperties(index, allProperties[i], start, end, i, valuesToAdd, expectedLength);
         }
 
         // write values
-        add(index, values, start, end, valuesToAdd);
+        add(index, values, start, end, valuesToAdd, expectedLength);
     }
 
     private void addProperties(
@@ -162,11 +206,12 @@ public final class ChunkedAdjacencyLists {
         int start,
         int end,
         int propertyIndex,
-        int propertiesToAdd
+        int propertiesToAdd,
+        int expectedLength
     ) {
         var length = lengths.get(index);
 
-        var currentProperties = ensurePropertyCapacity(index, length, propertiesToAdd, propertyIndex);
+        var currentProperties = ensurePropertyCapacity(index, length, propertiesToAdd, propertyIndex, expectedLength);
 
         if (propertiesToAdd == end - start) {
             System.arraycopy(properties, start, currentProperties, length, propertiesToAdd);
@@ -178,7 +223,13 @@ public final class ChunkedAdjacencyLists {
         }
     }
 
-    private byte[] ensureCompressedTargetsCapacity(long index, int pos, int required) {
+    private byte[] ensureCompressedTargetsCapacity(
+        long index,
+        int pos,
+        int required,
+        int expectedLength,
+        int valuesToAdd
+    ) {
         int targetLength = pos + required;
         var compressedTargets = targetLists.get(index);
 
@@ -189,7 +240,13 @@ public final class ChunkedAdjacencyLists {
                 required
             ));
         } else if (compressedTargets.length <= targetLength) {
-            int newLength = BitUtil.nextHighestPowerOfTwo(targetLength);
+            int remainingValues = expectedLength - lengths.get(index) - valuesToAdd;
+            int newLength = remainingValues > 0 && valuesToAdd > 0
+                // assume the remaining values compress as well as the current ones
+                ? grownLength(targetLength, (long) ceilDiv(required, valuesToAdd) * remainingValues)
+                : expectedLength > 0
+                    ? targetLength + 1
+                    : BitUtil.nextHighestPowerOfTwo(targetLength);
             compressedTargets = Arrays.copyOf(compressedTargets, newLength);
             this.targetLists.set(index, compressedTargets);
         }
@@ -197,7 +254,13 @@ public final class ChunkedAdjacencyLists {
         return compressedTargets;
     }
 
-    private long[] ensurePropertyCapacity(long index, int pos, int required, int propertyIndex) {
+    private long[] ensurePropertyCapacity(
+        long index,
+        int pos,
+        int required,
+        int propertyIndex,
+        int expectedLength
+    ) {
         int targetLength = pos + required;
 
         var currentProperties = properties.get(propertyIndex).get(index);
@@ -208,8 +271,10 @@ public final class ChunkedAdjacencyLists {
                 pos,
                 required
             ));
-        } else if (currentProperties.length <= pos + required) {
-            int newLength = BitUtil.nextHighestPowerOfTwo(pos + required);
+        } else if (currentProperties.length <= targetLength) {
+            int newLength = expectedLength > 0
+                ? Math.max(expectedLength, targetLength) + 1
+                : BitUtil.nextHighestPowerOfTwo(targetLength);
             currentProperties = Arrays.copyOf(currentProperties, newLength);
             properties.get(propertyIndex).set(index, currentProperties);
         }
@@ -217,6 +282,10 @@ public final class ChunkedAdjacencyLists {
         return currentProperties;
     }
 
+    private static int grownLength(int targetLength, long additionalBytes) {
+        return (int) Math.min(ArrayUtil.MAX_ARRAY_LENGTH, targetLength + 1 + additionalBytes);
+    }
+
     public long capacity() {
         return targetLists.capacity();
     }
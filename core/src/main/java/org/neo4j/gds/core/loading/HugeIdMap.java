@@ -190,36 +190,64 @@ public class HugeIdMap implements IdMap {
 
         BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
 
+        return filteredIdMap(
+            this,
+            unionBitSet,
+            nodeToGraphIds.capacity(),
+            labelInformation.filter(nodeLabels),
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    @Override
+    public IdMap withFilteredNodes(BitSet nodes, Collection<NodeLabel> nodeLabels, int concurrency) {
+        return filteredIdMap(
+            this,
+            nodes,
+            nodeCount(),
+            labelInformation.filter(nodeLabels),
+            highestNeoId,
+            concurrency
+        );
+    }
+
+    static FilteredIdMap filteredIdMap(
+        IdMap rootIdMap,
+        BitSet nodes,
+        long capacity,
+        LabelInformation labelInformation,
+        long highestNeoId,
+        int concurrency
+    ) {
         long nodeId = -1L;
         long cursor = 0L;
-        long newNodeCount = unionBitSet.cardinality();
+        long newNodeCount = nodes.cardinality();
         HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
 
-        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
+        while ((nodeId = nodes.nextSetBit(nodeId + 1)) != -1) {
             newGraphIds.set(cursor, nodeId);
             cursor++;
         }
 
         HugeSparseLongArray newNodeToGraphIds = HugeIdMapBuilderOps.buildSparseIdMap(
             newNodeCount,
-            nodeToGraphIds.capacity(),
+            capacity,
             concurrency,
             newGraphIds
         );
 
-        LabelInformation newLabelInformation = labelInformation.filter(nodeLabels);
-
         return new FilteredIdMap(
-            this,
+            rootIdMap,
             newGraphIds,
             newNodeToGraphIds,
-            newLabelInformation,
+            labelInformation,
             newNodeCount,
             highestNeoId
         );
     }
 
-    private static class FilteredIdMap extends HugeIdMap {
+    static class FilteredIdMap extends HugeIdMap {
 
         private final IdMap rootIdMap;
 
@@ -264,5 +292,10 @@ public class HugeIdMap implements IdMap {
         public boolean hasLabel(long nodeId, NodeLabel label) {
             return super.hasLabel(toOriginalNodeId(nodeId), label);
         }
+
+        @Override
+        public IdMap withFilteredNodes(BitSet nodes, Collection<NodeLabel> nodeLabels, int concurrency) {
+            throw new UnsupportedOperationException("Filtering nodes of a filtered node mapping is not supported");
+        }
     }
 }
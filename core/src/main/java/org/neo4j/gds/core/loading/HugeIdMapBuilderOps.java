@@ -30,7 +30,14 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 public final class HugeIdMapBuilderOps {
 
-    static HugeIdMap build(
+    // Below this size, the mapping arrays are small enough and
+    // we prefer to keep internal ids in insertion order.
+    static final long BIT_ID_MAP_MIN_NODE_COUNT = 1L << 20;
+    // A bitmap costs one bit per possible original id, which is
+    // at most as much as 4 bytes per node for this density.
+    static final long BIT_ID_MAP_MAX_SPARSITY = 32L;
+
+    static IdMap build(
         HugeLongArray graphIds,
         long nodeCount,
         LabelInformation.Builder labelInformationBuilder,
@@ -41,6 +48,13 @@ public final class HugeIdMapBuilderOps {
             highestNodeId = graphIds.asNodeProperties().getMaxLongPropertyValue().orElse(NodesBuilder.UNKNOWN_MAX_ID);
         }
 
+        if (useBitIdMap(nodeCount, highestNodeId)) {
+            var bitIdMap = BitIdMap.build(graphIds, nodeCount, labelInformationBuilder, highestNodeId, concurrency);
+            if (bitIdMap.isPresent()) {
+                return bitIdMap.get();
+            }
+        }
+
         HugeSparseLongArray nodeToGraphIds = buildSparseIdMap(
             nodeCount,
             highestNodeId,
@@ -59,6 +73,12 @@ public final class HugeIdMapBuilderOps {
         );
     }
 
+    static boolean useBitIdMap(long nodeCount, long highestNodeId) {
+        return nodeCount >= BIT_ID_MAP_MIN_NODE_COUNT
+               && highestNodeId != NodesBuilder.UNKNOWN_MAX_ID
+               && highestNodeId / BIT_ID_MAP_MAX_SPARSITY < nodeCount;
+    }
+
     @NotNull
     static HugeSparseLongArray buildSparseIdMap(
         long nodeCount,
@@ -34,6 +34,7 @@ import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphDimensionsStoreReader;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.compress.AdjacencyCompressionCalibration;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
@@ -45,9 +46,13 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.id.IdGeneratorFactory;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -82,18 +87,41 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            databaseId()
+        );
     }
 
     @Override
     public MemoryEstimation estimateMemoryUsageAfterLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), false);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            false,
+            databaseId()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, isLoading, Optional.empty());
+    }
+
+    /**
+     * If the database is given, the adjacency lists of projections that have been
+     * sampled on that database are estimated using {@link AdjacencyCompressionCalibration}.
+     */
+    private static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        Optional<NamedDatabaseId> databaseId
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -107,14 +135,30 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         // relationships
         relationshipProjections.projections().forEach((relationshipType, relationshipProjection) -> {
             boolean undirected = relationshipProjection.orientation() == Orientation.UNDIRECTED;
+            var calibrationProjection = databaseId.map(id -> AdjacencyCompressionCalibration.Projection.of(
+                id,
+                nodeProjections,
+                relationshipType,
+                relationshipProjection
+            ));
             if (isLoading) {
                 builder.max(List.of(
                     relationshipEstimationDuringLoading(relationshipType, relationshipProjection, undirected),
-                    relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected)
+                    relationshipEstimationAfterLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        undirected,
+                        calibrationProjection
+                    )
                 ));
             } else {
                 builder.add(MemoryEstimations.builder(HugeGraph.class).build());
-                builder.add(relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected));
+                builder.add(relationshipEstimationAfterLoading(
+                    relationshipType,
+                    relationshipProjection,
+                    undirected,
+                    calibrationProjection
+                ));
             }
         });
 
@@ -160,13 +204,14 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     private static MemoryEstimation relationshipEstimationAfterLoading(
         RelationshipType relationshipType,
         RelationshipProjection relationshipProjection,
-        boolean undirected
+        boolean undirected,
+        Optional<AdjacencyCompressionCalibration.Projection> calibrationProjection
     ) {
         var afterLoadingEstimation = MemoryEstimations.builder("size after loading");
         // adjacency list
         afterLoadingEstimation.add(
             formatWithLocale("adjacency list for '%s'", relationshipType),
-            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
+            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected, calibrationProjection)
         );
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
@@ -246,12 +291,46 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
             logLoadingSummary(graphStore);
 
+            if (GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled()) {
+                sampleAdjacencyCompression(relationships, nodes.idMap().nodeCount());
+            }
+
             return graphStore;
         } finally {
             progressTracker.endSubTask();
         }
     }
 
+    private void sampleAdjacencyCompression(RelationshipsAndProperties relationships, long nodeCount) {
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return;
+        }
+        var databaseId = databaseId();
+        if (databaseId.isEmpty()) {
+            return;
+        }
+        var relationshipProjections = storeConfig.relationshipProjections().projections();
+        relationships.relationships().forEach((relationshipType, topology) -> {
+            var relationshipProjection = relationshipProjections.get(relationshipType);
+            if (relationshipProjection != null) {
+                AdjacencyCompressionCalibration.sample(
+                    AdjacencyCompressionCalibration.Projection.of(
+                        databaseId.get(),
+                        storeConfig.nodeProjections(),
+                        relationshipType,
+                        relationshipProjection
+                    ),
+                    topology.adjacencyList(),
+                    nodeCount
+                );
+            }
+        });
+    }
+
+    private Optional<NamedDatabaseId> databaseId() {
+        return Optional.ofNullable(loadingContext.api()).map(GraphDatabaseAPI::databaseId);
+    }
+
     private IdMapAndProperties loadNodes(int concurrency) {
         var scanningNodesImporter = new ScanningNodesImporterBuilder()
             .concurrency(concurrency)
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.NodeProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.huge.FilteredNodeProperties;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.huge.NodeFilteredGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.values.storable.NumberType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A graph store that exposes a subset of the nodes and relationship types of a root graph store
+ * without copying its id map, properties or topology.
+ *
+ * Only the mapping between the filtered and the root node ids is owned by this graph store.
+ * Graphs are created over the shared root topology and filter relationships to nodes outside
+ * the subset while iterating. Node properties added to this graph store are kept in the filtered
+ * id space and are not visible in the root graph store.
+ *
+ * Adding relationship types is not supported, as new relationships would have to be stored in
+ * the id space of the root graph store. Such subgraphs need to be materialized first.
+ */
+public final class NodeFilteredGraphStore extends CSRGraphStore {
+
+    private final CSRGraphStore rootGraphStore;
+    private final IdMap filteredIdMap;
+    private final NodeFilteredGraph nodeFilteredGraph;
+    private final Map<Set<NodeLabel>, IdMap> filteredIdMapsByLabels;
+    private final Map<String, NodeProperties> addedNodeProperties;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final AtomicBoolean released;
+
+    public static NodeFilteredGraphStore of(
+        CSRGraphStore rootGraphStore,
+        BitSet nodes,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        var filteredIdMap = rootGraphStore
+            .nodes()
+            .withFilteredNodes(nodes, rootGraphStore.nodeLabels(), rootGraphStore.concurrency());
+        return new NodeFilteredGraphStore(rootGraphStore, filteredIdMap, relationshipTypes);
+    }
+
+    private NodeFilteredGraphStore(
+        CSRGraphStore rootGraphStore,
+        IdMap filteredIdMap,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        super(
+            rootGraphStore.databaseId(),
+            GraphSchema.of(
+                rootGraphStore.schema().nodeSchema(),
+                rootGraphStore.schema().relationshipSchema().filter(Set.copyOf(relationshipTypes))
+            ),
+            rootGraphStore.nodes(),
+            rootGraphStore.nodePropertyStore(),
+            topologies(rootGraphStore, relationshipTypes),
+            relationshipPropertyStores(rootGraphStore, relationshipTypes),
+            rootGraphStore.concurrency()
+        );
+        this.rootGraphStore = rootGraphStore;
+        this.filteredIdMap = filteredIdMap;
+        this.nodeFilteredGraph = new NodeFilteredGraph(
+            HugeGraph.create(
+                rootGraphStore.nodes(),
+                rootGraphStore.schema(),
+                Map.of(),
+                rootGraphStore.relationships.values().iterator().next(),
+                Optional.empty()
+            ),
+            filteredIdMap
+        );
+        this.filteredIdMapsByLabels = new ConcurrentHashMap<>();
+        this.addedNodeProperties = new ConcurrentHashMap<>();
+        this.relationshipCounts = new ConcurrentHashMap<>();
+        this.released = new AtomicBoolean(false);
+        rootGraphStore.addDependentGraphStore();
+    }
+
+    private static Map<RelationshipType, Relationships.Topology> topologies(
+        CSRGraphStore rootGraphStore,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        relationshipTypes.forEach(type -> topologies.put(type, rootGraphStore.relationships.get(type)));
+        // A graph store must contain at least one topology, even if it is empty.
+        if (topologies.isEmpty()) {
+            topologies.put(
+                RelationshipType.ALL_RELATIONSHIPS,
+                GraphFactory.emptyRelationships(rootGraphStore.nodes()).topology()
+            );
+        }
+        return topologies;
+    }
+
+    private static Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores(
+        CSRGraphStore rootGraphStore,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        return rootGraphStore
+            .relationshipPropertyStores()
+            .entrySet()
+            .stream()
+            .filter(entry -> relationshipTypes.contains(entry.getKey()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    public CSRGraphStore rootGraphStore() {
+        return rootGraphStore;
+    }
+
+    @Override
+    public IdMap nodes() {
+        return nodeFilteredGraph;
+    }
+
+    @Override
+    public long nodeCount() {
+        return filteredIdMap.nodeCount();
+    }
+
+    @Override
+    public NodeProperty nodeProperty(String propertyKey) {
+        var property = super.nodeProperty(propertyKey);
+        if (property == null) {
+            return null;
+        }
+        return NodeProperty.of(
+            propertyKey,
+            property.propertyState(),
+            nodePropertyValues(propertyKey),
+            property.defaultValue()
+        );
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(String propertyKey) {
+        var addedProperty = addedNodeProperties.get(propertyKey);
+        if (addedProperty != null) {
+            return addedProperty;
+        }
+        var property = super.nodeProperty(propertyKey);
+        return property == null
+            ? null
+            : new FilteredNodeProperties.FilteredToOriginalNodeProperties(property.values(), nodeFilteredGraph);
+    }
+
+    @Override
+    public void addNodeProperty(Set<NodeLabel> nodeLabels, String propertyKey, NodeProperties propertyValues) {
+        // graphs of this store read node properties in the root id space and translate them to the filtered one
+        super.addNodeProperty(
+            nodeLabels,
+            propertyKey,
+            new FilteredNodeProperties.OriginalToFilteredNodeProperties(propertyValues, nodeFilteredGraph)
+        );
+        addedNodeProperties.put(propertyKey, propertyValues);
+    }
+
+    @Override
+    public void removeNodeProperty(String propertyKey) {
+        super.removeNodeProperty(propertyKey);
+        addedNodeProperties.remove(propertyKey);
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipTypes().stream().mapToLong(this::relationshipCount).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return relationshipCounts.computeIfAbsent(
+            relationshipType,
+            type -> getGraph(type).relationshipCount()
+        );
+    }
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot add relationship type `%s` to a lazily filtered graph. Project the subgraph without `lazy` to add relationships.",
+            relationshipType.name
+        ));
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        relationshipCounts.remove(relationshipType);
+        return super.deleteRelationships(relationshipType);
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        return new FilteredCompositeRelationshipIterator(
+            super.getCompositeRelationshipIterator(relationshipType, propertyKeys),
+            filteredIdMap
+        );
+    }
+
+    @Override
+    protected Optional<IdMap> getFilteredIdMap(Collection<NodeLabel> filteredLabels) {
+        if (filteredLabels.containsAll(nodeLabels())) {
+            return Optional.of(filteredIdMap);
+        }
+
+        // the label sets requested from a graph store are few, so every filtered mapping is built only once
+        return Optional.of(filteredIdMapsByLabels.computeIfAbsent(Set.copyOf(filteredLabels), this::filterByLabels));
+    }
+
+    private IdMap filterByLabels(Set<NodeLabel> filteredLabels) {
+        var nodesWithLabels = new BitSet(rootGraphStore.nodeCount());
+        var rootIdMap = rootGraphStore.nodes();
+        filteredIdMap.forEachNode(filteredNode -> {
+            var rootNode = filteredIdMap.toOriginalNodeId(filteredNode);
+            for (NodeLabel label : filteredLabels) {
+                if (rootIdMap.hasLabel(rootNode, label)) {
+                    nodesWithLabels.set(rootNode);
+                    break;
+                }
+            }
+            return true;
+        });
+        return rootIdMap.withFilteredNodes(nodesWithLabels, filteredLabels, concurrency());
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+        // The topology is shared with the root graph store, which is responsible for releasing it.
+    }
+
+    @Override
+    public void release() {
+        // The id map, properties and topology are shared with the root graph store,
+        // which is responsible for releasing them once it is no longer used.
+        if (released.compareAndSet(false, true)) {
+            rootGraphStore.removeDependentGraphStore();
+        }
+    }
+
+    private static final class FilteredCompositeRelationshipIterator implements CompositeRelationshipIterator {
+
+        private final CompositeRelationshipIterator rootIterator;
+        private final IdMap filteredIdMap;
+
+        private FilteredCompositeRelationshipIterator(CompositeRelationshipIterator rootIterator, IdMap filteredIdMap) {
+            this.rootIterator = rootIterator;
+            this.filteredIdMap = filteredIdMap;
+        }
+
+        @Override
+        public int degree(long nodeId) {
+            var degree = new int[1];
+            forEachRelationship(nodeId, (source, target, properties) -> {
+                degree[0]++;
+                return true;
+            });
+            return degree[0];
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+            rootIterator.forEachRelationship(
+                filteredIdMap.toOriginalNodeId(nodeId),
+                (source, target, properties) -> !filteredIdMap.contains(target) || consumer.consume(
+                    nodeId,
+                    filteredIdMap.toMappedNodeId(target),
+                    properties
+                )
+            );
+        }
+
+        @Override
+        public String[] propertyKeys() {
+            return rootIterator.propertyKeys();
+        }
+
+        @Override
+        public CompositeRelationshipIterator concurrentCopy() {
+            return new FilteredCompositeRelationshipIterator(rootIterator.concurrentCopy(), filteredIdMap);
+        }
+    }
+}
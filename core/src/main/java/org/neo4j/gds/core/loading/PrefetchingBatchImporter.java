@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans batches on the calling thread, while a separate import stage imports the previously scanned batches.
+ * Both stages are connected by a bounded queue; if the import stage falls behind, the scanning thread imports
+ * the batch itself instead of waiting. Batches that are still queued when the scan is done are imported by the
+ * scanning thread as well. Hence, the scan completes even if the import stage never gets a thread.
+ */
+final class PrefetchingBatchImporter<BATCH extends PrefetchingBatchImporter.Batch> {
+
+    static final int QUEUE_CAPACITY = 2;
+    private static final long IMPORT_STAGE_POLL_MILLIS = 10L;
+
+    interface Batch {
+        void importRelationships();
+    }
+
+    @FunctionalInterface
+    interface BatchScanner<BATCH> {
+        /**
+         * Fills the given batch.
+         *
+         * @return false if there was nothing left to scan
+         */
+        boolean scan(BATCH batch);
+    }
+
+    /**
+     * The number of batches that are required, as one batch is being scanned,
+     * one is being imported and the rest can be queued.
+     * Hence, there is always at least one free batch available.
+     */
+    static int batchCount() {
+        return QUEUE_CAPACITY + 2;
+    }
+
+    private final List<BATCH> batches;
+    private final TerminationFlag terminationFlag;
+
+    PrefetchingBatchImporter(List<BATCH> batches, TerminationFlag terminationFlag) {
+        assert batches.size() >= batchCount();
+        this.batches = batches;
+        this.terminationFlag = terminationFlag;
+    }
+
+    void run(BatchScanner<BATCH> scanner, ExecutorService executorService) {
+        var freeBatches = new ArrayBlockingQueue<BATCH>(batches.size());
+        freeBatches.addAll(batches);
+        var scannedBatches = new ArrayBlockingQueue<BATCH>(QUEUE_CAPACITY);
+
+        var importStage = new ImportStage(scannedBatches, freeBatches);
+        Future<?> importStageFuture = executorService.submit(importStage);
+
+        try {
+            var batch = freeBatches.remove();
+            while (scanner.scan(batch)) {
+                terminationFlag.assertRunning();
+                if (scannedBatches.offer(batch)) {
+                    batch = freeBatches.remove();
+                } else {
+                    batch.importRelationships();
+                }
+            }
+            // help the import stage to drain the remaining batches
+            while ((batch = scannedBatches.poll()) != null) {
+                batch.importRelationships();
+            }
+        } finally {
+            importStage.finish();
+            // an import stage that has not started yet is not needed anymore
+            if (!importStageFuture.cancel(false)) {
+                ParallelUtil.awaitTermination(List.of(importStageFuture));
+            }
+        }
+    }
+
+    private final class ImportStage implements Runnable {
+        private final BlockingQueue<BATCH> scannedBatches;
+        private final BlockingQueue<BATCH> freeBatches;
+        private volatile boolean scanning;
+
+        ImportStage(BlockingQueue<BATCH> scannedBatches, BlockingQueue<BATCH> freeBatches) {
+            this.scannedBatches = scannedBatches;
+            this.freeBatches = freeBatches;
+            this.scanning = true;
+        }
+
+        void finish() {
+            this.scanning = false;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (scanning || !scannedBatches.isEmpty()) {
+                    var batch = scannedBatches.poll(IMPORT_STAGE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (batch != null) {
+                        terminationFlag.assertRunning();
+                        batch.importRelationships();
+                        freeBatches.add(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
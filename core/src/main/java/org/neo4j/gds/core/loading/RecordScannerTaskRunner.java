@@ -76,6 +76,13 @@ final class RecordScannerTaskRunner {
 
         RecordScannerTask create(int taskIndex);
 
+        /**
+         * The number of scanner tasks to run, given the number of threads available to the import.
+         */
+        default int scannerThreadCount(int threadCount) {
+            return threadCount;
+        }
+
         // TODO: only necessary for relationships, can we move it somewhere else?
         Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks();
     }
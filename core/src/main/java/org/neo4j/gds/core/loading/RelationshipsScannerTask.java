@@ -26,10 +26,14 @@ import org.neo4j.gds.core.utils.StatementAction;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.kernel.api.KernelTransaction;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 public final class RelationshipsScannerTask extends StatementAction implements RecordScannerTask {
@@ -47,7 +51,31 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             idMap,
             scanner,
             singleTypeRelationshipImporters,
-            loadingContext.terminationFlag()
+            loadingContext.terminationFlag(),
+            loadingContext.executor(),
+            false
+        );
+    }
+
+    /**
+     * Creates tasks that only count the degrees of the source nodes,
+     * see {@link SingleTypeRelationshipImporter#prepareDegreeCounting(long)}.
+     */
+    static RecordScannerTaskRunner.RecordScannerTaskFactory degreeCountingFactory(
+        GraphLoaderContext loadingContext,
+        IdMap idMap,
+        StoreScanner<RelationshipReference> scanner,
+        Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters
+    ) {
+        return new Factory(
+            loadingContext.transactionContext(),
+            ProgressTracker.NULL_TRACKER,
+            idMap,
+            scanner,
+            singleTypeRelationshipImporters,
+            loadingContext.terminationFlag(),
+            loadingContext.executor(),
+            true
         );
     }
 
@@ -58,6 +86,9 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         private final StoreScanner<RelationshipReference> scanner;
         private final Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters;
         private final TerminationFlag terminationFlag;
+        private final ExecutorService executorService;
+        private final boolean countDegrees;
+        private int importStages;
 
         Factory(
             TransactionContext tx,
@@ -65,7 +96,9 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             IdMap idMap,
             StoreScanner<RelationshipReference> scanner,
             Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters,
-            TerminationFlag terminationFlag
+            TerminationFlag terminationFlag,
+            ExecutorService executorService,
+            boolean countDegrees
         ) {
             this.tx = tx;
             this.progressTracker = progressTracker;
@@ -73,6 +106,19 @@ public final class RelationshipsScannerTask extends StatementAction implements R
             this.scanner = scanner;
             this.singleTypeRelationshipImporters = singleTypeRelationshipImporters;
             this.terminationFlag = terminationFlag;
+            this.executorService = executorService;
+            this.countDegrees = countDegrees;
+        }
+
+        /**
+         * If batches are prefetched, every import stage takes one of the threads
+         * that would otherwise scan the store, so that the import stays within
+         * the configured concurrency.
+         */
+        @Override
+        public int scannerThreadCount(int threadCount) {
+            this.importStages = prefetchBatches() ? threadCount / 2 : 0;
+            return threadCount - importStages;
         }
 
         @Override
@@ -84,10 +130,25 @@ public final class RelationshipsScannerTask extends StatementAction implements R
                 idMap,
                 scanner,
                 taskIndex,
-                singleTypeRelationshipImporters
+                singleTypeRelationshipImporters,
+                countDegrees,
+                taskIndex < importStages ? Optional.of(executorService) : Optional.empty()
             );
         }
 
+        /**
+         * Properties are read through the kernel transaction of a task,
+         * which must not be accessed from another thread. Only imports that
+         * don't load properties can hand their batches to an import stage.
+         */
+        private boolean prefetchBatches() {
+            return !countDegrees
+                   && GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled()
+                   && singleTypeRelationshipImporters
+                       .stream()
+                       .noneMatch(SingleTypeRelationshipImporter::loadsProperties);
+        }
+
         @Override
         public Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks() {
             return singleTypeRelationshipImporters.stream()
@@ -102,6 +163,8 @@ public final class RelationshipsScannerTask extends StatementAction implements R
     private final StoreScanner<RelationshipReference> scanner;
     private final int taskIndex;
     private final Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters;
+    private final boolean countDegrees;
+    private final Optional<ExecutorService> importStageExecutor;
 
     private long relationshipsImported;
     private long weightsImported;
@@ -113,7 +176,9 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         IdMap idMap,
         StoreScanner<RelationshipReference> scanner,
         int taskIndex,
-        Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters
+        Collection<SingleTypeRelationshipImporter> singleTypeRelationshipImporters,
+        boolean countDegrees,
+        Optional<ExecutorService> importStageExecutor
     ) {
         super(tx);
         this.terminationFlag = terminationFlag;
@@ -122,6 +187,8 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         this.scanner = scanner;
         this.taskIndex = taskIndex;
         this.singleTypeRelationshipImporters = singleTypeRelationshipImporters;
+        this.countDegrees = countDegrees;
+        this.importStageExecutor = importStageExecutor;
     }
 
     @Override
@@ -132,32 +199,54 @@ public final class RelationshipsScannerTask extends StatementAction implements R
     @Override
     public void accept(KernelTransaction transaction) {
         try (StoreScanner.ScanCursor<RelationshipReference> cursor = scanner.createCursor(transaction)) {
-            // create an importer (includes a dedicated batch buffer) for each relationship type that we load
-            var importers = this.singleTypeRelationshipImporters.stream()
-                .map(imports -> imports.threadLocalImporter(idMap, scanner.bufferSize(), transaction))
-                .collect(Collectors.toList());
+            if (countDegrees) {
+                countDegrees(cursor, transaction);
+            } else if (importStageExecutor.isPresent()) {
+                importPrefetched(cursor, transaction, importStageExecutor.get());
+            } else {
+                importInline(cursor, transaction);
+            }
+        }
+    }
 
-            var compositeBuffer = CompositeRelationshipsBatchBuffer.of(importers
-                .stream()
-                .map(ThreadLocalSingleTypeRelationshipImporter::buffer)
-                .toArray(RelationshipsBatchBuffer[]::new));
+    private void importInline(StoreScanner.ScanCursor<RelationshipReference> cursor, KernelTransaction transaction) {
+        var batch = new ImportBatch(transaction);
+        while (batch.scan(cursor)) {
+            terminationFlag.assertRunning();
+            batch.importRelationships();
+        }
+        relationshipsImported = batch.relationshipsImported;
+        weightsImported = batch.propertiesImported;
+    }
 
-            long allImportedRels = 0L;
-            long allImportedWeights = 0L;
-            while (compositeBuffer.scan(cursor)) {
-                terminationFlag.assertRunning();
-                long imported = 0L;
-                for (ThreadLocalSingleTypeRelationshipImporter importer : importers) {
-                    imported += importer.importRelationships();
-                }
-                int importedRels = RawValues.getHead(imported);
-                int importedWeights = RawValues.getTail(imported);
-                progressTracker.logProgress(importedRels);
-                allImportedRels += importedRels;
-                allImportedWeights += importedWeights;
-            }
-            relationshipsImported = allImportedRels;
-            weightsImported = allImportedWeights;
+    private void countDegrees(StoreScanner.ScanCursor<RelationshipReference> cursor, KernelTransaction transaction) {
+        var batch = new ImportBatch(transaction);
+        while (batch.scan(cursor)) {
+            terminationFlag.assertRunning();
+            batch.countDegrees();
+        }
+    }
+
+    /**
+     * Decodes relationship records into batches on this thread, while an
+     * import stage on the given executor sorts and compresses the previously
+     * decoded batches into the adjacency buffers.
+     */
+    private void importPrefetched(
+        StoreScanner.ScanCursor<RelationshipReference> cursor,
+        KernelTransaction transaction,
+        ExecutorService executorService
+    ) {
+        var batches = new ArrayList<ImportBatch>(PrefetchingBatchImporter.batchCount());
+        for (int i = 0; i < PrefetchingBatchImporter.batchCount(); i++) {
+            batches.add(new ImportBatch(transaction));
+        }
+
+        new PrefetchingBatchImporter<>(batches, terminationFlag).run(batch -> batch.scan(cursor), executorService);
+
+        for (ImportBatch batch : batches) {
+            relationshipsImported += batch.relationshipsImported;
+            weightsImported += batch.propertiesImported;
         }
     }
 
@@ -171,4 +260,45 @@ public final class RelationshipsScannerTask extends StatementAction implements R
         return relationshipsImported;
     }
 
+    private final class ImportBatch implements PrefetchingBatchImporter.Batch {
+        private final List<ThreadLocalSingleTypeRelationshipImporter> importers;
+        private final RecordsBatchBuffer<RelationshipReference> buffer;
+
+        private long relationshipsImported;
+        private long propertiesImported;
+
+        ImportBatch(KernelTransaction transaction) {
+            // create an importer (includes a dedicated batch buffer) for each relationship type that we load
+            this.importers = singleTypeRelationshipImporters.stream()
+                .map(imports -> imports.threadLocalImporter(idMap, scanner.bufferSize(), transaction))
+                .collect(Collectors.toList());
+            this.buffer = CompositeRelationshipsBatchBuffer.of(importers
+                .stream()
+                .map(ThreadLocalSingleTypeRelationshipImporter::buffer)
+                .toArray(RelationshipsBatchBuffer[]::new));
+        }
+
+        boolean scan(StoreScanner.ScanCursor<RelationshipReference> cursor) {
+            return buffer.scan(cursor);
+        }
+
+        void countDegrees() {
+            for (ThreadLocalSingleTypeRelationshipImporter importer : importers) {
+                importer.countDegrees();
+            }
+        }
+
+        @Override
+        public void importRelationships() {
+            long imported = 0L;
+            for (ThreadLocalSingleTypeRelationshipImporter importer : importers) {
+                imported += importer.importRelationships();
+            }
+            int importedRels = RawValues.getHead(imported);
+            int importedWeights = RawValues.getTail(imported);
+            progressTracker.logProgress(importedRels);
+            relationshipsImported += importedRels;
+            propertiesImported += importedWeights;
+        }
+    }
 }
@@ -62,7 +62,6 @@ public abstract class ScanningRecordsImporter<Record, T> {
     public final T call() {
         long nodeCount = dimensions.nodeCount();
         var sizing = ImportSizing.of(concurrency, nodeCount);
-        int threadCount = sizing.threadCount();
 
         try (StoreScanner<Record> storeScanner = storeScannerFactory.newScanner(
             StoreScanner.DEFAULT_PREFETCH_SIZE,
@@ -73,6 +72,7 @@ public abstract class ScanningRecordsImporter<Record, T> {
             progressTracker.logDebug(formatWithLocale("Start using %s", storeScanner.getClass().getSimpleName()));
 
             var taskFactory = recordScannerTaskFactory(nodeCount, sizing, storeScanner);
+            int threadCount = taskFactory.scannerThreadCount(sizing.threadCount());
             var taskRunner = new RecordScannerTaskRunner(threadCount, taskFactory);
 
             var importResult = taskRunner.runImport(executorService);
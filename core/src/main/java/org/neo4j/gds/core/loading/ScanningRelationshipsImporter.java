@@ -24,11 +24,17 @@ import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter.SingleTypeRelationshipImportContext;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 
 public final class ScanningRelationshipsImporter extends ScanningRecordsImporter<RelationshipReference, RelationshipsAndProperties> {
@@ -115,18 +121,56 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
                 }
             ).collect(Collectors.toList());
 
+        var importers = importContexts
+            .stream()
+            .map(SingleTypeRelationshipImportContext::singleTypeRelationshipImporter)
+            .collect(Collectors.toList());
+
+        if (GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()) {
+            countDegrees(nodeCount, sizing, importers);
+        }
+
         return RelationshipsScannerTask.factory(
             loadingContext,
             progressTracker,
             idMap,
             storeScanner,
-            importContexts
-                .stream()
-                .map(SingleTypeRelationshipImportContext::singleTypeRelationshipImporter)
-                .collect(Collectors.toList())
+            importers
         );
     }
 
+    /**
+     * First pass of the two-pass import: scans the relationship store once to count the degree
+     * of every node, so that the second pass can size the adjacency buffers accordingly.
+     */
+    private void countDegrees(long nodeCount, ImportSizing sizing, List<SingleTypeRelationshipImporter> importers) {
+        long start = System.nanoTime();
+
+        importers.forEach(importer -> importer.prepareDegreeCounting(nodeCount));
+
+        try (var degreeScanner = RelationshipScanCursorBasedScanner.FACTORY.newScanner(
+            StoreScanner.DEFAULT_PREFETCH_SIZE,
+            transaction
+        )) {
+            var taskFactory = RelationshipsScannerTask.degreeCountingFactory(
+                loadingContext,
+                idMap,
+                degreeScanner,
+                importers
+            );
+            var tasks = IntStream
+                .range(0, sizing.threadCount())
+                .mapToObj(taskFactory::create)
+                .collect(Collectors.toList());
+            ParallelUtil.run(tasks, executorService);
+        }
+
+        progressTracker.logDebug(formatWithLocale(
+            "Counted degrees in %d ms",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        ));
+    }
+
     @Override
     public RelationshipsAndProperties build() {
         return RelationshipsAndProperties.of(importContexts);
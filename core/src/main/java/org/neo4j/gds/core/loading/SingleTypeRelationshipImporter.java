@@ -108,12 +108,24 @@ public final class SingleTypeRelationshipImporter {
             .build();
     }
 
+    /**
+     * Enables counting the degrees of the source nodes in a first pass over the relationships.
+     * Those degrees are used to size the adjacency buffers when the relationships are imported.
+     */
+    void prepareDegreeCounting(long nodeCount) {
+        adjacencyBuffer.prepareDegreeCounting(nodeCount);
+    }
+
+    boolean loadsProperties() {
+        return importMetaData.projection().properties().hasMappings();
+    }
+
     ThreadLocalSingleTypeRelationshipImporter threadLocalImporter(
         PartialIdMap idMap,
         int bulkSize,
         KernelTransaction kernelTransaction
     ) {
-        var loadProperties = importMetaData.projection().properties().hasMappings();
+        var loadProperties = loadsProperties();
 
         PropertyReader propertyReader = loadProperties
             ? PropertyReader.storeBacked(kernelTransaction)
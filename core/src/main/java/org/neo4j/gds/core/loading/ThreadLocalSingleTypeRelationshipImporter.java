@@ -94,6 +94,11 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
 
     public abstract long importRelationships();
 
+    /**
+     * Counts the relationships in the buffer per source node instead of importing them.
+     */
+    public abstract void countDegrees();
+
     // TODO: remove, once Cypher loading uses RelationshipsBuilder
     public RelationshipsBatchBuffer buffer() {
         return relationshipsBatchBuffer;
@@ -107,6 +112,10 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
         return adjacencyBuffer;
     }
 
+    protected void countDegrees(long[] batch) {
+        targetBuffer().addDegrees(batch, sourceBuffer().length());
+    }
+
     protected int importRelationships(
         RelationshipsBatchBuffer sourceBuffer,
         long[] batch,
@@ -156,6 +165,12 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortBySource());
+            countDegrees(sourceBuffer().sortByTarget());
+        }
+
         @Override
         public long importRelationships() {
             long[] batch = sourceBuffer().sortBySource();
@@ -176,6 +191,12 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortBySource());
+            countDegrees(sourceBuffer().sortByTarget());
+        }
+
         @Override
         public long importRelationships() {
             int batchLength = sourceBuffer().length();
@@ -217,6 +238,11 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortBySource());
+        }
+
         @Override
         public long importRelationships() {
             long[] batch = sourceBuffer().sortBySource();
@@ -239,6 +265,11 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortBySource());
+        }
+
         @Override
         public long importRelationships() {
             int batchLength = sourceBuffer().length();
@@ -267,6 +298,11 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortByTarget());
+        }
+
         @Override
         public long importRelationships() {
             long[] batch = sourceBuffer().sortByTarget();
@@ -289,6 +325,11 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
         }
 
+        @Override
+        public void countDegrees() {
+            countDegrees(sourceBuffer().sortByTarget());
+        }
+
         @Override
         public long importRelationships() {
             int batchLength = sourceBuffer().length();
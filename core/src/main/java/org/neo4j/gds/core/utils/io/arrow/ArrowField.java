@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+/**
+ * A non-nullable column of an Arrow schema.
+ */
+@ValueClass
+public interface ArrowField {
+
+    enum Type {
+        INT64,
+        FLOAT32,
+        FLOAT64,
+        INT64_LIST,
+        FLOAT32_LIST,
+        FLOAT64_LIST;
+
+        boolean isList() {
+            return this == INT64_LIST || this == FLOAT32_LIST || this == FLOAT64_LIST;
+        }
+
+        Type elementType() {
+            switch (this) {
+                case INT64_LIST:
+                    return INT64;
+                case FLOAT32_LIST:
+                    return FLOAT32;
+                case FLOAT64_LIST:
+                    return FLOAT64;
+                default:
+                    return this;
+            }
+        }
+    }
+
+    String name();
+
+    Type type();
+
+    static ArrowField of(String name, Type type) {
+        return ImmutableArrowField.of(name, type);
+    }
+}
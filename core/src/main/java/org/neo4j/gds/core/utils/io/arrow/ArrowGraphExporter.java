@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Exports node properties and relationships of a graph as Arrow IPC streams.
+ * <br>
+ * Values are copied column-wise from the graph into reusable direct buffers,
+ * one record batch of up to {@code batchSize} rows at a time, and written
+ * to the channel from there. Node ids are exported as original node ids.
+ */
+public final class ArrowGraphExporter {
+
+    public static final String NODE_ID_COLUMN = "nodeId";
+    public static final String SOURCE_NODE_ID_COLUMN = "sourceNodeId";
+    public static final String TARGET_NODE_ID_COLUMN = "targetNodeId";
+
+    private ArrowGraphExporter() {
+    }
+
+    public static ArrowExportResult exportNodeProperties(
+        Graph graph,
+        List<String> nodePropertyKeys,
+        int batchSize,
+        WritableByteChannel channel
+    ) {
+        var columns = new ArrayList<NodeColumn>();
+        columns.add(new LongColumn(NODE_ID_COLUMN, graph::toOriginalNodeId, batchSize));
+        for (String propertyKey : nodePropertyKeys) {
+            columns.add(nodePropertyColumn(propertyKey, graph.nodeProperties(propertyKey), batchSize));
+        }
+
+        var writer = ArrowStreamWriter.start(
+            channel,
+            columns.stream().map(NodeColumn::field).collect(Collectors.toList())
+        );
+
+        long nodeCount = graph.nodeCount();
+        for (long startNode = 0; startNode < nodeCount; startNode += batchSize) {
+            int length = (int) Math.min(batchSize, nodeCount - startNode);
+            var batch = writer.newRecordBatch(length);
+            for (NodeColumn column : columns) {
+                column.addTo(batch, startNode, length);
+            }
+            writer.write(batch);
+        }
+        writer.close();
+
+        return ImmutableArrowExportResult.of(nodeCount, writer.batchCount(), writer.bytesWritten());
+    }
+
+    /**
+     * Exports all relationships of the given graph as (source, target) pairs.
+     * If a property key is given, the graph is expected to have a relationship
+     * property, which is exported as a third column of that name.
+     */
+    public static ArrowExportResult exportRelationships(
+        Graph graph,
+        Optional<String> relationshipPropertyKey,
+        int batchSize,
+        WritableByteChannel channel
+    ) {
+        var fields = new ArrayList<ArrowField>();
+        fields.add(ArrowField.of(SOURCE_NODE_ID_COLUMN, ArrowField.Type.INT64));
+        fields.add(ArrowField.of(TARGET_NODE_ID_COLUMN, ArrowField.Type.INT64));
+        relationshipPropertyKey.ifPresent(key -> fields.add(ArrowField.of(key, ArrowField.Type.FLOAT64)));
+
+        var writer = ArrowStreamWriter.start(channel, fields);
+        var batcher = new RelationshipBatcher(graph, writer, batchSize, relationshipPropertyKey.isPresent());
+
+        long nodeCount = graph.nodeCount();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, Double.NaN, batcher);
+        }
+        batcher.flush();
+        writer.close();
+
+        return ImmutableArrowExportResult.of(batcher.rowCount, writer.batchCount(), writer.bytesWritten());
+    }
+
+    private static NodeColumn nodePropertyColumn(String propertyKey, NodeProperties properties, int batchSize) {
+        switch (properties.valueType()) {
+            case LONG:
+                return new LongColumn(propertyKey, properties::longValue, batchSize);
+            case DOUBLE:
+                return new DoubleColumn(propertyKey, properties::doubleValue, batchSize);
+            case DOUBLE_ARRAY:
+                return new ArrayColumn(propertyKey, ArrowField.Type.FLOAT64_LIST, properties, batchSize);
+            case FLOAT_ARRAY:
+                return new ArrayColumn(propertyKey, ArrowField.Type.FLOAT32_LIST, properties, batchSize);
+            case LONG_ARRAY:
+                return new ArrayColumn(propertyKey, ArrowField.Type.INT64_LIST, properties, batchSize);
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` of type `%s` cannot be exported to Arrow.",
+                    propertyKey,
+                    properties.valueType()
+                ));
+        }
+    }
+
+    private static ByteBuffer newBuffer(long capacity) {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "A record batch buffer cannot exceed %d bytes, but %d bytes are required. Reduce the batch size.",
+                Integer.MAX_VALUE,
+                capacity
+            ));
+        }
+        return ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private interface NodeColumn {
+        ArrowField field();
+
+        void addTo(ArrowStreamWriter.RecordBatch batch, long startNode, int length);
+    }
+
+    private static final class LongColumn implements NodeColumn {
+        private final String name;
+        private final LongUnaryOperator values;
+        private final ByteBuffer buffer;
+
+        LongColumn(String name, LongUnaryOperator values, int batchSize) {
+            this.name = name;
+            this.values = values;
+            this.buffer = newBuffer((long) batchSize * Long.BYTES);
+        }
+
+        @Override
+        public ArrowField field() {
+            return ArrowField.of(name, ArrowField.Type.INT64);
+        }
+
+        @Override
+        public void addTo(ArrowStreamWriter.RecordBatch batch, long startNode, int length) {
+            buffer.clear();
+            for (int i = 0; i < length; i++) {
+                buffer.putLong(values.applyAsLong(startNode + i));
+            }
+            batch.addValues(buffer.flip());
+        }
+    }
+
+    private static final class DoubleColumn implements NodeColumn {
+        private final String name;
+        private final LongToDoubleFunction values;
+        private final ByteBuffer buffer;
+
+        DoubleColumn(String name, LongToDoubleFunction values, int batchSize) {
+            this.name = name;
+            this.values = values;
+            this.buffer = newBuffer((long) batchSize * Double.BYTES);
+        }
+
+        @Override
+        public ArrowField field() {
+            return ArrowField.of(name, ArrowField.Type.FLOAT64);
+        }
+
+        @Override
+        public void addTo(ArrowStreamWriter.RecordBatch batch, long startNode, int length) {
+            buffer.clear();
+            for (int i = 0; i < length; i++) {
+                buffer.putDouble(values.applyAsDouble(startNode + i));
+            }
+            batch.addValues(buffer.flip());
+        }
+    }
+
+    /**
+     * Array properties are exported as list columns. Missing arrays are exported as empty lists.
+     */
+    private static final class ArrayColumn implements NodeColumn {
+        private final String name;
+        private final ArrowField.Type type;
+        private final NodeProperties properties;
+        private final ByteBuffer offsets;
+        private ByteBuffer values;
+
+        ArrayColumn(String name, ArrowField.Type type, NodeProperties properties, int batchSize) {
+            this.name = name;
+            this.type = type;
+            this.properties = properties;
+            this.offsets = newBuffer(((long) batchSize + 1) * Integer.BYTES);
+            this.values = newBuffer((long) batchSize * Double.BYTES);
+        }
+
+        @Override
+        public ArrowField field() {
+            return ArrowField.of(name, type);
+        }
+
+        @Override
+        public void addTo(ArrowStreamWriter.RecordBatch batch, long startNode, int length) {
+            offsets.clear();
+            values.clear();
+            int valueCount = 0;
+            offsets.putInt(valueCount);
+            for (int i = 0; i < length; i++) {
+                valueCount = Math.addExact(valueCount, append(startNode + i));
+                offsets.putInt(valueCount);
+            }
+            batch.addList(offsets.flip(), valueCount, values.flip());
+        }
+
+        private int append(long nodeId) {
+            switch (type) {
+                case FLOAT64_LIST: {
+                    double[] array = properties.doubleArrayValue(nodeId);
+                    if (array == null) {
+                        return 0;
+                    }
+                    ensureCapacity((long) array.length * Double.BYTES);
+                    values.asDoubleBuffer().put(array);
+                    values.position(values.position() + array.length * Double.BYTES);
+                    return array.length;
+                }
+                case FLOAT32_LIST: {
+                    float[] array = properties.floatArrayValue(nodeId);
+                    if (array == null) {
+                        return 0;
+                    }
+                    ensureCapacity((long) array.length * Float.BYTES);
+                    values.asFloatBuffer().put(array);
+                    values.position(values.position() + array.length * Float.BYTES);
+                    return array.length;
+                }
+                default: {
+                    long[] array = properties.longArrayValue(nodeId);
+                    if (array == null) {
+                        return 0;
+                    }
+                    ensureCapacity((long) array.length * Long.BYTES);
+                    values.asLongBuffer().put(array);
+                    values.position(values.position() + array.length * Long.BYTES);
+                    return array.length;
+                }
+            }
+        }
+
+        private void ensureCapacity(long additionalBytes) {
+            long required = values.position() + additionalBytes;
+            if (required > values.capacity()) {
+                var grown = newBuffer(Math.max(required, values.capacity() + (values.capacity() >> 1)));
+                grown.put(values.flip());
+                values = grown;
+            }
+        }
+    }
+
+    private static final class RelationshipBatcher implements RelationshipWithPropertyConsumer {
+        private final Graph graph;
+        private final ArrowStreamWriter writer;
+        private final int batchSize;
+        private final boolean hasProperty;
+        private final ByteBuffer sources;
+        private final ByteBuffer targets;
+        private final ByteBuffer properties;
+
+        private int length;
+        private long rowCount;
+
+        RelationshipBatcher(Graph graph, ArrowStreamWriter writer, int batchSize, boolean hasProperty) {
+            this.graph = graph;
+            this.writer = writer;
+            this.batchSize = batchSize;
+            this.hasProperty = hasProperty;
+            this.sources = newBuffer((long) batchSize * Long.BYTES);
+            this.targets = newBuffer((long) batchSize * Long.BYTES);
+            this.properties = hasProperty ? newBuffer((long) batchSize * Double.BYTES) : null;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            sources.putLong(graph.toOriginalNodeId(sourceNodeId));
+            targets.putLong(graph.toOriginalNodeId(targetNodeId));
+            if (hasProperty) {
+                properties.putDouble(property);
+            }
+            if (++length == batchSize) {
+                flush();
+            }
+            return true;
+        }
+
+        void flush() {
+            if (length == 0) {
+                return;
+            }
+            var batch = writer
+                .newRecordBatch(length)
+                .addValues(sources.flip())
+                .addValues(targets.flip());
+            if (hasProperty) {
+                batch.addValues(properties.flip());
+            }
+            writer.write(batch);
+
+            rowCount += length;
+            length = 0;
+            sources.clear();
+            targets.clear();
+            if (hasProperty) {
+                properties.clear();
+            }
+        }
+    }
+}
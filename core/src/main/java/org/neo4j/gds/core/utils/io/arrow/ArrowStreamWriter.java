@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import com.carrotsearch.hppc.LongArrayList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes record batches in the Arrow IPC streaming format to a channel.
+ * <br>
+ * The stream consists of a schema message, followed by any number of record
+ * batch messages and is terminated by an end-of-stream marker on {@link #close()}.
+ * Column buffers are written to the channel as they are given, without
+ * copying them into an intermediate message buffer.
+ * The underlying channel is not closed by this writer.
+ */
+public final class ArrowStreamWriter implements AutoCloseable {
+
+    private static final int CONTINUATION_MARKER = 0xFFFFFFFF;
+    private static final int ALIGNMENT = 8;
+    private static final ByteBuffer PADDING = ByteBuffer.allocateDirect(ALIGNMENT);
+    private static final ByteBuffer EMPTY = ByteBuffer.allocateDirect(0);
+
+    // Message.fbs, Schema.fbs
+    private static final short METADATA_VERSION_V5 = 4;
+    private static final byte MESSAGE_HEADER_SCHEMA = 1;
+    private static final byte MESSAGE_HEADER_RECORD_BATCH = 3;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_FLOATING_POINT = 3;
+    private static final byte TYPE_LIST = 12;
+    private static final short PRECISION_SINGLE = 1;
+    private static final short PRECISION_DOUBLE = 2;
+    private static final short ENDIANNESS_LITTLE = 0;
+
+    private final WritableByteChannel channel;
+    private final List<ArrowField> fields;
+    private final ByteBuffer prefix;
+
+    private long bytesWritten;
+    private long batchCount;
+
+    public static ArrowStreamWriter start(WritableByteChannel channel, List<ArrowField> fields) {
+        var writer = new ArrowStreamWriter(channel, fields);
+        writer.writeMessage(writer.schemaMessage(), List.of(), 0);
+        return writer;
+    }
+
+    private ArrowStreamWriter(WritableByteChannel channel, List<ArrowField> fields) {
+        this.channel = channel;
+        this.fields = List.copyOf(fields);
+        this.prefix = ByteBuffer.allocate(2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public RecordBatch newRecordBatch(int rowCount) {
+        return new RecordBatch(rowCount);
+    }
+
+    public void write(RecordBatch batch) {
+        if (batch.fieldCount != fields.size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a record batch with %d columns, but got %d.",
+                fields.size(),
+                batch.fieldCount
+            ));
+        }
+
+        var bufferLayout = new long[batch.buffers.size() * 2];
+        long bodyLength = 0;
+        for (int i = 0; i < batch.buffers.size(); i++) {
+            long length = batch.buffers.get(i).remaining();
+            bufferLayout[2 * i] = bodyLength;
+            bufferLayout[2 * i + 1] = length;
+            bodyLength += align(length);
+        }
+
+        var builder = new FlatBufferBuilder(256 + 16 * bufferLayout.length);
+        int nodesOffset = builder.createLongPairVector(batch.nodes.toArray());
+        int buffersOffset = builder.createLongPairVector(bufferLayout);
+        builder.startTable(4);
+        builder.addLong(0, batch.rowCount);
+        builder.addOffset(1, nodesOffset);
+        builder.addOffset(2, buffersOffset);
+        int recordBatchOffset = builder.endTable();
+
+        writeMessage(message(builder, MESSAGE_HEADER_RECORD_BATCH, recordBatchOffset, bodyLength), batch.buffers, bodyLength);
+        batchCount++;
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    public long batchCount() {
+        return batchCount;
+    }
+
+    @Override
+    public void close() {
+        prefix.clear();
+        prefix.putInt(CONTINUATION_MARKER).putInt(0).flip();
+        writeFully(prefix);
+    }
+
+    private byte[] schemaMessage() {
+        var builder = new FlatBufferBuilder(256 + 64 * fields.size());
+        int[] fieldOffsets = new int[fields.size()];
+        for (int i = 0; i < fieldOffsets.length; i++) {
+            fieldOffsets[i] = field(builder, fields.get(i).name(), fields.get(i).type());
+        }
+        int fieldsOffset = builder.createOffsetVector(fieldOffsets);
+
+        builder.startTable(4);
+        builder.addOffset(1, fieldsOffset);
+        builder.addShort(0, ENDIANNESS_LITTLE);
+        int schemaOffset = builder.endTable();
+
+        return message(builder, MESSAGE_HEADER_SCHEMA, schemaOffset, 0);
+    }
+
+    private static int field(FlatBufferBuilder builder, String name, ArrowField.Type type) {
+        int[] children;
+        if (type.isList()) {
+            children = new int[]{field(builder, "item", type.elementType())};
+        } else {
+            children = new int[0];
+        }
+        int childrenOffset = builder.createOffsetVector(children);
+        int nameOffset = builder.createString(name);
+
+        byte typeType;
+        if (type.isList()) {
+            typeType = TYPE_LIST;
+            builder.startTable(0);
+        } else if (type == ArrowField.Type.INT64) {
+            typeType = TYPE_INT;
+            builder.startTable(2);
+            builder.addInt(0, Long.SIZE);
+            builder.addBoolean(1, true);
+        } else {
+            typeType = TYPE_FLOATING_POINT;
+            builder.startTable(1);
+            builder.addShort(0, type == ArrowField.Type.FLOAT32 ? PRECISION_SINGLE : PRECISION_DOUBLE);
+        }
+        int typeOffset = builder.endTable();
+
+        builder.startTable(7);
+        builder.addOffset(0, nameOffset);
+        builder.addOffset(3, typeOffset);
+        builder.addOffset(5, childrenOffset);
+        builder.addBoolean(1, false);
+        builder.addByte(2, typeType);
+        return builder.endTable();
+    }
+
+    private static byte[] message(FlatBufferBuilder builder, byte headerType, int headerOffset, long bodyLength) {
+        builder.startTable(5);
+        builder.addLong(3, bodyLength);
+        builder.addOffset(2, headerOffset);
+        builder.addShort(0, METADATA_VERSION_V5);
+        builder.addByte(1, headerType);
+        return builder.finish(builder.endTable());
+    }
+
+    private void writeMessage(byte[] metadata, List<ByteBuffer> body, long bodyLength) {
+        int paddedMetadataLength = (int) align(metadata.length);
+        prefix.clear();
+        prefix.putInt(CONTINUATION_MARKER).putInt(paddedMetadataLength).flip();
+        writeFully(prefix);
+        writeFully(ByteBuffer.wrap(metadata));
+        writePadding(paddedMetadataLength - metadata.length);
+
+        long written = 0;
+        for (ByteBuffer buffer : body) {
+            int length = buffer.remaining();
+            writeFully(buffer.duplicate());
+            writePadding((int) (align(length) - length));
+            written += align(length);
+        }
+        assert written == bodyLength;
+    }
+
+    private void writePadding(int length) {
+        if (length > 0) {
+            writeFully(PADDING.duplicate().limit(length));
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long align(long length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * The buffers of a single record batch.
+     * Columns need to be added in schema order, buffers are expected
+     * to be in little endian order and ready to be read.
+     */
+    public static final class RecordBatch {
+
+        private final int rowCount;
+        private final LongArrayList nodes;
+        private final List<ByteBuffer> buffers;
+        private int fieldCount;
+
+        private RecordBatch(int rowCount) {
+            this.rowCount = rowCount;
+            this.nodes = new LongArrayList();
+            this.buffers = new ArrayList<>();
+        }
+
+        public int rowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Adds a column of fixed width values, i.e. an INT64, FLOAT32 or FLOAT64 column.
+         */
+        public RecordBatch addValues(ByteBuffer values) {
+            addNode(rowCount, values);
+            fieldCount++;
+            return this;
+        }
+
+        /**
+         * Adds a list column, where {@code offsets} contains {@code rowCount + 1} int offsets into {@code values}.
+         */
+        public RecordBatch addList(ByteBuffer offsets, int valueCount, ByteBuffer values) {
+            addNode(rowCount, offsets);
+            addNode(valueCount, values);
+            fieldCount++;
+            return this;
+        }
+
+        private void addNode(long length, ByteBuffer buffer) {
+            nodes.add(length, 0L);
+            // no validity bitmap, as all columns are non-nullable
+            buffers.add(EMPTY);
+            buffers.add(buffer);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A minimal FlatBuffers builder, sufficient to encode Arrow IPC metadata.
+ * <br>
+ * Like the reference implementation, the buffer is filled back to front,
+ * so that every referenced object is written before the object that refers
+ * to it. Offsets returned by this builder are measured from the end of the
+ * buffer. In contrast to the reference implementation, vtables are never
+ * deduplicated and scalar fields are always written, even if they match the
+ * schema default.
+ */
+final class FlatBufferBuilder {
+
+    private ByteBuffer buffer;
+    // position of the first written byte
+    private int space;
+    private int minAlign = 1;
+
+    private int[] vtable;
+    private int objectStart;
+
+    FlatBufferBuilder(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 64)).order(ByteOrder.LITTLE_ENDIAN);
+        this.space = buffer.capacity();
+    }
+
+    int offset() {
+        return buffer.capacity() - space;
+    }
+
+    void startTable(int numberOfFields) {
+        this.vtable = new int[numberOfFields];
+        this.objectStart = offset();
+    }
+
+    void addByte(int field, byte value) {
+        prep(Byte.BYTES, 0);
+        buffer.put(--space, value);
+        vtable[field] = offset();
+    }
+
+    void addBoolean(int field, boolean value) {
+        addByte(field, value ? (byte) 1 : (byte) 0);
+    }
+
+    void addShort(int field, short value) {
+        putShort(value);
+        vtable[field] = offset();
+    }
+
+    void addInt(int field, int value) {
+        prep(Integer.BYTES, 0);
+        space -= Integer.BYTES;
+        buffer.putInt(space, value);
+        vtable[field] = offset();
+    }
+
+    void addLong(int field, long value) {
+        prep(Long.BYTES, 0);
+        space -= Long.BYTES;
+        buffer.putLong(space, value);
+        vtable[field] = offset();
+    }
+
+    void addOffset(int field, int offset) {
+        putOffset(offset);
+        vtable[field] = offset();
+    }
+
+    int endTable() {
+        // placeholder for the offset to the vtable
+        prep(Integer.BYTES, 0);
+        space -= Integer.BYTES;
+        buffer.putInt(space, 0);
+        int objectOffset = offset();
+
+        for (int field = vtable.length - 1; field >= 0; field--) {
+            putShort((short) (vtable[field] != 0 ? objectOffset - vtable[field] : 0));
+        }
+        putShort((short) (objectOffset - objectStart));
+        putShort((short) ((vtable.length + 2) * Short.BYTES));
+
+        int vtableOffset = offset();
+        buffer.putInt(buffer.capacity() - objectOffset, vtableOffset - objectOffset);
+        this.vtable = null;
+        return objectOffset;
+    }
+
+    int createString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        prep(Integer.BYTES, bytes.length + 1);
+        buffer.put(--space, (byte) 0);
+        space -= bytes.length;
+        buffer.position(space);
+        buffer.put(bytes);
+        buffer.position(0);
+        return endVector(bytes.length);
+    }
+
+    int createOffsetVector(int[] offsets) {
+        startVector(Integer.BYTES, offsets.length, Integer.BYTES);
+        for (int i = offsets.length - 1; i >= 0; i--) {
+            putOffset(offsets[i]);
+        }
+        return endVector(offsets.length);
+    }
+
+    /**
+     * Creates a vector of structs that consist of two longs each,
+     * which is the layout of the Arrow {@code FieldNode} and {@code Buffer} structs.
+     */
+    int createLongPairVector(long[] values) {
+        assert values.length % 2 == 0;
+        int length = values.length / 2;
+        startVector(2 * Long.BYTES, length, Long.BYTES);
+        for (int i = values.length - 1; i >= 0; i--) {
+            space -= Long.BYTES;
+            buffer.putLong(space, values[i]);
+        }
+        return endVector(length);
+    }
+
+    /**
+     * Finishes the buffer and returns its content, starting with the offset to the root table.
+     */
+    byte[] finish(int rootTable) {
+        prep(minAlign, Integer.BYTES);
+        putOffset(rootTable);
+        byte[] bytes = new byte[offset()];
+        buffer.position(space);
+        buffer.get(bytes);
+        buffer.position(0);
+        return bytes;
+    }
+
+    private void startVector(int elementSize, int length, int alignment) {
+        prep(Integer.BYTES, elementSize * length);
+        prep(alignment, elementSize * length);
+    }
+
+    private int endVector(int length) {
+        space -= Integer.BYTES;
+        buffer.putInt(space, length);
+        return offset();
+    }
+
+    private void putShort(short value) {
+        prep(Short.BYTES, 0);
+        space -= Short.BYTES;
+        buffer.putShort(space, value);
+    }
+
+    private void putOffset(int offset) {
+        prep(Integer.BYTES, 0);
+        assert offset <= offset();
+        int relativeOffset = offset() - offset + Integer.BYTES;
+        space -= Integer.BYTES;
+        buffer.putInt(space, relativeOffset);
+    }
+
+    /**
+     * Aligns the buffer so that {@code size} bytes can be written aligned to {@code size}
+     * after {@code additionalBytes} have been written.
+     */
+    private void prep(int size, int additionalBytes) {
+        minAlign = Math.max(minAlign, size);
+        int alignSize = (-(offset() + additionalBytes)) & (size - 1);
+        while (space < alignSize + size + additionalBytes) {
+            grow();
+        }
+        for (int i = 0; i < alignSize; i++) {
+            buffer.put(--space, (byte) 0);
+        }
+    }
+
+    private void grow() {
+        int oldCapacity = buffer.capacity();
+        var newBuffer = ByteBuffer.allocate(oldCapacity << 1).order(ByteOrder.LITTLE_ENDIAN);
+        newBuffer.position(oldCapacity);
+        buffer.position(0);
+        newBuffer.put(buffer);
+        newBuffer.position(0);
+        buffer = newBuffer;
+        space += oldCapacity;
+    }
+}
@@ -34,9 +34,24 @@ public class TaskRegistry {
     }
 
     public TaskRegistry(String username, TaskStore taskStore) {
+        this(username, taskStore, new JobId());
+    }
+
+    /**
+     * Creates a registry that stores tasks in the same task store as the given registry, but under the given job id.
+     */
+    public TaskRegistry(TaskRegistry taskRegistry, JobId jobId) {
+        this(taskRegistry.username, taskRegistry.taskStore, jobId);
+    }
+
+    private TaskRegistry(String username, TaskStore taskStore, JobId jobId) {
         this.username = username;
         this.taskStore = taskStore;
-        this.jobId = new JobId();
+        this.jobId = jobId;
+    }
+
+    public JobId jobId() {
+        return jobId;
     }
 
     public void registerTask(Task task) {
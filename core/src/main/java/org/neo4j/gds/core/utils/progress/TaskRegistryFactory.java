@@ -22,4 +22,12 @@ package org.neo4j.gds.core.utils.progress;
 @FunctionalInterface
 public interface TaskRegistryFactory {
     TaskRegistry newInstance();
+
+    /**
+     * Creates a registry that registers its tasks under the given job id,
+     * so that callers can hand out the id before the task has been started.
+     */
+    default TaskRegistry newInstance(JobId jobId) {
+        return new TaskRegistry(newInstance(), jobId);
+    }
 }
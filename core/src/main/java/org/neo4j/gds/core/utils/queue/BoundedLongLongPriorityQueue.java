@@ -60,10 +60,20 @@ public abstract class BoundedLongLongPriorityQueue {
 
     public abstract void foreach(Consumer consumer);
 
+    /**
+     * Returns the priority of the last element, which is the next one to be evicted once the queue is full.
+     * Must not be called on an empty queue.
+     */
+    public abstract double lastPriority();
+
     public int size() {
         return elementCount;
     }
 
+    public boolean isFull() {
+        return elementCount == bound;
+    }
+
     protected boolean add(long element1, long element2, double priority) {
         if (elementCount < bound || Double.isNaN(minValue) || priority < minValue) {
             int idx = Arrays.binarySearch(priorities, 0, elementCount, priority);
@@ -119,6 +129,11 @@ public abstract class BoundedLongLongPriorityQueue {
                 }
             }
 
+            @Override
+            public double lastPriority() {
+                return -priorities[elementCount - 1];
+            }
+
             @Override
             public DoubleStream priorities() {
                 return elementCount == 0
@@ -142,6 +157,11 @@ public abstract class BoundedLongLongPriorityQueue {
                     consumer.accept(elements1[i], elements2[i], priorities[i]);
                 }
             }
+
+            @Override
+            public double lastPriority() {
+                return priorities[elementCount - 1];
+            }
         };
     }
 }
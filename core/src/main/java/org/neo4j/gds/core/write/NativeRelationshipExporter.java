@@ -22,32 +22,55 @@ package org.neo4j.gds.core.write;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StatementApi;
 import org.neo4j.internal.kernel.api.Write;
 import org.neo4j.internal.kernel.api.exceptions.EntityNotFoundException;
+import org.neo4j.kernel.api.exceptions.Status;
 
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.LongUnaryOperator;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
 
+/**
+ * Writes the relationships of a graph in a producer/consumer pipeline.
+ *
+ * The calling thread iterates the graph and fills buffers taken from a bounded pool.
+ * Full buffers are committed by {@code concurrency} writer threads. As the pool is bounded,
+ * the iteration blocks whenever the writers fall behind.
+ *
+ * Writers commit a buffer in one or more transactions. If a transaction fails with a transient error,
+ * e.g. a deadlock between writers that lock the same nodes, it is retried with half the commit size.
+ * Each successful commit doubles the commit size again, up to the batch size.
+ * Transactions are committed independently, so if a write fails, the relationships committed before stay written.
+ */
 public final class NativeRelationshipExporter extends StatementApi implements RelationshipExporter {
 
+    static final int MAX_RETRIES = 5;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     private final Graph graph;
     private final LongUnaryOperator toOriginalId;
     private final RelationshipPropertyTranslator propertyTranslator;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
+    private final int concurrency;
+    private final int batchSize;
     private final ExecutorService executorService;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
@@ -81,7 +104,10 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int concurrency,
+        int batchSize,
+        ExecutorService executorService
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -89,7 +115,9 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.propertyTranslator = propertyTranslator;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
-        this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.executorService = executorService;
     }
 
     @Override
@@ -117,135 +145,319 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     }
 
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
-        // We use MIN_BATCH_SIZE since writing relationships
-        // is performed batch-wise, but single-threaded.
-        var tasks = PartitionUtils.degreePartitionWithBatchSize(
-            graph,
-            NativeNodePropertyExporter.MIN_BATCH_SIZE,
-            partition -> createBatchRunnable(
-                relationshipTypeToken,
-                propertyKeyToken,
-                partition,
-                afterWriteConsumer
-            )
-        );
+        // every writer holds one buffer, while the producer fills another
+        // and up to `concurrency` more buffers wait to be written
+        var bufferCount = 2 * concurrency + 1;
+        var bufferPool = new LinkedBlockingQueue<Buffer>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            bufferPool.add(new Buffer(batchSize));
+        }
+        var writeQueue = new LinkedBlockingQueue<Buffer>();
+
+        var error = new AtomicReference<RuntimeException>();
+        var statistics = new Statistics();
+        var writers = new ArrayList<Future<?>>(concurrency);
 
         progressTracker.beginSubTask();
         try {
-            tasks.forEach(runnable -> ParallelUtil.run(runnable, executorService));
+            for (int i = 0; i < concurrency; i++) {
+                writers.add(executorService.submit(new Writer(
+                    relationshipTypeToken,
+                    propertyKeyToken,
+                    afterWriteConsumer,
+                    writeQueue,
+                    bufferPool,
+                    error,
+                    statistics
+                )));
+            }
+
+            var producer = new Producer(writeQueue, bufferPool, error);
+            var produceStart = System.nanoTime();
+            try {
+                producer.produce();
+            } finally {
+                statistics.produceNanos.add(System.nanoTime() - produceStart);
+                for (int i = 0; i < concurrency; i++) {
+                    writeQueue.add(Buffer.END_OF_WRITE);
+                }
+                awaitWriters(writers);
+            }
+
+            var writeError = error.get();
+            if (writeError != null) {
+                throw writeError;
+            }
+
+            progressTracker.logMessage(statistics.toString());
         } finally {
             progressTracker.endSubTask();
         }
     }
 
-    private Runnable createBatchRunnable(
-        int relationshipToken,
-        int propertyToken,
-        Partition partition,
-        @Nullable RelationshipWithPropertyConsumer afterWrite
-    ) {
-        return () -> acceptInTransaction(stmt -> {
-            terminationFlag.assertRunning();
-            Write ops = stmt.dataWrite();
-
-
-            RelationshipWithPropertyConsumer writeConsumer = new WriteConsumer(
-                toOriginalId,
-                ops,
-                propertyTranslator,
-                relationshipToken,
-                propertyToken,
-                progressTracker
-            );
-            if (afterWrite != null) {
-                writeConsumer = writeConsumer.andThen(afterWrite);
+    private static void awaitWriters(Iterable<Future<?>> writers) {
+        for (Future<?> writer : writers) {
+            try {
+                writer.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                ExceptionUtil.throwIfUnchecked(e.getCause());
+                throw new RuntimeException(e.getCause());
             }
-            RelationshipIterator relationshipIterator = graph.concurrentCopy();
-            RelationshipWithPropertyConsumer finalWriteConsumer = writeConsumer;
-            var startNode = partition.startNode();
-            partition.consume(nodeId -> {
-                relationshipIterator.forEachRelationship(nodeId, Double.NaN, finalWriteConsumer);
-
-                if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
-                }
-            });
-        });
+        }
     }
 
-    private static class WriteConsumer implements RelationshipWithPropertyConsumer {
-        @FunctionalInterface
-        interface RelationshipWriteBehavior {
-            void apply(long sourceNodeId, long targetNodeId, double property) throws EntityNotFoundException;
+    private static boolean isTransient(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof Status.HasStatus &&
+                ((Status.HasStatus) cause).status().code().classification() == Status.Classification.TransientError) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        private final LongUnaryOperator toOriginalId;
-        private final Write ops;
-        private final RelationshipPropertyTranslator propertyTranslator;
-        private final int relTypeToken;
-        private final int propertyToken;
-        private final ProgressTracker progressTracker;
-        private final RelationshipWriteBehavior relationshipWriteBehavior;
-
-        WriteConsumer(
-            LongUnaryOperator toOriginalId,
-            Write ops,
-            RelationshipPropertyTranslator propertyTranslator,
-            int relTypeToken,
-            int propertyToken,
-            ProgressTracker progressTracker
+    private final class Producer implements RelationshipWithPropertyConsumer {
+
+        private final BlockingQueue<Buffer> writeQueue;
+        private final BlockingQueue<Buffer> bufferPool;
+        private final AtomicReference<RuntimeException> error;
+        private Buffer buffer;
+
+        Producer(
+            BlockingQueue<Buffer> writeQueue,
+            BlockingQueue<Buffer> bufferPool,
+            AtomicReference<RuntimeException> error
         ) {
-            this.toOriginalId = toOriginalId;
-            this.ops = ops;
-            this.propertyTranslator = propertyTranslator;
-            this.relTypeToken = relTypeToken;
-            this.propertyToken = propertyToken;
-            this.progressTracker = progressTracker;
-            if (propertyToken == NO_SUCH_PROPERTY_KEY) {
-                relationshipWriteBehavior = this::writeWithoutProperty;
-            } else {
-                relationshipWriteBehavior = this::writeWithProperty;
+            this.writeQueue = writeQueue;
+            this.bufferPool = bufferPool;
+            this.error = error;
+        }
+
+        void produce() {
+            this.buffer = takeBuffer();
+            var nodeCount = graph.nodeCount();
+            for (long nodeId = 0; nodeId < nodeCount && error.get() == null; nodeId++) {
+                graph.forEachRelationship(nodeId, Double.NaN, this);
+
+                if (nodeId % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                    terminationFlag.assertRunning();
+                }
+            }
+            if (buffer.size > 0) {
+                writeQueue.add(buffer);
             }
         }
 
         @Override
         public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            buffer.add(sourceNodeId, targetNodeId, property);
+            if (buffer.isFull()) {
+                writeQueue.add(buffer);
+                buffer = takeBuffer();
+            }
+            return error.get() == null;
+        }
+
+        private Buffer takeBuffer() {
             try {
-                relationshipWriteBehavior.apply(sourceNodeId, targetNodeId, property);
-                return true;
-            } catch (Exception e) {
-                ExceptionUtil.throwIfUnchecked(e);
+                // blocks while all buffers are queued or being written
+                return bufferPool.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
         }
+    }
+
+    private final class Writer implements Runnable {
+
+        private final int relationshipToken;
+        private final int propertyToken;
+        private final @Nullable RelationshipWithPropertyConsumer afterWrite;
+        private final BlockingQueue<Buffer> writeQueue;
+        private final BlockingQueue<Buffer> bufferPool;
+        private final AtomicReference<RuntimeException> error;
+        private final Statistics statistics;
+        private int commitSize;
 
-        private void writeWithoutProperty(long sourceNodeId, long targetNodeId, double property) throws EntityNotFoundException {
-            writeRelationship(sourceNodeId, targetNodeId);
-            progressTracker.logProgress();
+        Writer(
+            int relationshipToken,
+            int propertyToken,
+            @Nullable RelationshipWithPropertyConsumer afterWrite,
+            BlockingQueue<Buffer> writeQueue,
+            BlockingQueue<Buffer> bufferPool,
+            AtomicReference<RuntimeException> error,
+            Statistics statistics
+        ) {
+            this.relationshipToken = relationshipToken;
+            this.propertyToken = propertyToken;
+            this.afterWrite = afterWrite;
+            this.writeQueue = writeQueue;
+            this.bufferPool = bufferPool;
+            this.error = error;
+            this.statistics = statistics;
+            this.commitSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Buffer buffer;
+                try {
+                    buffer = writeQueue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error.compareAndSet(null, new RuntimeException(e));
+                    return;
+                }
+                if (buffer == Buffer.END_OF_WRITE) {
+                    return;
+                }
+                // after a failure, buffers are only drained to unblock the producer
+                if (error.get() == null) {
+                    try {
+                        write(buffer);
+                    } catch (RuntimeException e) {
+                        error.compareAndSet(null, e);
+                    }
+                }
+                buffer.reset();
+                bufferPool.add(buffer);
+            }
         }
 
-        private void writeWithProperty(long sourceNodeId, long targetNodeId, double property) throws EntityNotFoundException {
-            long relId = writeRelationship(sourceNodeId, targetNodeId);
-            exportProperty(property, relId);
-            progressTracker.logProgress();
+        private void write(Buffer buffer) {
+            int offset = 0;
+            int failedAttempts = 0;
+            while (offset < buffer.size) {
+                int end = Math.min(buffer.size, offset + commitSize);
+                var commitStart = System.nanoTime();
+                try {
+                    commit(buffer, offset, end);
+                } catch (RuntimeException e) {
+                    if (!isTransient(e)) {
+                        throw e;
+                    }
+                    if (++failedAttempts > MAX_RETRIES) {
+                        throw new IllegalStateException(formatWithLocale(
+                            "Failed to commit relationships after %d retries. " +
+                            "The %d relationships committed before the failure are not rolled back.",
+                            MAX_RETRIES,
+                            statistics.relationshipsWritten.sum()
+                        ), e);
+                    }
+                    statistics.retries.increment();
+                    commitSize = Math.max(1, (end - offset) / 2);
+                    LockSupport.parkNanos(failedAttempts * RETRY_BACKOFF_NANOS);
+                    continue;
+                } finally {
+                    statistics.commitNanos.add(System.nanoTime() - commitStart);
+                }
+                statistics.transactions.increment();
+                statistics.relationshipsWritten.add(end - offset);
+                afterCommit(buffer, offset, end);
+
+                failedAttempts = 0;
+                commitSize = (int) Math.min(batchSize, 2L * commitSize);
+                offset = end;
+            }
         }
 
-        private long writeRelationship(long sourceNodeId, long targetNodeId) throws EntityNotFoundException {
-            return ops.relationshipCreate(
-                toOriginalId.applyAsLong(sourceNodeId),
-                relTypeToken,
-                toOriginalId.applyAsLong(targetNodeId)
-            );
+        private void commit(Buffer buffer, int offset, int end) {
+            acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                Write ops = stmt.dataWrite();
+                for (int i = offset; i < end; i++) {
+                    long relationshipId = ops.relationshipCreate(
+                        toOriginalId.applyAsLong(buffer.sources[i]),
+                        relationshipToken,
+                        toOriginalId.applyAsLong(buffer.targets[i])
+                    );
+                    if (propertyToken != NO_SUCH_PROPERTY_KEY) {
+                        exportProperty(ops, relationshipId, buffer.properties[i]);
+                    }
+                }
+            });
         }
 
-        private void exportProperty(double property, long relId) throws EntityNotFoundException {
+        private void exportProperty(Write ops, long relationshipId, double property) throws EntityNotFoundException {
             if (!Double.isNaN(property)) {
                 ops.relationshipSetProperty(
-                    relId,
+                    relationshipId,
                     propertyToken,
                     propertyTranslator.toValue(property)
                 );
             }
         }
+
+        private void afterCommit(Buffer buffer, int offset, int end) {
+            progressTracker.logProgress(end - offset);
+            if (afterWrite != null) {
+                // consumers like histograms are not thread-safe
+                synchronized (afterWrite) {
+                    for (int i = offset; i < end; i++) {
+                        afterWrite.accept(buffer.sources[i], buffer.targets[i], buffer.properties[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    static final class Buffer {
+
+        static final Buffer END_OF_WRITE = new Buffer(0);
+
+        private final long[] sources;
+        private final long[] targets;
+        private final double[] properties;
+        private int size;
+
+        Buffer(int capacity) {
+            this.sources = new long[capacity];
+            this.targets = new long[capacity];
+            this.properties = new double[capacity];
+        }
+
+        void add(long source, long target, double property) {
+            sources[size] = source;
+            targets[size] = target;
+            properties[size] = property;
+            size += 1;
+        }
+
+        boolean isFull() {
+            return size == sources.length;
+        }
+
+        void reset() {
+            this.size = 0;
+        }
+    }
+
+    private static final class Statistics {
+        private final LongAdder produceNanos = new LongAdder();
+        private final LongAdder commitNanos = new LongAdder();
+        private final LongAdder relationshipsWritten = new LongAdder();
+        private final LongAdder transactions = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+
+        @Override
+        public String toString() {
+            var produceMillis = TimeUnit.NANOSECONDS.toMillis(produceNanos.sum());
+            var commitMillis = TimeUnit.NANOSECONDS.toMillis(commitNanos.sum());
+            var relationships = relationshipsWritten.sum();
+            return formatWithLocale(
+                "Produced %d relationships in %d ms, committed them in %d transactions with %d retries in %d ms of writer time (%d relationships per second and writer)",
+                relationships,
+                produceMillis,
+                transactions.sum(),
+                retries.sum(),
+                commitMillis,
+                commitMillis == 0 ? relationships : relationships * 1000 / commitMillis
+            );
+        }
     }
 }
@@ -39,7 +39,10 @@ public final class NativeRelationshipExporterBuilder extends RelationshipExporte
             toOriginalId,
             propertyTranslator,
             terminationFlag,
-            progressTracker
+            progressTracker,
+            writeConcurrency,
+            batchSize,
+            executorService
         );
     }
 }
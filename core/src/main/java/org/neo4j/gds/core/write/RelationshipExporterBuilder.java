@@ -20,10 +20,12 @@
 package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.values.storable.Values;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
 public abstract class RelationshipExporterBuilder<T extends RelationshipExporter> {
@@ -35,6 +37,9 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    protected ExecutorService executorService = Pools.DEFAULT;
+    protected int writeConcurrency = DEFAULT_WRITE_CONCURRENCY;
+    protected int batchSize = (int) NodePropertyExporter.MIN_BATCH_SIZE;
 
     public abstract T build();
 
@@ -58,6 +63,20 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Set the maximum number of relationships that are written in a single transaction.
+     */
+    public RelationshipExporterBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public RelationshipExporterBuilder<T> parallel(ExecutorService es, int writeConcurrency) {
+        this.executorService = es;
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
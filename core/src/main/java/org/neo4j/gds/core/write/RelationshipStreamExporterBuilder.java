@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.write;
 
-import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -29,7 +28,6 @@ import java.util.stream.Stream;
 public abstract class RelationshipStreamExporterBuilder<T extends RelationshipStreamExporter> {
     protected Stream<Relationship> relationships;
 
-    // FIXME: This looks very dodgy; only being overriden in the Cypher implementation and in some tests...
     protected int batchSize = (int) NativeNodePropertyExporter.MIN_BATCH_SIZE;
     protected LongUnaryOperator toOriginalId;
     protected TerminationFlag terminationFlag;
@@ -52,7 +50,9 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
-    @TestOnly
+    /**
+     * Set the maximum number of relationships that are written in a single transaction.
+     */
     public RelationshipStreamExporterBuilder<T> withBatchSize(int batchSize) {
         this.batchSize = batchSize;
         return this;
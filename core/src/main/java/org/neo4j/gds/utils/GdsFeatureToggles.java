@@ -32,7 +32,10 @@ public enum GdsFeatureToggles {
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
     USE_BIT_ID_MAP(true),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
-    USE_REORDERED_ADJACENCY_LIST(false);
+    USE_REORDERED_ADJACENCY_LIST(false),
+    USE_PREFETCHING_RELATIONSHIP_IMPORT(false),
+    USE_TWO_PASS_RELATIONSHIP_IMPORT(false),
+    USE_CALIBRATED_MEMORY_ESTIMATION(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -27,6 +27,7 @@ import org.neo4j.gds.GraphFactoryTestSupport;
 import org.neo4j.gds.GraphFactoryTestSupport.AllGraphStoreFactoryTypesTest;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.NodeProjection;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
@@ -51,7 +52,9 @@ import static org.neo4j.gds.TestSupport.fromGdl;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT;
 
 class GraphLoaderTest extends BaseTest {
 
@@ -76,6 +79,30 @@ class GraphLoaderTest extends BaseTest {
         assertGraphEquals(fromGdl("(a)-->(b), (a)-->(c), (b)-->(c)"), graph);
     }
 
+    @Test
+    void testAnyLabelWithPrefetching() {
+        USE_PREFETCHING_RELATIONSHIP_IMPORT.enableAndRun(() -> {
+            Graph graph = TestGraphLoaderFactory.graphLoader(db, NATIVE).withDefaultAggregation(Aggregation.SINGLE).graph();
+            assertGraphEquals(fromGdl("(a)-->(b), (a)-->(c), (b)-->(c)"), graph);
+        });
+    }
+
+    @Test
+    void testTwoPassRelationshipImport() {
+        USE_TWO_PASS_RELATIONSHIP_IMPORT.enableAndRun(() -> {
+            Graph graph = new StoreLoaderBuilder()
+                .api(db)
+                .globalOrientation(Orientation.UNDIRECTED)
+                .addRelationshipProperty(PropertyMapping.of("weight", 1.0D))
+                .build()
+                .graph();
+            assertGraphEquals(
+                fromGdl("(a)-[{w: 1.0D}]->(b), (a)-[{w: 1.0D}]->(c), (b)-[{w: 42.0D}]->(c), (b)-[{w: 1337.0D}]->(c)", Orientation.UNDIRECTED),
+                graph
+            );
+        });
+    }
+
     @AllGraphStoreFactoryTypesTest
     void testWithLabel(GraphFactoryTestSupport.FactoryType factoryType) {
         Graph graph = TestGraphLoaderFactory.graphLoader(db, factoryType).withLabels("Node1").graph();
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compress;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjacencyCompressionCalibrationTest {
+
+    private static final int NODE_COUNT = 100;
+
+    @AfterEach
+    void tearDown() {
+        AdjacencyCompressionCalibration.clear();
+    }
+
+    @Test
+    void shouldDropLeastRecentlyUsedSamplesBeyondTheCap() {
+        var adjacencyList = adjacencyList();
+
+        for (int i = 0; i < AdjacencyCompressionCalibration.MAX_SAMPLES; i++) {
+            AdjacencyCompressionCalibration.sample(projection(i), adjacencyList, NODE_COUNT);
+        }
+        // touch the oldest sample, so that the second one becomes the least recently used
+        assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(projection(0), NODE_COUNT)).isPresent();
+
+        AdjacencyCompressionCalibration.sample(
+            projection(AdjacencyCompressionCalibration.MAX_SAMPLES),
+            adjacencyList,
+            NODE_COUNT
+        );
+
+        assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(projection(0), NODE_COUNT)).isPresent();
+        assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(projection(1), NODE_COUNT)).isEmpty();
+        assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(
+            projection(AdjacencyCompressionCalibration.MAX_SAMPLES),
+            NODE_COUNT
+        )).isPresent();
+    }
+
+    private static AdjacencyList adjacencyList() {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .nodeCount(NODE_COUNT)
+            .maxOriginalId(NODE_COUNT)
+            .hasLabelInformation(false)
+            .build();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodesBuilder.addNode(i);
+        }
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodesBuilder.build().idMap())
+            .concurrency(1)
+            .executorService(Pools.DEFAULT)
+            .build();
+        for (int source = 0; source < NODE_COUNT; source++) {
+            relationshipsBuilder.add(source, (source + 1) % NODE_COUNT);
+            relationshipsBuilder.add(source, (source + 2) % NODE_COUNT);
+        }
+        return relationshipsBuilder.build().topology().adjacencyList();
+    }
+
+    private static AdjacencyCompressionCalibration.Projection projection(int type) {
+        return AdjacencyCompressionCalibration.Projection.of(
+            DatabaseIdFactory.from("neo4j", UUID.fromString("0-0-0-0-0")),
+            NodeProjections.all(),
+            RelationshipType.of("REL_" + type),
+            RelationshipProjection.ALL
+        );
+    }
+}
@@ -20,16 +20,28 @@
 package org.neo4j.gds.core.huge;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compress.AdjacencyCompressionCalibration;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.kernel.database.DatabaseIdFactory;
+import org.neo4j.kernel.database.NamedDatabaseId;
 
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.core.huge.CompressedAdjacencyList.computeAdjacencyByteSize;
 import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_MASK;
 import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
@@ -99,6 +111,127 @@ class CompressedAdjacencyListTest {
         assertEquals(expected, memRec.memoryUsage());
     }
 
+    @Test
+    void shouldComputeCalibratedMemoryEstimation() {
+        var nodeCount = 100_000_000L;
+        var avgDegree = 1000L;
+
+        MemoryRange memoryUsage = CompressedAdjacencyList
+            .adjacencyListEstimation(avgDegree, nodeCount, 1.5)
+            .estimate(GraphDimensions.builder().nodeCount(nodeCount).build(), 1)
+            .memoryUsage();
+
+        long classSize = 24;
+        // the first target of every adjacency list takes two bytes on average
+        long calibratedAdjacencySize = 150_050_000_000L;
+        long worstCaseAdjacencySize = 299_900_000_000L;
+
+        int minPages = PageUtil.numPagesFor(calibratedAdjacencySize, PAGE_SHIFT, PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
+        long bytesPerPage = BitUtil.align(16 + 262144L, 8);
+        long minAdjacencyPages = minPages * bytesPerPage + BitUtil.align(16 + minPages * 4, 8);
+        long maxAdjacencyPages = maxPages * bytesPerPage + BitUtil.align(16 + maxPages * 4, 8);
+
+        long degrees = HugeIntArray.memoryEstimation(nodeCount);
+        long offsets = HugeLongArray.memoryEstimation(nodeCount);
+
+        MemoryRange expected = MemoryRange.of(
+            classSize + minAdjacencyPages + degrees + offsets,
+            classSize + maxAdjacencyPages + degrees + offsets
+        );
+
+        assertEquals(expected, memoryUsage);
+    }
+
+    @Test
+    void shouldRaiseWorstCaseToCalibratedSize() {
+        var nodeCount = 100_000_000L;
+        var avgDegree = 1000L;
+        var dimensions = GraphDimensions.builder().nodeCount(nodeCount).build();
+
+        var uncalibrated = CompressedAdjacencyList
+            .adjacencyListEstimation(avgDegree, nodeCount)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var calibrated = CompressedAdjacencyList
+            .adjacencyListEstimation(avgDegree, nodeCount, 10.0)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        // ten bytes per delta exceed the worst case delta of 100_000, which takes three bytes
+        assertThat(calibrated.min).isGreaterThan(uncalibrated.max);
+        assertThat(calibrated.max).isEqualTo(calibrated.min);
+    }
+
+    @Test
+    void shouldSampleBytesPerDelta() {
+        int nodeCount = 1000;
+        int degree = 10;
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .nodeCount(nodeCount)
+            .maxOriginalId(nodeCount)
+            .hasLabelInformation(false)
+            .build();
+        for (int i = 0; i < nodeCount; i++) {
+            nodesBuilder.addNode(i);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .concurrency(1)
+            .executorService(Pools.DEFAULT)
+            .build();
+        for (int source = 0; source < nodeCount; source++) {
+            for (int offset = 1; offset <= degree; offset++) {
+                relationshipsBuilder.add(source, (source + offset) % nodeCount);
+            }
+        }
+        var adjacencyList = relationshipsBuilder.build().topology().adjacencyList();
+
+        var databaseId = DatabaseIdFactory.from("neo4j", UUID.fromString("0-0-0-0-0"));
+        var projection = projection(databaseId, ALL_RELATIONSHIPS, RelationshipProjection.ALL);
+
+        try {
+            AdjacencyCompressionCalibration.sample(projection, adjacencyList, nodeCount);
+
+            // apart from the lists that wrap around, all deltas are 1
+            var bytesPerDelta = AdjacencyCompressionCalibration.estimatedBytesPerDelta(projection, nodeCount);
+            assertThat(bytesPerDelta).isPresent();
+            assertThat(bytesPerDelta.getAsDouble()).isBetween(1.25, 1.1 * 1.25);
+
+            assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(
+                projection(databaseId, ALL_RELATIONSHIPS, RelationshipProjection.ALL_UNDIRECTED),
+                nodeCount
+            )).isEmpty();
+            assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(
+                projection(databaseId, RelationshipType.of("REL"), RelationshipProjection.ALL),
+                nodeCount
+            )).isEmpty();
+            assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(
+                projection(DatabaseIdFactory.from("other", UUID.fromString("1-1-1-1-1")), ALL_RELATIONSHIPS, RelationshipProjection.ALL),
+                nodeCount
+            )).isEmpty();
+            assertThat(AdjacencyCompressionCalibration.estimatedBytesPerDelta(projection, 100_000_000L)).isEmpty();
+        } finally {
+            AdjacencyCompressionCalibration.clear();
+        }
+    }
+
+    private static AdjacencyCompressionCalibration.Projection projection(
+        NamedDatabaseId databaseId,
+        RelationshipType relationshipType,
+        RelationshipProjection relationshipProjection
+    ) {
+        return AdjacencyCompressionCalibration.Projection.of(
+            databaseId,
+            NodeProjections.all(),
+            relationshipType,
+            relationshipProjection
+        );
+    }
+
     @Test
     void shouldComputeAdjacencyByteSize() {
         long avgDegree = 1000;
@@ -171,6 +171,30 @@ class TransientCsrListTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("org.neo4j.gds.core.TestMethodRunner#adjacencyCompressions")
+    void shouldDecodeBatchesAcrossBlocks(TestMethodRunner runner) {
+        runner.run(() -> {
+            int targetCount = 2 * CHUNK_SIZE + 3;
+            long[] targets = new long[targetCount];
+            Arrays.setAll(targets, i -> i);
+            var adjacencyCursor = adjacencyCursorFromTargets(targets);
+
+            assertEquals(0, adjacencyCursor.nextVLong());
+
+            long[] buffer = new long[CHUNK_SIZE + 1];
+            assertEquals(buffer.length, adjacencyCursor.nextVLongs(buffer));
+            assertThat(buffer).isEqualTo(LongStream.rangeClosed(1, CHUNK_SIZE + 1).toArray());
+            assertEquals(CHUNK_SIZE + 2, adjacencyCursor.peekVLong());
+
+            assertEquals(CHUNK_SIZE + 1, adjacencyCursor.nextVLongs(buffer));
+            assertThat(Arrays.copyOf(buffer, CHUNK_SIZE + 1))
+                .isEqualTo(LongStream.range(CHUNK_SIZE + 2, targetCount).toArray());
+            assertFalse(adjacencyCursor.hasNextVLong());
+            assertEquals(0, adjacencyCursor.nextVLongs(buffer));
+        });
+    }
+
     static Stream<Arguments> testRunnersAndDegrees() {
         return TestSupport.crossArguments(
             () -> TestMethodRunner.adjacencyCompressions().map(Arguments::of),
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.NodesBuilder;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BitIdMapTest {
+
+    @Test
+    void shouldMapOriginalIdsByRank() {
+        var random = new Random(42);
+        long highestNeoId = 100_000;
+        long[] originalIds = LongStream
+            .rangeClosed(0, highestNeoId)
+            .filter(id -> id == highestNeoId || random.nextInt(3) == 0)
+            .toArray();
+        long[] shuffledIds = originalIds.clone();
+        for (int i = shuffledIds.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = shuffledIds[i];
+            shuffledIds[i] = shuffledIds[j];
+            shuffledIds[j] = tmp;
+        }
+
+        var idMap = BitIdMap.build(
+            HugeLongArray.of(shuffledIds),
+            shuffledIds.length,
+            LabelInformation.single(NodeLabel.ALL_NODES),
+            highestNeoId,
+            4
+        ).orElseThrow();
+
+        assertThat(idMap.nodeCount()).isEqualTo(originalIds.length);
+        assertThat(idMap.highestNeoId()).isEqualTo(highestNeoId);
+        for (int mappedId = 0; mappedId < originalIds.length; mappedId++) {
+            assertThat(idMap.toOriginalNodeId(mappedId)).isEqualTo(originalIds[mappedId]);
+            assertThat(idMap.toMappedNodeId(originalIds[mappedId])).isEqualTo(mappedId);
+        }
+    }
+
+    @Test
+    void shouldNotFindMissingIds() {
+        var idMap = BitIdMap.build(
+            HugeLongArray.of(3, 64, 65, 700),
+            4,
+            LabelInformation.single(NodeLabel.ALL_NODES),
+            700,
+            1
+        ).orElseThrow();
+
+        assertThat(idMap.toMappedNodeId(0)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(63)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(-1)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(701)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.contains(64)).isTrue();
+        assertThat(idMap.contains(66)).isFalse();
+        assertThat(idMap.toOriginalNodeId(3)).isEqualTo(700);
+    }
+
+    @Test
+    void shouldRejectDuplicateIds() {
+        var idMap = BitIdMap.build(
+            HugeLongArray.of(1, 2, 2),
+            3,
+            LabelInformation.single(NodeLabel.ALL_NODES),
+            2,
+            1
+        );
+
+        assertThat(idMap).isEmpty();
+    }
+
+    @Test
+    void shouldFilterByLabel() {
+        var a = NodeLabel.of("A");
+        var b = NodeLabel.of("B");
+        var labelInformationBuilder = LabelInformation.builder(4);
+        labelInformationBuilder.addNodeIdToLabel(a, 10);
+        labelInformationBuilder.addNodeIdToLabel(b, 20);
+        labelInformationBuilder.addNodeIdToLabel(a, 30);
+        labelInformationBuilder.addNodeIdToLabel(b, 40);
+
+        var idMap = BitIdMap.build(
+            HugeLongArray.of(40, 30, 20, 10),
+            4,
+            labelInformationBuilder,
+            40,
+            1
+        ).orElseThrow();
+
+        assertThat(idMap.nodeLabels(idMap.toMappedNodeId(30))).containsExactly(a);
+        assertThat(idMap.nodeLabels(idMap.toMappedNodeId(40))).containsExactly(b);
+
+        var filteredIdMap = idMap.withFilteredLabels(List.of(a), 1);
+        assertThat(filteredIdMap.nodeCount()).isEqualTo(2);
+        assertThat(filteredIdMap.rootIdMap()).isSameAs(idMap);
+        assertThat(idMap.toOriginalNodeId(filteredIdMap.toRootNodeId(1))).isEqualTo(30);
+        assertThat(filteredIdMap.toMappedNodeId(idMap.toMappedNodeId(20))).isEqualTo(IdMap.NOT_FOUND);
+    }
+
+    @Test
+    void shouldOnlyBeUsedForLargeAndDenseIdSpaces() {
+        long minNodeCount = HugeIdMapBuilderOps.BIT_ID_MAP_MIN_NODE_COUNT;
+        long maxSparsity = HugeIdMapBuilderOps.BIT_ID_MAP_MAX_SPARSITY;
+
+        assertThat(HugeIdMapBuilderOps.useBitIdMap(minNodeCount - 1, minNodeCount)).isFalse();
+        assertThat(HugeIdMapBuilderOps.useBitIdMap(minNodeCount, minNodeCount * 4)).isTrue();
+        assertThat(HugeIdMapBuilderOps.useBitIdMap(minNodeCount, minNodeCount * maxSparsity)).isFalse();
+        assertThat(HugeIdMapBuilderOps.useBitIdMap(minNodeCount, NodesBuilder.UNKNOWN_MAX_ID)).isFalse();
+    }
+}
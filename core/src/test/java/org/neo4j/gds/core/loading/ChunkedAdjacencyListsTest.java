@@ -68,6 +68,22 @@ class ChunkedAdjacencyListsTest {
         assertThat(actualTargets).containsExactly(expectedTargets);
     }
 
+    @Test
+    void shouldWriteWithExpectedLength() {
+        var adjacencyLists = ChunkedAdjacencyLists.of(1, 0);
+
+        adjacencyLists.add(0, new long[]{42L, 1337L}, new long[][]{{1L, 2L}}, 0, 2, 2, 5);
+        adjacencyLists.add(0, new long[]{5L, 6L, 7L}, new long[][]{{3L, 4L, 5L}}, 0, 3, 3, 5);
+
+        var actualTargets = new long[5];
+        adjacencyLists.consume((nodeId, targets, actualProperties, position, length) -> {
+            AdjacencyCompression.copyFrom(actualTargets, targets, length, position, INSTANCE);
+            assertThat(length).isEqualTo(5);
+            assertThat(actualProperties[0]).startsWith(1L, 2L, 3L, 4L, 5L).hasSize(6);
+        });
+        assertThat(actualTargets).containsExactly(42L, 1337L, 5L, 6L, 7L);
+    }
+
     @Test
     void shouldWriteWithProperties() {
         var adjacencyLists = ChunkedAdjacencyLists.of(2, 0);
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.nodeproperties.LongTestProperties;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class NodeFilteredGraphStoreTest {
+
+    @GdlGraph
+    static String GDL =
+        "  (a:Person { age: 16 })" +
+        ", (b:Person { age: 42 })" +
+        ", (c:Person { age: 17 })" +
+        ", (d:Ignore { age: 84 })" +
+        ", (a)-[:KNOWS]->(b)" +
+        ", (a)-[:KNOWS]->(d)" +
+        ", (b)-[:KNOWS]->(c)" +
+        ", (c)-[:LIKES]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    IdFunction idFunction;
+
+    @Test
+    void shouldShareTheRootTopology() {
+        var view = view(List.of("a", "b", "c"), Set.of(RelationshipType.of("KNOWS")));
+
+        assertThat(view.nodeCount()).isEqualTo(3L);
+        assertThat(view.relationshipCount()).isEqualTo(2L);
+        assertThat(view.relationshipTypes()).containsExactly(RelationshipType.of("KNOWS"));
+        assertThat(view.rootGraphStore()).isSameAs(graphStore);
+
+        assertGraphEquals(
+            fromGdl(
+                "  (a:Person { age: 16 })" +
+                ", (b:Person { age: 42 })" +
+                ", (c:Person { age: 17 })" +
+                ", (a)-[:KNOWS]->(b)" +
+                ", (b)-[:KNOWS]->(c)"
+            ),
+            view.getUnion()
+        );
+    }
+
+    @Test
+    void shouldFilterByLabelWithinTheView() {
+        var view = view(List.of("a", "b", "d"), Set.of(RelationshipType.of("KNOWS")));
+
+        var graph = view.getGraph(NodeLabel.of("Person"), RelationshipType.of("KNOWS"), Optional.empty());
+
+        assertThat(graph.nodeCount()).isEqualTo(2L);
+        assertThat(graph.relationshipCount()).isEqualTo(1L);
+        assertThat(graph.toOriginalNodeId(graph.toMappedNodeId(idFunction.of("b")))).isEqualTo(idFunction.of("b"));
+        assertThat(graph.availableNodeLabels()).containsExactly(NodeLabel.of("Person"));
+    }
+
+    @Test
+    void shouldReuseTheIdMapOfALabelFilter() {
+        var view = view(List.of("a", "b", "d"), Set.of(RelationshipType.of("KNOWS")));
+
+        var idMap = view.getFilteredIdMap(List.of(NodeLabel.of("Person")));
+
+        assertThat(idMap).isPresent();
+        assertThat(view.getFilteredIdMap(List.of(NodeLabel.of("Person")))).containsSame(idMap.get());
+    }
+
+    @Test
+    void shouldKeepAddedNodePropertiesInTheView() {
+        var view = view(List.of("b", "c"), Set.of(RelationshipType.of("KNOWS")));
+
+        view.addNodeProperty(Set.of(NodeLabel.of("Person")), "score", new LongTestProperties(nodeId -> nodeId + 1));
+
+        assertThat(graphStore.hasNodeProperty("score")).isFalse();
+        assertThat(view.hasNodeProperty("score")).isTrue();
+
+        var graph = view.getUnion();
+        graph.forEachNode(nodeId -> {
+            assertThat(graph.nodeProperties("score").longValue(nodeId)).isEqualTo(nodeId + 1);
+            return true;
+        });
+    }
+
+    @Test
+    void shouldNotAddRelationshipTypes() {
+        var view = view(List.of("a", "b"), Set.of(RelationshipType.of("KNOWS")));
+
+        assertThatThrownBy(() -> view.addRelationshipType(
+            RelationshipType.of("NEW"),
+            Optional.empty(),
+            Optional.empty(),
+            GraphFactory.emptyRelationships(view.nodes())
+        ))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("Cannot add relationship type `NEW` to a lazily filtered graph");
+    }
+
+    private NodeFilteredGraphStore view(List<String> variables, Set<RelationshipType> relationshipTypes) {
+        var nodes = new BitSet(graphStore.nodeCount());
+        variables.forEach(variable -> nodes.set(graphStore.nodes().toMappedNodeId(idFunction.of(variable))));
+        return NodeFilteredGraphStore.of((CSRGraphStore) graphStore, nodes, relationshipTypes);
+    }
+}
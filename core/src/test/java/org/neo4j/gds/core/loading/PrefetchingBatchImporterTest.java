@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefetchingBatchImporterTest {
+
+    @Test
+    void shouldImportOnScanningThreadWhenQueueIsFull() throws InterruptedException {
+        var imports = Collections.synchronizedList(new ArrayList<Import>());
+        var executor = blockedExecutor();
+        try {
+            new PrefetchingBatchImporter<>(batches(imports), TerminationFlag.RUNNING_TRUE)
+                .run(scanner(5), executor.executorService);
+        } finally {
+            executor.shutdown();
+        }
+
+        // the first two batches are queued, the remaining ones are imported inline
+        // and the queued batches are drained once the scan is done
+        assertThat(imports).extracting(Import::value).containsExactly(2, 3, 4, 0, 1);
+        assertThat(imports).extracting(Import::thread).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldDrainQueuedBatchesAfterScanning() throws InterruptedException {
+        var imports = Collections.synchronizedList(new ArrayList<Import>());
+        var executor = blockedExecutor();
+        try {
+            new PrefetchingBatchImporter<>(batches(imports), TerminationFlag.RUNNING_TRUE)
+                .run(scanner(PrefetchingBatchImporter.QUEUE_CAPACITY), executor.executorService);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(imports).extracting(Import::value).containsExactly(0, 1);
+        assertThat(imports).extracting(Import::thread).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldImportEveryBatchExactlyOnce() throws InterruptedException {
+        var imports = Collections.synchronizedList(new ArrayList<Import>());
+        var executorService = Executors.newSingleThreadExecutor();
+        int scans = 10_000;
+        try {
+            new PrefetchingBatchImporter<>(batches(imports), TerminationFlag.RUNNING_TRUE)
+                .run(scanner(scans), executorService);
+        } finally {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(imports)
+            .extracting(Import::value)
+            .containsExactlyInAnyOrderElementsOf(IntStream.range(0, scans).boxed().collect(Collectors.toList()));
+    }
+
+    private static List<TestBatch> batches(List<Import> imports) {
+        return IntStream
+            .range(0, PrefetchingBatchImporter.batchCount())
+            .mapToObj(i -> new TestBatch(imports))
+            .collect(Collectors.toList());
+    }
+
+    private static PrefetchingBatchImporter.BatchScanner<TestBatch> scanner(int scans) {
+        int[] scanned = {0};
+        return batch -> {
+            if (scanned[0] == scans) {
+                return false;
+            }
+            batch.value = scanned[0]++;
+            return true;
+        };
+    }
+
+    /**
+     * An executor whose only thread is blocked until shutdown,
+     * so that the import stage never gets to run.
+     */
+    private static BlockedExecutor blockedExecutor() throws InterruptedException {
+        var executorService = Executors.newSingleThreadExecutor();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        executorService.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        started.await();
+        return new BlockedExecutor(executorService, release);
+    }
+
+    private static final class BlockedExecutor {
+        private final ExecutorService executorService;
+        private final CountDownLatch release;
+
+        BlockedExecutor(ExecutorService executorService, CountDownLatch release) {
+            this.executorService = executorService;
+            this.release = release;
+        }
+
+        void shutdown() throws InterruptedException {
+            release.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static final class TestBatch implements PrefetchingBatchImporter.Batch {
+        private final List<Import> imports;
+        private int value;
+
+        TestBatch(List<Import> imports) {
+            this.imports = imports;
+        }
+
+        @Override
+        public void importRelationships() {
+            imports.add(new Import(value, Thread.currentThread()));
+        }
+    }
+
+    private static final class Import {
+        private final int value;
+        private final Thread thread;
+
+        Import(int value, Thread thread) {
+            this.value = value;
+            this.thread = thread;
+        }
+
+        int value() {
+            return value;
+        }
+
+        Thread thread() {
+            return thread;
+        }
+    }
+}
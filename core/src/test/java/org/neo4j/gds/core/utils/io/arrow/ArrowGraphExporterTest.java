@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ArrowGraphExporterTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { rank: 1, score: 0.5, embedding: [1.0, 2.0] })" +
+        ", (b { rank: 2, score: 1.5, embedding: [3.0] })" +
+        ", (c { rank: 3, score: 2.5, embedding: [4.0, 5.0, 6.0] })" +
+        ", (a)-[:REL { weight: 1.0 }]->(b)" +
+        ", (a)-[:REL { weight: 2.0 }]->(c)" +
+        ", (b)-[:REL { weight: 3.0 }]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldExportNodeProperties() {
+        var out = new ByteArrayOutputStream();
+        var result = ArrowGraphExporter.exportNodeProperties(
+            graph,
+            List.of("rank", "score", "embedding"),
+            2,
+            Channels.newChannel(out)
+        );
+
+        assertThat(result.rowCount()).isEqualTo(3);
+        assertThat(result.batchCount()).isEqualTo(2);
+        assertThat(result.bytesWritten()).isEqualTo(out.size());
+
+        var stream = ArrowStreamReader.read(out.toByteArray());
+        assertThat(stream.schema).containsExactly(
+            ArrowField.of(ArrowGraphExporter.NODE_ID_COLUMN, ArrowField.Type.INT64),
+            ArrowField.of("rank", ArrowField.Type.INT64),
+            ArrowField.of("score", ArrowField.Type.FLOAT64),
+            ArrowField.of("embedding", ArrowField.Type.FLOAT64_LIST)
+        );
+
+        var batches = stream.batches;
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0).length).isEqualTo(2);
+        assertThat(batches.get(1).length).isEqualTo(1);
+
+        var nodeIds = new ArrayList<Long>();
+        var ranks = new ArrayList<Long>();
+        var scores = new ArrayList<Double>();
+        var embeddings = new ArrayList<List<Double>>();
+        for (ArrowStreamReader.RecordBatch batch : batches) {
+            // nodeId, rank, score: validity + values, embedding: validity + offsets, validity + values
+            assertThat(batch.buffers).hasSize(2 * (2 + 2 + 2 + 4));
+            nodeIds.addAll(batch.longs(1));
+            ranks.addAll(batch.longs(3));
+            scores.addAll(batch.doubles(5));
+            var offsets = batch.ints(7);
+            var values = batch.doubles(9);
+            for (int i = 0; i < batch.length; i++) {
+                embeddings.add(values.subList(offsets.get(i), offsets.get(i + 1)));
+            }
+        }
+
+        assertThat(nodeIds).containsExactly(
+            graph.toOriginalNodeId("a"),
+            graph.toOriginalNodeId("b"),
+            graph.toOriginalNodeId("c")
+        );
+        assertThat(ranks).containsExactly(1L, 2L, 3L);
+        assertThat(scores).containsExactly(0.5, 1.5, 2.5);
+        assertThat(embeddings).containsExactly(List.of(1.0, 2.0), List.of(3.0), List.of(4.0, 5.0, 6.0));
+    }
+
+    @Test
+    void shouldExportRelationships() {
+        var out = new ByteArrayOutputStream();
+        var result = ArrowGraphExporter.exportRelationships(
+            graph,
+            Optional.of("weight"),
+            2,
+            Channels.newChannel(out)
+        );
+
+        assertThat(result.rowCount()).isEqualTo(3);
+        assertThat(result.batchCount()).isEqualTo(2);
+
+        var sources = new ArrayList<Long>();
+        var targets = new ArrayList<Long>();
+        var weights = new ArrayList<Double>();
+        var stream = ArrowStreamReader.read(out.toByteArray());
+        assertThat(stream.schema).containsExactly(
+            ArrowField.of(ArrowGraphExporter.SOURCE_NODE_ID_COLUMN, ArrowField.Type.INT64),
+            ArrowField.of(ArrowGraphExporter.TARGET_NODE_ID_COLUMN, ArrowField.Type.INT64),
+            ArrowField.of("weight", ArrowField.Type.FLOAT64)
+        );
+        for (ArrowStreamReader.RecordBatch batch : stream.batches) {
+            assertThat(batch.buffers).hasSize(2 * 3 * 2);
+            sources.addAll(batch.longs(1));
+            targets.addAll(batch.longs(3));
+            weights.addAll(batch.doubles(5));
+        }
+
+        long a = graph.toOriginalNodeId("a");
+        long b = graph.toOriginalNodeId("b");
+        long c = graph.toOriginalNodeId("c");
+        assertThat(sources).containsExactly(a, a, b);
+        assertThat(targets).containsExactly(b, c, c);
+        assertThat(weights).containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void shouldExportNodeIdsWithoutProperties() {
+        var out = new ByteArrayOutputStream();
+        var result = ArrowGraphExporter.exportNodeProperties(graph, List.of(), 10, Channels.newChannel(out));
+
+        assertThat(result.batchCount()).isEqualTo(1);
+
+        var stream = ArrowStreamReader.read(out.toByteArray());
+        assertThat(stream.schema).containsExactly(ArrowField.of(ArrowGraphExporter.NODE_ID_COLUMN, ArrowField.Type.INT64));
+
+        var batches = stream.batches;
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).buffers).hasSize(2 * 2);
+        assertThat(batches.get(0).longs(1)).containsExactly(
+            graph.toOriginalNodeId("a"),
+            graph.toOriginalNodeId("b"),
+            graph.toOriginalNodeId("c")
+        );
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads an Arrow IPC stream written by {@link ArrowStreamWriter},
+ * validating the message framing and the end-of-stream marker.
+ */
+final class ArrowStreamReader {
+
+    final List<ArrowField> schema;
+    final List<RecordBatch> batches;
+
+    private ArrowStreamReader(List<ArrowField> schema, List<RecordBatch> batches) {
+        this.schema = schema;
+        this.batches = batches;
+    }
+
+    static ArrowStreamReader read(byte[] stream) {
+        var buffer = ByteBuffer.wrap(stream).order(ByteOrder.LITTLE_ENDIAN);
+        List<ArrowField> schema = null;
+        var batches = new ArrayList<RecordBatch>();
+        int position = 0;
+        while (true) {
+            assertThat(position % 8).isZero();
+            assertThat(buffer.getInt(position)).isEqualTo(0xFFFFFFFF);
+            int metadataLength = buffer.getInt(position + 4);
+            if (metadataLength == 0) {
+                assertThat(position + 8).isEqualTo(stream.length);
+                break;
+            }
+            int metadata = position + 8;
+            int message = metadata + buffer.getInt(metadata);
+            // Message: version, header_type, header, bodyLength
+            assertThat(buffer.getShort(field(buffer, message, 0))).isEqualTo((short) 4);
+            byte headerType = buffer.get(field(buffer, message, 1));
+            int header = indirect(buffer, field(buffer, message, 2));
+            long bodyLength = buffer.getLong(field(buffer, message, 3));
+            int body = metadata + metadataLength;
+
+            if (headerType == 1) {
+                assertThat(schema).isNull();
+                // Schema: endianness, fields
+                assertThat(buffer.getShort(field(buffer, header, 0))).isEqualTo((short) 0);
+                schema = readFields(buffer, indirect(buffer, field(buffer, header, 1)));
+            } else {
+                assertThat(headerType).isEqualTo((byte) 3);
+                assertThat(schema).isNotNull();
+                // RecordBatch: length, nodes, buffers
+                long length = buffer.getLong(field(buffer, header, 0));
+                int buffers = indirect(buffer, field(buffer, header, 2));
+                var bufferLayout = new long[buffer.getInt(buffers) * 2];
+                for (int i = 0; i < bufferLayout.length; i++) {
+                    bufferLayout[i] = buffer.getLong(buffers + 4 + 8 * i);
+                }
+                var bodyBuffer = buffer.duplicate().position(body).slice().order(ByteOrder.LITTLE_ENDIAN);
+                batches.add(new RecordBatch((int) length, bufferLayout, bodyBuffer));
+            }
+            position = (int) (body + bodyLength);
+        }
+        assertThat(schema).isNotNull();
+        return new ArrowStreamReader(schema, batches);
+    }
+
+    private static List<ArrowField> readFields(ByteBuffer buffer, int vector) {
+        var fields = new ArrayList<ArrowField>();
+        int length = buffer.getInt(vector);
+        for (int i = 0; i < length; i++) {
+            int field = indirect(buffer, vector + Integer.BYTES * (i + 1));
+            // Field: name, nullable, type_type, type, dictionary, children
+            var name = readString(buffer, indirect(buffer, field(buffer, field, 0)));
+            assertThat(buffer.get(field(buffer, field, 1))).isEqualTo((byte) 0);
+            byte typeType = buffer.get(field(buffer, field, 2));
+            int type = indirect(buffer, field(buffer, field, 3));
+            var children = readFields(buffer, indirect(buffer, field(buffer, field, 5)));
+            fields.add(ArrowField.of(name, readType(buffer, typeType, type, children)));
+        }
+        return fields;
+    }
+
+    private static ArrowField.Type readType(ByteBuffer buffer, byte typeType, int type, List<ArrowField> children) {
+        switch (typeType) {
+            case 2:
+                assertThat(children).isEmpty();
+                // Int: bitWidth, is_signed
+                assertThat(buffer.getInt(field(buffer, type, 0))).isEqualTo(64);
+                assertThat(buffer.get(field(buffer, type, 1))).isEqualTo((byte) 1);
+                return ArrowField.Type.INT64;
+            case 3:
+                assertThat(children).isEmpty();
+                // FloatingPoint: precision
+                short precision = buffer.getShort(field(buffer, type, 0));
+                assertThat(precision).isBetween((short) 1, (short) 2);
+                return precision == 1 ? ArrowField.Type.FLOAT32 : ArrowField.Type.FLOAT64;
+            case 12:
+                assertThat(children).hasSize(1);
+                assertThat(children.get(0).name()).isEqualTo("item");
+                switch (children.get(0).type()) {
+                    case INT64:
+                        return ArrowField.Type.INT64_LIST;
+                    case FLOAT32:
+                        return ArrowField.Type.FLOAT32_LIST;
+                    case FLOAT64:
+                        return ArrowField.Type.FLOAT64_LIST;
+                    default:
+                        throw new AssertionError("Unexpected list element type " + children.get(0).type());
+                }
+            default:
+                throw new AssertionError("Unexpected type " + typeType);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, int position) {
+        var bytes = new byte[buffer.getInt(position)];
+        buffer.duplicate().position(position + Integer.BYTES).get(bytes);
+        assertThat(buffer.get(position + Integer.BYTES + bytes.length)).isZero();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int field(ByteBuffer buffer, int table, int field) {
+        int vtable = table - buffer.getInt(table);
+        int offset = buffer.getShort(vtable + 4 + 2 * field);
+        assertThat(offset).isPositive();
+        return table + offset;
+    }
+
+    private static int indirect(ByteBuffer buffer, int position) {
+        return position + buffer.getInt(position);
+    }
+
+    static final class RecordBatch {
+        final int length;
+        // pairs of (offset, length) into the body
+        final long[] buffers;
+        final ByteBuffer body;
+
+        RecordBatch(int length, long[] buffers, ByteBuffer body) {
+            this.length = length;
+            this.buffers = buffers;
+            this.body = body;
+        }
+
+        List<Long> longs(int bufferIndex) {
+            var values = new ArrayList<Long>();
+            int offset = (int) buffers[2 * bufferIndex];
+            for (int i = 0; i < buffers[2 * bufferIndex + 1] / Long.BYTES; i++) {
+                values.add(body.getLong(offset + i * Long.BYTES));
+            }
+            return values;
+        }
+
+        List<Double> doubles(int bufferIndex) {
+            var values = new ArrayList<Double>();
+            int offset = (int) buffers[2 * bufferIndex];
+            for (int i = 0; i < buffers[2 * bufferIndex + 1] / Double.BYTES; i++) {
+                values.add(body.getDouble(offset + i * Double.BYTES));
+            }
+            return values;
+        }
+
+        List<Float> floats(int bufferIndex) {
+            var values = new ArrayList<Float>();
+            int offset = (int) buffers[2 * bufferIndex];
+            for (int i = 0; i < buffers[2 * bufferIndex + 1] / Float.BYTES; i++) {
+                values.add(body.getFloat(offset + i * Float.BYTES));
+            }
+            return values;
+        }
+
+        List<Integer> ints(int bufferIndex) {
+            var values = new ArrayList<Integer>();
+            int offset = (int) buffers[2 * bufferIndex];
+            for (int i = 0; i < buffers[2 * bufferIndex + 1] / Integer.BYTES; i++) {
+                values.add(body.getInt(offset + i * Integer.BYTES));
+            }
+            return values;
+        }
+
+        long bufferLength(int bufferIndex) {
+            return buffers[2 * bufferIndex + 1];
+        }
+    }
+}
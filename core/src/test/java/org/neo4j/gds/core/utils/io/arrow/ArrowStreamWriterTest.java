@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.arrow;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArrowStreamWriterTest {
+
+    private static final List<ArrowField> FIELDS = List.of(
+        ArrowField.of("long", ArrowField.Type.INT64),
+        ArrowField.of("float", ArrowField.Type.FLOAT32),
+        ArrowField.of("double", ArrowField.Type.FLOAT64),
+        ArrowField.of("longList", ArrowField.Type.INT64_LIST),
+        ArrowField.of("floatList", ArrowField.Type.FLOAT32_LIST),
+        ArrowField.of("doubleList", ArrowField.Type.FLOAT64_LIST)
+    );
+
+    @Test
+    void shouldWriteAllFieldTypes() {
+        var out = new ByteArrayOutputStream();
+        var writer = ArrowStreamWriter.start(Channels.newChannel(out), FIELDS);
+
+        var batch = writer
+            .newRecordBatch(2)
+            .addValues(buffer(Long.BYTES * 2).putLong(42L).putLong(-1L).flip())
+            .addValues(buffer(Float.BYTES * 2).putFloat(1.5F).putFloat(2.5F).flip())
+            .addValues(buffer(Double.BYTES * 2).putDouble(3.5).putDouble(4.5).flip())
+            .addList(offsets(0, 1, 3), 3, buffer(Long.BYTES * 3).putLong(1L).putLong(2L).putLong(3L).flip())
+            .addList(offsets(0, 0, 1), 1, buffer(Float.BYTES).putFloat(5.5F).flip())
+            .addList(offsets(0, 2, 2), 2, buffer(Double.BYTES * 2).putDouble(6.5).putDouble(7.5).flip());
+        writer.write(batch);
+        writer.close();
+
+        assertThat(writer.batchCount()).isEqualTo(1);
+        assertThat(writer.bytesWritten()).isEqualTo(out.size());
+
+        var stream = ArrowStreamReader.read(out.toByteArray());
+        assertThat(stream.schema).containsExactlyElementsOf(FIELDS);
+        assertThat(stream.batches).hasSize(1);
+
+        var readBatch = stream.batches.get(0);
+        assertThat(readBatch.length).isEqualTo(2);
+        // validity + values per fixed width column, validity + offsets + validity + values per list column
+        assertThat(readBatch.buffers).hasSize(2 * (3 * 2 + 3 * 4));
+        for (int validityBuffer : new int[]{0, 2, 4, 6, 8, 10, 12, 14, 16}) {
+            assertThat(readBatch.bufferLength(validityBuffer)).isZero();
+        }
+
+        assertThat(readBatch.longs(1)).containsExactly(42L, -1L);
+        assertThat(readBatch.floats(3)).containsExactly(1.5F, 2.5F);
+        assertThat(readBatch.doubles(5)).containsExactly(3.5, 4.5);
+        assertThat(readBatch.ints(7)).containsExactly(0, 1, 3);
+        assertThat(readBatch.longs(9)).containsExactly(1L, 2L, 3L);
+        assertThat(readBatch.ints(11)).containsExactly(0, 0, 1);
+        assertThat(readBatch.floats(13)).containsExactly(5.5F);
+        assertThat(readBatch.ints(15)).containsExactly(0, 2, 2);
+        assertThat(readBatch.doubles(17)).containsExactly(6.5, 7.5);
+    }
+
+    @Test
+    void shouldBeReadableByArrowJava() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var writer = ArrowStreamWriter.start(Channels.newChannel(out), FIELDS);
+
+        for (long offset : new long[]{0, 10}) {
+            var batch = writer
+                .newRecordBatch(2)
+                .addValues(buffer(Long.BYTES * 2).putLong(offset + 42L).putLong(offset - 1L).flip())
+                .addValues(buffer(Float.BYTES * 2).putFloat(offset + 1.5F).putFloat(offset + 2.5F).flip())
+                .addValues(buffer(Double.BYTES * 2).putDouble(offset + 3.5).putDouble(offset + 4.5).flip())
+                .addList(offsets(0, 1, 3), 3, buffer(Long.BYTES * 3).putLong(1L).putLong(2L).putLong(3L).flip())
+                .addList(offsets(0, 0, 1), 1, buffer(Float.BYTES).putFloat(5.5F).flip())
+                .addList(offsets(0, 2, 2), 2, buffer(Double.BYTES * 2).putDouble(6.5).putDouble(7.5).flip());
+            writer.write(batch);
+        }
+        writer.close();
+
+        try (
+            var allocator = new RootAllocator();
+            var reader = new org.apache.arrow.vector.ipc.ArrowStreamReader(
+                new ByteArrayInputStream(out.toByteArray()),
+                allocator
+            )
+        ) {
+            var root = reader.getVectorSchemaRoot();
+            assertThat(root.getSchema().getFields())
+                .extracting(Field::getName)
+                .containsExactly("long", "float", "double", "longList", "floatList", "doubleList");
+            assertThat(root.getSchema().getFields())
+                .extracting(Field::getType)
+                .containsExactly(
+                    new ArrowType.Int(64, true),
+                    new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE),
+                    new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE),
+                    ArrowType.List.INSTANCE,
+                    ArrowType.List.INSTANCE,
+                    ArrowType.List.INSTANCE
+                );
+            assertThat(root.getSchema().getFields().get(4).getChildren())
+                .extracting(Field::getType)
+                .containsExactly(new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE));
+
+            for (long offset : new long[]{0, 10}) {
+                assertThat(reader.loadNextBatch()).isTrue();
+                assertThat(root.getRowCount()).isEqualTo(2);
+
+                var longs = (BigIntVector) root.getVector("long");
+                assertThat(new long[]{longs.get(0), longs.get(1)}).containsExactly(offset + 42L, offset - 1L);
+                var floats = (Float4Vector) root.getVector("float");
+                assertThat(new float[]{floats.get(0), floats.get(1)}).containsExactly(offset + 1.5F, offset + 2.5F);
+                var doubles = (Float8Vector) root.getVector("double");
+                assertThat(new double[]{doubles.get(0), doubles.get(1)}).containsExactly(offset + 3.5, offset + 4.5);
+
+                var longLists = (ListVector) root.getVector("longList");
+                assertThat(longLists.getObject(0)).containsExactly(1L);
+                assertThat(longLists.getObject(1)).containsExactly(2L, 3L);
+                var floatLists = (ListVector) root.getVector("floatList");
+                assertThat(floatLists.getObject(0)).isEmpty();
+                assertThat(floatLists.getObject(1)).containsExactly(5.5F);
+                var doubleLists = (ListVector) root.getVector("doubleList");
+                assertThat(doubleLists.getObject(0)).containsExactly(6.5, 7.5);
+                assertThat(doubleLists.getObject(1)).isEmpty();
+            }
+            assertThat(reader.loadNextBatch()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldWriteEmptyStream() {
+        var out = new ByteArrayOutputStream();
+        var writer = ArrowStreamWriter.start(Channels.newChannel(out), FIELDS);
+        writer.close();
+
+        var stream = ArrowStreamReader.read(out.toByteArray());
+        assertThat(stream.schema).containsExactlyElementsOf(FIELDS);
+        assertThat(stream.batches).isEmpty();
+    }
+
+    @Test
+    void shouldRejectBatchesWithMissingColumns() {
+        var writer = ArrowStreamWriter.start(Channels.newChannel(new ByteArrayOutputStream()), FIELDS);
+        var batch = writer.newRecordBatch(1).addValues(buffer(Long.BYTES).putLong(1L).flip());
+
+        assertThatThrownBy(() -> writer.write(batch))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected a record batch with 6 columns, but got 1.");
+    }
+
+    private static ByteBuffer buffer(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static ByteBuffer offsets(int... offsets) {
+        var buffer = buffer(offsets.length * Integer.BYTES);
+        for (int offset : offsets) {
+            buffer.putInt(offset);
+        }
+        return buffer.flip();
+    }
+}
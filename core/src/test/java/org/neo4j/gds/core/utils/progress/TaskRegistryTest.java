@@ -77,4 +77,19 @@ class TaskRegistryTest {
         assertThat(taskRegistry.containsTask(task)).isTrue();
     }
 
+    @Test
+    void shouldStoreTasksUnderGivenJobId() {
+        var globalTaskStore = new GlobalTaskStore();
+        TaskRegistryFactory taskRegistryFactory = () -> new TaskRegistry("", globalTaskStore);
+
+        var jobId = new JobId();
+        var taskRegistry = taskRegistryFactory.newInstance(jobId);
+        assertThat(taskRegistry.jobId()).isEqualTo(jobId);
+
+        var task = Tasks.leaf("task");
+        taskRegistry.registerTask(task);
+
+        assertThat(globalTaskStore.query("", jobId)).contains(task);
+    }
+
 }
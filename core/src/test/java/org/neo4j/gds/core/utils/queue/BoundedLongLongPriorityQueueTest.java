@@ -87,6 +87,24 @@ class BoundedLongLongPriorityQueueTest {
         assertResults(expected, queue);
     }
 
+    @Test
+    void shouldExposeLowestAdmittedPriority() {
+        BoundedLongLongPriorityQueue maxQueue = BoundedLongLongPriorityQueue.max(2);
+        assertTrue(maxQueue.offer(1, 1, 1.0));
+        assertFalse(maxQueue.isFull());
+        assertTrue(maxQueue.offer(3, 3, 3.0));
+        assertTrue(maxQueue.offer(2, 2, 2.0));
+        assertTrue(maxQueue.isFull());
+        assertEquals(2.0, maxQueue.lastPriority());
+
+        BoundedLongLongPriorityQueue minQueue = BoundedLongLongPriorityQueue.min(2);
+        assertTrue(minQueue.offer(1, 1, 1.0));
+        assertTrue(minQueue.offer(3, 3, 3.0));
+        assertTrue(minQueue.offer(2, 2, 2.0));
+        assertTrue(minQueue.isFull());
+        assertEquals(2.0, minQueue.lastPriority());
+    }
+
     private void assertResults(List<Long> expected, BoundedLongLongPriorityQueue queue) {
         List<Double> expectedPriorities = expected.stream().map(Long::doubleValue).collect(Collectors.toList());
 
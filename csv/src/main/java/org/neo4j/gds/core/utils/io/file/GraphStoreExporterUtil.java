@@ -68,12 +68,20 @@ public final class GraphStoreExporterUtil {
     }
 
     public static Path exportLocation(Configuration neo4jConfig, GraphStoreToFileExporterConfig config) {
+        return exportLocation(neo4jConfig, config.exportName());
+    }
+
+    public static Path exportLocation(Configuration neo4jConfig, String exportName) {
         var rootPath = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
         var exportPath = rootPath != null ? rootPath.resolve(EXPORT_DIR) : null;
-        return exportPath(exportPath, config);
+        return exportPath(exportPath, exportName);
     }
 
     public static Path exportPath(@Nullable Path rootPath, GraphStoreToFileExporterConfig config) {
+        return exportPath(rootPath, config.exportName());
+    }
+
+    public static Path exportPath(@Nullable Path rootPath, String exportName) {
         if (rootPath == null) {
             throw new RuntimeException(formatWithLocale(
                 "The configuration option '%s' must be set.",
@@ -83,13 +91,13 @@ public final class GraphStoreExporterUtil {
 
         DIRECTORY_IS_WRITABLE.validate(rootPath);
 
-        var resolvedExportPath = rootPath.resolve(config.exportName()).normalize();
+        var resolvedExportPath = rootPath.resolve(exportName).normalize();
         var resolvedParent = resolvedExportPath.getParent();
 
         if (resolvedParent == null || !resolvedParent.startsWith(rootPath)) {
             throw new IllegalArgumentException(formatWithLocale(
                 "Illegal parameter value for parameter exportName '%s'. It attempts to write into a forbidden directory.",
-                config.exportName()
+                exportName
             ));
         }
 
@@ -71,6 +71,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.neo4j.gds.config.ConcurrencyConfig.DEFAULT_CONCURRENCY;
@@ -101,9 +102,11 @@ public final class CypherAggregation extends BaseProc {
         // #result() is called twice, we cache the result of the first call to return it again in the second invocation
         private @Nullable AggregationResult result;
 
-        private @Nullable String graphName;
-        private @Nullable LazyIdMapBuilder idMapBuilder;
-        private @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
+        // The aggregation state is initialized by the first row and shared by all threads that call #update.
+        // Nodes and relationships are buffered per thread by the builders and merged when the result is built.
+        private volatile @Nullable String graphName;
+        private volatile @Nullable LazyIdMapBuilder idMapBuilder;
+        private volatile @Nullable List<RelationshipPropertySchema> relationshipPropertySchemas;
         private final Map<RelationshipType, RelationshipsBuilder> relImporters;
 
         GraphAggregator(
@@ -114,7 +117,7 @@ public final class CypherAggregation extends BaseProc {
             this.progressTimer = progressTimer;
             this.databaseId = databaseId;
             this.username = username;
-            this.relImporters = new HashMap<>();
+            this.relImporters = new ConcurrentHashMap<>();
             this.graphSchemaBuilder = ImmutableGraphSchema.builder();
         }
 
@@ -128,8 +131,20 @@ public final class CypherAggregation extends BaseProc {
         ) {
 
             if (this.graphName == null) {
-                validateGraphName(graphName);
-                this.graphName = graphName;
+                initialize(graphName);
+            }
+
+            var idMapBuilder = this.idMapBuilder;
+            assert idMapBuilder != null;
+
+            if (nodesConfig == null && relationshipConfig == null && !hasRelationshipProperties()) {
+                // fast path for plain node ids, does not allocate per row
+                var sourceNodeId = idMapBuilder.addNode(extractNodeId(sourceNode), NodeLabelTokens.empty());
+                if (targetNode != null) {
+                    var targetNodeId = idMapBuilder.addNode(extractNodeId(targetNode), NodeLabelTokens.empty());
+                    relImporter(RelationshipType.ALL_RELATIONSHIPS).addFromInternal(sourceNodeId, targetNodeId);
+                }
+                return;
             }
 
             Map<String, Value> sourceNodePropertyValues = null;
@@ -156,33 +171,21 @@ public final class CypherAggregation extends BaseProc {
                 }
             }
 
-            if (this.idMapBuilder == null) {
-                this.idMapBuilder = new LazyIdMapBuilder();
-            }
-
-            Map<String, Value> relationshipProperties = null;
-            RelationshipType relationshipType = null;
+            Map<String, Object> relationshipProperties = null;
+            RelationshipType relationshipType = RelationshipType.ALL_RELATIONSHIPS;
 
             if (relationshipConfig != null) {
                 if (this.relationshipPropertySchemas == null) {
-                    this.relationshipPropertySchemas = new ArrayList<>();
-
                     // We need to do this before extracting the `relationshipProperties`, because
-                    // we remove the original entry from the map during converting; also we remove null keys
-                    // so we could not create a schema entry for properties that are absent on the current relationship
-                    var relationshipPropertyKeys = relationshipConfig.get("properties");
-                    if (relationshipPropertyKeys instanceof Map) {
-                        for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
-                            this.relationshipPropertySchemas.add(RelationshipPropertySchema.of(
-                                String.valueOf(propertyKey),
-                                ValueType.DOUBLE
-                            ));
-                        }
-                    }
+                    // we remove the original entry from the map during converting
+                    initializeRelationshipPropertySchemas(relationshipConfig);
                 }
 
-                relationshipProperties = propertiesConfig("properties", relationshipConfig);
-                relationshipType = typeConfig("relationshipType", relationshipConfig);
+                relationshipProperties = relationshipPropertiesConfig("properties", relationshipConfig);
+                relationshipType = Objects.requireNonNullElse(
+                    typeConfig("relationshipType", relationshipConfig),
+                    RelationshipType.ALL_RELATIONSHIPS
+                );
 
                 if (!relationshipConfig.isEmpty()) {
                     CypherMapWrapper.create(relationshipConfig).requireOnlyKeysFrom(List.of(
@@ -192,17 +195,17 @@ public final class CypherAggregation extends BaseProc {
                 }
             }
 
-            var relImporter = this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
-
-            var sourceNodeId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
+            var sourceNodeId = loadNode(idMapBuilder, sourceNode, sourceNodeLabels, sourceNodePropertyValues);
 
             if (targetNode != null) {
-                var targetNodeId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+                var relImporter = relImporter(relationshipType);
+                var targetNodeId = loadNode(idMapBuilder, targetNode, targetNodeLabels, targetNodePropertyValues);
 
-                if (this.relationshipPropertySchemas != null && !this.relationshipPropertySchemas.isEmpty()) {
+                var relationshipPropertySchemas = this.relationshipPropertySchemas;
+                if (relationshipPropertySchemas != null && !relationshipPropertySchemas.isEmpty()) {
                     assert relationshipProperties != null;
-                    if (this.relationshipPropertySchemas.size() == 1) {
-                        var relationshipProperty = this.relationshipPropertySchemas.get(0).key();
+                    if (relationshipPropertySchemas.size() == 1) {
+                        var relationshipProperty = relationshipPropertySchemas.get(0).key();
                         double propertyValue = loadOneRelationshipProperty(
                             relationshipProperties,
                             relationshipProperty
@@ -211,7 +214,7 @@ public final class CypherAggregation extends BaseProc {
                     } else {
                         var propertyValues = loadMultipleRelationshipProperties(
                             relationshipProperties,
-                            this.relationshipPropertySchemas
+                            relationshipPropertySchemas
                         );
                         relImporter.addFromInternal(sourceNodeId, targetNodeId, propertyValues);
                     }
@@ -221,6 +224,59 @@ public final class CypherAggregation extends BaseProc {
             }
         }
 
+        private synchronized void initialize(String graphName) {
+            if (this.graphName != null) {
+                return;
+            }
+            validateGraphName(graphName);
+            this.idMapBuilder = new LazyIdMapBuilder();
+            // written last, threads that observe the graph name also observe the id map builder
+            this.graphName = graphName;
+        }
+
+        private synchronized void initializeRelationshipPropertySchemas(Map<String, Object> relationshipConfig) {
+            if (this.relationshipPropertySchemas != null) {
+                return;
+            }
+
+            // we also remove null keys during converting, so we could not create a schema entry
+            // for properties that are absent on the current relationship
+            var relationshipPropertySchemas = new ArrayList<RelationshipPropertySchema>();
+            var relationshipPropertyKeys = relationshipConfig.get("properties");
+            if (relationshipPropertyKeys instanceof Map) {
+                for (var propertyKey : ((Map<?, ?>) relationshipPropertyKeys).keySet()) {
+                    relationshipPropertySchemas.add(RelationshipPropertySchema.of(
+                        String.valueOf(propertyKey),
+                        ValueType.DOUBLE
+                    ));
+                }
+            }
+            this.relationshipPropertySchemas = relationshipPropertySchemas;
+        }
+
+        private boolean hasRelationshipProperties() {
+            var relationshipPropertySchemas = this.relationshipPropertySchemas;
+            return relationshipPropertySchemas != null && !relationshipPropertySchemas.isEmpty();
+        }
+
+        private RelationshipsBuilder relImporter(RelationshipType relationshipType) {
+            var relImporter = this.relImporters.get(relationshipType);
+            if (relImporter == null) {
+                relImporter = publishRelImporter(relationshipType);
+            }
+            return relImporter;
+        }
+
+        // Holds the same lock as #initializeRelationshipPropertySchemas, so that an importer is never
+        // published before the property schema it is created with is fixed.
+        private synchronized RelationshipsBuilder publishRelImporter(RelationshipType relationshipType) {
+            if (this.relationshipPropertySchemas == null) {
+                // the first relationship came without a relationship config, so relationships have no properties
+                this.relationshipPropertySchemas = List.of();
+            }
+            return this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter());
+        }
+
         private void validateGraphName(String graphName) {
             if (GraphStoreCatalog.exists(this.username, this.databaseId, graphName)) {
                 throw new IllegalArgumentException("Graph " + graphName + " already exists");
@@ -244,6 +300,24 @@ public final class CypherAggregation extends BaseProc {
             ));
         }
 
+        @Nullable
+        private static Map<String, Object> relationshipPropertiesConfig(
+            @SuppressWarnings("SameParameterValue") String propertyKey,
+            @NotNull Map<String, Object> relationshipConfig
+        ) {
+            // relationship properties are read as doubles, we skip converting them to values
+            var relationshipProperties = relationshipConfig.remove(propertyKey);
+            if (relationshipProperties == null || relationshipProperties instanceof Map) {
+                //noinspection unchecked
+                return (Map<String, Object>) relationshipProperties;
+            }
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `%s` must be a `Map of Property Values`, but was `%s`.",
+                propertyKey,
+                relationshipProperties.getClass().getSimpleName()
+            ));
+        }
+
         private @NotNull NodeLabelToken labelsConfig(
             Object node,
             String nodeLabelKey,
@@ -307,13 +381,13 @@ public final class CypherAggregation extends BaseProc {
                 .aggregation(Aggregation.NONE)
                 .concurrency(DEFAULT_CONCURRENCY);
 
-            if (this.relationshipPropertySchemas != null) {
-                for (var ignored : this.relationshipPropertySchemas) {
-                    relationshipsBuilderBuilder.addPropertyConfig(
-                        Aggregation.NONE,
-                        DefaultValue.forDouble()
-                    );
-                }
+            var relationshipPropertySchemas = this.relationshipPropertySchemas;
+            assert relationshipPropertySchemas != null;
+            for (var ignored : relationshipPropertySchemas) {
+                relationshipsBuilderBuilder.addPropertyConfig(
+                    Aggregation.NONE,
+                    DefaultValue.forDouble()
+                );
             }
 
             return relationshipsBuilderBuilder.build();
@@ -384,27 +458,29 @@ public final class CypherAggregation extends BaseProc {
         }
 
         private long loadNode(
+            LazyIdMapBuilder idMapBuilder,
             @Nullable Object node,
             NodeLabelToken nodeLabels,
             @Nullable Map<String, Value> nodeProperties
         ) {
-            assert this.idMapBuilder != null;
             return (nodeProperties == null)
-                ? this.idMapBuilder.addNode(extractNodeId(node), nodeLabels)
-                : this.idMapBuilder.addNodeWithProperties(extractNodeId(node), nodeProperties, nodeLabels);
+                ? idMapBuilder.addNode(extractNodeId(node), nodeLabels)
+                : idMapBuilder.addNodeWithProperties(extractNodeId(node), nodeProperties, nodeLabels);
         }
 
         private static double loadOneRelationshipProperty(
-            @NotNull Map<String, Value> relationshipProperties,
+            @NotNull Map<String, Object> relationshipProperties,
             String relationshipPropertyKey
         ) {
             var propertyValueObject = relationshipProperties.get(relationshipPropertyKey);
-            var propertyValue = Objects.requireNonNullElse(propertyValueObject, Values.NO_VALUE);
+            var propertyValue = propertyValueObject == null
+                ? Values.NO_VALUE
+                : ValueConverter.toValue(propertyValueObject);
             return ReadHelper.extractValue(propertyValue, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
         }
 
         private static double[] loadMultipleRelationshipProperties(
-            @NotNull Map<String, Value> relationshipProperties,
+            @NotNull Map<String, Object> relationshipProperties,
             List<RelationshipPropertySchema> relationshipPropertyKeys
         ) {
             var propertyValues = new double[relationshipPropertyKeys.size()];
@@ -422,7 +498,7 @@ public final class CypherAggregation extends BaseProc {
             return result == null ? null : result.toMap();
         }
 
-        public @Nullable AggregationResult buildGraph() {
+        public synchronized @Nullable AggregationResult buildGraph() {
 
             var graphName = this.graphName;
 
@@ -511,14 +587,12 @@ public final class CypherAggregation extends BaseProc {
                     Objects.requireNonNullElse(this.relationshipPropertySchemas, List.of())
                 );
 
-                var relType = relationshipType == null ? RelationshipType.ALL_RELATIONSHIPS : relationshipType;
-
                 propertyStore.relationshipProperties().forEach((propertyKey, relationshipProperties) -> {
-                    relationshipSchemaBuilder.addProperty(relType, propertyKey, relationshipProperties.propertySchema());
+                    relationshipSchemaBuilder.addProperty(relationshipType, propertyKey, relationshipProperties.propertySchema());
                 });
 
-                graphStoreBuilder.putRelationships(relType, allRelationships.get(0).topology());
-                graphStoreBuilder.putRelationshipPropertyStores(relType, propertyStore);
+                graphStoreBuilder.putRelationships(relationshipType, allRelationships.get(0).topology());
+                graphStoreBuilder.putRelationshipPropertyStores(relationshipType, propertyStore);
             });
             graphSchemaBuilder.relationshipSchema(relationshipSchemaBuilder.build());
 
@@ -37,7 +37,10 @@ import org.neo4j.gds.catalog.GraphDropProc;
 import org.neo4j.gds.catalog.GraphListProc;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.core.RandomGraphTestCase;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.gds.wcc.WccStreamProc;
 import org.neo4j.graphdb.Direction;
@@ -47,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
@@ -182,6 +186,35 @@ class CypherAggregationTest extends BaseProcTest {
             .hasMessage("The node has to be either a NODE or an INTEGER, but got PATH");
     }
 
+    @Test
+    void testConcurrentUpdates() {
+        var aggregator = new CypherAggregation.GraphAggregator(ProgressTimer.start(), db.databaseId(), "");
+        var nodeCount = 10_000L;
+        var concurrency = 4;
+
+        var tasks = IntStream.range(0, concurrency).mapToObj(offset -> (Runnable) () -> {
+            for (long nodeId = offset; nodeId < nodeCount; nodeId += concurrency) {
+                aggregator.update("g", nodeId, (nodeId + 1) % nodeCount, null, null);
+            }
+        }).collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        var result = aggregator.buildGraph();
+        assertThat(result).isNotNull();
+        assertThat(result.nodeCount()).isEqualTo(nodeCount);
+        assertThat(result.relationshipCount()).isEqualTo(nodeCount);
+
+        var graph = GraphStoreCatalog.get("", db.databaseId(), "g").graphStore().getUnion();
+        graph.forEachNode(nodeId -> {
+            var originalTarget = (graph.toOriginalNodeId(nodeId) + 1) % nodeCount;
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                assertThat(graph.toOriginalNodeId(target)).isEqualTo(originalTarget);
+                return true;
+            });
+            return true;
+        });
+    }
+
     @Nested
     class LargerGraphTest extends RandomGraphTestCase {
 
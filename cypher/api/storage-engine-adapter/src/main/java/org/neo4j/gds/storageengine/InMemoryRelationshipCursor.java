@@ -37,6 +37,9 @@ import java.util.Arrays;
 
 public abstract class InMemoryRelationshipCursor extends RelationshipRecord implements RelationshipVisitor<RuntimeException>, StorageRelationshipCursor {
 
+    // number of relationships that are decoded at once, matches the block size of compressed adjacency lists
+    static final int BATCH_SIZE = 64;
+
     protected final CypherGraphStore graphStore;
     protected final TokenHolders tokenHolders;
     private final RelationshipIds.RelationshipIdContext[] relationshipIdContexts;
@@ -50,6 +53,10 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
     private AdjacencyCursor adjacencyCursor;
     private PropertyCursor[] propertyCursors;
     private final double[] propertyValuesCache;
+    private final long[] targetBuffer;
+    private final long[][] propertyBuffers;
+    private int bufferPosition;
+    private int bufferLength;
     private int relationshipTypeOffset;
     private int relationshipContextIndex;
     private int[] propertyIds;
@@ -73,6 +80,8 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
 
         var maxPropertySize = Arrays.stream(propertyCursorCache).mapToInt(a -> a.length).max().orElse(0);
         this.propertyValuesCache = new double[maxPropertySize];
+        this.targetBuffer = new long[BATCH_SIZE];
+        this.propertyBuffers = new long[maxPropertySize][BATCH_SIZE];
     }
 
     @Override
@@ -107,20 +116,23 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
     @Override
     public boolean next() {
         while (true) {
-            if (adjacencyCursor == null || !adjacencyCursor.hasNextVLong()) {
-                if (!progressToNextContext()) {
-                    return false;
-                }
-            } else {
-                targetId = adjacencyCursor.nextVLong();
+            if (bufferPosition < bufferLength) {
+                int position = bufferPosition++;
+                targetId = targetBuffer[position];
                 setId(getId() + 1);
 
                 for (int i = 0; i < propertyCursors.length; i++) {
-                    propertyValuesCache[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                    propertyValuesCache[i] = Double.longBitsToDouble(propertyBuffers[i][position]);
                 }
 
                 return true;
             }
+
+            if (adjacencyCursor == null || !fillBuffers()) {
+                if (!progressToNextContext()) {
+                    return false;
+                }
+            }
         }
     }
 
@@ -129,6 +141,8 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
         this.relationshipContextIndex = -1;
         this.relationshipTypeOffset = 0;
         this.adjacencyCursor = null;
+        this.bufferPosition = 0;
+        this.bufferLength = 0;
         this.targetId = NO_ID;
         this.sourceId = NO_ID;
         this.selection = null;
@@ -139,6 +153,8 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
         relationshipContextIndex = -1;
         relationshipTypeOffset = 0;
         adjacencyCursor = null;
+        bufferPosition = 0;
+        bufferLength = 0;
         setId(NO_ID);
     }
 
@@ -157,7 +173,23 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
         inMemoryCursor.initRelationshipPropertyCursor(this.sourceId, propertyIds, propertyValuesCache, selection);
     }
 
+    /**
+     * Decodes the next block of targets and the corresponding property values
+     * of the current adjacency list into the reusable buffers.
+     * Returns false iff the current adjacency list is exhausted.
+     */
+    private boolean fillBuffers() {
+        bufferPosition = 0;
+        bufferLength = adjacencyCursor.nextVLongs(targetBuffer);
+        for (int i = 0; i < propertyCursors.length; i++) {
+            propertyCursors[i].nextLongs(propertyBuffers[i]);
+        }
+        return bufferLength > 0;
+    }
+
     private boolean progressToNextContext() {
+        bufferPosition = 0;
+        bufferLength = 0;
         relationshipContextIndex++;
 
         if (relationshipContextIndex >= relationshipIdContexts.length) {
@@ -190,7 +222,7 @@ public abstract class InMemoryRelationshipCursor extends RelationshipRecord impl
                 adjacencyProperties[i].propertyCursor(propertyCursors[i], this.sourceId);
         }
 
-        setId(relationshipTypeOffset + context.offsets().get(sourceId) - 1);
+        setId(relationshipTypeOffset + context.offsets().offset(sourceId) - 1);
 
         return true;
     }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.cypher;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Maps between relationship ids and the adjacency lists of a single relationship type.
+ * Relationship ids are assigned consecutively in node id order, i.e. the id of a relationship
+ * is the number of relationships of all preceding source nodes plus its position in the
+ * adjacency list of its source node.
+ *
+ * Instead of storing that accumulated offset for every node, only the offset of every
+ * {@link #SAMPLE_RATE}-th node is stored. The offsets in between are computed from the
+ * degrees stored in the graph. The sampled offsets are computed on first access.
+ */
+public final class RelationshipIdOffsets {
+
+    static final int SAMPLE_SHIFT = 6;
+    static final int SAMPLE_RATE = 1 << SAMPLE_SHIFT;
+
+    private final Graph graph;
+
+    private volatile HugeLongArray sampledOffsets;
+
+    RelationshipIdOffsets(Graph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * @return the id of the first relationship of the given node
+     */
+    public long offset(long nodeId) {
+        var sampledOffsets = sampledOffsets();
+
+        long sample = nodeId >>> SAMPLE_SHIFT;
+        long offset = sampledOffsets.get(sample);
+        for (long node = sample << SAMPLE_SHIFT; node < nodeId; node++) {
+            offset += graph.degree(node);
+        }
+        return offset;
+    }
+
+    /**
+     * @return the id of the source node of the given relationship
+     */
+    public long nodeId(long relationshipId) {
+        var sampledOffsets = sampledOffsets();
+
+        long sample = lastSampleAtOrBefore(sampledOffsets, relationshipId);
+        long offset = sampledOffsets.get(sample);
+        long nodeCount = graph.nodeCount();
+        for (long node = sample << SAMPLE_SHIFT; node < nodeCount; node++) {
+            offset += graph.degree(node);
+            if (relationshipId < offset) {
+                return node;
+            }
+        }
+
+        throw new IllegalArgumentException(formatWithLocale("No relationship with id %d was found.", relationshipId));
+    }
+
+    /**
+     * Consecutive samples have the same offset if the nodes in between have no relationships.
+     * Only the last of those samples can contain the source node of the relationship,
+     * which is why this is an upper bound search rather than {@link HugeLongArray#binarySearch(long)}.
+     *
+     * @return the index of the last sample whose offset is at most the given relationship id, or 0 if there is none
+     */
+    private static long lastSampleAtOrBefore(HugeLongArray sampledOffsets, long relationshipId) {
+        long low = 0;
+        long high = sampledOffsets.size();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (sampledOffsets.get(mid) <= relationshipId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(0, low - 1);
+    }
+
+    private HugeLongArray sampledOffsets() {
+        var sampledOffsets = this.sampledOffsets;
+        if (sampledOffsets == null) {
+            synchronized (this) {
+                sampledOffsets = this.sampledOffsets;
+                if (sampledOffsets == null) {
+                    sampledOffsets = computeSampledOffsets(graph);
+                    this.sampledOffsets = sampledOffsets;
+                }
+            }
+        }
+        return sampledOffsets;
+    }
+
+    private static HugeLongArray computeSampledOffsets(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        var sampledOffsets = HugeLongArray.newArray(Math.max(1, (nodeCount + SAMPLE_RATE - 1) >>> SAMPLE_SHIFT));
+
+        long offset = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            if ((node & (SAMPLE_RATE - 1)) == 0) {
+                sampledOffsets.set(node >>> SAMPLE_SHIFT, offset);
+            }
+            offset += graph.degree(node);
+        }
+        return sampledOffsets;
+    }
+}
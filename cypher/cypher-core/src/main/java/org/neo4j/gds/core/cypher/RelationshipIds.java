@@ -26,10 +26,8 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.CSRGraph;
-import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.RelationshipProperty;
-import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.token.TokenHolders;
 
 import java.util.List;
@@ -48,7 +46,7 @@ public final class RelationshipIds {
         graphStore.relationshipTypes().forEach(relType -> {
             var relCount = graphStore.relationshipCount(relType);
             var graph = (CSRGraph) graphStore.getGraph(relType);
-            var offsets = computeAccumulatedOffsets(graph);
+            var offsets = new RelationshipIdOffsets(graph);
             int relTypeId = tokenHolders.relationshipTypeTokens().getIdByName(relType.name);
 
             List<RelationshipProperty> relationshipProperties = graphStore.relationshipPropertyKeys(relType)
@@ -101,25 +99,14 @@ public final class RelationshipIds {
                 // We have found the context that contains the relationship id.
                 // Now we need to compute the exact position within the relationships
                 // of that context.
-                var nodeId = relationshipIdContext.offsets().binarySearch(graphLocalRelationshipId);
-                var offsetInAdjacency = graphLocalRelationshipId - relationshipIdContext.offsets().get(nodeId);
+                var nodeId = relationshipIdContext.offsets().nodeId(graphLocalRelationshipId);
+                var offsetInAdjacency = graphLocalRelationshipId - relationshipIdContext.offsets().offset(nodeId);
                 return relationshipIdConsumer.accept(nodeId, offsetInAdjacency, relationshipIdContext);
             }
         }
         throw new IllegalArgumentException(formatWithLocale("No relationship with id %d was found.", relationshipId));
     }
 
-    private static HugeLongArray computeAccumulatedOffsets(Graph graph) {
-        var offsets = HugeLongArray.newArray(graph.nodeCount());
-
-        long offset = 0L;
-        for (long i = 0; i < offsets.size(); i++) {
-            offsets.set(i, offset);
-            offset += graph.degree(i);
-        }
-        return offsets;
-    }
-
     public interface ResolvedRelationshipIdFunction<T> {
         T accept(long nodeId, long offsetInAdjacency, RelationshipIdContext relationshipIdContext);
     }
@@ -130,7 +117,7 @@ public final class RelationshipIds {
         int relationshipTypeId();
         long relationshipCount();
         CSRGraph graph();
-        HugeLongArray offsets();
+        RelationshipIdOffsets offsets();
         int[] propertyIds();
         AdjacencyProperties[] adjacencyProperties();
 
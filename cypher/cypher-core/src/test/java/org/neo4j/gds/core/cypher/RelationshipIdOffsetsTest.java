@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.cypher;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class RelationshipIdOffsetsTest {
+
+    @Test
+    void shouldResolveRelationshipIds() {
+        // nodes in the middle samples have no relationships
+        var gdl = IntStream.range(0, 5 * RelationshipIdOffsets.SAMPLE_RATE)
+            .mapToObj(nodeId -> {
+                var inMiddle = nodeId >= RelationshipIdOffsets.SAMPLE_RATE && nodeId < 3 * RelationshipIdOffsets.SAMPLE_RATE;
+                var degree = inMiddle ? 0 : nodeId % 3;
+                return degree == 0
+                    ? "(n" + nodeId + ")"
+                    : IntStream.range(0, degree)
+                        .mapToObj(i -> "(n" + nodeId + ")-->(n0)")
+                        .collect(Collectors.joining(", "));
+            })
+            .collect(Collectors.joining(", "));
+        var graph = fromGdl(gdl);
+        var offsets = new RelationshipIdOffsets(graph);
+
+        long expectedOffset = 0L;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(offsets.offset(nodeId)).isEqualTo(expectedOffset);
+            for (int i = 0; i < graph.degree(nodeId); i++) {
+                assertThat(offsets.nodeId(expectedOffset + i)).isEqualTo(nodeId);
+            }
+            expectedOffset += graph.degree(nodeId);
+        }
+
+        var relationshipCount = expectedOffset;
+        assertThatThrownBy(() -> offsets.nodeId(relationshipCount))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("No relationship with id");
+    }
+
+    @Test
+    void shouldResolveRelationshipIdsAfterLeadingSamplesWithoutRelationships() {
+        // all samples but the last one share the offset 0
+        var nodeCount = 4 * RelationshipIdOffsets.SAMPLE_RATE;
+        var gdl = IntStream.range(0, nodeCount)
+            .mapToObj(nodeId -> nodeId < 3 * RelationshipIdOffsets.SAMPLE_RATE + 1
+                ? "(n" + nodeId + ")"
+                : "(n" + nodeId + ")-->(n0)")
+            .collect(Collectors.joining(", "));
+        var graph = fromGdl(gdl);
+        var offsets = new RelationshipIdOffsets(graph);
+
+        assertThat(offsets.nodeId(0)).isEqualTo(3L * RelationshipIdOffsets.SAMPLE_RATE + 1);
+        assertThat(offsets.nodeId(graph.relationshipCount() - 1)).isEqualTo(nodeCount - 1);
+    }
+}
@@ -114,8 +114,8 @@ class PageRankPregelProcTest extends BaseProcTest {
         runQueryWithRowConsumer(query, r -> {
             assertEquals(11, r.getNumber("nodeCount").longValue());
             assertEquals(17, r.getNumber("relationshipCount").longValue());
-            assertEquals(768, r.getNumber("bytesMin").longValue());
-            assertEquals(768, r.getNumber("bytesMax").longValue());
+            assertEquals(1312, r.getNumber("bytesMin").longValue());
+            assertEquals(1312, r.getNumber("bytesMax").longValue());
         });
     }
 
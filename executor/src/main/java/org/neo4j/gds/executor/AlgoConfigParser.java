@@ -21,12 +21,16 @@ package org.neo4j.gds.executor;
 
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.progress.JobId;
 
 import java.util.Collection;
 import java.util.Map;
 
 public class AlgoConfigParser<CONFIG extends AlgoBaseConfig> implements ProcConfigParser<CONFIG> {
 
+    private static final String ASYNC_WRITE_KEY = "asyncWrite";
+    private static final String JOB_ID_KEY = "jobId";
+
     private final NewConfigFunction<CONFIG> newConfigFunction;
     private final String username;
 
@@ -38,11 +42,22 @@ public class AlgoConfigParser<CONFIG extends AlgoBaseConfig> implements ProcConf
     @Override
     public CONFIG processInput(Map<String, Object> configuration) {
         CypherMapWrapper cypherMapWrapper = CypherMapWrapper.create(configuration);
-        CONFIG algoConfig = newConfigFunction.apply(username, cypherMapWrapper);
+        CONFIG algoConfig = newConfigFunction.apply(username, withGeneratedJobId(cypherMapWrapper));
         validateConfig(cypherMapWrapper, algoConfig.configKeys());
         return algoConfig;
     }
 
+    /**
+     * Asynchronous writes are tracked by their job id, which is the only handle for listing and cancelling them.
+     * An id is generated up front when none is given, so that it is part of the returned configuration.
+     */
+    static CypherMapWrapper withGeneratedJobId(CypherMapWrapper cypherMapWrapper) {
+        if (cypherMapWrapper.getBool(ASYNC_WRITE_KEY, false) && !cypherMapWrapper.containsKey(JOB_ID_KEY)) {
+            return cypherMapWrapper.withString(JOB_ID_KEY, new JobId().asString());
+        }
+        return cypherMapWrapper;
+    }
+
     private void validateConfig(CypherMapWrapper cypherConfig, Collection<String> allowedKeys) {
         cypherConfig.requireOnlyKeysFrom(allowedKeys);
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class AlgoConfigParserTest {
+
+    @Test
+    void shouldGenerateJobIdForAsyncWrites() {
+        var config = AlgoConfigParser.withGeneratedJobId(CypherMapWrapper.create(Map.of("asyncWrite", true)));
+
+        assertThat(config.containsKey("jobId")).isTrue();
+        assertThatNoException().isThrownBy(() -> JobId.fromString(config.getString("jobId").orElseThrow()));
+    }
+
+    @Test
+    void shouldKeepGivenJobId() {
+        var jobId = new JobId().asString();
+        var config = AlgoConfigParser.withGeneratedJobId(CypherMapWrapper.create(Map.of(
+            "asyncWrite", true,
+            "jobId", jobId
+        )));
+
+        assertThat(config.getString("jobId")).hasValue(jobId);
+    }
+
+    @Test
+    void shouldNotGenerateJobIdForSynchronousWrites() {
+        assertThat(AlgoConfigParser.withGeneratedJobId(CypherMapWrapper.create(Map.of())).containsKey("jobId")).isFalse();
+        assertThat(AlgoConfigParser
+            .withGeneratedJobId(CypherMapWrapper.create(Map.of("asyncWrite", false)))
+            .containsKey("jobId")).isFalse();
+    }
+}
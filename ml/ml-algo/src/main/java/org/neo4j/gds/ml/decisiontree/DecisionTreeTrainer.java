@@ -180,8 +180,7 @@ public abstract class DecisionTreeTrainer<LOSS extends DecisionTreeLoss, PREDICT
 
         for (int i = 0; i < groupSize; i++) {
             var featuresIdx = group.get(i);
-            double[] featureVector = features.get(featuresIdx);
-            if (featureVector[index] < value) {
+            if (features.get(featuresIdx, index) < value) {
                 leftGroup.set(leftGroupSize++, featuresIdx);
             } else {
                 rightGroup.set(rightGroupSize++, featuresIdx);
@@ -212,16 +211,17 @@ public abstract class DecisionTreeTrainer<LOSS extends DecisionTreeLoss, PREDICT
         int[] featureBag = featureBagger.sample();
 
         for (long j = 0; j < groupSize; j++) {
+            long featuresIdx = group.get(j);
             for (int i : featureBag) {
-                double[] featureVector = features.get(group.get(j));
+                double featureValue = features.get(featuresIdx, i);
 
-                var groupSizes = createSplit(i, featureVector[i], group, groupSize, childGroups);
+                var groupSizes = createSplit(i, featureValue, group, groupSize, childGroups);
 
                 var loss = lossFunction.splitLoss(childGroups, groupSizes);
 
                 if (loss < bestLoss) {
                     bestIdx = i;
-                    bestValue = featureVector[i];
+                    bestValue = featureValue;
                     bestLoss = loss;
 
                     var tmpGroups = bestChildGroups;
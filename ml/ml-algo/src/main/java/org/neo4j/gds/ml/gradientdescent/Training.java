@@ -165,6 +165,8 @@ public class Training {
     static class ObjectiveUpdateConsumer implements Consumer<Batch> {
         private final Objective<?> objective;
         private final long trainSize;
+        // consecutive batches share their dimensions, so the buffers of one batch are reused for the next
+        private final ComputationContext ctx;
         private List<? extends Tensor<?>> summedWeightGradients;
         private int consumedBatches;
 
@@ -180,12 +182,13 @@ public class Training {
                 .map(weight -> weight.data().createWithSameDimensions())
                 .collect(Collectors.toList());
             this.consumedBatches = 0;
+            this.ctx = ComputationContext.withBufferReuse();
         }
 
         @Override
         public void accept(Batch batch) {
             Variable<Scalar> loss = objective.loss(batch, trainSize);
-            var ctx = new ComputationContext();
+            ctx.reset();
             ctx.forward(loss);
             ctx.backward(loss);
 
@@ -34,6 +34,26 @@ public interface Classifier {
 
     Matrix predictProbabilities(Batch batch, Features features);
 
+    /**
+     * Predicts the class probabilities for every row of a row-major feature matrix.
+     * Implementations may evaluate the whole matrix at once instead of row by row.
+     */
+    default Matrix predictProbabilities(Matrix features) {
+        var predictedProbabilities = new Matrix(features.rows(), numberOfClasses());
+        for (int row = 0; row < features.rows(); row++) {
+            predictedProbabilities.setRow(row, predictProbabilities(features.getRow(row)));
+        }
+        return predictedProbabilities;
+    }
+
+    /**
+     * Returns an upper bound of the probability of the class for any features within the given bounds.
+     * Classifiers that cannot bound their predictions return 1.
+     */
+    default double maxProbability(int classId, double[] featureLowerBounds, double[] featureUpperBounds) {
+        return 1D;
+    }
+
     ClassifierData data();
 
     interface ClassifierData {
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.models;
+
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+/**
+ * Row-major feature matrix stored in a single contiguous {@link HugeDoubleArray}.
+ * The features of row {@code id} start at {@code id * stride}, so no per-row objects are held
+ * and scans over consecutive rows are linear in memory.
+ *
+ * Rows can be written concurrently as long as every row is written by a single thread.
+ */
+public final class DenseFeatures implements Features {
+
+    private final HugeDoubleArray values;
+    private final long size;
+    private final int stride;
+
+    private DenseFeatures(HugeDoubleArray values, long size, int stride) {
+        this.values = values;
+        this.size = size;
+        this.stride = stride;
+    }
+
+    public static DenseFeatures create(long size, int featureDimension) {
+        return new DenseFeatures(HugeDoubleArray.newArray(size * featureDimension), size, featureDimension);
+    }
+
+    public static long memoryEstimation(long size, int featureDimension) {
+        return MemoryUsage.sizeOfInstance(DenseFeatures.class) + HugeDoubleArray.memoryEstimation(size * featureDimension);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int featureDimension() {
+        return stride;
+    }
+
+    /**
+     * Returns a copy of the feature vector of {@code id}.
+     * Prefer {@link #get(long, int)} or {@link #copyInto(long, double[], int)} in hot loops.
+     */
+    @Override
+    public double[] get(long id) {
+        var features = new double[stride];
+        copyInto(id, features, 0);
+        return features;
+    }
+
+    @Override
+    public double get(long id, int featureIdx) {
+        return values.get(id * stride + featureIdx);
+    }
+
+    @Override
+    public void copyInto(long id, double[] target, int offset) {
+        long rowStart = id * stride;
+        for (int i = 0; i < stride; i++) {
+            target[offset + i] = values.get(rowStart + i);
+        }
+    }
+
+    public void set(long id, int featureIdx, double value) {
+        values.set(id * stride + featureIdx, value);
+    }
+
+    /**
+     * Writes the first {@code length} values of {@code features} into row {@code id}, starting at column {@code offset}.
+     */
+    public void setRow(long id, double[] features, int offset, int length) {
+        long rowStart = id * stride;
+        for (int i = 0; i < length; i++) {
+            values.set(rowStart + offset + i, features[i]);
+        }
+    }
+}
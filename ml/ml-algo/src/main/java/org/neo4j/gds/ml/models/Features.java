@@ -27,4 +27,16 @@ public interface Features {
     default int featureDimension() {
         return this.get(0).length;
     }
+
+    default double get(long id, int featureIdx) {
+        return get(id)[featureIdx];
+    }
+
+    /**
+     * Writes the feature vector of {@code id} into {@code target}, starting at {@code offset}.
+     */
+    default void copyInto(long id, double[] target, int offset) {
+        var features = get(id);
+        System.arraycopy(features, 0, target, offset, features.length);
+    }
 }
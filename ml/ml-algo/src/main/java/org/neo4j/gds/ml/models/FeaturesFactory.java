@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.models;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
@@ -66,12 +67,31 @@ public final class FeaturesFactory {
     }
 
     public static Features extractEagerFeatures(Graph graph, List<String> featureProperties) {
+        return extractEagerFeatures(graph, featureProperties, 1);
+    }
+
+    public static DenseFeatures extractEagerFeatures(Graph graph, List<String> featureProperties, int concurrency) {
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, featureProperties);
-        var featuresArray = HugeObjectArray.newArray(double[].class, graph.nodeCount());
+        var features = DenseFeatures.create(graph.nodeCount(), FeatureExtraction.featureCount(featureExtractors));
 
-        FeatureExtraction.extract(graph, featureExtractors, featuresArray);
+        var featureConsumer = new FeatureConsumer() {
+            @Override
+            public void acceptScalar(long nodeOffset, int offset, double value) {
+                features.set(nodeOffset, offset, value);
+            }
 
-        return wrap(featuresArray);
+            @Override
+            public void acceptArray(long nodeOffset, int offset, double[] values) {
+                features.setRow(nodeOffset, values, offset, values.length);
+            }
+        };
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            concurrency,
+            nodeId -> FeatureExtraction.extract(nodeId, nodeId, featureExtractors, featureConsumer)
+        );
+
+        return features;
     }
 
     public static Features wrap(HugeObjectArray<double[]> features) {
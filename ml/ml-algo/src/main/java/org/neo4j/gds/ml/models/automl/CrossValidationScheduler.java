@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.models.automl;
+
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.models.TrainerConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Trains and evaluates model candidates on cross-validation folds.
+ *
+ * In parallel mode, the (candidate, fold) trainings are run concurrently with a single thread each,
+ * so that small models use the whole concurrency budget.
+ * As the trainings do not run in the order of the task tree, they cannot begin or end subtasks.
+ * Their log messages are forwarded to the given progress tracker, which is expected to be on a leaf task,
+ * and one unit of progress is logged per evaluated (candidate, fold).
+ *
+ * With successive halving, candidates are evaluated one fold at a time. After each fold only the
+ * better half of the remaining candidates, ranked by their average validation score so far, is
+ * evaluated on the next fold.
+ */
+public final class CrossValidationScheduler<RESULT> {
+
+    @FunctionalInterface
+    public interface FoldTrainer<RESULT> {
+        RESULT trainAndEvaluate(TrainerConfig candidate, int fold, int concurrency, ProgressTracker progressTracker);
+    }
+
+    private final List<TrainerConfig> candidates;
+    private final int numberOfFolds;
+    private final FoldTrainer<RESULT> foldTrainer;
+    private final ToDoubleFunction<RESULT> validationScore;
+    private final boolean parallel;
+    private final boolean successiveHalving;
+    private final int concurrency;
+    private final FoldProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    public CrossValidationScheduler(
+        List<TrainerConfig> candidates,
+        int numberOfFolds,
+        FoldTrainer<RESULT> foldTrainer,
+        ToDoubleFunction<RESULT> validationScore,
+        boolean parallel,
+        boolean successiveHalving,
+        int concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.candidates = candidates;
+        this.numberOfFolds = numberOfFolds;
+        this.foldTrainer = foldTrainer;
+        this.validationScore = validationScore;
+        this.parallel = parallel;
+        this.successiveHalving = successiveHalving;
+        this.concurrency = concurrency;
+        this.progressTracker = new FoldProgressTracker(progressTracker);
+        this.terminationFlag = terminationFlag;
+    }
+
+    /**
+     * Adapts the estimation of training and evaluating a single candidate on a single fold.
+     * In parallel mode, up to {@code concurrency} single-threaded trainings are alive at the same time.
+     */
+    public static MemoryEstimation memoryEstimation(MemoryEstimation foldEstimation, boolean parallel) {
+        if (!parallel) {
+            return foldEstimation;
+        }
+        return MemoryEstimations.setup(
+            foldEstimation.description(),
+            (dimensions, concurrency) -> MemoryEstimations.of(
+                foldEstimation.description(),
+                foldEstimation.estimate(dimensions, 1).memoryUsage().times(concurrency)
+            )
+        );
+    }
+
+    /**
+     * @return the fold results of every candidate, in the order of the given candidates.
+     *     Candidates dropped by successive halving have results for fewer folds.
+     */
+    public List<CandidateResult<RESULT>> run() {
+        var results = candidates
+            .stream()
+            .map(CandidateResult<RESULT>::new)
+            .collect(Collectors.toList());
+
+        if (!successiveHalving) {
+            var allFolds = IntStream.range(0, numberOfFolds).toArray();
+            runRound(results, IntStream.range(0, candidates.size()).toArray(), allFolds);
+            return results;
+        }
+
+        var activeCandidates = IntStream.range(0, candidates.size()).toArray();
+        for (int fold = 0; fold < numberOfFolds; fold++) {
+            if (fold > 0) {
+                activeCandidates = betterHalf(results, activeCandidates);
+            }
+            runRound(results, activeCandidates, new int[]{fold});
+        }
+
+        return results;
+    }
+
+    private void runRound(List<CandidateResult<RESULT>> results, int[] candidateIndices, int[] folds) {
+        var tasks = new ArrayList<FoldTask>();
+        for (int candidateIdx : candidateIndices) {
+            for (int fold : folds) {
+                tasks.add(new FoldTask(candidateIdx, fold));
+            }
+        }
+
+        if (parallel) {
+            ParallelUtil.runWithConcurrency(concurrency, tasks, terminationFlag, Pools.DEFAULT);
+        } else {
+            tasks.forEach(FoldTask::run);
+        }
+
+        for (FoldTask task : tasks) {
+            results.get(task.candidateIdx).add(task.result);
+        }
+    }
+
+    private int[] betterHalf(List<CandidateResult<RESULT>> results, int[] candidateIndices) {
+        int survivors = (candidateIndices.length + 1) / 2;
+        return IntStream.of(candidateIndices)
+            .boxed()
+            // stable sort keeps earlier candidates on ties
+            .sorted(Comparator.comparingDouble((Integer idx) -> results.get(idx).averageScore(validationScore)).reversed())
+            .limit(survivors)
+            .mapToInt(Integer::intValue)
+            .sorted()
+            .toArray();
+    }
+
+    private final class FoldTask implements Runnable {
+        private final int candidateIdx;
+        private final int fold;
+        private RESULT result;
+
+        private FoldTask(int candidateIdx, int fold) {
+            this.candidateIdx = candidateIdx;
+            this.fold = fold;
+        }
+
+        @Override
+        public void run() {
+            result = foldTrainer.trainAndEvaluate(
+                candidates.get(candidateIdx),
+                fold,
+                parallel ? 1 : concurrency,
+                progressTracker
+            );
+            progressTracker.foldCompleted();
+        }
+    }
+
+    public static final class CandidateResult<RESULT> {
+        private final TrainerConfig candidate;
+        private final List<RESULT> foldResults;
+
+        private CandidateResult(TrainerConfig candidate) {
+            this.candidate = candidate;
+            this.foldResults = new ArrayList<>();
+        }
+
+        private void add(RESULT foldResult) {
+            foldResults.add(foldResult);
+        }
+
+        private double averageScore(ToDoubleFunction<RESULT> score) {
+            return foldResults.stream().mapToDouble(score).average().orElse(Double.NEGATIVE_INFINITY);
+        }
+
+        public TrainerConfig candidate() {
+            return candidate;
+        }
+
+        public List<RESULT> foldResults() {
+            return Collections.unmodifiableList(foldResults);
+        }
+    }
+
+    /**
+     * Shared by all fold trainings. Subtasks and their progress are dropped, as the trainings run out of order.
+     * Log messages are forwarded to the delegate while holding the lock of this tracker.
+     */
+    private static final class FoldProgressTracker implements ProgressTracker {
+        private final ProgressTracker delegate;
+
+        FoldProgressTracker(ProgressTracker delegate) {
+            this.delegate = delegate;
+        }
+
+        synchronized void foldCompleted() {
+            delegate.logProgress();
+        }
+
+        @Override
+        public void setEstimatedResourceFootprint(MemoryRange memoryEstimationInBytes, int concurrency) {
+        }
+
+        @Override
+        public void beginSubTask() {
+        }
+
+        @Override
+        public void beginSubTask(long taskVolume) {
+        }
+
+        @Override
+        public void beginSubTask(String expectedTaskDescription) {
+        }
+
+        @Override
+        public void endSubTask() {
+        }
+
+        @Override
+        public void endSubTask(String expectedTaskDescription) {
+        }
+
+        @Override
+        public void endSubTaskWithFailure() {
+        }
+
+        @Override
+        public void endSubTaskWithFailure(String expectedTaskDescription) {
+        }
+
+        @Override
+        public void logProgress(long value) {
+        }
+
+        @Override
+        public void logProgress(long value, String messageTemplate) {
+        }
+
+        @Override
+        public void setVolume(long volume) {
+        }
+
+        @Override
+        public synchronized void logDebug(String message) {
+            delegate.logDebug(message);
+        }
+
+        @Override
+        public synchronized void logWarning(String message) {
+            delegate.logWarning(message);
+        }
+
+        @Override
+        public synchronized void logMessage(String message) {
+            delegate.logMessage(message);
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
@@ -54,25 +54,103 @@ public final class LogisticRegressionClassifier implements Classifier {
     interface LogisticRegressionPredictionStrategy {
         double[] predictProbabilities(double[] features, LogisticRegressionClassifier classifier);
 
+        /**
+         * Predicts all rows of the row-major feature matrix at once.
+         */
+        Matrix predictProbabilities(Matrix features, LogisticRegressionClassifier classifier);
+
+        double maxProbability(
+            int classId,
+            double[] featureLowerBounds,
+            double[] featureUpperBounds,
+            LogisticRegressionClassifier classifier
+        );
+
         static LogisticRegressionPredictionStrategy binary() {
-            return (features, classifier) -> {
-                var affinity = 0D;
-                var weights = classifier.data().weights().data();
-                for (int i = 0; i < features.length; i++) {
-                    affinity += weights.dataAt(i) * features[i];
+            return new LogisticRegressionPredictionStrategy() {
+                @Override
+                public double[] predictProbabilities(double[] features, LogisticRegressionClassifier classifier) {
+                    var sigmoid = Sigmoid.sigmoid(affinity(features, 0, features.length, classifier));
+                    return new double[]{sigmoid, 1 - sigmoid};
                 }
-                var sigmoid = Sigmoid.sigmoid(affinity + classifier.data().bias().data().dataAt(0));
 
-                return new double[]{sigmoid, 1 - sigmoid};
+                @Override
+                public Matrix predictProbabilities(Matrix features, LogisticRegressionClassifier classifier) {
+                    // a matrix-vector product with the single weight row, without copying the rows out
+                    var featureData = features.data();
+                    var cols = features.cols();
+                    var predictions = new Matrix(features.rows(), 2);
+                    for (int row = 0; row < features.rows(); row++) {
+                        var sigmoid = Sigmoid.sigmoid(affinity(featureData, row * cols, cols, classifier));
+                        predictions.setDataAt(row, 0, sigmoid);
+                        predictions.setDataAt(row, 1, 1 - sigmoid);
+                    }
+                    return predictions;
+                }
+
+                @Override
+                public double maxProbability(
+                    int classId,
+                    double[] featureLowerBounds,
+                    double[] featureUpperBounds,
+                    LogisticRegressionClassifier classifier
+                ) {
+                    // the first class has the probability sigmoid(affinity), the second one 1 - sigmoid(affinity)
+                    var maximizeAffinity = classId == 0;
+                    var affinity = 0D;
+                    var weights = classifier.data().weights().data();
+                    for (int i = 0; i < featureLowerBounds.length; i++) {
+                        var weight = weights.dataAt(i);
+                        var feature = (weight >= 0) == maximizeAffinity ? featureUpperBounds[i] : featureLowerBounds[i];
+                        affinity += weight * feature;
+                    }
+                    var sigmoid = Sigmoid.sigmoid(affinity + classifier.data().bias().data().dataAt(0));
+                    return maximizeAffinity ? sigmoid : 1 - sigmoid;
+                }
+
+                private double affinity(
+                    double[] features,
+                    int offset,
+                    int length,
+                    LogisticRegressionClassifier classifier
+                ) {
+                    var affinity = 0D;
+                    var weights = classifier.data().weights().data();
+                    for (int i = 0; i < length; i++) {
+                        affinity += weights.dataAt(i) * features[offset + i];
+                    }
+                    return affinity + classifier.data().bias().data().dataAt(0);
+                }
             };
         }
 
         static LogisticRegressionPredictionStrategy multiClass() {
-            return (features, classifier) -> {
-                ComputationContext ctx = new ComputationContext();
-                Constant<Matrix> featuresVariable = Constant.matrix(features, 1, features.length);
-                Variable<Matrix> predictionsVariable = classifier.predictionsVariable(featuresVariable);
-                return ctx.forward(predictionsVariable).data();
+            return new LogisticRegressionPredictionStrategy() {
+                @Override
+                public double[] predictProbabilities(double[] features, LogisticRegressionClassifier classifier) {
+                    return predictProbabilities(Constant.matrix(features, 1, features.length), classifier).data();
+                }
+
+                @Override
+                public Matrix predictProbabilities(Matrix features, LogisticRegressionClassifier classifier) {
+                    return predictProbabilities(new Constant<>(features), classifier);
+                }
+
+                @Override
+                public double maxProbability(
+                    int classId,
+                    double[] featureLowerBounds,
+                    double[] featureUpperBounds,
+                    LogisticRegressionClassifier classifier
+                ) {
+                    return 1D;
+                }
+
+                private Matrix predictProbabilities(Constant<Matrix> features, LogisticRegressionClassifier classifier) {
+                    ComputationContext ctx = new ComputationContext();
+                    Variable<Matrix> predictionsVariable = classifier.predictionsVariable(features);
+                    return ctx.forward(predictionsVariable);
+                }
             };
         }
     }
@@ -148,6 +226,16 @@ public final class LogisticRegressionClassifier implements Classifier {
         return ctx.forward(predictionsVariable(batchFeatureMatrix(batch, features)));
     }
 
+    @Override
+    public Matrix predictProbabilities(Matrix features) {
+        return predictionStrategy.predictProbabilities(features, this);
+    }
+
+    @Override
+    public double maxProbability(int classId, double[] featureLowerBounds, double[] featureUpperBounds) {
+        return predictionStrategy.maxProbability(classId, featureLowerBounds, featureUpperBounds, this);
+    }
+
     Variable<Matrix> predictionsVariable(Constant<Matrix> batchFeatures) {
         var weights = data.weights();
         var weightedFeatures = MatrixMultiplyWithTransposedSecondOperand.of(
@@ -161,12 +249,17 @@ public final class LogisticRegressionClassifier implements Classifier {
     }
 
     static Constant<Matrix> batchFeatureMatrix(Batch batch, Features features) {
-        var batchFeatures = new Matrix(batch.size(), features.featureDimension());
+        int featureDimension = features.featureDimension();
+        var batchFeatures = new Matrix(batch.size(), featureDimension);
         var batchFeaturesOffset = new MutableInt();
 
         batch
             .nodeIds()
-            .forEach(id -> batchFeatures.setRow(batchFeaturesOffset.getAndIncrement(), features.get(id)));
+            .forEach(id -> features.copyInto(
+                id,
+                batchFeatures.data(),
+                batchFeaturesOffset.getAndIncrement() * featureDimension
+            ));
 
         return new Constant<>(batchFeatures);
     }
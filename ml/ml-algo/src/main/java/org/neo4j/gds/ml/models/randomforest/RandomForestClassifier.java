@@ -86,9 +86,11 @@ public class RandomForestClassifier implements Classifier {
     ) {
         var predictedProbabilities = new Matrix(batch.size(), numberOfClasses());
         var offset = 0;
+        var featureVector = new double[features.featureDimension()];
 
         for (long id : batch.nodeIds()) {
-            predictedProbabilities.setRow(offset++, predictProbabilities(features.get(id)));
+            features.copyInto(id, featureVector, 0);
+            predictedProbabilities.setRow(offset++, predictProbabilities(featureVector));
         }
 
         return predictedProbabilities;
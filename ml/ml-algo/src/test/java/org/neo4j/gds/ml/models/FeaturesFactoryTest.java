@@ -108,4 +108,20 @@ class FeaturesFactoryTest {
         assertThat(features.get(idFunction.of("d"))).containsExactly(new double[]{100.0, 5.3, 10.5, 5.3}, Offset.offset(1e-6));
         assertThat(features.get(idFunction.of("e"))).containsExactly(new double[]{100.0, 1.0, 0.9, 1.0}, Offset.offset(1e-6));
     }
+
+    @Test
+    void eagerFeaturesAreStoredRowMajor() {
+        var features = FeaturesFactory.extractEagerFeatures(graph, List.of("bananas", "arrayProperty", "a"), 4);
+
+        assertThat(features.size()).isEqualTo(graph.nodeCount());
+        assertThat(features.featureDimension()).isEqualTo(4);
+
+        var d = idFunction.of("d");
+        assertThat(features.get(d, 0)).isEqualTo(100.0);
+        assertThat(features.get(d, 2)).isCloseTo(10.5, Offset.offset(1e-6));
+
+        var target = new double[6];
+        features.copyInto(d, target, 1);
+        assertThat(target).containsExactly(new double[]{0.0, 100.0, 5.3, 10.5, 5.3, 0.0}, Offset.offset(1e-6));
+    }
 }
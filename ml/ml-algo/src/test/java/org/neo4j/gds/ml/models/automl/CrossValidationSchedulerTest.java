@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.models.automl;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.models.TrainerConfig;
+import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionTrainConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrossValidationSchedulerTest {
+
+    private static final List<TrainerConfig> CANDIDATES = IntStream
+        .range(0, 5)
+        .mapToObj(i -> LogisticRegressionTrainConfig.of(Map.of("penalty", (double) i)))
+        .collect(Collectors.toList());
+
+    private static double score(TrainerConfig candidate, int fold) {
+        // candidate 3 is the best, followed by 1
+        double penalty = ((LogisticRegressionTrainConfig) candidate).penalty();
+        return -Math.abs(penalty - 3) + (penalty == 1 ? 1.5 : 0) + fold * 0.01;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void evaluatesAllCandidatesOnAllFolds(boolean parallel) {
+        var trainings = new AtomicInteger();
+        var scheduler = new CrossValidationScheduler<Double>(
+            CANDIDATES,
+            3,
+            (candidate, fold, concurrency, progressTracker) -> {
+                assertThat(concurrency).isEqualTo(parallel ? 1 : 4);
+                trainings.incrementAndGet();
+                return score(candidate, fold);
+            },
+            Double::doubleValue,
+            parallel,
+            false,
+            4,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var results = scheduler.run();
+
+        assertThat(trainings.get()).isEqualTo(15);
+        assertThat(results).extracting(CrossValidationScheduler.CandidateResult::candidate).isEqualTo(CANDIDATES);
+        for (var result : results) {
+            assertThat(result.foldResults()).containsExactly(
+                score(result.candidate(), 0),
+                score(result.candidate(), 1),
+                score(result.candidate(), 2)
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void successiveHalvingDropsWorseCandidates(boolean parallel) {
+        var scheduler = new CrossValidationScheduler<Double>(
+            CANDIDATES,
+            3,
+            (candidate, fold, concurrency, progressTracker) -> score(candidate, fold),
+            Double::doubleValue,
+            parallel,
+            true,
+            4,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        var evaluatedFolds = scheduler
+            .run()
+            .stream()
+            .map(result -> result.foldResults().size())
+            .collect(Collectors.toList());
+
+        // 5 candidates on the first fold, the best 3 on the second and the best 2 on the last
+        assertThat(evaluatedFolds).containsExactly(1, 3, 2, 3, 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void forwardsMessagesAndProgressPerFold(boolean parallel) {
+        var loggedProgress = new AtomicInteger();
+        var messages = new ArrayList<String>();
+        var progressTracker = new ProgressTracker.EmptyProgressTracker() {
+            @Override
+            public void logProgress(long value) {
+                loggedProgress.addAndGet((int) value);
+            }
+
+            @Override
+            public void logMessage(String message) {
+                messages.add(message);
+            }
+        };
+
+        var scheduler = new CrossValidationScheduler<Integer>(
+            CANDIDATES.subList(0, 2),
+            2,
+            (candidate, fold, concurrency, foldProgressTracker) -> {
+                foldProgressTracker.beginSubTask();
+                foldProgressTracker.logProgress(42);
+                foldProgressTracker.logMessage("fold " + fold);
+                foldProgressTracker.endSubTask();
+                return fold;
+            },
+            Integer::doubleValue,
+            parallel,
+            false,
+            4,
+            progressTracker,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        scheduler.run();
+
+        // the progress within a fold is dropped, one unit is logged per evaluated fold instead
+        assertThat(loggedProgress.get()).isEqualTo(4);
+        assertThat(messages).containsExactlyInAnyOrder("fold 0", "fold 1", "fold 0", "fold 1");
+    }
+}
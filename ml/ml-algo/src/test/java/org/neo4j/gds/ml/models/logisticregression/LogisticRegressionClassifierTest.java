@@ -112,4 +112,37 @@ class LogisticRegressionClassifierTest {
             assertThat(singlePrediction).containsExactly(batchPrediction);
         }
     }
+
+    @Test
+    void predictsFeatureMatrixLikeSingleRows() {
+        var classIdMap = new LocalIdMap();
+        classIdMap.toMapped(0L);
+        classIdMap.toMapped(1L);
+        var featureCount = 4;
+        var binaryClassifier = LogisticRegressionClassifier.from(ImmutableLogisticRegressionData.of(
+            classIdMap,
+            new Weights<>(new Matrix(new double[]{-0.5, -0.6, -0.7, -0.8}, 1, featureCount)),
+            Weights.ofVector(0.3)
+        ));
+        var multiClassClassifier = LogisticRegressionClassifier.from(ImmutableLogisticRegressionData.of(
+            classIdMap,
+            new Weights<>(new Matrix(new double[]{
+                -0.5, -0.6, -0.7, -0.8,
+                0.4, -1.2, -0.4, 0.0
+            }, 2, featureCount)),
+            Weights.ofVector(-2.1, 0.2)
+        ));
+
+        var random = new Random(42);
+        var rows = 5;
+        var features = new Matrix(random.doubles(rows * featureCount).toArray(), rows, featureCount);
+
+        for (var classifier : new LogisticRegressionClassifier[]{binaryClassifier, multiClassClassifier}) {
+            var probabilityMatrix = classifier.predictProbabilities(features);
+            assertThat(probabilityMatrix.rows()).isEqualTo(rows);
+            for (int i = 0; i < rows; i++) {
+                assertThat(probabilityMatrix.getRow(i)).containsExactly(classifier.predictProbabilities(features.getRow(i)));
+            }
+        }
+    }
 }
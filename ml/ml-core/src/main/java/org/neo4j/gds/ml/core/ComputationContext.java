@@ -19,10 +19,13 @@
  */
 package org.neo4j.gds.ml.core;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.ml.core.functions.PassthroughVariable;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.TensorFactory;
+import org.neo4j.gds.ml.core.tensor.Vector;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -37,10 +40,59 @@ import java.util.stream.Collectors;
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
+    private final @Nullable TensorPool tensorPool;
 
     public ComputationContext() {
+        this(null);
+    }
+
+    private ComputationContext(@Nullable TensorPool tensorPool) {
         this.data = new ConcurrentHashMap<>();
         this.gradients = new ConcurrentHashMap<>();
+        this.tensorPool = tensorPool;
+    }
+
+    /**
+     * Creates a context that keeps the tensors allocated by its variables and gradients.
+     * After {@link #reset()} these buffers are reused by later computations of the same shape,
+     * which avoids allocating new tensors when the same computation graph is evaluated repeatedly.
+     */
+    public static ComputationContext withBufferReuse() {
+        return new ComputationContext(new TensorPool());
+    }
+
+    /**
+     * Forgets all computed data and gradients.
+     * If buffer reuse is enabled, all tensors allocated through this context become available for reuse,
+     * so none of them must be referenced afterwards.
+     */
+    public void reset() {
+        data.clear();
+        gradients.clear();
+        if (tensorPool != null) {
+            tensorPool.release();
+        }
+    }
+
+    /**
+     * @return a zero-filled matrix owned by this context.
+     */
+    public Matrix allocateMatrix(int rows, int cols) {
+        return tensorPool == null ? new Matrix(rows, cols) : tensorPool.matrix(rows, cols);
+    }
+
+    /**
+     * @return a zero-filled vector owned by this context.
+     */
+    public Vector allocateVector(int length) {
+        return tensorPool == null ? new Vector(length) : tensorPool.vector(length);
+    }
+
+    /**
+     * @return a zero-filled tensor of the same type and dimensions as the given one, owned by this context.
+     */
+    public <T extends Tensor<T>> T allocateLike(T tensor) {
+        return tensorPool == null ? tensor.createWithSameDimensions() : tensorPool.like(tensor);
     }
 
     // Only one forward call is expected for the caching strategy
@@ -110,8 +162,14 @@ public class ComputationContext {
     }
 
     private void updateGradient(Variable<?> variable, Tensor<?> gradient) {
-        gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
-        gradients.get(variable).addInPlace(gradient);
+        var accumulatedGradient = gradients.get(variable);
+        if (accumulatedGradient == null) {
+            accumulatedGradient = tensorPool == null
+                ? TensorFactory.constant(0D, variable.dimensions())
+                : tensorPool.zeros(variable.dimensions());
+            gradients.put(variable, accumulatedGradient);
+        }
+        accumulatedGradient.addInPlace(gradient);
     }
 
     public String render() {
@@ -139,6 +197,11 @@ public class ComputationContext {
         return data.keySet();
     }
 
+    @TestOnly
+    long allocatedTensors() {
+        return tensorPool == null ? 0 : tensorPool.allocatedTensors();
+    }
+
     private void renderOrphanGradients(StringBuilder result) {
         var expectedVariables = data.keySet();
         var unmatchedGradients = gradients
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core;
+
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Tensor;
+import org.neo4j.gds.ml.core.tensor.TensorFactory;
+import org.neo4j.gds.ml.core.tensor.Vector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.neo4j.gds.ml.core.Dimensions.COLUMNS_INDEX;
+import static org.neo4j.gds.ml.core.Dimensions.ROWS_INDEX;
+
+/**
+ * Hands out zero-filled tensors and records them on a tape.
+ * On {@link #release()} every recorded tensor is returned to a free list keyed by its type and dimensions,
+ * so that repeated computations over graphs of the same shape are served from previously allocated buffers.
+ * Free lists are kept across releases, so computations of alternating shapes, such as full batches
+ * and a smaller last batch, reuse their buffers as well.
+ * The free tensors are capped at {@link #RETAINED_COMPUTATIONS} times the size of the largest computation,
+ * beyond which the least recently used free lists are dropped.
+ *
+ * Not thread-safe, each {@link ComputationContext} owns its own pool.
+ */
+final class TensorPool {
+
+    static final int RETAINED_COMPUTATIONS = 2;
+
+    private final List<Tensor<?>> tape;
+    // access ordered, so that iteration starts at the least recently used free list
+    private final LinkedHashMap<FreeListKey, ArrayDeque<Tensor<?>>> freeTensors;
+    private long freeDoubles;
+    private long maxComputationDoubles;
+    private long allocatedTensors;
+
+    TensorPool() {
+        this.tape = new ArrayList<>();
+        this.freeTensors = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    Matrix matrix(int rows, int cols) {
+        var pooled = (Matrix) poll(Matrix.class, key(rows, cols));
+        return record(pooled != null ? pooled : allocated(new Matrix(rows, cols)));
+    }
+
+    Vector vector(int length) {
+        var pooled = (Vector) poll(Vector.class, length);
+        return record(pooled != null ? pooled : allocated(new Vector(length)));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Tensor<T>> T like(T tensor) {
+        var pooled = (T) poll(tensor.getClass(), key(tensor.dimensions()));
+        return record(pooled != null ? pooled : allocated(tensor.createWithSameDimensions()));
+    }
+
+    Tensor<?> zeros(int[] dimensions) {
+        // mirrors the type selection of TensorFactory#constant
+        Class<?> type;
+        if (dimensions.length == 2) {
+            type = Matrix.class;
+        } else if (dimensions.length == 1 && dimensions[ROWS_INDEX] == 1) {
+            type = Scalar.class;
+        } else {
+            type = Vector.class;
+        }
+        var pooled = poll(type, key(dimensions));
+        return record(pooled != null ? pooled : allocated(TensorFactory.constant(0D, dimensions)));
+    }
+
+    /**
+     * Moves all tensors handed out since the last release to the free lists.
+     * Callers must not use any of the handed out tensors afterwards.
+     */
+    void release() {
+        long computationDoubles = 0;
+        for (Tensor<?> tensor : tape) {
+            freeTensors
+                .computeIfAbsent(new FreeListKey(tensor.getClass(), key(tensor.dimensions())), key -> new ArrayDeque<>())
+                .push(tensor);
+            computationDoubles += tensor.data().length;
+        }
+        tape.clear();
+
+        freeDoubles += computationDoubles;
+        maxComputationDoubles = Math.max(maxComputationDoubles, computationDoubles);
+        evictLeastRecentlyUsed(RETAINED_COMPUTATIONS * maxComputationDoubles);
+    }
+
+    /**
+     * The number of tensors that could not be served from a free list.
+     */
+    long allocatedTensors() {
+        return allocatedTensors;
+    }
+
+    private void evictLeastRecentlyUsed(long maxFreeDoubles) {
+        var freeLists = freeTensors.values().iterator();
+        while (freeDoubles > maxFreeDoubles && freeLists.hasNext()) {
+            for (Tensor<?> tensor : freeLists.next()) {
+                freeDoubles -= tensor.data().length;
+            }
+            freeLists.remove();
+        }
+    }
+
+    private Tensor<?> poll(Class<?> type, long key) {
+        var freeList = freeTensors.get(new FreeListKey(type, key));
+        if (freeList == null || freeList.isEmpty()) {
+            return null;
+        }
+        var tensor = freeList.pop();
+        freeDoubles -= tensor.data().length;
+        Arrays.fill(tensor.data(), 0D);
+        return tensor;
+    }
+
+    private <T extends Tensor<?>> T allocated(T tensor) {
+        allocatedTensors++;
+        return tensor;
+    }
+
+    private <T extends Tensor<?>> T record(T tensor) {
+        tape.add(tensor);
+        return tensor;
+    }
+
+    private static long key(int[] dimensions) {
+        return dimensions.length == 2
+            ? key(dimensions[ROWS_INDEX], dimensions[COLUMNS_INDEX])
+            : dimensions[ROWS_INDEX];
+    }
+
+    private static long key(int rows, int cols) {
+        return ((long) rows << 32) | cols;
+    }
+
+    private static final class FreeListKey {
+        private final Class<?> type;
+        private final long dimensions;
+
+        FreeListKey(Class<?> type, long dimensions) {
+            this.type = type;
+            this.dimensions = dimensions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FreeListKey)) return false;
+            var other = (FreeListKey) o;
+            return type == other.type && dimensions == other.dimensions;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(type) + Long.hashCode(dimensions);
+        }
+    }
+}
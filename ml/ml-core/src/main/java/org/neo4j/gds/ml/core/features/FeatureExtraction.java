@@ -101,6 +101,29 @@ public final class FeatureExtraction {
         return features;
     }
 
+    /**
+     * Extracts the features of all nodes in the requested precision.
+     */
+    public static NodeFeatures extract(
+        Graph graph,
+        List<FeatureExtractor> extractors,
+        FeaturePrecision precision
+    ) {
+        if (precision == FeaturePrecision.DOUBLE) {
+            return NodeFeatures.of(extract(graph, extractors, HugeObjectArray.newArray(double[].class, graph.nodeCount())));
+        }
+
+        int featureCount = featureCount(extractors);
+        var features = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        features.setAll(i -> new float[featureCount]);
+        var featureConsumer = new HugeObjectArrayFloatFeatureConsumer(features);
+        graph.forEachNode(nodeId -> {
+            extract(nodeId, nodeId, extractors, featureConsumer);
+            return true;
+        });
+        return NodeFeatures.ofFloats(features);
+    }
+
     public static int featureCount(Collection<FeatureExtractor> extractors) {
         return extractors.stream().mapToInt(FeatureExtractor::dimension).sum();
     }
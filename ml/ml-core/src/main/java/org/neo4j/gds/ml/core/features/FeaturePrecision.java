@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.features;
+
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * The precision in which node features and per-node intermediate representations are stored.
+ * This only affects storage: there are no single precision tensors or functions,
+ * so weights, gradients and all computations stay in double precision
+ * and the stored values are widened when they are read.
+ */
+public enum FeaturePrecision {
+    DOUBLE {
+        @Override
+        public long sizeOfFeatureArray(int featureDimension) {
+            return MemoryUsage.sizeOfDoubleArray(featureDimension);
+        }
+    },
+    FLOAT {
+        @Override
+        public long sizeOfFeatureArray(int featureDimension) {
+            return MemoryUsage.sizeOfFloatArray(featureDimension);
+        }
+    };
+
+    public abstract long sizeOfFeatureArray(int featureDimension);
+
+    private static final List<String> VALUES = Arrays
+        .stream(FeaturePrecision.values())
+        .map(FeaturePrecision::name)
+        .collect(Collectors.toList());
+
+    public static FeaturePrecision parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+
+            if (!VALUES.contains(inputString)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "FeaturePrecision `%s` is not supported. Must be one of: %s.",
+                    input,
+                    StringJoining.join(VALUES)
+                ));
+            }
+
+            return valueOf(inputString);
+        } else if (input instanceof FeaturePrecision) {
+            return (FeaturePrecision) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected FeaturePrecision or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FeaturePrecision precision) {
+        return precision.toString();
+    }
+}
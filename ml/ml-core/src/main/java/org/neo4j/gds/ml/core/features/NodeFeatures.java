@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.features;
+
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+/**
+ * The feature vectors of all nodes of a graph.
+ * Depending on the {@link FeaturePrecision}, features are stored as {@code double[]} or {@code float[]},
+ * but they are always read in double precision.
+ */
+public interface NodeFeatures {
+
+    long size();
+
+    int featureDimension(long nodeId);
+
+    FeaturePrecision precision();
+
+    /**
+     * Copies the features of the node into {@code target}, starting at {@code offset}.
+     */
+    void copyInto(long nodeId, double[] target, int offset);
+
+    /**
+     * Computes the dot product of the features of the node and
+     * {@code vector[offset, offset + featureDimension(nodeId))}.
+     */
+    double dot(long nodeId, double[] vector, int offset);
+
+    /**
+     * Adds the features of the node, multiplied by {@code scale},
+     * to {@code target[offset, offset + featureDimension(nodeId))}.
+     */
+    void addScaledTo(long nodeId, double scale, double[] target, int offset);
+
+    /**
+     * Returns the features of the node. The returned array must not be modified,
+     * as it might be the stored array itself.
+     * Single precision features are copied into a new array on every call,
+     * hot paths should use {@link #copyInto}, {@link #dot} or {@link #addScaledTo} instead.
+     */
+    default double[] get(long nodeId) {
+        var features = new double[featureDimension(nodeId)];
+        copyInto(nodeId, features, 0);
+        return features;
+    }
+
+    static NodeFeatures of(HugeObjectArray<double[]> features) {
+        return new NodeFeatures() {
+            @Override
+            public long size() {
+                return features.size();
+            }
+
+            @Override
+            public int featureDimension(long nodeId) {
+                return features.get(nodeId).length;
+            }
+
+            @Override
+            public FeaturePrecision precision() {
+                return FeaturePrecision.DOUBLE;
+            }
+
+            @Override
+            public void copyInto(long nodeId, double[] target, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                System.arraycopy(nodeFeatures, 0, target, offset, nodeFeatures.length);
+            }
+
+            @Override
+            public double dot(long nodeId, double[] vector, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                double total = 0;
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    total += vector[offset + i] * nodeFeatures[i];
+                }
+                return total;
+            }
+
+            @Override
+            public void addScaledTo(long nodeId, double scale, double[] target, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    target[offset + i] += nodeFeatures[i] * scale;
+                }
+            }
+
+            @Override
+            public double[] get(long nodeId) {
+                return features.get(nodeId);
+            }
+        };
+    }
+
+    static NodeFeatures ofFloats(HugeObjectArray<float[]> features) {
+        return new NodeFeatures() {
+            @Override
+            public long size() {
+                return features.size();
+            }
+
+            @Override
+            public int featureDimension(long nodeId) {
+                return features.get(nodeId).length;
+            }
+
+            @Override
+            public FeaturePrecision precision() {
+                return FeaturePrecision.FLOAT;
+            }
+
+            @Override
+            public void copyInto(long nodeId, double[] target, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    target[offset + i] = nodeFeatures[i];
+                }
+            }
+
+            @Override
+            public double dot(long nodeId, double[] vector, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                double total = 0;
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    total += vector[offset + i] * nodeFeatures[i];
+                }
+                return total;
+            }
+
+            @Override
+            public void addScaledTo(long nodeId, double scale, double[] target, int offset) {
+                var nodeFeatures = features.get(nodeId);
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    target[offset + i] += nodeFeatures[i] * scale;
+                }
+            }
+        };
+    }
+}
@@ -35,12 +35,14 @@ public class ConstantScale<T extends Tensor<T>> extends SingleParentVariable<T,
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).scalarMultiply(constant);
+        var parentData = ctx.data(parent);
+        return parentData.mapInto(value -> value * constant, ctx.allocateLike(parentData));
     }
 
     @Override
     protected T gradientForParent(ComputationContext ctx) {
-        return ctx.gradient(this).scalarMultiply(constant);
+        var gradient = ctx.gradient(this);
+        return gradient.mapInto(value -> value * constant, ctx.allocateLike(gradient));
     }
 
     @Override
@@ -68,7 +68,7 @@ public class CrossEntropyLoss extends AbstractVariable<Scalar> {
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         if (parent == predictions) {
             var predictionsMatrix = ctx.data(predictions);
-            Matrix gradient = predictionsMatrix.createWithSameDimensions();
+            Matrix gradient = ctx.allocateLike(predictionsMatrix);
             var targetsVector = ctx.data(targets);
 
             var multiplier = -1.0 / gradient.rows();
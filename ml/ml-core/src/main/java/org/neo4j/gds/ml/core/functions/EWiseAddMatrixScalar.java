@@ -47,7 +47,7 @@ public class EWiseAddMatrixScalar extends AbstractVariable<Matrix> {
         var matrix = ctx.data(matrixVariable);
         double scalarValue = ctx.data(scalarVariable).value();
 
-        return matrix.map(v -> v + scalarValue);
+        return matrix.mapInto(v -> v + scalarValue, ctx.allocateLike(matrix));
     }
 
     @Override
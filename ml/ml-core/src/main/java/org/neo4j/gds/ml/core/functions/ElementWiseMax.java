@@ -25,6 +25,7 @@ import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.subgraph.BatchNeighbors;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
+import java.util.Arrays;
 
 public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
     public static final int INVALID_NEIGHBOR = -1;
@@ -48,15 +49,20 @@ public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
         var cols = parentData.cols();
         var batchIds = batchNeighbors.batchIds();
 
-        var max = Matrix.create(Double.NEGATIVE_INFINITY, rows, cols);
+        var max = ctx.allocateMatrix(rows, cols);
+        Arrays.fill(max.data(), Double.NEGATIVE_INFINITY);
 
         for (int batchIdx = 0; batchIdx < rows; batchIdx++) {
             // node-ids respond to rows in parentData
             int batchNodeId = batchIds[batchIdx];
 
+            int[] neighbors = batchNeighbors.neighbors(batchNodeId);
+            double[] relationshipWeights = batchNeighbors.relationshipWeights(batchNodeId);
+
             // Find the maximum value among the neighbors' data for each cell in the row
-            for (int neighbor : batchNeighbors.neighbors(batchNodeId)) {
-                double relationshipWeight = batchNeighbors.relationshipWeight(batchNodeId, neighbor);
+            for (int neighborIdx = 0; neighborIdx < neighbors.length; neighborIdx++) {
+                int neighbor = neighbors[neighborIdx];
+                double relationshipWeight = relationshipWeights[neighborIdx];
                 for (int col = 0; col < cols; col++) {
                     double neighborValue = parentData.dataAt(neighbor, col) * relationshipWeight;
                     if (neighborValue >= max.dataAt(batchIdx, col)) {
@@ -78,7 +84,7 @@ public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
 
     @Override
     public Matrix gradientForParent(ComputationContext ctx) {
-        var result = ctx.data(parent).createWithSameDimensions();
+        var result = ctx.allocateLike(ctx.data(parent));
 
         var cols = result.cols();
 
@@ -91,11 +97,7 @@ public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
             int sourceId = batchIds[batchIdx];
             int[] neighbors = batchNeighbors.neighbors(sourceId);
             int degree = neighbors.length;
-            double[] cachedWeights = new double[degree];
-
-            for (int neighborIndex = 0; neighborIndex < degree; neighborIndex++) {
-                cachedWeights[neighborIndex] = batchNeighbors.relationshipWeight(sourceId, neighbors[neighborIndex]);
-            }
+            double[] cachedWeights = batchNeighbors.relationshipWeights(sourceId);
 
             for (int col = 0; col < cols; col++) {
                 double thisCellData = elementWiseMaxData.dataAt(batchIdx, col);
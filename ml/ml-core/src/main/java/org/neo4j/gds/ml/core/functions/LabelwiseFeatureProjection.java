@@ -20,30 +20,31 @@
 package org.neo4j.gds.ml.core.functions;
 
 import org.neo4j.gds.NodeLabel;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.ml.core.AbstractVariable;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Dimensions;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
-import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
 
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.IntStream;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
 
     private final long[] nodeIds;
-    private final HugeObjectArray<double[]> features;
+    private final NodeFeatures features;
     private final Map<NodeLabel, Weights<Matrix>> weightsByLabel;
     private final int projectedFeatureDimension;
     private final NodeLabel[] labels;
 
     public LabelwiseFeatureProjection(
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        NodeFeatures features,
         Map<NodeLabel, Weights<Matrix>> weightsByLabel,
         int projectedFeatureDimension,
         NodeLabel[] labels
@@ -64,21 +65,23 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
         for (int batchIdx = 0; batchIdx < nodeIds.length; batchIdx++) {
             long nodeId = nodeIds[batchIdx];
             NodeLabel label = labels[batchIdx];
-            Weights<Matrix> weights = weightsByLabel.get(label);
-            double[] nodeFeatures = features.get(nodeId);
-
-            var wrappedNodeFeatureVector = new Matrix(nodeFeatures, 1, nodeFeatures.length);
-            var productVector = new Matrix(weights.dimension(0), 1);
-            DoubleMatrixOperations.multTransB(
-                weights.data(),
-                wrappedNodeFeatureVector,
-                productVector,
-                // TODO is filter not too simple to map the input feature dimension to the projectedDimension?
-                //      we should instead assert that the nodeFeature vector is not larger
-                index -> (index < projectedFeatureDimension)
-            );
+            Matrix weights = weightsByLabel.get(label).data();
+            int featureDimension = features.featureDimension(nodeId);
+            if (featureDimension != weights.cols()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The features of node %d have dimension %d, but the weights of label `%s` expect dimension %d.",
+                    nodeId,
+                    featureDimension,
+                    label.name(),
+                    weights.cols()
+                ));
+            }
 
-            result.setRow(batchIdx, productVector.data());
+            // the features are read in place, as widening single precision features into a copy would allocate per node
+            double[] weightsData = weights.data();
+            for (int row = 0; row < projectedFeatureDimension; row++) {
+                result.setDataAt(batchIdx, row, features.dot(nodeId, weightsData, row * featureDimension));
+            }
         }
         return result;
     }
@@ -99,12 +102,9 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
                 // perform outer product between nodeFeatures and portion thisGradient corresponding to the node
                 // row is a projected feature
                 // col is a non-projected feature
-                double[] nodeFeatures = features.get(nodeId);
                 for (int row = 0; row < rows; row++) {
                     double nodeFeatureGradient = thisGradient.dataAt(batchIdx, row);
-                    for (int col = 0; col < cols; col++) {
-                        gradientData[row * cols + col] += nodeFeatures[col] * nodeFeatureGradient;
-                    }
+                    features.addScaledTo(nodeId, nodeFeatureGradient, gradientData, row * cols);
                 }
             }
         });
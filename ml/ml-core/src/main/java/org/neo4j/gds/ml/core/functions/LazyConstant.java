@@ -25,21 +25,29 @@ import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class LazyConstant<T extends Tensor<T>> extends AbstractVariable<T> {
-    private final Supplier<T> dataProducer;
+    private final Function<ComputationContext, T> dataProducer;
 
     public LazyConstant(Supplier<T> dataProducer, int[] expectedDimensions) {
+        this(ctx -> dataProducer.get(), expectedDimensions);
+    }
+
+    /**
+     * @param dataProducer receives the context to allocate the produced tensor from
+     */
+    public LazyConstant(Function<ComputationContext, T> dataProducer, int[] expectedDimensions) {
         super(List.of(), expectedDimensions);
         this.dataProducer = dataProducer;
     }
 
     @Override
     public T apply(ComputationContext ctx) {
-        return dataProducer.get();
+        return dataProducer.apply(ctx);
     }
 
     @Override
@@ -134,7 +134,7 @@ public class LogisticLoss extends AbstractVariable<Scalar> {
             var targetVector = ctx.data(targets);
             var weightsVector = ctx.data(weights);
             var featuresTensor = ctx.data(features);
-            var gradient = weightsVector.createWithSameDimensions();
+            var gradient = ctx.allocateLike(weightsVector);
             int featureCount = weightsVector.cols();
             int numberOfExamples = targetVector.length();
 
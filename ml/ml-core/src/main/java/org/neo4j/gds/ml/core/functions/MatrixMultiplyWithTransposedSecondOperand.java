@@ -24,6 +24,7 @@ import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Dimensions;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
 
 import java.util.List;
 
@@ -53,16 +54,26 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        return ctx.data(A).multiplyTransB(ctx.data(B));
+        var a = ctx.data(A);
+        var b = ctx.data(B);
+        var result = ctx.allocateMatrix(a.rows(), b.rows());
+        DoubleMatrixOperations.multTransB(a, b, result);
+        return result;
     }
 
     @Override
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         var gradient = ctx.gradient(this);
         if (parent == A) {
-            return gradient.multiply(ctx.data(B));
+            var b = ctx.data(B);
+            var result = ctx.allocateMatrix(gradient.rows(), b.cols());
+            DoubleMatrixOperations.multiply(gradient, b, result);
+            return result;
         } else {
-            return gradient.multiplyTransA(ctx.data(A));
+            var a = ctx.data(A);
+            var result = ctx.allocateMatrix(gradient.cols(), a.cols());
+            DoubleMatrixOperations.multTransA(gradient, a, result);
+            return result;
         }
     }
 
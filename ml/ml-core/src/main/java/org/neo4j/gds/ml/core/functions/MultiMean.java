@@ -51,12 +51,13 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
 
         int cols = parentData.cols();
 
-        var resultMeans = Matrix.create(0, batchSize, cols);
+        var resultMeans = ctx.allocateMatrix(batchSize, cols);
 
         for (int batchIdx = 0; batchIdx < batchSize; batchIdx++) {
             // node-ids respond to rows in parentData
             int batchNodeId = batchIds[batchIdx];
             int[] neighbors = subGraph.neighbors(batchNodeId);
+            double[] relationshipWeights = subGraph.relationshipWeights(batchNodeId);
 
             // TODO Replace this with the sum of weights instead to normalize the weights
             // degree + the node itself
@@ -69,8 +70,9 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
             }
 
             // fetch rows from neighbors and update mean
-            for (int neighbor : neighbors) {
-                double relationshipWeight = subGraph.relationshipWeight(batchNodeId, neighbor);
+            for (int neighborIdx = 0; neighborIdx < neighbors.length; neighborIdx++) {
+                int neighbor = neighbors[neighborIdx];
+                double relationshipWeight = relationshipWeights[neighborIdx];
                 for (int col = 0; col < cols; col++) {
                     double neighborColData = parentData.dataAt(neighbor, col) * relationshipWeight;
                     resultMeans.addDataAt(batchIdx, col, neighborColData / closedNeighborHoodDegree);
@@ -86,7 +88,7 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
     @Override
     public Matrix gradientForParent(ComputationContext ctx) {
         var multiMeanGradient = ctx.gradient(this);
-        var resultGradient = ctx.data(parent).createWithSameDimensions();
+        var resultGradient = ctx.allocateLike(ctx.data(parent));
 
         int cols = resultGradient.cols();
         var batchIds = this.subGraph.batchIds();
@@ -94,6 +96,7 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
         for (int batchIdx = 0; batchIdx < batchIds.length; batchIdx++) {
             var batchNodeId = batchIds[batchIdx];
             int[] neighbors = subGraph.neighbors(batchNodeId);
+            double[] relationshipWeights = subGraph.relationshipWeights(batchNodeId);
             int closedNeighborhoodDegree = neighbors.length + 1;
 
             // TODO try to divide by closedNeighborhoodDegree once instead of on every update
@@ -105,8 +108,9 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
             }
 
             // propagate gradient to neighbors' data
-            for (int neighbor : neighbors) {
-                double relationshipWeight = subGraph.relationshipWeight(batchNodeId, neighbor);
+            for (int neighborIdx = 0; neighborIdx < neighbors.length; neighborIdx++) {
+                int neighbor = neighbors[neighborIdx];
+                double relationshipWeight = relationshipWeights[neighborIdx];
 
                 for (int col = 0; col < cols; col++) {
                     double neighborGradient = multiMeanGradient.dataAt(batchIdx, col) * relationshipWeight;
@@ -37,7 +37,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix, Matrix> {
         int rows = parentMatrix.rows();
         int cols = parentMatrix.cols();
 
-        var result = parentMatrix.createWithSameDimensions();
+        var result = ctx.allocateLike(parentMatrix);
         for (int row = 0; row < rows; row++) {
             double squaredSum = 0;
             for (int col = 0; col < cols; col++) {
@@ -58,7 +58,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix, Matrix> {
         Matrix parentData = ctx.data(parent);
         Matrix thisGradient = ctx.gradient(this);
 
-        Matrix parentGradient = parentData.createWithSameDimensions();
+        Matrix parentGradient = ctx.allocateLike(parentData);
         int rows = parentData.rows();
         int cols = parentData.cols();
 
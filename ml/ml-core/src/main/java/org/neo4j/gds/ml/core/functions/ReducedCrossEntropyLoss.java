@@ -91,7 +91,7 @@ public class ReducedCrossEntropyLoss extends AbstractVariable<Scalar> {
         if (parent == weights) {
             var weightsMatrix = ctx.data(weights);
             var featureMatrix = ctx.data(features);
-            var gradient = weightsMatrix.createWithSameDimensions();
+            var gradient = ctx.allocateLike(weightsMatrix);
             int featureCount = weightsMatrix.cols();
             int reducedClassCount = weightsMatrix.rows();
 
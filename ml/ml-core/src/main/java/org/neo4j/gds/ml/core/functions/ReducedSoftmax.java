@@ -44,7 +44,7 @@ public class ReducedSoftmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = data.rows();
         int cols = data.cols() + 1;
 
-        var result = Matrix.create(0.0, rows, cols);
+        var result = ctx.allocateMatrix(rows, cols);
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 0;
@@ -103,7 +103,7 @@ public class ReducedSoftmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = selfData.rows();
         int cols = selfData.cols();
 
-        var computedGradient = Matrix.create(0.0, rows, cols - 1);
+        var computedGradient = ctx.allocateMatrix(rows, cols - 1);
 
         // result[row,col] = sum_{col2} s[row, col2] * (delta(col, col2) - s[row, col]) * grad[row, col2]
         for (int row = 0; row < rows; row++) {
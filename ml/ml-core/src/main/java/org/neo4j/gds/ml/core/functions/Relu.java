@@ -33,11 +33,13 @@ public class Relu<T extends Tensor<T>> extends SingleParentVariable<T, T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).map(value -> (value > 0) ? value : (ALPHA * value));
+        var parentData = ctx.data(parent);
+        return parentData.mapInto(value -> (value > 0) ? value : (ALPHA * value), ctx.allocateLike(parentData));
     }
 
     @Override
     public T gradientForParent(ComputationContext ctx) {
-        return ctx.data(parent).map(value -> value > 0 ? 1 : ALPHA);
+        var parentData = ctx.data(parent);
+        return parentData.mapInto(value -> value > 0 ? 1 : ALPHA, ctx.allocateLike(parentData));
     }
 }
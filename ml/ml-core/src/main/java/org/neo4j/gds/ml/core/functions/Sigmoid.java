@@ -36,12 +36,14 @@ public class Sigmoid<T extends Tensor<T>> extends SingleParentVariable<T, T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).map(Sigmoid::sigmoid);
+        var parentData = ctx.data(parent);
+        return parentData.mapInto(Sigmoid::sigmoid, ctx.allocateLike(parentData));
     }
 
     @Override
     public T gradientForParent(ComputationContext ctx) {
-        T result = ctx.data(this).map(value -> value * (1 - value));
+        var data = ctx.data(this);
+        T result = data.mapInto(value -> value * (1 - value), ctx.allocateLike(data));
         result.elementwiseProductMutate(ctx.gradient(this));
 
         return result;
@@ -39,7 +39,7 @@ public class Slice extends SingleParentVariable<Matrix, Matrix> {
         Matrix parentData = ctx.data(parent);
         var rows = batchIds.length;
 
-        Matrix result = new Matrix(rows, parentData.cols());
+        Matrix result = ctx.allocateMatrix(rows, parentData.cols());
 
         for (int row = 0; row < rows; row++) {
             result.setRow(row, parentData, batchIds[row]);
@@ -52,7 +52,7 @@ public class Slice extends SingleParentVariable<Matrix, Matrix> {
     public Matrix gradientForParent(ComputationContext ctx) {
         Matrix thisGradient = ctx.gradient(this);
 
-        Matrix result = ctx.data(parent).createWithSameDimensions();
+        Matrix result = ctx.allocateLike(ctx.data(parent));
         var rows = batchIds.length;
         var cols = thisGradient.cols();
 
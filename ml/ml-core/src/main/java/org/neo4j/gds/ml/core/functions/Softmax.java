@@ -39,7 +39,7 @@ public class Softmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = data.rows();
         int cols = data.cols();
 
-        var result = data.createWithSameDimensions();
+        var result = ctx.allocateLike(data);
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
@@ -98,7 +98,7 @@ public class Softmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = selfData.rows();
         int cols = selfData.cols();
 
-        var computedGradient = Matrix.create(0.0, rows, cols);
+        var computedGradient = ctx.allocateMatrix(rows, cols);
 
         // result[row,col] = sum_{col2} s[row, col2] * (delta(col, col2) - s[row, col]) * grad[row, col2]
         for (int row = 0; row < rows; row++) {
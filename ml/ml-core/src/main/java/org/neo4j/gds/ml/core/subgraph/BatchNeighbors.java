@@ -38,4 +38,17 @@ public interface BatchNeighbors {
     int[] neighbors(int batchId);
 
     double relationshipWeight(int src, int trg);
+
+    /**
+     * @return the weights of the relationships to {@link #neighbors(int)}, indexed like the neighbors.
+     *     The array may be longer than the degree of the node and must not be modified.
+     */
+    default double[] relationshipWeights(int batchId) {
+        int[] neighbors = neighbors(batchId);
+        var weights = new double[neighbors.length];
+        for (int i = 0; i < neighbors.length; i++) {
+            weights[i] = relationshipWeight(batchId, neighbors[i]);
+        }
+        return weights;
+    }
 }
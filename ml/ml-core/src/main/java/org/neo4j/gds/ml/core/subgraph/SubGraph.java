@@ -24,6 +24,7 @@ import org.neo4j.gds.ml.core.NeighborhoodFunction;
 import org.neo4j.gds.ml.core.RelationshipWeights;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public final class SubGraph implements BatchNeighbors {
@@ -37,6 +38,10 @@ public final class SubGraph implements BatchNeighbors {
     // stores the sampled neighbors for each node in the input batch
     final int[][] neighbors;
 
+    // the weights of the relationships to the sampled neighbors, aligned with `neighbors`
+    // they are resolved once, as looking them up in the graph requires a scan over the adjacency list
+    private final double[][] cachedRelationshipWeights;
+
     private final RelationshipWeights relationshipWeightsFunction;
 
     private SubGraph(
@@ -49,6 +54,7 @@ public final class SubGraph implements BatchNeighbors {
         this.mappedBatchNodeIds = nodeIds;
         this.originalNodeIds = originalNodeIds;
         this.relationshipWeightsFunction = relationshipWeightsFunction;
+        this.cachedRelationshipWeights = cacheRelationshipWeights();
     }
 
     public static List<SubGraph> buildSubGraphs(
@@ -137,6 +143,32 @@ public final class SubGraph implements BatchNeighbors {
         return relationshipWeightsFunction.weight(originalNodeIds[src], originalNodeIds[trg]);
     }
 
+    @Override
+    public double[] relationshipWeights(int batchId) {
+        return isWeighted() ? cachedRelationshipWeights[batchId] : cachedRelationshipWeights[0];
+    }
+
+    private double[][] cacheRelationshipWeights() {
+        if (!isWeighted()) {
+            // a single row of default weights, long enough for every neighborhood
+            int maxDegree = Arrays.stream(neighbors).mapToInt(nodeNeighbors -> nodeNeighbors.length).max().orElse(0);
+            var defaultWeights = new double[maxDegree];
+            Arrays.fill(defaultWeights, RelationshipWeights.DEFAULT_VALUE);
+            return new double[][]{defaultWeights};
+        }
+
+        var weights = new double[neighbors.length][];
+        for (int nodeOffset = 0; nodeOffset < neighbors.length; nodeOffset++) {
+            int[] nodeNeighbors = neighbors[nodeOffset];
+            var nodeWeights = new double[nodeNeighbors.length];
+            for (int neighborOffset = 0; neighborOffset < nodeNeighbors.length; neighborOffset++) {
+                nodeWeights[neighborOffset] = relationshipWeight(nodeOffset, nodeNeighbors[neighborOffset]);
+            }
+            weights[nodeOffset] = nodeWeights;
+        }
+        return weights;
+    }
+
     private static RelationshipWeights relationshipWeightFunction(Graph graph, boolean useWeights) {
         return useWeights ? graph::relationshipProperty : RelationshipWeights.UNWEIGHTED;
     }
@@ -20,10 +20,10 @@
 package org.neo4j.gds.ml.core.tensor;
 
 import org.ejml.data.DMatrixRMaj;
-import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.Dimensions;
+import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
 
 import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
@@ -124,28 +124,34 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Matrix multiply(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.cols());
-        MatrixMatrixMult_DDRM.mult_reorder(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        var result = new Matrix(this.rows, other.cols());
+        DoubleMatrixOperations.multiply(this, other, result);
+        return result;
     }
 
     public Matrix multiplyTransB(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.rows);
-        MatrixMatrixMult_DDRM.multTransB(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        var result = new Matrix(this.rows, other.rows);
+        DoubleMatrixOperations.multTransB(this, other, result);
+        return result;
     }
 
     public Matrix multiplyTransA(Matrix other) {
-        DMatrixRMaj prod = new DMatrixRMaj(this.cols(), other.cols());
-        MatrixMatrixMult_DDRM.multTransA_reorder(this.toEjml(), other.toEjml(), prod);
-        return Matrix.of(prod);
+        var result = new Matrix(this.cols(), other.cols());
+        DoubleMatrixOperations.multTransA(this, other, result);
+        return result;
     }
 
     /**
      * C[a, b] = A[a, b] + v[b]
      */
     public Matrix sumBroadcastColumnWise(Vector vector) {
-        var result = this.createWithSameDimensions();
+        return sumBroadcastColumnWise(vector, createWithSameDimensions());
+    }
+
+    /**
+     * C[a, b] = A[a, b] + v[b], written into the given result matrix of the same dimensions.
+     */
+    public Matrix sumBroadcastColumnWise(Vector vector, Matrix result) {
 
         for(int row = 0; row < rows; row++) {
             for (int col = 0; col < columns; col++) {
@@ -158,15 +164,22 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Vector sumPerColumn() {
-        double[] result = new double[columns];
+        return sumPerColumn(new Vector(columns));
+    }
+
+    /**
+     * Adds the column sums to the given zero-filled vector of length {@code cols()}.
+     */
+    public Vector sumPerColumn(Vector result) {
+        double[] resultData = result.data;
 
         for (int col = 0; col < columns; col++) {
             for (int row = 0; row < rows; row++) {
-                result[col] += data[row * columns + col];
+                resultData[col] += data[row * columns + col];
             }
         }
 
-        return new Vector(result);
+        return result;
     }
 
     public void setRow(int rowIdx, Matrix input, int inputRowIdx) {
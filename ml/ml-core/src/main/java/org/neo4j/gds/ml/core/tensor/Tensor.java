@@ -72,8 +72,17 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
     }
 
     public SELF map(DoubleUnaryOperator f) {
-        var result = createWithSameDimensions();
-        Arrays.setAll(result.data, i -> f.applyAsDouble(data[i]));
+        return mapInto(f, createWithSameDimensions());
+    }
+
+    /**
+     * Writes the mapped values into {@code result}, which must have the same dimensions as this tensor.
+     */
+    public SELF mapInto(DoubleUnaryOperator f, SELF result) {
+        double[] resultData = result.data;
+        for (int i = 0; i < data.length; i++) {
+            resultData[i] = f.applyAsDouble(data[i]);
+        }
         return result;
     }
 
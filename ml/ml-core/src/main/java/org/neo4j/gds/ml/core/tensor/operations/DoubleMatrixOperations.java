@@ -20,12 +20,273 @@
 package org.neo4j.gds.ml.core.tensor.operations;
 
 import org.ejml.MatrixDimensionException;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
+import java.util.Arrays;
 import java.util.function.IntPredicate;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Dense kernels operating on the row-major data of {@link Matrix}.
+ *
+ * The multiplication kernels are blocked for the cache and compute several dot products at once,
+ * but every output element still sums its products in ascending order of the inner dimension.
+ * This keeps results bit-identical to the EJML kernels they replace and independent of the concurrency.
+ */
 public final class DoubleMatrixOperations {
 
+    // number of multiply-adds from which splitting the output rows over several threads pays off
+    static final long PARALLEL_THRESHOLD = 1L << 24;
+
+    // the block of the right operand which is reused across all rows of the left operand should fit into L2
+    private static final int INNER_BLOCK_SIZE = 128;
+    private static final int COLUMN_BLOCK_SIZE = 256;
+    private static final int CACHE_BLOCK_DOUBLES = 32 * 1024;
+
+    /**
+     * C = A * B
+     */
+    public static void multiply(Matrix a, Matrix b, Matrix c) {
+        multiply(a, b, c, 1);
+    }
+
+    public static void multiply(Matrix a, Matrix b, Matrix c, int concurrency) {
+        assertDistinct(a, b, c);
+        assertDimensions(a.cols(), b.rows(), c, a.rows(), b.cols(), "A * B");
+
+        runOnRowRanges(
+            a.rows(),
+            (long) a.rows() * a.cols() * b.cols(),
+            concurrency,
+            (startRow, endRow) -> multiply(a, b, c, startRow, endRow)
+        );
+    }
+
+    /**
+     * C = A * B^T
+     */
+    public static void multTransB(Matrix a, Matrix b, Matrix c) {
+        multTransB(a, b, c, 1);
+    }
+
+    public static void multTransB(Matrix a, Matrix b, Matrix c, int concurrency) {
+        assertDistinct(a, b, c);
+        assertDimensions(a.cols(), b.cols(), c, a.rows(), b.rows(), "A * B^T");
+
+        runOnRowRanges(
+            a.rows(),
+            (long) a.rows() * a.cols() * b.rows(),
+            concurrency,
+            (startRow, endRow) -> multTransB(a, b, c, startRow, endRow)
+        );
+    }
+
+    /**
+     * C = A^T * B
+     */
+    public static void multTransA(Matrix a, Matrix b, Matrix c) {
+        multTransA(a, b, c, 1);
+    }
+
+    public static void multTransA(Matrix a, Matrix b, Matrix c, int concurrency) {
+        assertDistinct(a, b, c);
+        assertDimensions(a.rows(), b.rows(), c, a.cols(), b.cols(), "A^T * B");
+
+        runOnRowRanges(
+            a.cols(),
+            (long) a.cols() * a.rows() * b.cols(),
+            concurrency,
+            (startRow, endRow) -> multTransA(a, b, c, startRow, endRow)
+        );
+    }
+
+    private static void multiply(Matrix a, Matrix b, Matrix c, int startRow, int endRow) {
+        double[] aData = a.data();
+        double[] bData = b.data();
+        double[] cData = c.data();
+        int inner = a.cols();
+        int cols = b.cols();
+
+        if (inner == 0) {
+            clearRows(cData, cols, startRow, endRow);
+            return;
+        }
+
+        for (int colStart = 0; colStart < cols; colStart += COLUMN_BLOCK_SIZE) {
+            int colEnd = Math.min(colStart + COLUMN_BLOCK_SIZE, cols);
+            for (int kStart = 0; kStart < inner; kStart += INNER_BLOCK_SIZE) {
+                int kEnd = Math.min(kStart + INNER_BLOCK_SIZE, inner);
+                for (int row = startRow; row < endRow; row++) {
+                    int aRowOffset = row * inner;
+                    int cRowOffset = row * cols;
+                    int k = kStart;
+                    if (k == 0) {
+                        // assign instead of accumulating onto a zero to match the EJML results exactly
+                        double aValue = aData[aRowOffset];
+                        for (int col = colStart; col < colEnd; col++) {
+                            cData[cRowOffset + col] = aValue * bData[col];
+                        }
+                        k++;
+                    }
+                    for (; k < kEnd; k++) {
+                        double aValue = aData[aRowOffset + k];
+                        int bRowOffset = k * cols;
+                        for (int col = colStart; col < colEnd; col++) {
+                            cData[cRowOffset + col] += aValue * bData[bRowOffset + col];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multTransB(Matrix a, Matrix b, Matrix c, int startRow, int endRow) {
+        double[] aData = a.data();
+        double[] bData = b.data();
+        double[] cData = c.data();
+        int inner = a.cols();
+        int bRows = b.rows();
+        int bRowBlockSize = Math.max(4, CACHE_BLOCK_DOUBLES / Math.max(1, inner));
+
+        for (int bStart = 0; bStart < bRows; bStart += bRowBlockSize) {
+            int bEnd = Math.min(bStart + bRowBlockSize, bRows);
+            for (int row = startRow; row < endRow; row++) {
+                int aOffset = row * inner;
+                int cOffset = row * bRows;
+                int bRow = bStart;
+                // four dot products at once to reuse every loaded value of A
+                for (; bRow + 3 < bEnd; bRow += 4) {
+                    int b0 = bRow * inner;
+                    int b1 = b0 + inner;
+                    int b2 = b1 + inner;
+                    int b3 = b2 + inner;
+                    double total0 = 0;
+                    double total1 = 0;
+                    double total2 = 0;
+                    double total3 = 0;
+                    for (int k = 0; k < inner; k++) {
+                        double aValue = aData[aOffset + k];
+                        total0 += aValue * bData[b0 + k];
+                        total1 += aValue * bData[b1 + k];
+                        total2 += aValue * bData[b2 + k];
+                        total3 += aValue * bData[b3 + k];
+                    }
+                    cData[cOffset + bRow] = total0;
+                    cData[cOffset + bRow + 1] = total1;
+                    cData[cOffset + bRow + 2] = total2;
+                    cData[cOffset + bRow + 3] = total3;
+                }
+                for (; bRow < bEnd; bRow++) {
+                    int bOffset = bRow * inner;
+                    double total = 0;
+                    for (int k = 0; k < inner; k++) {
+                        total += aData[aOffset + k] * bData[bOffset + k];
+                    }
+                    cData[cOffset + bRow] = total;
+                }
+            }
+        }
+    }
+
+    private static void multTransA(Matrix a, Matrix b, Matrix c, int startRow, int endRow) {
+        double[] aData = a.data();
+        double[] bData = b.data();
+        double[] cData = c.data();
+        int inner = a.rows();
+        int aCols = a.cols();
+        int cols = b.cols();
+
+        if (inner == 0) {
+            clearRows(cData, cols, startRow, endRow);
+            return;
+        }
+
+        for (int colStart = 0; colStart < cols; colStart += COLUMN_BLOCK_SIZE) {
+            int colEnd = Math.min(colStart + COLUMN_BLOCK_SIZE, cols);
+            for (int kStart = 0; kStart < inner; kStart += INNER_BLOCK_SIZE) {
+                int kEnd = Math.min(kStart + INNER_BLOCK_SIZE, inner);
+                for (int row = startRow; row < endRow; row++) {
+                    int cRowOffset = row * cols;
+                    int k = kStart;
+                    if (k == 0) {
+                        double aValue = aData[row];
+                        for (int col = colStart; col < colEnd; col++) {
+                            cData[cRowOffset + col] = aValue * bData[col];
+                        }
+                        k++;
+                    }
+                    for (; k < kEnd; k++) {
+                        double aValue = aData[k * aCols + row];
+                        int bRowOffset = k * cols;
+                        for (int col = colStart; col < colEnd; col++) {
+                            cData[cRowOffset + col] += aValue * bData[bRowOffset + col];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void clearRows(double[] data, int cols, int startRow, int endRow) {
+        Arrays.fill(data, startRow * cols, endRow * cols, 0D);
+    }
+
+    private static void runOnRowRanges(int rows, long multiplyAdds, int concurrency, RowRangeKernel kernel) {
+        if (concurrency <= 1 || rows < 2 * concurrency || multiplyAdds < PARALLEL_THRESHOLD) {
+            kernel.apply(0, rows);
+            return;
+        }
+
+        // output rows are disjoint between tasks, so no synchronization of C is needed
+        int rowsPerTask = ParallelUtil.adjustedBatchSize(rows, concurrency, 1);
+        int taskCount = ParallelUtil.threadCount(rowsPerTask, rows);
+        ParallelUtil.parallelForEachNode(taskCount, concurrency, task -> {
+            int startRow = Math.toIntExact(task) * rowsPerTask;
+            kernel.apply(startRow, Math.min(startRow + rowsPerTask, rows));
+        });
+    }
+
+    private static void assertDistinct(Matrix a, Matrix b, Matrix c) {
+        if (a == c || b == c) {
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        }
+    }
+
+    private static void assertDimensions(
+        int leftInner,
+        int rightInner,
+        Matrix c,
+        int expectedRows,
+        int expectedCols,
+        String operation
+    ) {
+        if (leftInner != rightInner) {
+            throw new MatrixDimensionException(formatWithLocale(
+                "The 'a' and 'b' matrices do not have compatible dimensions for %s. Got inner dimensions %d and %d.",
+                operation,
+                leftInner,
+                rightInner
+            ));
+        }
+        if (c.rows() != expectedRows || c.cols() != expectedCols) {
+            throw new MatrixDimensionException(formatWithLocale(
+                "The matrix 'c' does not have compatible dimensions for %s. Expected (%d, %d), but got (%d, %d).",
+                operation,
+                expectedRows,
+                expectedCols,
+                c.rows(),
+                c.cols()
+            ));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowRangeKernel {
+        void apply(int startRow, int endRow);
+    }
+
     /**
      * Modified version of Ejml implementation.
      *
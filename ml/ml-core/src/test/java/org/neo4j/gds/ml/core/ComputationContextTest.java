@@ -23,10 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.functions.ConstantScale;
 import org.neo4j.gds.ml.core.functions.ElementSum;
+import org.neo4j.gds.ml.core.functions.MatrixMultiplyWithTransposedSecondOperand;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Tensor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -81,4 +87,95 @@ public class ComputationContextTest {
                 "\t data: Scalar: [12.0]" + System.lineSeparator() +
                 "\t gradient: Scalar: [1.0]" + System.lineSeparator());
     }
+
+    @Test
+    void reuseBuffersAfterReset() {
+        var features = Constant.matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3);
+        var weights = new Weights<>(new Matrix(new double[]{1, 0, 2, 0, 1, 3, 1, 1, 1, 2, 2, 0}, 4, 3));
+        var product = MatrixMultiplyWithTransposedSecondOperand.of(features, weights);
+        var loss = new ElementSum(List.of(product));
+
+        var expectedCtx = new ComputationContext();
+        expectedCtx.forward(loss);
+        expectedCtx.backward(loss);
+
+        var ctx = ComputationContext.withBufferReuse();
+        ctx.forward(loss);
+        ctx.backward(loss);
+
+        var firstProductBuffers = List.of(ctx.data(product), ctx.gradient(product));
+        var firstWeightGradient = ctx.gradient(weights);
+        assertThat(firstWeightGradient).isEqualTo(expectedCtx.gradient(weights));
+
+        ctx.reset();
+        assertThat(ctx.computedVariables()).isEmpty();
+
+        ctx.forward(loss);
+        ctx.backward(loss);
+
+        assertThat(ctx.data(product)).isEqualTo(expectedCtx.data(product));
+        assertThat(ctx.gradient(weights)).isEqualTo(expectedCtx.gradient(weights));
+        assertThat(firstProductBuffers).anySatisfy(buffer -> assertThat(buffer).isSameAs(ctx.data(product)));
+    }
+
+    @Test
+    void reuseBuffersAcrossComputationsOfDifferentShapes() {
+        var weights = new Weights<>(new Matrix(new double[]{1, 0, 2, 0, 1, 3, 1, 1, 1, 2, 2, 0}, 4, 3));
+        var smallProduct = MatrixMultiplyWithTransposedSecondOperand.of(
+            Constant.matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3),
+            weights
+        );
+        var largeProduct = MatrixMultiplyWithTransposedSecondOperand.of(
+            Constant.matrix(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, 3, 3),
+            weights
+        );
+
+        var ctx = ComputationContext.withBufferReuse();
+        ctx.forward(smallProduct);
+        var smallProductBuffer = ctx.data(smallProduct);
+        ctx.reset();
+        ctx.forward(largeProduct);
+        var largeProductBuffer = ctx.data(largeProduct);
+        ctx.reset();
+        assertThat(ctx.allocatedTensors()).isEqualTo(2);
+
+        // the second batch of each size is served from the pool, although a batch of the other size ran in between
+        ctx.forward(smallProduct);
+        assertThat(ctx.data(smallProduct)).isSameAs(smallProductBuffer);
+        ctx.reset();
+        ctx.forward(largeProduct);
+        assertThat(ctx.data(largeProduct)).isSameAs(largeProductBuffer);
+        ctx.reset();
+        assertThat(ctx.allocatedTensors()).isEqualTo(2);
+    }
+
+    @Test
+    void dropLeastRecentlyUsedBuffersBeyondTheCap() {
+        var weights = new Weights<>(new Matrix(new double[]{1, 0, 2, 0, 1, 3, 1, 1, 1, 2, 2, 0}, 4, 3));
+        var products = IntStream.rangeClosed(1, 4)
+            .mapToObj(rows -> MatrixMultiplyWithTransposedSecondOperand.of(
+                Constant.matrix(new double[rows * 3], rows, 3),
+                weights
+            ))
+            .collect(Collectors.toList());
+
+        var ctx = ComputationContext.withBufferReuse();
+        var buffers = new ArrayList<Tensor<?>>();
+        for (var product : products) {
+            ctx.forward(product);
+            buffers.add(ctx.data(product));
+            ctx.reset();
+        }
+
+        // the pool retains twice the largest computation (2 * 16 doubles), so the buffers of 1 and 2 rows are dropped
+        ctx.forward(products.get(3));
+        assertThat(ctx.data(products.get(3))).isSameAs(buffers.get(3));
+        ctx.reset();
+        ctx.forward(products.get(2));
+        assertThat(ctx.data(products.get(2))).isSameAs(buffers.get(2));
+        ctx.reset();
+        ctx.forward(products.get(0));
+        assertThat(ctx.data(products.get(0))).isNotSameAs(buffers.get(0));
+        ctx.reset();
+    }
 }
@@ -28,6 +28,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.FiniteDifferenceTest;
+import org.neo4j.gds.ml.core.features.NodeFeatures;
 import org.neo4j.gds.ml.core.helper.L2Norm;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
@@ -71,7 +72,7 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
         Map<NodeLabel, Weights<Matrix>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
             nodeIds,
-            features,
+            NodeFeatures.of(features),
             nodeLabelWeightsMap,
             PROJECTED_FEATURE_SIZE,
             labels
@@ -88,6 +89,39 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldMultiplyWeightsWithSinglePrecisionFeatures() {
+        var nodeIds = new long[]{0, 1, 2};
+        var labels = new NodeLabel[nodeIds.length];
+        for (int i = 0; i < nodeIds.length; i++) {
+            labels[i] = graph.nodeLabels(nodeIds[i]).stream().findFirst().orElseThrow();
+        }
+
+        var features = HugeObjectArray.of(
+            new float[]{5.0F, 2.0F},
+            new float[]{3.0F, 5.0F},
+            new float[]{15.0F}
+        );
+
+        var projection = new LabelwiseFeatureProjection(
+            nodeIds,
+            NodeFeatures.ofFloats(features),
+            makeWeights(),
+            PROJECTED_FEATURE_SIZE,
+            labels
+        );
+
+        var actual = projection.apply(new ComputationContext());
+
+        var expected = new Matrix(new double[]{
+            5.0, 2.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 3.0, 5.0, 0.0,
+            0.0, 0.0, 0.0, 0.0, 15.0
+        }, nodeIds.length, PROJECTED_FEATURE_SIZE);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @Test
     void shouldComputeGradient() {
         var nodeIds = new long[]{0, 1, 2};
@@ -104,7 +138,7 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
         Map<NodeLabel, Weights<Matrix>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
             nodeIds,
-            features,
+            NodeFeatures.of(features),
             nodeLabelWeightsMap,
             PROJECTED_FEATURE_SIZE,
             labels
@@ -232,4 +232,28 @@ class SubGraphBuilderTest {
         assertThat(Arrays.stream(subgraph.originalNodeIds()))
             .allMatch(nodeId -> nodeId < filteredGraph.nodeCount());
     }
+
+    @Test
+    void shouldCacheRelationshipWeightsOfSampledNeighbors() {
+        GdlFactory factory = GdlFactory.of("(a), (b), (c), (a)-[{w: 2.0}]->(b), (a)-[{w: 3.0}]->(c), (b)-[{w: 4.0}]->(c)");
+        IdFunction idFunction = factory::nodeId;
+        Graph weightedGraph = factory.build().getUnion();
+
+        long[] batch = {idFunction.of("a"), idFunction.of("b")};
+        var subGraph = SubGraph.buildSubGraph(batch, ALL_NEIGBHORS, weightedGraph, true);
+        var unweightedSubGraph = SubGraph.buildSubGraph(batch, ALL_NEIGBHORS, weightedGraph, false);
+
+        for (int batchId : subGraph.batchIds()) {
+            int[] neighbors = subGraph.neighbors(batchId);
+            double[] weights = subGraph.relationshipWeights(batchId);
+            double[] unweightedWeights = unweightedSubGraph.relationshipWeights(batchId);
+            for (int i = 0; i < neighbors.length; i++) {
+                assertThat(weights[i]).isEqualTo(subGraph.relationshipWeight(batchId, neighbors[i]));
+                assertThat(unweightedWeights[i]).isEqualTo(1.0D);
+            }
+        }
+
+        assertThat(subGraph.relationshipWeights(0)).containsExactly(2.0, 3.0);
+        assertThat(subGraph.relationshipWeights(1)).containsExactly(4.0);
+    }
 }
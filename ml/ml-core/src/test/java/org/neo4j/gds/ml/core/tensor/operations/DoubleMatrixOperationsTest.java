@@ -19,14 +19,20 @@
  */
 package org.neo4j.gds.ml.core.tensor.operations;
 
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.function.IntPredicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DoubleMatrixOperationsTest {
 
@@ -54,4 +60,55 @@ class DoubleMatrixOperationsTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "1, 1, 1, 1",
+        "3, 5, 7, 1",
+        "5, 130, 300, 1",
+        "300, 129, 9, 1",
+        "2, 0, 3, 1",
+        "17, 513, 260, 4",
+        // large enough to be split over several threads
+        "600, 300, 200, 4"
+    })
+    void multiplicationsMatchEjml(int rows, int inner, int cols, int concurrency) {
+        var random = new Random(42);
+
+        var a = randomMatrix(random, rows, inner);
+        var b = randomMatrix(random, inner, cols);
+        var result = new Matrix(rows, cols);
+        DoubleMatrixOperations.multiply(a, b, result, concurrency);
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.mult_reorder(a.toEjml(), b.toEjml(), expected);
+        assertThat(result.data()).containsExactly(expected.getData());
+
+        var bTransposed = randomMatrix(random, cols, inner);
+        result = new Matrix(rows, cols);
+        DoubleMatrixOperations.multTransB(a, bTransposed, result, concurrency);
+        expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransB(a.toEjml(), bTransposed.toEjml(), expected);
+        assertThat(result.data()).containsExactly(expected.getData());
+
+        var aTransposed = randomMatrix(random, inner, rows);
+        result = new Matrix(rows, cols);
+        DoubleMatrixOperations.multTransA(aTransposed, b, result, concurrency);
+        expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransA_reorder(aTransposed.toEjml(), b.toEjml(), expected);
+        assertThat(result.data()).containsExactly(expected.getData());
+    }
+
+    @Test
+    void failOnIncompatibleDimensions() {
+        assertThatThrownBy(() -> DoubleMatrixOperations.multiply(new Matrix(2, 3), new Matrix(2, 3), new Matrix(2, 3)))
+            .isInstanceOf(MatrixDimensionException.class)
+            .hasMessage("The 'a' and 'b' matrices do not have compatible dimensions for A * B. Got inner dimensions 3 and 2.");
+
+        assertThatThrownBy(() -> DoubleMatrixOperations.multTransB(new Matrix(2, 3), new Matrix(4, 3), new Matrix(2, 3)))
+            .isInstanceOf(MatrixDimensionException.class)
+            .hasMessage("The matrix 'c' does not have compatible dimensions for A * B^T. Expected (2, 4), but got (2, 3).");
+    }
+
+    private static Matrix randomMatrix(Random random, int rows, int cols) {
+        return new Matrix(random.doubles((long) rows * cols, -1, 1).toArray(), rows, cols);
+    }
 }
@@ -25,9 +25,12 @@ import org.neo4j.configuration.SettingsDeclaration;
 import org.neo4j.graphdb.config.Setting;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.neo4j.configuration.SettingImpl.newBuilder;
 import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.configuration.SettingValueParsers.STRING;
+import static org.neo4j.configuration.SettingValueParsers.listOf;
 
 @ServiceProvider
 public class GraphStoreExportSettings implements SettingsDeclaration {
@@ -38,4 +41,11 @@ public class GraphStoreExportSettings implements SettingsDeclaration {
         PATH,
         null
     ).build();
+
+    @Description("Sets the hosts that Arrow exports are allowed to send data to. By default, no hosts are allowed.")
+    public static final Setting<List<String>> arrow_export_allowed_hosts_setting = newBuilder(
+        "gds.export.arrow.allowed_hosts",
+        listOf(STRING),
+        List.of()
+    ).build();
 }
@@ -47,10 +47,14 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.alpha.allShortestPaths.stream",
 
+        "gds.alpha.asyncWrite.cancel",
+
         "gds.alpha.collapsePath.mutate",
 
         "gds.alpha.conductance.stream",
 
+        "gds.alpha.graph.export.arrow",
+
         "gds.beta.closeness.mutate",
         "gds.beta.closeness.stats",
         "gds.beta.closeness.stream",
@@ -433,7 +437,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 295;
+        int expectedCount = 297;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
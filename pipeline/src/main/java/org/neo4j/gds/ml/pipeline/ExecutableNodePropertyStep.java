@@ -24,6 +24,8 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.executor.ExecutionContext;
 
 import java.util.Collection;
@@ -44,4 +46,11 @@ public interface ExecutableNodePropertyStep extends ToMapConvertible {
     String procName();
 
     MemoryEstimation estimate(ModelCatalog modelCatalog, List<String> nodeLabels, List<String> relTypes);
+
+    /**
+     * Estimates the node property mutated by this step, which is kept after the execution when caching node property steps.
+     */
+    default MemoryEstimation estimateMutatedProperty(ModelCatalog modelCatalog) {
+        return MemoryEstimations.builder(procName()).perNode("property", HugeDoubleArray::memoryEstimation).build();
+    }
 }
@@ -25,10 +25,13 @@ import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.EmbeddingDimensionConfig;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.executor.AlgoConfigParser;
 import org.neo4j.gds.executor.AlgorithmSpec;
@@ -36,6 +39,7 @@ import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallableFinder;
 import org.neo4j.gds.executor.ProcedureExecutor;
 import org.neo4j.gds.executor.ProcedureExecutorSpec;
+import org.neo4j.gds.model.ModelConfig;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -43,6 +47,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+
 public final class NodePropertyStep implements ExecutableNodePropertyStep {
     private final GdsCallableFinder.GdsCallableDefinition callableDefinition;
     private final Map<String, Object> config;
@@ -68,11 +75,7 @@ public final class NodePropertyStep implements ExecutableNodePropertyStep {
     @Override
     public MemoryEstimation estimate(ModelCatalog modelCatalog, List<String> nodeLabels, List<String> relTypes)  {
         var algoSpec = getAlgorithmSpec(modelCatalog);
-
-        var configCopy = new HashMap<>(config);
-        configCopy.put("relationshipTypes", relTypes);
-        configCopy.put("nodeLabels", nodeLabels);
-        var algoConfig = new AlgoConfigParser<>("", algoSpec.newConfigFunction()).processInput(configCopy);
+        var algoConfig = parseConfig(algoSpec, nodeLabels, relTypes);
 
         try {
             algoSpec.algorithmFactory().memoryEstimation(algoConfig);
@@ -84,6 +87,29 @@ public final class NodePropertyStep implements ExecutableNodePropertyStep {
         return algoSpec.algorithmFactory().memoryEstimation(algoConfig);
     }
 
+    @Override
+    public MemoryEstimation estimateMutatedProperty(ModelCatalog modelCatalog) {
+        var algoConfig = parseConfig(getAlgorithmSpec(modelCatalog), List.of(), List.of());
+        var builder = MemoryEstimations.builder(procName());
+
+        if (algoConfig instanceof EmbeddingDimensionConfig) {
+            // FastRP and Node2Vec mutate float embeddings
+            int embeddingDimension = ((EmbeddingDimensionConfig) algoConfig).embeddingDimension();
+            return builder.add("embeddings", HugeObjectArray.memoryEstimation(sizeOfFloatArray(embeddingDimension))).build();
+        }
+        if (algoConfig instanceof ModelConfig) {
+            // GraphSAGE mutates double embeddings of the dimension it was trained with
+            var modelConfig = (ModelConfig) algoConfig;
+            var model = modelCatalog.getUntyped(modelConfig.username(), modelConfig.modelName());
+            if (model != null && model.trainConfig() instanceof EmbeddingDimensionConfig) {
+                int embeddingDimension = ((EmbeddingDimensionConfig) model.trainConfig()).embeddingDimension();
+                return builder.add("embeddings", HugeObjectArray.memoryEstimation(sizeOfDoubleArray(embeddingDimension))).build();
+            }
+        }
+
+        return builder.perNode("property", HugeDoubleArray::memoryEstimation).build();
+    }
+
     @Override
     public void execute(
         ExecutionContext executionContext,
@@ -106,6 +132,17 @@ public final class NodePropertyStep implements ExecutableNodePropertyStep {
         ).compute(graphName, configCopy, false, false);
     }
 
+    private AlgoBaseConfig parseConfig(
+        AlgorithmSpec<?, ?, AlgoBaseConfig, ?, ?> algoSpec,
+        List<String> nodeLabels,
+        List<String> relTypes
+    ) {
+        var configCopy = new HashMap<>(config);
+        configCopy.put("relationshipTypes", relTypes);
+        configCopy.put("nodeLabels", nodeLabels);
+        return new AlgoConfigParser<>("", algoSpec.newConfigFunction()).processInput(configCopy);
+    }
+
     private AlgorithmSpec<Algorithm<Object>, Object, AlgoBaseConfig, Object, AlgorithmFactory<?, Algorithm<Object>, AlgoBaseConfig>> getAlgorithmSpec(ModelCatalog modelCatalog) {
         return callableDefinition
             .algorithmSpec()
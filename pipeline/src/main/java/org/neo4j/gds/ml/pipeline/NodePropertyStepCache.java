@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.NodeProperties;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the node properties computed by node property steps, such that repeated pipeline executions
+ * on an unchanged graph store can skip these steps.
+ *
+ * An entry is keyed by the steps that ran up to and including the cached one, together with the node labels
+ * and relationship types they ran on. All entries of a graph store are dropped as soon as its modification time
+ * differs from the one observed after the last execution that left the graph store as it found it,
+ * when an execution on the graph store runs without caching, or when the graph store is garbage collected
+ * after it has been dropped from the catalog.
+ */
+final class NodePropertyStepCache {
+
+    private static final Map<GraphStore, NodePropertyStepCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<List<Object>, CachedProperty> properties;
+    private @Nullable ZonedDateTime validAt;
+
+    private NodePropertyStepCache() {
+        this.properties = new HashMap<>();
+    }
+
+    static NodePropertyStepCache of(GraphStore graphStore) {
+        return CACHES.computeIfAbsent(graphStore, ignored -> new NodePropertyStepCache());
+    }
+
+    /**
+     * Releases all cached properties of the given graph store.
+     */
+    static void clear(GraphStore graphStore) {
+        CACHES.remove(graphStore);
+    }
+
+    static boolean isCached(GraphStore graphStore) {
+        return CACHES.containsKey(graphStore);
+    }
+
+    static List<Object> key(
+        List<ExecutableNodePropertyStep> steps,
+        int stepIndex,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        var previousSteps = steps
+            .subList(0, stepIndex + 1)
+            .stream()
+            .map(step -> List.of(step.procName(), step.config()))
+            .collect(Collectors.toList());
+
+        return List.of(previousSteps, new HashSet<>(nodeLabels), new HashSet<>(relationshipTypes));
+    }
+
+    /**
+     * Drops all entries if the graph store was modified since the cache was last validated.
+     */
+    synchronized void invalidateIfModified(GraphStore graphStore) {
+        if (!graphStore.modificationTime().equals(validAt)) {
+            properties.clear();
+            validAt = null;
+        }
+    }
+
+    /**
+     * Adds the cached property for the given key back to the graph store.
+     *
+     * @return whether there was a cached property for the key
+     */
+    synchronized boolean restore(GraphStore graphStore, List<Object> key, String propertyKey) {
+        var cachedProperty = properties.get(key);
+        if (cachedProperty == null) {
+            return false;
+        }
+        graphStore.addNodeProperty(cachedProperty.nodeLabels, propertyKey, cachedProperty.values);
+        return true;
+    }
+
+    synchronized void store(GraphStore graphStore, List<Object> key, String propertyKey) {
+        if (!graphStore.hasNodeProperty(propertyKey)) {
+            return;
+        }
+        var nodeLabels = graphStore
+            .nodeLabels()
+            .stream()
+            .filter(label -> graphStore.hasNodeProperty(label, propertyKey))
+            .collect(Collectors.toSet());
+        properties.put(key, new CachedProperty(nodeLabels, graphStore.nodePropertyValues(propertyKey)));
+    }
+
+    /**
+     * Marks the current entries as valid for the current state of the graph store,
+     * as long as it looks the same as in the given snapshot.
+     * Otherwise, the graph store was modified concurrently and the entries cannot be trusted.
+     */
+    synchronized void validate(GraphStore graphStore, GraphStoreSnapshot snapshot) {
+        if (snapshot.isUnchanged(graphStore)) {
+            validAt = graphStore.modificationTime();
+        } else {
+            properties.clear();
+            validAt = null;
+        }
+    }
+
+    private static final class CachedProperty {
+        private final Set<NodeLabel> nodeLabels;
+        private final NodeProperties values;
+
+        private CachedProperty(Set<NodeLabel> nodeLabels, NodeProperties values) {
+            this.nodeLabels = nodeLabels;
+            this.values = values;
+        }
+    }
+
+    static final class GraphStoreSnapshot {
+        private final Map<String, NodeProperties> nodeProperties;
+        private final Map<RelationshipType, Long> relationshipCounts;
+        private final Set<String> relationshipPropertyKeys;
+
+        private GraphStoreSnapshot(
+            Map<String, NodeProperties> nodeProperties,
+            Map<RelationshipType, Long> relationshipCounts,
+            Set<String> relationshipPropertyKeys
+        ) {
+            this.nodeProperties = nodeProperties;
+            this.relationshipCounts = relationshipCounts;
+            this.relationshipPropertyKeys = relationshipPropertyKeys;
+        }
+
+        static GraphStoreSnapshot of(GraphStore graphStore) {
+            var nodeProperties = new HashMap<String, NodeProperties>();
+            graphStore.nodePropertyKeys().forEach(key -> nodeProperties.put(key, graphStore.nodePropertyValues(key)));
+
+            var relationshipCounts = new HashMap<RelationshipType, Long>();
+            graphStore.relationshipTypes().forEach(type -> relationshipCounts.put(type, graphStore.relationshipCount(type)));
+
+            return new GraphStoreSnapshot(
+                nodeProperties,
+                relationshipCounts,
+                new HashSet<>(graphStore.relationshipPropertyKeys())
+            );
+        }
+
+        boolean isUnchanged(GraphStore graphStore) {
+            var current = of(graphStore);
+
+            if (!nodeProperties.keySet().equals(current.nodeProperties.keySet())) {
+                return false;
+            }
+            // node properties are replaced rather than updated in place, so identity is sufficient
+            var sameNodeProperties = nodeProperties
+                .entrySet()
+                .stream()
+                .allMatch(entry -> current.nodeProperties.get(entry.getKey()) == entry.getValue());
+
+            return sameNodeProperties
+                   && relationshipCounts.equals(current.relationshipCounts)
+                   && relationshipPropertyKeys.equals(current.relationshipPropertyKeys);
+        }
+    }
+}
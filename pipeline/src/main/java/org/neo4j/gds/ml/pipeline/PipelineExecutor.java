@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.config.MutatePropertyConfig.MUTATE_PROPERTY_KEY;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public abstract class PipelineExecutor<
     PIPELINE_CONFIG extends AlgoBaseConfig,
@@ -86,6 +87,27 @@ public abstract class PipelineExecutor<
         return MemoryEstimations.maxEstimation("NodeProperty Steps", nodePropertyStepEstimations);
     }
 
+    public static MemoryEstimation estimateNodePropertySteps(
+        ModelCatalog modelCatalog,
+        List<ExecutableNodePropertyStep> nodePropertySteps,
+        List<String> nodeLabels,
+        List<String> relationshipTypes,
+        NodePropertyStepCacheConfig cacheConfig
+    ) {
+        var stepsEstimation = estimateNodePropertySteps(modelCatalog, nodePropertySteps, nodeLabels, relationshipTypes);
+        if (!cacheConfig.cacheNodePropertySteps()) {
+            return stepsEstimation;
+        }
+
+        // cached properties outlive the execution, so they add up instead of taking part in the max
+        var builder = MemoryEstimations.builder("NodeProperty Steps").add(stepsEstimation);
+        nodePropertySteps.forEach(step -> builder.add(
+            formatWithLocale("cached property of %s", step.procName()),
+            step.estimateMutatedProperty(modelCatalog)
+        ));
+        return builder.build();
+    }
+
     public static void validateTrainingParameterSpace(TrainingPipeline pipeline) {
         if (pipeline.numberOfModelSelectionTrials() == 0) {
             throw new IllegalArgumentException("Need at least one model candidate for training.");
@@ -102,6 +124,13 @@ public abstract class PipelineExecutor<
 
         pipeline.validateBeforeExecution(graphStore, config);
 
+        NodePropertyStepCache.GraphStoreSnapshot snapshotBeforeExecution = null;
+        if (cacheNodePropertySteps()) {
+            snapshotBeforeExecution = NodePropertyStepCache.GraphStoreSnapshot.of(graphStore);
+        } else {
+            // an execution without caching releases the properties cached by earlier executions
+            NodePropertyStepCache.clear(graphStore);
+        }
         var dataSplits = splitDataset();
         try {
             progressTracker.beginSubTask("execute node property steps");
@@ -116,6 +145,9 @@ public abstract class PipelineExecutor<
             return result;
         } finally {
             cleanUpGraphStore(dataSplits);
+            if (snapshotBeforeExecution != null) {
+                NodePropertyStepCache.of(graphStore).validate(graphStore, snapshotBeforeExecution);
+            }
         }
     }
 
@@ -130,6 +162,11 @@ public abstract class PipelineExecutor<
     }
 
     private void executeNodePropertySteps(GraphFilter graphFilter) {
+        if (cacheNodePropertySteps()) {
+            executeCachedNodePropertySteps(graphFilter);
+            return;
+        }
+
         for (ExecutableNodePropertyStep step : pipeline.nodePropertySteps()) {
             progressTracker.beginSubTask();
             step.execute(executionContext, graphName, graphFilter.nodeLabels(), graphFilter.relationshipTypes());
@@ -137,6 +174,37 @@ public abstract class PipelineExecutor<
         }
     }
 
+    private void executeCachedNodePropertySteps(GraphFilter graphFilter) {
+        var cache = NodePropertyStepCache.of(graphStore);
+        cache.invalidateIfModified(graphStore);
+
+        var steps = pipeline.nodePropertySteps();
+        for (int i = 0; i < steps.size(); i++) {
+            var step = steps.get(i);
+            var key = NodePropertyStepCache.key(steps, i, graphFilter.nodeLabels(), graphFilter.relationshipTypes());
+            var mutateProperty = step.config().get(MUTATE_PROPERTY_KEY);
+
+            progressTracker.beginSubTask();
+            if (mutateProperty instanceof String) {
+                var propertyKey = (String) mutateProperty;
+                if (cache.restore(graphStore, key, propertyKey)) {
+                    progressTracker.logMessage(formatWithLocale("Reusing cached node property `%s`", propertyKey));
+                } else {
+                    step.execute(executionContext, graphName, graphFilter.nodeLabels(), graphFilter.relationshipTypes());
+                    cache.store(graphStore, key, propertyKey);
+                }
+            } else {
+                step.execute(executionContext, graphName, graphFilter.nodeLabels(), graphFilter.relationshipTypes());
+            }
+            progressTracker.endSubTask();
+        }
+    }
+
+    private boolean cacheNodePropertySteps() {
+        return config instanceof NodePropertyStepCacheConfig
+               && ((NodePropertyStepCacheConfig) config).cacheNodePropertySteps();
+    }
+
     protected void cleanUpGraphStore(Map<DatasetSplits, GraphFilter> datasets) {
         removeNodeProperties(graphStore, config.nodeLabelIdentifiers(graphStore));
     }
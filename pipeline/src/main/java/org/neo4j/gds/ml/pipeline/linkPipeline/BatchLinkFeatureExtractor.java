@@ -21,16 +21,16 @@ package org.neo4j.gds.ml.pipeline.linkPipeline;
 
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.ml.models.DenseFeatures;
 
 class BatchLinkFeatureExtractor implements Runnable {
     final LinkFeatureExtractor extractor;
     final DegreePartition partition;
     final long relationshipOffset;
     final Graph graph;
-    final HugeObjectArray<double[]> linkFeatures;
+    final DenseFeatures linkFeatures;
     final ProgressTracker progressTracker;
 
     BatchLinkFeatureExtractor(
@@ -38,7 +38,7 @@ class BatchLinkFeatureExtractor implements Runnable {
         DegreePartition partition,
         Graph graph,
         long relationshipOffset,
-        HugeObjectArray<double[]> linkFeatures,
+        DenseFeatures linkFeatures,
         ProgressTracker progressTracker
     ) {
         this.extractor = extractor;
@@ -52,11 +52,13 @@ class BatchLinkFeatureExtractor implements Runnable {
     @Override
     public void run() {
         var currentRelationshipOffset = new MutableLong(relationshipOffset);
+        var featureDimension = extractor.featureDimension();
+        var features = new double[featureDimension];
 
         partition.consume(nodeId -> {
             graph.forEachRelationship(nodeId, ((sourceNodeId, targetNodeId) -> {
-                var features = extractor.extractFeatures(sourceNodeId, targetNodeId);
-                linkFeatures.set(currentRelationshipOffset.getAndIncrement(), features);
+                extractor.extractFeatures(sourceNodeId, targetNodeId, features, 0);
+                linkFeatures.setRow(currentRelationshipOffset.getAndIncrement(), features, 0, featureDimension);
                 return true;
             }));
         });
@@ -31,4 +31,13 @@ public interface LinkFeatureAppender {
      * @param offset the start offset in each double[] where the features should be added
      */
     void appendFeatures(long source, long target, double[] linkFeatures, int offset);
+
+    /**
+     * Adds lower and upper bounds of the features of all links from {@code source}.
+     *
+     * @return false if the features cannot be bounded
+     */
+    default boolean appendFeatureBounds(long source, double[] lowerBounds, double[] upperBounds, int offset) {
+        return false;
+    }
 }
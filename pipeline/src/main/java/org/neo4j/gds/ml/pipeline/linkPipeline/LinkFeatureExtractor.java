@@ -22,15 +22,15 @@ package org.neo4j.gds.ml.pipeline.linkPipeline;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.gradientdescent.GradientDescentConfig;
+import org.neo4j.gds.ml.models.DenseFeatures;
 import org.neo4j.gds.ml.models.Features;
-import org.neo4j.gds.ml.models.FeaturesFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -75,10 +75,7 @@ public final class LinkFeatureExtractor {
     ) {
         var extractor = of(graph, linkFeatureSteps);
 
-        var linkFeatures = HugeObjectArray.newArray(
-            double[].class,
-            graph.relationshipCount()
-        );
+        var linkFeatures = DenseFeatures.create(graph.relationshipCount(), extractor.featureDimension());
 
         var partitions = PartitionUtils.degreePartition(
             graph,
@@ -103,18 +100,44 @@ public final class LinkFeatureExtractor {
 
         ParallelUtil.runWithConcurrency(concurrency, linkFeatureWriters, Pools.DEFAULT);
 
-        return FeaturesFactory.wrap(linkFeatures);
+        return linkFeatures;
     }
 
     public double[] extractFeatures(long source, long target) {
         var featuresForLink = new double[featureDimension];
-        int featureOffset = 0;
+        extractFeatures(source, target, featuresForLink, 0);
+        return featuresForLink;
+    }
+
+    /**
+     * Writes the features of the link into {@code features}, starting at {@code offset}.
+     * This allows to fill a reusable row-major feature matrix without allocating per link.
+     */
+    public void extractFeatures(long source, long target, double[] features, int offset) {
+        // some appenders accumulate into their slots, so a reused buffer needs to be cleared first
+        Arrays.fill(features, offset, offset + featureDimension, 0D);
+        int featureOffset = offset;
         for (int i = 0; i < linkFeatureAppenders.size(); i++) {
             var featureProducer = linkFeatureAppenders.get(i);
-            featureProducer.appendFeatures(source, target, featuresForLink, featureOffset);
+            featureProducer.appendFeatures(source, target, features, featureOffset);
             featureOffset += featureDimensions.get(i);
         }
-        return featuresForLink;
+    }
+
+    /**
+     * Writes lower and upper bounds of the features of all links from {@code source}.
+     *
+     * @return false if any of the features cannot be bounded
+     */
+    public boolean extractFeatureBounds(long source, double[] lowerBounds, double[] upperBounds) {
+        int featureOffset = 0;
+        for (int i = 0; i < linkFeatureAppenders.size(); i++) {
+            if (!linkFeatureAppenders.get(i).appendFeatureBounds(source, lowerBounds, upperBounds, featureOffset)) {
+                return false;
+            }
+            featureOffset += featureDimensions.get(i);
+        }
+        return true;
     }
 
     public int featureDimension() {
@@ -43,53 +43,63 @@ public class CosineFeatureStep implements LinkFeatureStep {
     @Override
     public LinkFeatureAppender linkFeatureAppender(Graph graph) {
         var nodeProperties = this.nodeProperties.stream().map(graph::nodeProperties).collect(Collectors.toList());
-        return (source, target, linkFeatures, offset) -> {
-            var sourceSquareNorm = 0.0;
-            var targetSquareNorm = 0.0;
+        return new LinkFeatureAppender() {
+            @Override
+            public void appendFeatures(long source, long target, double[] linkFeatures, int offset) {
+                var sourceSquareNorm = 0.0;
+                var targetSquareNorm = 0.0;
 
-            for (NodeProperties props : nodeProperties) {
-                var propertyType = props.valueType();
-                switch (propertyType) {
-                    case DOUBLE_ARRAY:
-                    case FLOAT_ARRAY: {
-                        var sourceArrayPropValues = props.doubleArrayValue(source);
-                        var targetArrayPropValues = props.doubleArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[offset] += sourceArrayPropValues[i] * targetArrayPropValues[i];
-                            sourceSquareNorm += sourceArrayPropValues[i] * sourceArrayPropValues[i];
-                            targetSquareNorm += targetArrayPropValues[i] * targetArrayPropValues[i];
+                for (NodeProperties props : nodeProperties) {
+                    var propertyType = props.valueType();
+                    switch (propertyType) {
+                        case DOUBLE_ARRAY:
+                        case FLOAT_ARRAY: {
+                            var sourceArrayPropValues = props.doubleArrayValue(source);
+                            var targetArrayPropValues = props.doubleArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[offset] += sourceArrayPropValues[i] * targetArrayPropValues[i];
+                                sourceSquareNorm += sourceArrayPropValues[i] * sourceArrayPropValues[i];
+                                targetSquareNorm += targetArrayPropValues[i] * targetArrayPropValues[i];
+                            }
+                            break;
                         }
-                        break;
-                    }
-                    case LONG_ARRAY: {
-                        var sourceArrayPropValues = props.longArrayValue(source);
-                        var targetArrayPropValues = props.longArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[offset] += sourceArrayPropValues[i] * targetArrayPropValues[i];
-                            sourceSquareNorm += sourceArrayPropValues[i] * sourceArrayPropValues[i];
-                            targetSquareNorm += targetArrayPropValues[i] * targetArrayPropValues[i];
+                        case LONG_ARRAY: {
+                            var sourceArrayPropValues = props.longArrayValue(source);
+                            var targetArrayPropValues = props.longArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[offset] += sourceArrayPropValues[i] * targetArrayPropValues[i];
+                                sourceSquareNorm += sourceArrayPropValues[i] * sourceArrayPropValues[i];
+                                targetSquareNorm += targetArrayPropValues[i] * targetArrayPropValues[i];
+                            }
+                            break;
                         }
-                        break;
-                    }
-                    case LONG:
-                    case DOUBLE: {
-                        linkFeatures[offset] += props.doubleValue(source) * props.doubleValue(target);
-                        sourceSquareNorm += props.doubleValue(source) * props.doubleValue(source);
-                        targetSquareNorm += props.doubleValue(target) * props.doubleValue(target);
-                        break;
+                        case LONG:
+                        case DOUBLE: {
+                            linkFeatures[offset] += props.doubleValue(source) * props.doubleValue(target);
+                            sourceSquareNorm += props.doubleValue(source) * props.doubleValue(source);
+                            targetSquareNorm += props.doubleValue(target) * props.doubleValue(target);
+                            break;
+                        }
+                        case UNKNOWN:
+                            throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
                     }
-                    case UNKNOWN:
-                        throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
+                }
+                double l2Norm = Math.sqrt(sourceSquareNorm * targetSquareNorm);
+
+                if (Double.isNaN(l2Norm)) {
+                    FeatureStepUtil.throwNanError("cosine", graph, CosineFeatureStep.this.nodeProperties, source, target);
+                } else if (l2Norm != 0.0) {
+                    linkFeatures[offset] /= l2Norm;
                 }
             }
-            double l2Norm = Math.sqrt(sourceSquareNorm * targetSquareNorm);
 
-            if (Double.isNaN(l2Norm)) {
-                FeatureStepUtil.throwNanError("cosine", graph, this.nodeProperties, source, target);
-            } else if (l2Norm != 0.0) {
-                linkFeatures[offset] /= l2Norm;
+            @Override
+            public boolean appendFeatureBounds(long source, double[] lowerBounds, double[] upperBounds, int offset) {
+                lowerBounds[offset] = -1;
+                upperBounds[offset] = 1;
+                return true;
             }
         };
     }
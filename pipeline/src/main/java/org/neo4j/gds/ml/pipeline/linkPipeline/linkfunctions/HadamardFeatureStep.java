@@ -44,46 +44,62 @@ public class HadamardFeatureStep implements LinkFeatureStep {
     @Override
     public LinkFeatureAppender linkFeatureAppender(Graph graph) {
         var properties = nodeProperties.stream().map(graph::nodeProperties).collect(Collectors.toList());
-        return (source, target, linkFeatures, startOffset) -> {
-            var localOffset = startOffset;
-            for (NodeProperties props : properties) {
-                var propertyType = props.valueType();
-                switch (propertyType) {
-                    case DOUBLE_ARRAY:
-                    case FLOAT_ARRAY: {
-                        var sourceArrayPropValues = props.doubleArrayValue(source);
-                        var targetArrayPropValues = props.doubleArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[localOffset++] = sourceArrayPropValues[i] * targetArrayPropValues[i];
+        var propertyRanges = new PropertyRanges(properties, graph.nodeCount(), featureDimension(graph));
+        return new LinkFeatureAppender() {
+            @Override
+            public void appendFeatures(long source, long target, double[] linkFeatures, int startOffset) {
+                var localOffset = startOffset;
+                for (NodeProperties props : properties) {
+                    var propertyType = props.valueType();
+                    switch (propertyType) {
+                        case DOUBLE_ARRAY:
+                        case FLOAT_ARRAY: {
+                            var sourceArrayPropValues = props.doubleArrayValue(source);
+                            var targetArrayPropValues = props.doubleArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[localOffset++] = sourceArrayPropValues[i] * targetArrayPropValues[i];
+                            }
+                            break;
                         }
-                        break;
-                    }
-                    case LONG_ARRAY: {
-                        var sourceArrayPropValues = props.longArrayValue(source);
-                        var targetArrayPropValues = props.longArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[localOffset++] = sourceArrayPropValues[i] * targetArrayPropValues[i];
+                        case LONG_ARRAY: {
+                            var sourceArrayPropValues = props.longArrayValue(source);
+                            var targetArrayPropValues = props.longArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[localOffset++] = sourceArrayPropValues[i] * targetArrayPropValues[i];
+                            }
+                            break;
                         }
-                        break;
+                        case LONG:
+                        case DOUBLE:
+                            linkFeatures[localOffset++] = props.doubleValue(source) * props.doubleValue(target);
+                            break;
+                        case UNKNOWN:
+                            throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
                     }
-                    case LONG:
-                    case DOUBLE:
-                        linkFeatures[localOffset++] = props.doubleValue(source) * props.doubleValue(target);
-                        break;
-                    case UNKNOWN:
-                        throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
                 }
+
+                FeatureStepUtil.validateComputedFeatures(linkFeatures, startOffset, localOffset, () -> throwNanError(
+                    "hadamard",
+                    graph,
+                    HadamardFeatureStep.this.nodeProperties,
+                    source,
+                    target
+                ));
             }
 
-            FeatureStepUtil.validateComputedFeatures(linkFeatures, startOffset, localOffset, () -> throwNanError(
-                "hadamard",
-                graph,
-                this.nodeProperties,
-                source,
-                target
-            ));
+            @Override
+            public boolean appendFeatureBounds(long source, double[] lowerBounds, double[] upperBounds, int offset) {
+                var sourceValues = propertyRanges.values(source);
+                for (int i = 0; i < sourceValues.length; i++) {
+                    var atMin = sourceValues[i] * propertyRanges.min(i);
+                    var atMax = sourceValues[i] * propertyRanges.max(i);
+                    lowerBounds[offset + i] = Math.min(atMin, atMax);
+                    upperBounds[offset + i] = Math.max(atMin, atMax);
+                }
+                return true;
+            }
         };
     }
 
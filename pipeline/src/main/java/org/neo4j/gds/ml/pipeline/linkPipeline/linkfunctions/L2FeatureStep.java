@@ -44,47 +44,64 @@ public class L2FeatureStep implements LinkFeatureStep {
     @Override
     public LinkFeatureAppender linkFeatureAppender(Graph graph) {
         var properties = nodeProperties.stream().map(graph::nodeProperties).collect(Collectors.toList());
-        return (source, target, linkFeatures, startOffset) -> {
-            var offset = startOffset;
+        var propertyRanges = new PropertyRanges(properties, graph.nodeCount(), featureDimension(graph));
+        return new LinkFeatureAppender() {
+            @Override
+            public void appendFeatures(long source, long target, double[] linkFeatures, int startOffset) {
+                var offset = startOffset;
 
-            for (NodeProperties props : properties) {
-                var propertyType = props.valueType();
-                switch (propertyType) {
-                    case DOUBLE_ARRAY:
-                    case FLOAT_ARRAY: {
-                        var sourceArrayPropValues = props.doubleArrayValue(source);
-                        var targetArrayPropValues = props.doubleArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[offset++] = Math.pow(sourceArrayPropValues[i] - targetArrayPropValues[i], 2);
+                for (NodeProperties props : properties) {
+                    var propertyType = props.valueType();
+                    switch (propertyType) {
+                        case DOUBLE_ARRAY:
+                        case FLOAT_ARRAY: {
+                            var sourceArrayPropValues = props.doubleArrayValue(source);
+                            var targetArrayPropValues = props.doubleArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[offset++] = Math.pow(sourceArrayPropValues[i] - targetArrayPropValues[i], 2);
+                            }
+                            break;
                         }
-                        break;
-                    }
-                    case LONG_ARRAY: {
-                        var sourceArrayPropValues = props.longArrayValue(source);
-                        var targetArrayPropValues = props.longArrayValue(target);
-                        assert sourceArrayPropValues.length == targetArrayPropValues.length;
-                        for (int i = 0; i < sourceArrayPropValues.length; i++) {
-                            linkFeatures[offset++] = Math.pow(sourceArrayPropValues[i] - targetArrayPropValues[i], 2);
+                        case LONG_ARRAY: {
+                            var sourceArrayPropValues = props.longArrayValue(source);
+                            var targetArrayPropValues = props.longArrayValue(target);
+                            assert sourceArrayPropValues.length == targetArrayPropValues.length;
+                            for (int i = 0; i < sourceArrayPropValues.length; i++) {
+                                linkFeatures[offset++] = Math.pow(sourceArrayPropValues[i] - targetArrayPropValues[i], 2);
+                            }
+                            break;
                         }
-                        break;
+                        case LONG:
+                        case DOUBLE:
+                            linkFeatures[offset++] = Math.pow(props.doubleValue(source) - props.doubleValue(target), 2);
+                            break;
+                        case UNKNOWN:
+                            throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
                     }
-                    case LONG:
-                    case DOUBLE:
-                        linkFeatures[offset++] = Math.pow(props.doubleValue(source) - props.doubleValue(target), 2);
-                        break;
-                    case UNKNOWN:
-                        throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
                 }
+
+                FeatureStepUtil.validateComputedFeatures(linkFeatures, startOffset, offset, () -> throwNanError(
+                    "L2",
+                    graph,
+                    L2FeatureStep.this.nodeProperties,
+                    source,
+                    target
+                ));
             }
 
-            FeatureStepUtil.validateComputedFeatures(linkFeatures, startOffset, offset, () -> throwNanError(
-                "L2",
-                graph,
-                this.nodeProperties,
-                source,
-                target
-            ));
+            @Override
+            public boolean appendFeatureBounds(long source, double[] lowerBounds, double[] upperBounds, int offset) {
+                var sourceValues = propertyRanges.values(source);
+                for (int i = 0; i < sourceValues.length; i++) {
+                    // the ranges contain the source values, so the distance is at least zero
+                    var toMin = sourceValues[i] - propertyRanges.min(i);
+                    var toMax = propertyRanges.max(i) - sourceValues[i];
+                    lowerBounds[offset + i] = 0;
+                    upperBounds[offset + i] = Math.pow(Math.max(toMin, toMax), 2);
+                }
+                return true;
+            }
         };
     }
 
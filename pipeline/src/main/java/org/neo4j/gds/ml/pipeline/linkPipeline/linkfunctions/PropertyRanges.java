@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline.linkfunctions;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.NodeProperties;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The smallest and largest value of every dimension of a list of node properties,
+ * in the order in which the feature steps append them.
+ * The ranges are computed with a single pass over all nodes on first access.
+ */
+final class PropertyRanges {
+
+    private final List<NodeProperties> properties;
+    private final long nodeCount;
+    private final int dimension;
+
+    private volatile double @Nullable [] min;
+    private volatile double @Nullable [] max;
+
+    PropertyRanges(List<NodeProperties> properties, long nodeCount, int dimension) {
+        this.properties = properties;
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+    }
+
+    double min(int dimension) {
+        computeRanges();
+        return min[dimension];
+    }
+
+    double max(int dimension) {
+        computeRanges();
+        return max[dimension];
+    }
+
+    /**
+     * The property values of the node, flattened into a single array.
+     */
+    double[] values(long nodeId) {
+        var values = new double[dimension];
+        int offset = 0;
+        for (NodeProperties props : properties) {
+            var propertyType = props.valueType();
+            switch (propertyType) {
+                case DOUBLE_ARRAY:
+                case FLOAT_ARRAY: {
+                    for (double value : props.doubleArrayValue(nodeId)) {
+                        values[offset++] = value;
+                    }
+                    break;
+                }
+                case LONG_ARRAY: {
+                    for (long value : props.longArrayValue(nodeId)) {
+                        values[offset++] = value;
+                    }
+                    break;
+                }
+                case LONG:
+                case DOUBLE:
+                    values[offset++] = props.doubleValue(nodeId);
+                    break;
+                case UNKNOWN:
+                    throw new IllegalStateException(formatWithLocale("Unknown ValueType %s", propertyType));
+            }
+        }
+        return values;
+    }
+
+    private void computeRanges() {
+        if (max != null) {
+            return;
+        }
+        synchronized (this) {
+            if (max != null) {
+                return;
+            }
+            var mins = new double[dimension];
+            var maxs = new double[dimension];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                var values = values(nodeId);
+                for (int i = 0; i < dimension; i++) {
+                    mins[i] = Math.min(mins[i], values[i]);
+                    maxs[i] = Math.max(maxs[i], values[i]);
+                }
+            }
+            this.min = mins;
+            this.max = maxs;
+        }
+    }
+}
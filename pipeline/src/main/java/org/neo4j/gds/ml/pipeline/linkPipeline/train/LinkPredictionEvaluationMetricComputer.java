@@ -45,6 +45,7 @@ public final class LinkPredictionEvaluationMetricComputer {
         Classifier classifier,
         BatchQueue evaluationQueue,
         LinkPredictionTrainConfig trainConfig,
+        int concurrency,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -55,7 +56,7 @@ public final class LinkPredictionEvaluationMetricComputer {
         var features = inputData.features();
 
         int positiveClassId = classifier.classIdMap().toMapped((long) EdgeSplitter.POSITIVE);
-        evaluationQueue.parallelConsume(trainConfig.concurrency(), thread -> (batch) -> {
+        evaluationQueue.parallelConsume(concurrency, thread -> (batch) -> {
                 var probabilityMatrix = classifier.predictProbabilities(batch, features);
                 var offset = 0;
                 for (Long relationshipIdx : batch.nodeIds()) {
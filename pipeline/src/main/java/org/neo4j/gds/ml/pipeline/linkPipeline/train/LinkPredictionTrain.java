@@ -46,6 +46,7 @@ import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.models.Trainer;
 import org.neo4j.gds.ml.models.TrainerConfig;
 import org.neo4j.gds.ml.models.TrainerFactory;
+import org.neo4j.gds.ml.models.automl.CrossValidationScheduler;
 import org.neo4j.gds.ml.models.automl.RandomSearch;
 import org.neo4j.gds.ml.models.automl.TunableTrainerConfig;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkPredictionModelInfo;
@@ -168,13 +169,24 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         ReadOnlyHugeLongArray trainSet,
         TrainerConfig trainerConfig,
         ProgressTracker customProgressTracker
+    ) {
+        return trainModel(featureAndLabels, trainSet, trainerConfig, config.concurrency(), customProgressTracker);
+    }
+
+    @NotNull
+    private Classifier trainModel(
+        FeaturesAndLabels featureAndLabels,
+        ReadOnlyHugeLongArray trainSet,
+        TrainerConfig trainerConfig,
+        int concurrency,
+        ProgressTracker customProgressTracker
     ) {
         return TrainerFactory.create(
             trainerConfig,
             classIdMap,
             terminationFlag,
             customProgressTracker,
-            config.concurrency(),
+            concurrency,
             config.randomSeed(),
             true
         ).train(featureAndLabels.features(), featureAndLabels.labels(), trainSet);
@@ -197,6 +209,17 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
             config.randomSeed()
         );
 
+        if (config.parallelModelSelection() || config.successiveHalving()) {
+            var bestConfig = evaluateCandidatesScheduled(
+                hyperParameterOptimizer,
+                trainData,
+                validationSplits,
+                trainStats,
+                validationStats
+            );
+            return ModelSelectResult.of(bestConfig, trainStats, validationStats);
+        }
+
         while (hyperParameterOptimizer.hasNext()) {
             var modelParams = hyperParameterOptimizer.next();
             var trainStatsBuilder = new LinkModelStatsBuilder(modelParams, pipeline.splitConfig().validationFolds());
@@ -252,6 +275,85 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         return ModelSelectResult.of(bestConfig, trainStats, validationStats);
     }
 
+    private TrainerConfig evaluateCandidatesScheduled(
+        RandomSearch hyperParameterOptimizer,
+        FeaturesAndLabels trainData,
+        List<TrainingExamplesSplit> validationSplits,
+        Map<LinkMetric, List<ModelStats>> trainStats,
+        Map<LinkMetric, List<ModelStats>> validationStats
+    ) {
+        var candidates = new ArrayList<TrainerConfig>();
+        hyperParameterOptimizer.forEachRemaining(candidates::add);
+
+        var mainMetric = config.metrics().get(0);
+        var scheduler = new CrossValidationScheduler<FoldMetrics>(
+            candidates,
+            validationSplits.size(),
+            (modelParams, fold, concurrency, foldProgressTracker) -> {
+                var relSplit = validationSplits.get(fold);
+                var trainSet = ReadOnlyHugeLongArray.of(relSplit.trainSet());
+                // the below calls intentionally suppress progress logging of individual models
+                var classifier = trainModel(trainData, trainSet, modelParams, concurrency, ProgressTracker.NULL_TRACKER);
+                return new FoldMetrics(
+                    computeTrainMetric(trainData, classifier, trainSet, concurrency, ProgressTracker.NULL_TRACKER),
+                    computeTrainMetric(
+                        trainData,
+                        classifier,
+                        ReadOnlyHugeLongArray.of(relSplit.testSet()),
+                        concurrency,
+                        ProgressTracker.NULL_TRACKER
+                    )
+                );
+            },
+            foldMetrics -> foldMetrics.validation.get(mainMetric),
+            config.parallelModelSelection(),
+            config.successiveHalving(),
+            config.concurrency(),
+            // progress is logged per candidate below
+            ProgressTracker.NULL_TRACKER,
+            terminationFlag
+        );
+
+        TrainerConfig bestConfig = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (var candidateResult : scheduler.run()) {
+            var modelParams = candidateResult.candidate();
+            var foldResults = candidateResult.foldResults();
+            var trainStatsBuilder = new LinkModelStatsBuilder(modelParams, foldResults.size());
+            var validationStatsBuilder = new LinkModelStatsBuilder(modelParams, foldResults.size());
+            for (FoldMetrics foldResult : foldResults) {
+                foldResult.train.forEach(trainStatsBuilder::update);
+                foldResult.validation.forEach(validationStatsBuilder::update);
+            }
+
+            config.metrics().forEach(metric -> {
+                validationStats.get(metric).add(validationStatsBuilder.modelStats(metric));
+                trainStats.get(metric).add(trainStatsBuilder.modelStats(metric));
+            });
+
+            // candidates dropped by successive halving have not been validated on all folds
+            var score = validationStatsBuilder.modelStats(mainMetric).avg();
+            if (foldResults.size() == validationSplits.size() && (bestConfig == null || score > bestScore)) {
+                bestConfig = modelParams;
+                bestScore = score;
+            }
+
+            progressTracker.logProgress();
+        }
+
+        return bestConfig;
+    }
+
+    private static final class FoldMetrics {
+        private final Map<LinkMetric, Double> train;
+        private final Map<LinkMetric, Double> validation;
+
+        private FoldMetrics(Map<LinkMetric, Double> train, Map<LinkMetric, Double> validation) {
+            this.train = train;
+            this.validation = validation;
+        }
+    }
+
     private Map<LinkMetric, Double> computeTestMetric(Classifier classifier) {
         progressTracker.beginSubTask("extract test features");
         var testData = extractFeaturesAndLabels(
@@ -268,6 +370,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
             classifier,
             new BatchQueue(testData.size()),
             config,
+            config.concurrency(),
             progressTracker,
             terminationFlag
         );
@@ -352,12 +455,23 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
         Classifier classifier,
         ReadOnlyHugeLongArray evaluationSet,
         ProgressTracker progressTracker
+    ) {
+        return computeTrainMetric(trainData, classifier, evaluationSet, config.concurrency(), progressTracker);
+    }
+
+    private Map<LinkMetric, Double> computeTrainMetric(
+        FeaturesAndLabels trainData,
+        Classifier classifier,
+        ReadOnlyHugeLongArray evaluationSet,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         return computeMetric(
             trainData,
             classifier,
             new HugeBatchQueue(evaluationSet),
             config,
+            concurrency,
             progressTracker,
             terminationFlag
         );
@@ -418,7 +532,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
                     "Test"
                 )
             ))
-            .add(estimateTrainingAndEvaluation(pipeline, fudgedLinkFeatureDim, numberOfMetrics))
+            .add(estimateTrainingAndEvaluation(pipeline, trainConfig, fudgedLinkFeatureDim, numberOfMetrics))
             // we do not consider the training of the best model on the outer train set as the memory estimation is at most the maximum of the model training during the model selection
             // this assumes the training is independent of the relationship set size
             .add("Outer train stats map", StatsMap.memoryEstimation(numberOfMetrics, 1, 1))
@@ -429,6 +543,7 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
 
     private static MemoryEstimation estimateTrainingAndEvaluation(
         LinkPredictionTrainingPipeline pipeline,
+        LinkPredictionTrainConfig trainConfig,
         MemoryRange linkFeatureDimension,
         int numberOfMetrics
     ) {
@@ -459,7 +574,10 @@ public class LinkPredictionTrain extends Algorithm<LinkPredictionTrainResult> {
                     dim -> dim.relationshipCounts().get(RelationshipType.of(splitConfig.trainRelationshipType()))
                 )
             )
-            .add(maxEstimationOverModelCandidates)
+            .add(CrossValidationScheduler.memoryEstimation(
+                maxEstimationOverModelCandidates,
+                trainConfig.parallelModelSelection()
+            ))
             .add(
                 "Inner train stats map",
                 StatsMap.memoryEstimation(numberOfMetrics, pipeline.numberOfModelSelectionTrials(), 1)
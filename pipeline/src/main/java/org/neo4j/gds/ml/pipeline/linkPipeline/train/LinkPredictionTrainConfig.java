@@ -25,13 +25,15 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.ml.metrics.LinkMetric;
+import org.neo4j.gds.ml.pipeline.ModelSelectionConfig;
+import org.neo4j.gds.ml.pipeline.NodePropertyStepCacheConfig;
 import org.neo4j.gds.model.ModelConfig;
 
 import java.util.List;
 
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LinkPredictionTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig {
+public interface LinkPredictionTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig, ModelSelectionConfig, NodePropertyStepCacheConfig {
 
     String graphName();
 
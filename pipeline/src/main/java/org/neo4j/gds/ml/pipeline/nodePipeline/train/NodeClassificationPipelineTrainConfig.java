@@ -27,6 +27,8 @@ import org.neo4j.gds.config.TargetNodePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.ml.metrics.Metric;
 import org.neo4j.gds.ml.metrics.MetricSpecification;
+import org.neo4j.gds.ml.pipeline.ModelSelectionConfig;
+import org.neo4j.gds.ml.pipeline.NodePropertyStepCacheConfig;
 import org.neo4j.gds.model.ModelConfig;
 
 import java.util.Collection;
@@ -36,7 +38,7 @@ import java.util.stream.Collectors;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface NodeClassificationPipelineTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig, TargetNodePropertyConfig {
+public interface NodeClassificationPipelineTrainConfig extends AlgoBaseConfig, ModelConfig, RandomSeedConfig, TargetNodePropertyConfig, ModelSelectionConfig, NodePropertyStepCacheConfig {
 
     long serialVersionUID = 0x42L;
 
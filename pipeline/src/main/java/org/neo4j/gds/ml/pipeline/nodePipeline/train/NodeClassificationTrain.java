@@ -27,7 +27,6 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -42,12 +41,14 @@ import org.neo4j.gds.ml.metrics.ModelStatsBuilder;
 import org.neo4j.gds.ml.metrics.StatsMap;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.models.ClassifierFactory;
+import org.neo4j.gds.ml.models.DenseFeatures;
 import org.neo4j.gds.ml.models.Features;
 import org.neo4j.gds.ml.models.FeaturesFactory;
 import org.neo4j.gds.ml.models.Trainer;
 import org.neo4j.gds.ml.models.TrainerConfig;
 import org.neo4j.gds.ml.models.TrainerFactory;
 import org.neo4j.gds.ml.models.TrainingMethod;
+import org.neo4j.gds.ml.models.automl.CrossValidationScheduler;
 import org.neo4j.gds.ml.models.automl.RandomSearch;
 import org.neo4j.gds.ml.models.automl.TunableTrainerConfig;
 import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionTrainConfig;
@@ -61,6 +62,7 @@ import org.neo4j.gds.ml.splitting.TrainingExamplesSplit;
 import org.neo4j.gds.ml.util.ShuffleUtil;
 import org.openjdk.jol.util.Multiset;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -81,6 +83,7 @@ public final class NodeClassificationTrain {
     private final NodeClassificationTrainingPipeline pipeline;
     private final Features features;
     private final HugeLongArray targets;
+    private final Multiset<Long> classCounts;
     private final LocalIdMap classIdMap;
     private final HugeLongArray nodeIds;
     private final List<Metric> metrics;
@@ -99,12 +102,15 @@ public final class NodeClassificationTrain {
         NodeClassificationSplitConfig splitConfig = pipeline.splitConfig();
         var testFraction = splitConfig.testFraction();
 
-        var modelSelection = modelTrainAndEvaluateMemoryUsage(
-            pipeline,
-            fudgedClassCount,
-            fudgedFeatureCount,
-            splitConfig::foldTrainSetSize,
-            splitConfig::foldTestSetSize
+        var modelSelection = CrossValidationScheduler.memoryEstimation(
+            modelTrainAndEvaluateMemoryUsage(
+                pipeline,
+                fudgedClassCount,
+                fudgedFeatureCount,
+                splitConfig::foldTrainSetSize,
+                splitConfig::foldTestSetSize
+            ),
+            config.parallelModelSelection()
         );
         var bestModelEvaluation = delegateEstimation(
             modelTrainAndEvaluateMemoryUsage(
@@ -144,8 +150,8 @@ public final class NodeClassificationTrain {
         if (!pipeline.trainingParameterSpace().get(TrainingMethod.RandomForest).isEmpty()) {
             // Having a random forest model candidate forces using eager feature extraction.
             builder.perGraphDimension("cached feature vectors", (dim, threads) -> MemoryRange.of(
-                HugeObjectArray.memoryEstimation(dim.nodeCount(), sizeOfDoubleArray(10)),
-                HugeObjectArray.memoryEstimation(dim.nodeCount(), sizeOfDoubleArray(fudgedFeatureCount))
+                DenseFeatures.memoryEstimation(dim.nodeCount(), 10),
+                DenseFeatures.memoryEstimation(dim.nodeCount(), fudgedFeatureCount)
             ));
         }
 
@@ -157,10 +163,21 @@ public final class NodeClassificationTrain {
     }
 
     public static Task progressTask(int validationFolds, int numberOfModelSelectionTrials) {
-        return Tasks.task(
-            taskName(),
-            Tasks.leaf("ShuffleAndSplit"),
-            Tasks.iterativeFixed(
+        return progressTask(validationFolds, numberOfModelSelectionTrials, false);
+    }
+
+    /**
+     * @param scheduledModelSelection whether the model selection uses parallel training or successive halving,
+     *     in which case it logs one unit of progress per evaluated candidate and fold on a single leaf task.
+     */
+    public static Task progressTask(
+        int validationFolds,
+        int numberOfModelSelectionTrials,
+        boolean scheduledModelSelection
+    ) {
+        var selectBestModel = scheduledModelSelection
+            ? Tasks.leaf("SelectBestModel", (long) validationFolds * numberOfModelSelectionTrials)
+            : Tasks.iterativeFixed(
                 "SelectBestModel",
                 () -> List.of(Tasks.iterativeFixed("Model Candidate", () -> List.of(
                         Tasks.task(
@@ -171,7 +188,11 @@ public final class NodeClassificationTrain {
                     ), validationFolds)
                 ),
                 numberOfModelSelectionTrials
-            ),
+            );
+        return Tasks.task(
+            taskName(),
+            Tasks.leaf("ShuffleAndSplit"),
+            selectBestModel,
             Trainer.progressTask("TrainSelectedOnRemainder"),
             Tasks.leaf("EvaluateSelectedModel"),
             Trainer.progressTask("RetrainSelectedModel")
@@ -287,7 +308,7 @@ public final class NodeClassificationTrain {
             features = FeaturesFactory.extractLazyFeatures(graph, pipeline.featureProperties());
         } else {
             // Random forest uses feature vectors many times each.
-            features = FeaturesFactory.extractEagerFeatures(graph, pipeline.featureProperties());
+            features = FeaturesFactory.extractEagerFeatures(graph, pipeline.featureProperties(), config.concurrency());
         }
 
         var terminationFlag = TerminationFlag.RUNNING_TRUE;
@@ -307,6 +328,7 @@ public final class NodeClassificationTrain {
             config,
             features,
             labels,
+            classCounts,
             classIdMap,
             metrics,
             nodeIds,
@@ -324,6 +346,7 @@ public final class NodeClassificationTrain {
         NodeClassificationPipelineTrainConfig config,
         Features features,
         HugeLongArray labels,
+        Multiset<Long> classCounts,
         LocalIdMap classIdMap,
         List<Metric> metrics,
         HugeLongArray nodeIds,
@@ -340,6 +363,7 @@ public final class NodeClassificationTrain {
         this.config = config;
         this.features = features;
         this.targets = labels;
+        this.classCounts = classCounts;
         this.classIdMap = classIdMap;
         this.metrics = metrics;
         this.nodeIds = nodeIds;
@@ -394,6 +418,12 @@ public final class NodeClassificationTrain {
             config.randomSeed()
         );
 
+        if (config.parallelModelSelection() || config.successiveHalving()) {
+            var bestParameters = evaluateCandidatesScheduled(hyperParameterOptimizer, nodeSplits);
+            progressTracker.endSubTask();
+            return ModelSelectResult.of(bestParameters, trainStats, validationStats);
+        }
+
         while (hyperParameterOptimizer.hasNext()) {
             var modelParams = hyperParameterOptimizer.next();
             progressTracker.beginSubTask();
@@ -433,6 +463,94 @@ public final class NodeClassificationTrain {
         return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
     }
 
+    private TrainerConfig evaluateCandidatesScheduled(
+        RandomSearch hyperParameterOptimizer,
+        List<TrainingExamplesSplit> nodeSplits
+    ) {
+        var candidates = new ArrayList<TrainerConfig>();
+        hyperParameterOptimizer.forEachRemaining(candidates::add);
+
+        var mainMetric = metrics.get(0);
+        var scheduler = new CrossValidationScheduler<FoldMetrics>(
+            candidates,
+            nodeSplits.size(),
+            (modelParams, fold, concurrency, foldProgressTracker) -> trainAndEvaluateFold(
+                modelParams,
+                nodeSplits.get(fold),
+                concurrency,
+                foldProgressTracker
+            ),
+            foldMetrics -> foldMetrics.validation.get(mainMetric),
+            config.parallelModelSelection(),
+            config.successiveHalving(),
+            config.concurrency(),
+            progressTracker,
+            terminationFlag
+        );
+
+        TrainerConfig bestParameters = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (var candidateResult : scheduler.run()) {
+            var modelParams = candidateResult.candidate();
+            var foldResults = candidateResult.foldResults();
+            var validationStatsBuilder = new ModelStatsBuilder(modelParams, foldResults.size());
+            var trainStatsBuilder = new ModelStatsBuilder(modelParams, foldResults.size());
+
+            for (FoldMetrics foldResult : foldResults) {
+                foldResult.validation.forEach(validationStatsBuilder::update);
+                foldResult.train.forEach(trainStatsBuilder::update);
+            }
+
+            metrics.forEach(metric -> {
+                validationStats.add(metric, validationStatsBuilder.build(metric));
+                trainStats.add(metric, trainStatsBuilder.build(metric));
+            });
+
+            // candidates dropped by successive halving have not been validated on all folds
+            var score = validationStatsBuilder.build(mainMetric).avg();
+            if (foldResults.size() == nodeSplits.size() && (bestParameters == null || score > bestScore)) {
+                bestParameters = modelParams;
+                bestScore = score;
+            }
+        }
+
+        return bestParameters;
+    }
+
+    private FoldMetrics trainAndEvaluateFold(
+        TrainerConfig modelParams,
+        TrainingExamplesSplit nodeSplit,
+        int concurrency,
+        ProgressTracker foldProgressTracker
+    ) {
+        var trainSet = nodeSplit.trainSet();
+        var validationSet = nodeSplit.testSet();
+
+        foldProgressTracker.beginSubTask();
+
+        foldProgressTracker.beginSubTask("Training");
+        var classifier = trainModel(trainSet, modelParams, concurrency, foldProgressTracker);
+        foldProgressTracker.endSubTask("Training");
+
+        foldProgressTracker.beginSubTask(validationSet.size() + trainSet.size());
+        var foldMetricComputer = new ClassificationMetricComputer(
+            metrics,
+            classCounts,
+            features,
+            targets,
+            concurrency,
+            foldProgressTracker,
+            terminationFlag
+        );
+        var validationMetrics = foldMetricComputer.computeMetrics(validationSet, classifier);
+        var trainMetrics = foldMetricComputer.computeMetrics(trainSet, classifier);
+        foldProgressTracker.endSubTask();
+
+        foldProgressTracker.endSubTask();
+
+        return new FoldMetrics(trainMetrics, validationMetrics);
+    }
+
     private Map<Metric, BestMetricData> evaluateBestModel(
         TrainingExamplesSplit outerSplit,
         ModelSelectResult modelSelectResult,
@@ -508,13 +626,22 @@ public final class NodeClassificationTrain {
     private Classifier trainModel(
         HugeLongArray trainSet,
         TrainerConfig trainerConfig
+    ) {
+        return trainModel(trainSet, trainerConfig, config.concurrency(), progressTracker);
+    }
+
+    private Classifier trainModel(
+        HugeLongArray trainSet,
+        TrainerConfig trainerConfig,
+        int concurrency,
+        ProgressTracker trainProgressTracker
     ) {
         Trainer trainer = TrainerFactory.create(
             trainerConfig,
             classIdMap,
             terminationFlag,
-            progressTracker,
-            config.concurrency(),
+            trainProgressTracker,
+            concurrency,
             config.randomSeed(),
             false
         );
@@ -522,4 +649,14 @@ public final class NodeClassificationTrain {
         return trainer.train(features, targets, ReadOnlyHugeLongArray.of(trainSet));
     }
 
+    private static final class FoldMetrics {
+        private final Map<Metric, Double> train;
+        private final Map<Metric, Double> validation;
+
+        private FoldMetrics(Map<Metric, Double> train, Map<Metric, Double> validation) {
+            this.train = train;
+            this.validation = validation;
+        }
+    }
+
 }
@@ -27,8 +27,12 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.core.model.OpenModelCatalog;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -173,6 +177,65 @@ class PipelineExecutorTest {
     }
 
 
+    @Test
+    void shouldReuseCachedNodePropertiesOnUnchangedGraphStore() {
+        var pipeline = new BogusNodePropertyPipeline();
+        var config = new CachingPipelineExecutorTestConfig();
+
+        new SucceedingPipelineExecutor(pipeline, graphStore, config, ProgressTracker.NULL_TRACKER).compute();
+        new SucceedingPipelineExecutor(pipeline, graphStore, config, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(pipeline.step.executions).isEqualTo(1);
+        assertThat(graphStore.hasNodeProperty(NODE_LABEL_N, AddBogusNodePropertyStep.PROPERTY)).isFalse();
+        assertThat(NodePropertyStepCache.isCached(graphStore)).isTrue();
+
+        new SucceedingPipelineExecutor(pipeline, graphStore, new PipelineExecutorTestConfig(), ProgressTracker.NULL_TRACKER).compute();
+        assertThat(pipeline.step.executions).isEqualTo(2);
+        assertThat(NodePropertyStepCache.isCached(graphStore)).isFalse();
+
+        new SucceedingPipelineExecutor(pipeline, graphStore, config, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(pipeline.step.executions).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCacheWithoutCachingEnabled() {
+        var pipeline = new BogusNodePropertyPipeline();
+
+        new SucceedingPipelineExecutor(pipeline, graphStore, new PipelineExecutorTestConfig(), ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(NodePropertyStepCache.isCached(graphStore)).isFalse();
+    }
+
+    @Test
+    void shouldEstimateCachedNodeProperties() {
+        var steps = List.<ExecutableNodePropertyStep>of(new AddBogusNodePropertyStep());
+        var dimensions = GraphDimensions.of(1_000);
+
+        var withoutCaching = PipelineExecutor
+            .estimateNodePropertySteps(new OpenModelCatalog(), steps, List.of(), List.of(), new PipelineExecutorTestCacheConfig(false))
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var withCaching = PipelineExecutor
+            .estimateNodePropertySteps(new OpenModelCatalog(), steps, List.of(), List.of(), new PipelineExecutorTestCacheConfig(true))
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        assertThat(withoutCaching.max).isZero();
+        assertThat(withCaching.min).isEqualTo(HugeDoubleArray.memoryEstimation(1_000));
+    }
+
+    @Test
+    void shouldRecomputeCachedNodePropertiesAfterGraphStoreChanged() {
+        var pipeline = new BogusNodePropertyPipeline();
+        var config = new CachingPipelineExecutorTestConfig();
+
+        new SucceedingPipelineExecutor(pipeline, graphStore, config, ProgressTracker.NULL_TRACKER).compute();
+        graphStore.addNodeProperty(Set.of(NODE_LABEL_N), "otherProperty", new LongTestProperties(nodeId -> 42));
+        new SucceedingPipelineExecutor(pipeline, graphStore, config, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(pipeline.step.executions).isEqualTo(2);
+    }
+
     private Task taskTree() {
         return Tasks.task(
             "FailingPipelineExecutor",
@@ -195,6 +258,27 @@ class PipelineExecutorTest {
         }
     }
 
+    private static class CachingPipelineExecutorTestConfig extends PipelineExecutorTestConfig implements NodePropertyStepCacheConfig {
+
+        @Override
+        public boolean cacheNodePropertySteps() {
+            return true;
+        }
+    }
+
+    private static final class PipelineExecutorTestCacheConfig implements NodePropertyStepCacheConfig {
+        private final boolean cacheNodePropertySteps;
+
+        private PipelineExecutorTestCacheConfig(boolean cacheNodePropertySteps) {
+            this.cacheNodePropertySteps = cacheNodePropertySteps;
+        }
+
+        @Override
+        public boolean cacheNodePropertySteps() {
+            return cacheNodePropertySteps;
+        }
+    }
+
     private class SucceedingPipelineExecutor extends PipelineExecutor<AlgoBaseConfig, Pipeline<? extends FeatureStep>, String> {
         SucceedingPipelineExecutor(
             Pipeline<? extends FeatureStep> pipelineStub,
@@ -248,6 +332,8 @@ class PipelineExecutorTest {
     private class AddBogusNodePropertyStep implements ExecutableNodePropertyStep {
         static final String PROPERTY = "someBogusProperty";
 
+        int executions = 0;
+
         @Override
         public String procName() {
             return "AddBogusNodePropertyStep";
@@ -255,7 +341,7 @@ class PipelineExecutorTest {
 
         @Override
         public MemoryEstimation estimate(ModelCatalog modelCatalog, List<String> nodeLabels, List<String> relTypes) {
-            throw new MemoryEstimationNotImplementedException();
+            return MemoryEstimations.empty();
         }
 
         @Override
@@ -265,6 +351,7 @@ class PipelineExecutorTest {
             Collection<NodeLabel> nodeLabels,
             Collection<RelationshipType> relTypes
         ) {
+            executions++;
             graphStore.addNodeProperty(
                 Set.of(NODE_LABEL_N),
                 PROPERTY,
@@ -318,11 +405,13 @@ class PipelineExecutorTest {
 
     private class BogusNodePropertyPipeline extends TrainingPipeline<FeatureStep> {
 
+        final AddBogusNodePropertyStep step = new AddBogusNodePropertyStep();
+
         BogusNodePropertyPipeline() {super();}
 
         @Override
         public List<ExecutableNodePropertyStep> nodePropertySteps() {
-            return List.of(new AddBogusNodePropertyStep());
+            return List.of(step);
         }
 
         @Override
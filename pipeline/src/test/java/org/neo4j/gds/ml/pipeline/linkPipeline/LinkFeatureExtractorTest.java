@@ -109,4 +109,27 @@ class LinkFeatureExtractorTest {
             assertThat(actual.get(i)).containsExactly(expected.get(i), withPrecision(1e-4D));
         }
     }
+
+    @Test
+    void extractIntoReusedBuffer() {
+        var extractor = LinkFeatureExtractor.of(
+            graph,
+            List.of(
+                new HadamardFeatureStep(List.of("array")),
+                new CosineFeatureStep(List.of("noise", "z"))
+            )
+        );
+
+        var buffer = new double[2 * extractor.featureDimension()];
+        extractor.extractFeatures(0, 1, buffer, 0);
+        extractor.extractFeatures(0, 2, buffer, extractor.featureDimension());
+        // overwriting a row must not accumulate onto the previous link
+        extractor.extractFeatures(0, 2, buffer, 0);
+
+        var expectedRow = extractor.extractFeatures(0, 2);
+        assertThat(buffer).containsExactly(
+            new double[]{expectedRow[0], expectedRow[1], expectedRow[2], expectedRow[0], expectedRow[1], expectedRow[2]},
+            withPrecision(1e-9D)
+        );
+    }
 }
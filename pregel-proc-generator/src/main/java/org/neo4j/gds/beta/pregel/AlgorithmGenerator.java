@@ -27,6 +27,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -85,6 +86,7 @@ class AlgorithmGenerator extends PregelGenerator {
             .addParameter(Graph.class, "graph")
             .addParameter(pregelSpec.configTypeName(), configurationVar)
             .addParameter(ProgressTracker.class, "progressTracker")
+            .addParameter(SpillLocationService.class, "spillLocation")
             .addStatement(CodeBlock.builder().add("super(progressTracker)").build())
             .addStatement(
                 CodeBlock.builder().addNamed(
@@ -93,7 +95,8 @@ class AlgorithmGenerator extends PregelGenerator {
                     "$config:N, " +
                     "new $computation:T(), " +
                     "$pools:T.DEFAULT, " +
-                    "progressTracker" +
+                    "progressTracker, " +
+                    "spillLocation" +
                     ")",
                     Map.of(
                         "pregel", Pregel.class,
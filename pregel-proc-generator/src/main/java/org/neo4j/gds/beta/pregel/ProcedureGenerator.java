@@ -31,6 +31,7 @@ import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.annotation.GDSMode;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -238,7 +239,11 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .addParameter(pregelSpec.configTypeName(), "configuration")
                 .addParameter(ProgressTracker.class, "progressTracker")
                 .returns(algorithmClassName)
-                .addStatement("return new $T(graph, configuration, progressTracker)", algorithmClassName)
+                .addStatement(
+                    "return new $T(graph, configuration, progressTracker, $T.of(api))",
+                    algorithmClassName,
+                    SpillLocationService.class
+                )
                 .build()
             )
             .addMethod(MethodSpec.methodBuilder("taskName")
@@ -263,7 +268,7 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .addParameter(pregelSpec.configTypeName(), "configuration")
                 .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
                 .addStatement(
-                    "return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isEmpty(), configuration.isAsynchronous())",
+                    "return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isEmpty(), configuration.isAsynchronous(), configuration.messageSpillDirectory().isPresent())",
                     Pregel.class
                 )
                 .build()
@@ -25,6 +25,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -33,9 +34,9 @@ public final class ComputationAlgorithm extends Algorithm<PregelResult> {
     private final Pregel<PregelProcedureConfig> pregelJob;
 
     ComputationAlgorithm(Graph graph, PregelProcedureConfig configuration,
-                         ProgressTracker progressTracker) {
+                         ProgressTracker progressTracker, SpillLocationService spillLocation) {
         super(progressTracker);
-        this.pregelJob = Pregel.create(graph, configuration, new Computation(), Pools.DEFAULT, progressTracker);
+        this.pregelJob = Pregel.create(graph, configuration, new Computation(), Pools.DEFAULT, progressTracker, spillLocation);
     }
 
     @Override
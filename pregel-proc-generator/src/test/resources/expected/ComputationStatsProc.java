@@ -29,6 +29,7 @@ import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.beta.pregel.PregelResult;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -93,7 +94,7 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
             @Override
             public ComputationAlgorithm build(Graph graph, PregelProcedureConfig configuration,
                                               ProgressTracker progressTracker) {
-                return new ComputationAlgorithm(graph, configuration, progressTracker);
+                return new ComputationAlgorithm(graph, configuration, progressTracker, SpillLocationService.of(api));
             }
 
             @Override
@@ -112,7 +113,8 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
-                    configuration.isAsynchronous()
+                    configuration.isAsynchronous(),
+                    configuration.messageSpillDirectory().isPresent()
                 );
             }
         };
@@ -29,6 +29,7 @@ import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelProcedureConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -87,7 +88,7 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
             @Override
             public ComputationAlgorithm build(Graph graph, PregelProcedureConfig configuration,
                                               ProgressTracker progressTracker) {
-                return new ComputationAlgorithm(graph, configuration, progressTracker);
+                return new ComputationAlgorithm(graph, configuration, progressTracker, SpillLocationService.of(api));
             }
 
             @Override
@@ -106,7 +107,8 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
-                    configuration.isAsynchronous()
+                    configuration.isAsynchronous(),
+                    configuration.messageSpillDirectory().isPresent()
                 );
             }
         };
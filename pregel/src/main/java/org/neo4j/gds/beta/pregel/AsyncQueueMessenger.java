@@ -24,13 +24,20 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterator> {
 
     private final PrimitiveAsyncDoubleQueues queues;
+    private final MessageSchema messageSchema;
 
-    AsyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount);
+    AsyncQueueMessenger(long nodeCount, MessageSchema messageSchema) {
+        this.queues = PrimitiveAsyncDoubleQueues.of(nodeCount, messageSchema);
+        this.messageSchema = messageSchema;
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return PrimitiveAsyncDoubleQueues.memoryEstimation();
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        return PrimitiveAsyncDoubleQueues.memoryEstimation(messageSchema);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
     }
 
     @Override
@@ -46,9 +53,28 @@ class AsyncQueueMessenger implements Messenger<PrimitiveAsyncDoubleQueues.Iterat
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        // Long.MIN_VALUE marks empty slots in long queues
+        assert message != PrimitiveAsyncDoubleQueues.EMPTY_LONG_MESSAGE;
+        queues.pushLong(targetNodeId, message);
+    }
+
+    @Override
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        assert !Double.isNaN(value);
+        queues.push(targetNodeId, id, value);
+    }
+
+    @Override
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        assert !Double.isNaN(message[0]);
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveAsyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveAsyncDoubleQueues.Iterator(queues);
+        return new PrimitiveAsyncDoubleQueues.Iterator(queues, messageSchema);
     }
 
     @Override
@@ -73,6 +73,12 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    void sendLongTo(long targetNodeId, long message);
+
+    void sendPairTo(long targetNodeId, long id, double value);
+
+    void sendArrayTo(long targetNodeId, double[] message);
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
@@ -115,6 +121,34 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         });
     }
 
+    default void sendLongToNeighbors(long sourceNodeId, long message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendLongTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    default void sendPairToNeighbors(long sourceNodeId, long id, double value) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendPairTo(targetNodeId, id, value);
+            return true;
+        });
+    }
+
+    default void sendPairToNeighborsWeighted(long sourceNodeId, long id, double value) {
+        graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
+            sendPairTo(targetNodeId, id, computation().applyRelationshipWeight(value, weight));
+            return true;
+        });
+    }
+
+    default void sendArrayToNeighbors(long sourceNodeId, double[] message) {
+        graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
+            sendArrayTo(targetNodeId, message);
+            return true;
+        });
+    }
+
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             targetConsumer.accept(targetNodeId);
@@ -45,6 +45,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final MessageSchema messageSchema;
     private final PregelComputation<CONFIG> computation;
 
     private Partition nodeBatch;
@@ -75,6 +76,7 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
+        this.messageSchema = messenger.messageSchema();
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
         this.sentMessage = sentMessage;
         this.progressTracker = progressTracker;
@@ -175,7 +177,29 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        messageSchema.checkMessage(MessageSchema.Layout.DOUBLE, 1);
         messenger.sendTo(targetNodeId, message);
         hasSendMessage = true;
     }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        messageSchema.checkMessage(MessageSchema.Layout.LONG, 1);
+        messenger.sendLongTo(targetNodeId, message);
+        hasSendMessage = true;
+    }
+
+    @Override
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        messageSchema.checkMessage(MessageSchema.Layout.LONG_DOUBLE, 1);
+        messenger.sendPairTo(targetNodeId, id, value);
+        hasSendMessage = true;
+    }
+
+    @Override
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        messageSchema.checkMessage(MessageSchema.Layout.DOUBLE_ARRAY, message.length);
+        messenger.sendArrayTo(targetNodeId, message);
+        hasSendMessage = true;
+    }
 }
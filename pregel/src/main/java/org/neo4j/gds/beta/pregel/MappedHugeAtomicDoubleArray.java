@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A {@link HugeAtomicDoubleArray} that stores its values outside the JVM heap
+ * in memory-mapped files. Each page of the array is backed by its own file
+ * within the given directory, which allows arrays that exceed the available heap.
+ * <br>
+ * The number of pages that are mapped at the same time is bounded. Pages are
+ * mapped on first access and, once the bound is exceeded, unused pages are
+ * written back and unmapped in a round-robin fashion. A page is in use while
+ * a thread reads or updates one of its values, which is tracked by a per-page
+ * reference count.
+ * <br>
+ * The pages are unmapped and the files are deleted when the array is released.
+ */
+final class MappedHugeAtomicDoubleArray extends HugeAtomicDoubleArray {
+
+    private static final VarHandle BUFFER_HANDLE = MethodHandles.byteBufferViewVarHandle(
+        double[].class,
+        ByteOrder.nativeOrder()
+    );
+
+    // 8 MiB per page and file
+    static final int PAGE_SHIFT = 20;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    // Unmaps a buffer without waiting for it to be garbage collected.
+    private static final @Nullable MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final long size;
+    private final int maxMappedPages;
+    private final Path[] files;
+    private final AtomicReferenceArray<MappedByteBuffer> pages;
+    // Positive values count the threads accessing a page,
+    // -1 indicates that a page is currently being unmapped.
+    private final AtomicIntegerArray references;
+    private final AtomicInteger mappedPages;
+    private final AtomicInteger evictionCursor;
+    private volatile boolean released;
+
+    static MappedHugeAtomicDoubleArray of(long size, Path directory, int maxMappedPages) {
+        if (maxMappedPages < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of mapped pages must be positive, got %d.",
+                maxMappedPages
+            ));
+        }
+
+        int numberOfPages = Math.toIntExact((size + PAGE_MASK) >>> PAGE_SHIFT);
+        var files = new Path[numberOfPages];
+
+        try {
+            for (int pageIndex = 0; pageIndex < numberOfPages; pageIndex++) {
+                files[pageIndex] = Files.createTempFile(directory, "pregel-", ".page");
+            }
+        } catch (IOException e) {
+            var exception = new UncheckedIOException(e);
+            deleteFiles(files, exception);
+            throw exception;
+        }
+
+        return new MappedHugeAtomicDoubleArray(size, files, maxMappedPages);
+    }
+
+    private MappedHugeAtomicDoubleArray(long size, Path[] files, int maxMappedPages) {
+        this.size = size;
+        this.files = files;
+        this.maxMappedPages = maxMappedPages;
+        this.pages = new AtomicReferenceArray<>(files.length);
+        this.references = new AtomicIntegerArray(files.length);
+        this.mappedPages = new AtomicInteger();
+        this.evictionCursor = new AtomicInteger();
+    }
+
+    @Override
+    public double get(long index) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            return (double) BUFFER_HANDLE.getVolatile(page, offset(index));
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public double getAndAdd(long index, double delta) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            int offset = offset(index);
+            double prev = (double) BUFFER_HANDLE.getAcquire(page, offset);
+            while (true) {
+                double current = (double) BUFFER_HANDLE.compareAndExchangeRelease(page, offset, prev, prev + delta);
+                if (Double.compare(current, prev) == 0) {
+                    return prev;
+                }
+                prev = current;
+            }
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public void set(long index, double value) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            BUFFER_HANDLE.setVolatile(page, offset(index), value);
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public double getAndReplace(long index, double value) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            return (double) BUFFER_HANDLE.getAndSet(page, offset(index), value);
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(long index, double expect, double update) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            return BUFFER_HANDLE.compareAndSet(page, offset(index), expect, update);
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public double compareAndExchange(long index, double expect, double update) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            return (double) BUFFER_HANDLE.compareAndExchange(page, offset(index), expect, update);
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public void update(long index, DoubleUnaryOperator updateFunction) {
+        int pageIndex = pageIndex(index);
+        var page = acquire(pageIndex);
+        try {
+            int offset = offset(index);
+            double prev = (double) BUFFER_HANDLE.getAcquire(page, offset);
+            while (true) {
+                double next = updateFunction.applyAsDouble(prev);
+                double current = (double) BUFFER_HANDLE.compareAndExchangeRelease(page, offset, prev, next);
+                if (Double.compare(current, prev) == 0) {
+                    return;
+                }
+                prev = current;
+            }
+        } finally {
+            references.decrementAndGet(pageIndex);
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the on-heap size of the array, which
+     * does not include the memory-mapped pages.
+     */
+    @Override
+    public long sizeOf() {
+        return sizeOfOnHeap(files.length);
+    }
+
+    /**
+     * Returns the on-heap size of an array of the given
+     * size, which does not include the memory-mapped pages.
+     */
+    static long memoryEstimation(long size) {
+        return sizeOfOnHeap(Math.toIntExact((size + PAGE_MASK) >>> PAGE_SHIFT));
+    }
+
+    private static long sizeOfOnHeap(int numberOfPages) {
+        return sizeOfInstance(MappedHugeAtomicDoubleArray.class)
+               + 2 * sizeOfObjectArray(numberOfPages)
+               + (long) numberOfPages * Integer.BYTES;
+    }
+
+    @Override
+    public void setAll(double value) {
+        for (int pageIndex = 0; pageIndex < files.length; pageIndex++) {
+            var page = acquire(pageIndex);
+            try {
+                for (int offset = 0; offset < page.capacity(); offset += Double.BYTES) {
+                    page.putDouble(offset, value);
+                }
+            } finally {
+                references.decrementAndGet(pageIndex);
+            }
+        }
+        VarHandle.storeStoreFence();
+    }
+
+    /**
+     * Unmaps all pages and deletes their files.
+     *
+     * @throws UncheckedIOException if any of the files could not be deleted
+     */
+    @Override
+    public long release() {
+        if (released) {
+            return 0L;
+        }
+        released = true;
+
+        for (int pageIndex = 0; pageIndex < files.length; pageIndex++) {
+            var page = pages.getAndSet(pageIndex, null);
+            if (page != null) {
+                unmap(page);
+            }
+        }
+        mappedPages.set(0);
+
+        var exception = deleteFiles(files, null);
+        if (exception != null) {
+            throw exception;
+        }
+        return sizeOf();
+    }
+
+    int mappedPages() {
+        return mappedPages.get();
+    }
+
+    /**
+     * Returns the mapped page with the given index and registers
+     * the calling thread as a user of the page. Callers must
+     * decrement the reference count once they are done.
+     */
+    private ByteBuffer acquire(int pageIndex) {
+        while (true) {
+            int refs = references.get(pageIndex);
+            // The page is currently being unmapped,
+            // wait until the evicting thread is done.
+            if (refs < 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (references.compareAndSet(pageIndex, refs, refs + 1)) {
+                break;
+            }
+        }
+
+        var page = pages.get(pageIndex);
+        if (page == null) {
+            // The shared reference prevents the page from being
+            // evicted, we only need to avoid mapping it twice.
+            synchronized (files[pageIndex]) {
+                page = pages.get(pageIndex);
+                if (page == null) {
+                    page = map(pageIndex);
+                    pages.set(pageIndex, page);
+                    mappedPages.incrementAndGet();
+                }
+            }
+            evictPages();
+        }
+        return page;
+    }
+
+    /**
+     * Unmaps unused pages until at most {@code maxMappedPages} are mapped.
+     * If all mapped pages are in use, the bound is exceeded temporarily.
+     */
+    private void evictPages() {
+        int numberOfPages = files.length;
+        int attempts = 0;
+        while (mappedPages.get() > maxMappedPages && attempts++ < numberOfPages) {
+            int pageIndex = Math.floorMod(evictionCursor.getAndIncrement(), numberOfPages);
+            if (pages.get(pageIndex) == null || !references.compareAndSet(pageIndex, 0, -1)) {
+                continue;
+            }
+            var page = pages.getAndSet(pageIndex, null);
+            if (page != null) {
+                // Write back the changes, so that the
+                // page cache can drop the pages cheaply.
+                page.force();
+                unmap(page);
+                mappedPages.decrementAndGet();
+            }
+            references.set(pageIndex, 0);
+        }
+    }
+
+    private MappedByteBuffer map(int pageIndex) {
+        if (released) {
+            throw new IllegalStateException("The array has already been released.");
+        }
+        long pageSize = Math.min(PAGE_SIZE, size - ((long) pageIndex << PAGE_SHIFT));
+        try (var channel = FileChannel.open(
+            files[pageIndex],
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            // The mapping stays valid after the channel is closed.
+            var page = channel.map(FileChannel.MapMode.READ_WRITE, 0, pageSize * Double.BYTES);
+            page.order(ByteOrder.nativeOrder());
+            return page;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int pageIndex(long index) {
+        return (int) (index >>> PAGE_SHIFT);
+    }
+
+    private static int offset(long index) {
+        return ((int) index & PAGE_MASK) << 3;
+    }
+
+    private static void unmap(MappedByteBuffer page) {
+        if (INVOKE_CLEANER == null) {
+            // The mapping is released once the buffer is garbage collected.
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) page);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not unmap a memory-mapped page.", e);
+        }
+    }
+
+    /**
+     * Tries to delete all files and returns an exception that
+     * contains all failures, or null if all files were deleted.
+     */
+    private static @Nullable UncheckedIOException deleteFiles(Path[] files, @Nullable UncheckedIOException exception) {
+        for (var file : files) {
+            if (file == null) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = new UncheckedIOException(
+                        formatWithLocale("Could not delete spilled message file '%s'.", file),
+                        e
+                    );
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        return exception;
+    }
+
+    private static @Nullable MethodHandle invokeCleaner() {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
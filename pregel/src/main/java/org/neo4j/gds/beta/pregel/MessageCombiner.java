@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * A sender-side buffer that pre-reduces the messages sent by a single
+ * compute step using the {@link Reducer} of the computation, before they
+ * are published to the {@link ReducingMessenger}. Messages sent to the
+ * same target, e.g. a node with a high in-degree, are combined locally
+ * and result in a single atomic update of the target's slot instead of
+ * one contended update per message.
+ * <br>
+ * The buffer is a direct-mapped cache. Sending a message to a target
+ * that maps to a slot occupied by a different target evicts and
+ * publishes the value currently stored in that slot. The buffer is
+ * sized by the number of nodes in the partition of the compute step,
+ * up to {@link #MAX_CAPACITY} slots.
+ */
+final class MessageCombiner {
+
+    static final int MAX_CAPACITY = 1 << 12;
+    private static final long EMPTY = -1L;
+
+    private final ReducingMessenger messenger;
+    private final Reducer reducer;
+
+    private final long[] targets;
+    private final double[] values;
+
+    // number of occupied slots
+    private int size;
+
+    MessageCombiner(ReducingMessenger messenger, Reducer reducer, long partitionNodeCount) {
+        int capacity = capacity(partitionNodeCount);
+        this.messenger = messenger;
+        this.reducer = reducer;
+        this.targets = new long[capacity];
+        this.values = new double[capacity];
+        Arrays.fill(targets, EMPTY);
+    }
+
+    static int capacity(long partitionNodeCount) {
+        return (int) Math.min(MAX_CAPACITY, BitUtil.nextHighestPowerOfTwo(Math.max(1L, partitionNodeCount)));
+    }
+
+    /**
+     * Estimates one combiner per thread, assuming that the nodes are
+     * evenly distributed across the partitions of the compute steps.
+     */
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("", (dimensions, concurrency) -> MemoryEstimations.builder()
+            .perThread(
+                "message combiner",
+                memoryEstimation(BitUtil.ceilDiv(dimensions.nodeCount(), Math.max(1, concurrency)))
+            )
+            .build());
+    }
+
+    static MemoryEstimation memoryEstimation(long partitionNodeCount) {
+        int capacity = capacity(partitionNodeCount);
+        return MemoryEstimations.builder(MessageCombiner.class)
+            .fixed("targets", MemoryUsage.sizeOfLongArray(capacity))
+            .fixed("values", MemoryUsage.sizeOfDoubleArray(capacity))
+            .build();
+    }
+
+    void sendTo(long targetNodeId, double message) {
+        int slot = (int) (targetNodeId & (targets.length - 1));
+        long target = targets[slot];
+
+        if (target == targetNodeId) {
+            values[slot] = reducer.reduce(values[slot], message);
+            return;
+        }
+
+        if (target == EMPTY) {
+            size++;
+        } else {
+            messenger.sendCombined(target, values[slot]);
+        }
+
+        targets[slot] = targetNodeId;
+        values[slot] = reducer.reduce(reducer.identity(), message);
+    }
+
+    /**
+     * Publishes all buffered values to the messenger. Must be
+     * called before the messages are consumed by their targets.
+     */
+    void flush() {
+        if (size == 0) {
+            return;
+        }
+        for (int slot = 0; slot < targets.length; slot++) {
+            var target = targets[slot];
+            if (target != EMPTY) {
+                messenger.sendCombined(target, values[slot]);
+                targets[slot] = EMPTY;
+            }
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of a single message
+ * that is sent between nodes during a Pregel computation.
+ * Messages are stored in primitive queues and reducers that are
+ * specialized per component type: long components are stored in
+ * long arrays and double components in double arrays. A single
+ * message occupies {@link #width()} consecutive slots within
+ * each of its component arrays.
+ * <br>
+ * Sending an id together with a value as a single
+ * {@link Layout#LONG_DOUBLE} message halves the number of
+ * messages compared to sending two separate ones.
+ *
+ * @see PregelComputation#messageSchema(PregelConfig)
+ */
+@ValueClass
+public interface MessageSchema {
+
+    MessageSchema DOUBLE = ImmutableMessageSchema.of(Layout.DOUBLE, 1);
+    MessageSchema LONG = ImmutableMessageSchema.of(Layout.LONG, 1);
+    MessageSchema LONG_DOUBLE = ImmutableMessageSchema.of(Layout.LONG_DOUBLE, 1);
+
+    enum Layout {
+        DOUBLE,
+        LONG,
+        LONG_DOUBLE,
+        DOUBLE_ARRAY
+    }
+
+    Layout layout();
+
+    /**
+     * The number of doubles within a {@link Layout#DOUBLE_ARRAY} message.
+     * For all other layouts, the value is always 1.
+     */
+    int arrayLength();
+
+    /**
+     * The number of slots occupied by a single message
+     * within each of its component arrays.
+     */
+    @Value.Derived
+    default int width() {
+        return layout() == Layout.DOUBLE_ARRAY ? arrayLength() : 1;
+    }
+
+    /**
+     * Whether the message contains a long value.
+     */
+    @Value.Derived
+    default boolean hasLongComponent() {
+        return layout() == Layout.LONG || layout() == Layout.LONG_DOUBLE;
+    }
+
+    /**
+     * Whether the message contains one or more double values.
+     */
+    @Value.Derived
+    default boolean hasDoubleComponent() {
+        return layout() != Layout.LONG;
+    }
+
+    /**
+     * Fails if a message of the given layout and width
+     * does not match the schema of the computation.
+     */
+    default void checkMessage(Layout layout, int width) {
+        if (layout != layout() || width != width()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot send a message of layout `%s` with width %d, the message schema of the computation is `%s` with width %d.",
+                layout,
+                width,
+                layout(),
+                width()
+            ));
+        }
+    }
+
+    @Value.Check
+    default void validate() {
+        if (arrayLength() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The array length of a message must be positive, got %d.",
+                arrayLength()
+            ));
+        }
+        if (layout() != Layout.DOUBLE_ARRAY && arrayLength() != 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "An array length can only be specified for %s messages, got %s.",
+                Layout.DOUBLE_ARRAY,
+                layout()
+            ));
+        }
+    }
+
+    static MessageSchema doubleArray(int arrayLength) {
+        return ImmutableMessageSchema.of(Layout.DOUBLE_ARRAY, arrayLength);
+    }
+}
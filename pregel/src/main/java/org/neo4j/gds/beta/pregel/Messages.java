@@ -24,6 +24,8 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public final class Messages implements Iterable<Double> {
 
     @NotNull
@@ -32,14 +34,91 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
-    interface MessageIterator extends PrimitiveIterator.OfDouble {
+    interface MessageIterator extends PrimitiveIterator.OfDouble, MessageCursor {
         boolean isEmpty();
+
+        default long nextLong() {
+            throw unsupportedMessageType();
+        }
+
+        @Override
+        default boolean nextMessage() {
+            throw unsupportedMessageType();
+        }
+
+        @Override
+        default long longValue() {
+            throw unsupportedMessageType();
+        }
+
+        @Override
+        default double doubleValue() {
+            throw unsupportedMessageType();
+        }
+
+        @Override
+        default double[] doubleArrayValue() {
+            throw unsupportedMessageType();
+        }
+
+        private UnsupportedOperationException unsupportedMessageType() {
+            return new UnsupportedOperationException(formatWithLocale(
+                "Typed messages are not supported by %s.",
+                getClass().getSimpleName()
+            ));
+        }
+    }
+
+    /**
+     * A cursor over messages that are described by a {@link MessageSchema}.
+     * The accessors return the components of the message the cursor is
+     * currently positioned at. Which accessors are valid depends on the
+     * {@link MessageSchema.Layout} of the computation.
+     */
+    public interface MessageCursor {
+
+        /**
+         * Moves the cursor to the next message.
+         *
+         * @return true, iff there was a next message
+         */
+        boolean nextMessage();
+
+        /**
+         * Returns the long value of a {@link MessageSchema.Layout#LONG}
+         * or {@link MessageSchema.Layout#LONG_DOUBLE} message.
+         */
+        long longValue();
+
+        /**
+         * Returns the double value of a {@link MessageSchema.Layout#DOUBLE}
+         * or {@link MessageSchema.Layout#LONG_DOUBLE} message.
+         */
+        double doubleValue();
+
+        /**
+         * Returns the values of a {@link MessageSchema.Layout#DOUBLE_ARRAY} message.
+         * The returned array is reused for subsequent messages and must not be retained.
+         */
+        double[] doubleArrayValue();
     }
 
     private final MessageIterator iterator;
+    private final PrimitiveIterator.OfLong longIterator;
 
     Messages(MessageIterator iterator) {
         this.iterator = iterator;
+        this.longIterator = new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return iterator.nextLong();
+            }
+        };
     }
 
     @NotNull
@@ -47,6 +126,23 @@ public final class Messages implements Iterable<Double> {
         return iterator;
     }
 
+    /**
+     * Iterates messages of a computation using the {@link MessageSchema#LONG} message schema.
+     */
+    @NotNull
+    public PrimitiveIterator.OfLong longIterator() {
+        return longIterator;
+    }
+
+    /**
+     * Iterates messages of a computation using a composite {@link MessageSchema},
+     * i.e. {@link MessageSchema#LONG_DOUBLE} or {@link MessageSchema#doubleArray(int)}.
+     */
+    @NotNull
+    public MessageCursor cursor() {
+        return iterator;
+    }
+
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
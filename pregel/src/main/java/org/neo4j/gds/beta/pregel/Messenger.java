@@ -19,15 +19,53 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
+    /**
+     * The schema of the messages that can be sent using this messenger.
+     */
+    MessageSchema messageSchema();
+
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendLongTo(long targetNodeId, long message) {
+        throw unsupportedMessageSchema();
+    }
+
+    default void sendPairTo(long targetNodeId, long id, double value) {
+        throw unsupportedMessageSchema();
+    }
+
+    default void sendArrayTo(long targetNodeId, double[] message) {
+        throw unsupportedMessageSchema();
+    }
+
+    /**
+     * Creates a buffer that allows a single compute step to combine
+     * messages before they are sent. The buffer is sized by the number
+     * of nodes in the partition of the compute step. Returns null, if
+     * the messenger does not support sender-side combining.
+     */
+    default @Nullable MessageCombiner newCombiner(long partitionNodeCount) {
+        return null;
+    }
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    private UnsupportedOperationException unsupportedMessageSchema() {
+        return new UnsupportedOperationException(formatWithLocale(
+            "Typed messages are not supported by %s.",
+            getClass().getSimpleName()
+        ));
+    }
 }
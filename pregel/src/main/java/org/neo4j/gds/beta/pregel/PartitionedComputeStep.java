@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
@@ -35,6 +36,8 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private final Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
     private final Messenger<ITERATOR> messenger;
+    private final MessageSchema messageSchema;
+    private final @Nullable MessageCombiner messageCombiner;
     private final PregelComputation<CONFIG> computation;
 
     private final Graph graph;
@@ -60,6 +63,8 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.voteBits = voteBits;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
+        this.messageSchema = messenger.messageSchema();
+        this.messageCombiner = messenger.newCombiner(nodeBatch.nodeCount());
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
         this.progressTracker = progressTracker;
         this.initContext = new InitContext<>(this, config, graph, progressTracker);
@@ -68,6 +73,9 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     @Override
     public void run() {
         computeBatch();
+        if (messageCombiner != null) {
+            messageCombiner.flush();
+        }
     }
 
     @Override
@@ -122,7 +130,33 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
 
     @Override
     public void sendTo(long targetNodeId, double message) {
-        messenger.sendTo(targetNodeId, message);
+        messageSchema.checkMessage(MessageSchema.Layout.DOUBLE, 1);
+        if (messageCombiner != null) {
+            messageCombiner.sendTo(targetNodeId, message);
+        } else {
+            messenger.sendTo(targetNodeId, message);
+        }
+        hasSentMessage = true;
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        messageSchema.checkMessage(MessageSchema.Layout.LONG, 1);
+        messenger.sendLongTo(targetNodeId, message);
+        hasSentMessage = true;
+    }
+
+    @Override
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        messageSchema.checkMessage(MessageSchema.Layout.LONG_DOUBLE, 1);
+        messenger.sendPairTo(targetNodeId, id, value);
+        hasSentMessage = true;
+    }
+
+    @Override
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        messageSchema.checkMessage(MessageSchema.Layout.DOUBLE_ARRAY, message.length);
+        messenger.sendArrayTo(targetNodeId, message);
         hasSentMessage = true;
     }
 
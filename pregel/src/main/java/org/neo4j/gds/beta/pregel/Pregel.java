@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.immutables.value.Value;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -33,6 +34,8 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
 public final class Pregel<CONFIG extends PregelConfig> {
 
@@ -58,6 +61,17 @@ public final class Pregel<CONFIG extends PregelConfig> {
         PregelComputation<CONFIG> computation,
         ExecutorService executor,
         ProgressTracker progressTracker
+    ) {
+        return create(graph, config, computation, executor, progressTracker, SpillLocationService.none());
+    }
+
+    public static <CONFIG extends PregelConfig> Pregel<CONFIG> create(
+        Graph graph,
+        CONFIG config,
+        PregelComputation<CONFIG> computation,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        SpillLocationService spillLocation
     ) {
         // This prevents users from disabling concurrency
         // validation in custom PregelConfig implementations.
@@ -71,11 +85,40 @@ public final class Pregel<CONFIG extends PregelConfig> {
             computation,
             NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
             executor,
-            progressTracker
+            progressTracker,
+            spillLocation
         );
     }
 
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean spillMessages
+    ) {
+        return memoryEstimation(pregelSchema, MessageSchema.DOUBLE, isQueueBased, isAsync, spillMessages);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync
+    ) {
+        return memoryEstimation(pregelSchema, messageSchema, isQueueBased, isAsync, false);
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean spillMessages
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
@@ -83,12 +126,17 @@ public final class Pregel<CONFIG extends PregelConfig> {
 
         if (isQueueBased) {
             if (isAsync) {
-                estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation(messageSchema));
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation(messageSchema));
             }
+        } else if (messageSchema.layout() == MessageSchema.Layout.DOUBLE) {
+            estimationBuilder
+                .add("message arrays", ReducingMessenger.memoryEstimation(spillMessages))
+                // assumes a combinable reducer, e.g. sum, min or max
+                .add("message combiners", MessageCombiner.memoryEstimation());
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", TypedReducingMessenger.memoryEstimation(messageSchema));
         }
 
         return estimationBuilder.build();
@@ -120,7 +168,8 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final PregelComputation<CONFIG> computation,
         final NodeValue initialNodeValue,
         final ExecutorService executor,
-        final ProgressTracker progressTracker
+        final ProgressTracker progressTracker,
+        final SpillLocationService spillLocation
     ) {
         this.graph = graph;
         this.config = config;
@@ -130,12 +179,44 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
 
         var reducer = computation.reducer();
+        var messageSchema = computation.messageSchema(config);
+
+        var layout = messageSchema.layout();
+
+        if (reducer.isPresent() && layout == MessageSchema.Layout.LONG && !reducer.get().supportsLongMessages()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Messages of layout `%s` require a reducer that supports long messages, got %s.",
+                layout,
+                reducer.get().getClass().getSimpleName()
+            ));
+        }
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        if (reducer.isPresent() && layout == MessageSchema.Layout.LONG_DOUBLE && !reducer.get().isSelective()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Messages of layout `%s` require a selective reducer, e.g. min or max, got %s.",
+                layout,
+                reducer.get().getClass().getSimpleName()
+            ));
+        }
+
+        if (config.messageSpillDirectory().isPresent() && (reducer.isEmpty() || layout != MessageSchema.Layout.DOUBLE)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Spilling messages to disk is only supported for computations with a reducer and messages of layout `%s`.",
+                MessageSchema.Layout.DOUBLE
+            ));
+        }
+
+        var spillDirectory = config.messageSpillDirectory().map(spillLocation::resolve);
+
+        if (reducer.isPresent()) {
+            this.messenger = layout == MessageSchema.Layout.DOUBLE
+                ? new ReducingMessenger(graph, config, reducer.get(), spillDirectory)
+                : new TypedReducingMessenger(graph, config, reducer.get(), messageSchema);
+        } else {
+            this.messenger = config.isAsynchronous()
+                ? new AsyncQueueMessenger(graph.nodeCount(), messageSchema)
+                : new SyncQueueMessenger(graph.nodeCount(), messageSchema);
+        }
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -57,6 +57,30 @@ public interface PregelComputation<C extends PregelConfig> {
      */
     PregelSchema schema(C config);
 
+    /**
+     * The message schema describes the layout of the messages sent
+     * between nodes. By default, a message is a single double value.
+     * <br>
+     * Composite messages, such as a node id together with a value,
+     * are sent as a single message instead of multiple ones, which
+     * reduces the number of inserted messages. Messages that are
+     * not represented by a single double value can only be used in
+     * synchronous computations that don't specify a {@link Reducer}.
+     * <br>
+     * Example:
+     * <pre>
+     * public MessageSchema messageSchema(PregelConfig config) {
+     *      return MessageSchema.LONG_DOUBLE;
+     * }
+     * </pre>
+     *
+     * @see MessageSchema
+     * @see Messages#cursor()
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.DOUBLE;
+    }
+
     /**
      * The init method is called in the beginning of the first
      * superstep (iteration) of the Pregel computation and allows
@@ -28,6 +28,8 @@ import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import java.util.Optional;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -49,6 +51,23 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * If present, the message arrays of computations using a
+     * {@link Reducer} are stored in memory-mapped files instead
+     * of the JVM heap. The name is resolved within the server-side
+     * spill location, see {@link org.neo4j.gds.core.SpillLocationService}.
+     * Only messages of layout {@link MessageSchema.Layout#DOUBLE} are
+     * spilled, node values and message queues stay on the heap.
+     */
+    Optional<String> messageSpillDirectory();
+
+    /**
+     * The maximum number of pages, each holding 2^20 messages,
+     * that are mapped at the same time per spilled message array.
+     * By default, all pages stay mapped.
+     */
+    Optional<Integer> messageSpillMaxMappedPages();
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
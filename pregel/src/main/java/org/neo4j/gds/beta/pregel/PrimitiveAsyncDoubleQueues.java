@@ -19,11 +19,11 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
-import org.neo4j.gds.core.utils.paged.HugeCursor;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -33,9 +33,11 @@ import java.util.Arrays;
 public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static final double COMPACT_THRESHOLD = 0.25;
     private static final double EMPTY_MESSAGE = Double.NaN;
+    // Marks empty slots in long queues, i.e. for messages without a double component.
+    static final long EMPTY_LONG_MESSAGE = Long.MIN_VALUE;
 
     private final HugeIntArray heads;
-    private final HugeCursor<double[][]> queuesCursor;
+    private final int width;
 
     public static PrimitiveAsyncDoubleQueues of(long nodeCount) {
         return of(nodeCount, MIN_CAPACITY);
@@ -44,25 +46,64 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static PrimitiveAsyncDoubleQueues of(
         long nodeCount,
         int initialQueueCapacity
+    ) {
+        return of(nodeCount, initialQueueCapacity, MessageSchema.DOUBLE);
+    }
+
+    public static PrimitiveAsyncDoubleQueues of(long nodeCount, MessageSchema messageSchema) {
+        return of(nodeCount, MIN_CAPACITY, messageSchema);
+    }
+
+    public static PrimitiveAsyncDoubleQueues of(
+        long nodeCount,
+        int initialQueueCapacity,
+        MessageSchema messageSchema
     ) {
         var heads = HugeIntArray.newArray(nodeCount);
         var tails = HugeAtomicLongArray.newArray(nodeCount);
-        var queues = HugeObjectArray.newArray(double[].class, nodeCount);
         var referenceCounts = HugeAtomicLongArray.newArray(nodeCount);
 
         var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
-        queues.setAll(value -> {
-            var queue = new double[capacity];
-            Arrays.fill(queue, EMPTY_MESSAGE);
-            return queue;
-        });
 
-        return new PrimitiveAsyncDoubleQueues(heads, tails, queues, referenceCounts);
+        HugeObjectArray<double[]> queues = null;
+        if (messageSchema.hasDoubleComponent()) {
+            queues = HugeObjectArray.newArray(double[].class, nodeCount);
+            queues.setAll(value -> {
+                var queue = new double[capacity];
+                Arrays.fill(queue, EMPTY_MESSAGE);
+                return queue;
+            });
+        }
+
+        HugeObjectArray<long[]> longQueues = null;
+        if (messageSchema.hasLongComponent()) {
+            longQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+            // Long queues only need to mark empty slots if there is
+            // no double component that is used to detect messages.
+            var fillValue = messageSchema.hasDoubleComponent() ? 0L : EMPTY_LONG_MESSAGE;
+            longQueues.setAll(value -> {
+                var queue = new long[capacity];
+                Arrays.fill(queue, fillValue);
+                return queue;
+            });
+        }
+
+        return new PrimitiveAsyncDoubleQueues(heads, tails, queues, longQueues, referenceCounts, messageSchema.width());
     }
 
     public static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(PrimitiveAsyncDoubleQueues.class)
-            .add("queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
+        return memoryEstimation(MessageSchema.DOUBLE);
+    }
+
+    public static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        var builder = MemoryEstimations.builder(PrimitiveAsyncDoubleQueues.class);
+        if (messageSchema.hasDoubleComponent()) {
+            builder.add("queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)));
+        }
+        if (messageSchema.hasLongComponent()) {
+            builder.add("long queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfLongArray(MIN_CAPACITY)));
+        }
+        return builder
             .perNode("heads", HugeIntArray::memoryEstimation)
             .perNode("tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -72,40 +113,54 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     private PrimitiveAsyncDoubleQueues(
         HugeIntArray heads,
         HugeAtomicLongArray tails,
-        HugeObjectArray<double[]> queues,
-        HugeAtomicLongArray referenceCounts
+        @Nullable HugeObjectArray<double[]> queues,
+        @Nullable HugeObjectArray<long[]> longQueues,
+        HugeAtomicLongArray referenceCounts,
+        int width
     ) {
-        super(queues, tails, referenceCounts);
+        super(queues, longQueues, tails, referenceCounts);
         this.heads = heads;
-        this.queuesCursor = queues.newCursor();
+        this.width = width;
     }
 
     public void compact() {
-        queues.initCursor(queuesCursor);
-
-        while (queuesCursor.next()) {
-            for (int i = queuesCursor.offset; i < queuesCursor.limit; i++) {
-                var queue = queuesCursor.array[i];
-                var tail = (int) tails.get(i);
-                var head = heads.get(i);
-
-                if (isEmpty(queue, head, tail) && head > 0) {
-                    // The queue is empty, we can reset head and tail to index 0
-                    // but we need to fill the previous entries with NaN.
-                    Arrays.fill(queue, 0, tail, EMPTY_MESSAGE);
-                    heads.set(i, 0);
-                    tails.set(i, 0);
-                } else if (head > queue.length * COMPACT_THRESHOLD) {
-                    // The queue is not empty, we need to move the entries for
-                    // the next iteration to the beginning of the queue and fill
-                    // the remaining entries with NaN.
-                    var length = tail - head;
+        var nodeCount = heads.size();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var tail = (int) tails.get(nodeId);
+            var head = heads.get(nodeId);
+            var capacity = capacity(nodeId);
+
+            if (isEmpty(nodeId, head, tail) && head > 0) {
+                // The queue is empty, we can reset head and tail to index 0
+                // but we need to mark the previous entries as empty.
+                if (queues != null) {
+                    Arrays.fill(queues.get(nodeId), 0, tail, EMPTY_MESSAGE);
+                }
+                if (longQueues != null && queues == null) {
+                    Arrays.fill(longQueues.get(nodeId), 0, tail, EMPTY_LONG_MESSAGE);
+                }
+                heads.set(nodeId, 0);
+                tails.set(nodeId, 0);
+            } else if (head > capacity * COMPACT_THRESHOLD) {
+                // The queue is not empty, we need to move the entries for
+                // the next iteration to the beginning of the queue and mark
+                // the remaining entries as empty.
+                var length = tail - head;
+                if (queues != null) {
+                    var queue = queues.get(nodeId);
                     System.arraycopy(queue, head, queue, 0, length);
                     Arrays.fill(queue, length, queue.length, EMPTY_MESSAGE);
-
-                    heads.set(i, 0);
-                    tails.set(i, length);
                 }
+                if (longQueues != null) {
+                    var longQueue = longQueues.get(nodeId);
+                    System.arraycopy(longQueue, head, longQueue, 0, length);
+                    if (queues == null) {
+                        Arrays.fill(longQueue, length, longQueue.length, EMPTY_LONG_MESSAGE);
+                    }
+                }
+
+                heads.set(nodeId, 0);
+                tails.set(nodeId, length);
             }
         }
     }
@@ -113,12 +168,18 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     boolean isEmpty(long nodeId) {
         var head = heads.get(nodeId);
         var tail = (int) tails.get(nodeId);
-        var queue = queues.get(nodeId);
-        return isEmpty(queue, head, tail);
+        return isEmpty(nodeId, head, tail);
     }
 
-    private boolean isEmpty(double[] queue, int head, int tail) {
-        return head == queue.length || head > tail || Double.isNaN(queue[head]);
+    private boolean isEmpty(long nodeId, int head, int tail) {
+        if (head >= capacity(nodeId) || head > tail) {
+            return true;
+        }
+        // The first double slot or, if there is none, the long slot
+        // of a message is written last and signals that it is complete.
+        return queues != null
+            ? Double.isNaN(queues.get(nodeId)[head])
+            : longQueues.get(nodeId)[head] == EMPTY_LONG_MESSAGE;
     }
 
     double pop(long nodeId) {
@@ -126,16 +187,36 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
         return queues.get(nodeId)[currentHead];
     }
 
+    long popLong(long nodeId) {
+        var currentHead = heads.getAndAdd(nodeId, 1);
+        return longQueues.get(nodeId)[currentHead];
+    }
+
+    /**
+     * Moves the head past the next message and returns the
+     * index of its first slot within the component queues.
+     */
+    int popMessage(long nodeId) {
+        return heads.getAndAdd(nodeId, width);
+    }
+
     @Override
-    void grow(long nodeId, int minCapacity) {
-        var queue = this.queues.get(nodeId);
+    double[] grow(double[] queue, int newCapacity) {
         var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
         var resizedArray = Arrays.copyOf(queue, newCapacity);
         // Fill with NaN to indicate empty slots.
-        Arrays.fill(resizedArray, minCapacity - 1, newCapacity, EMPTY_MESSAGE);
-        this.queues.set(nodeId, resizedArray);
+        Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_MESSAGE);
+        return resizedArray;
+    }
+
+    @Override
+    long[] grow(long[] queue, int newCapacity) {
+        var capacity = queue.length;
+        var resizedArray = Arrays.copyOf(queue, newCapacity);
+        if (queues == null) {
+            Arrays.fill(resizedArray, capacity, newCapacity, EMPTY_LONG_MESSAGE);
+        }
+        return resizedArray;
     }
 
     void release() {
@@ -151,10 +232,22 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
     public static class Iterator implements Messages.MessageIterator {
 
         private final PrimitiveAsyncDoubleQueues queues;
+        private final @Nullable double[] arrayBuffer;
 
         private long nodeId;
+        // start index of the message the cursor is positioned at
+        private int current;
 
-        public Iterator(PrimitiveAsyncDoubleQueues queues) {this.queues = queues;}
+        public Iterator(PrimitiveAsyncDoubleQueues queues) {
+            this(queues, MessageSchema.DOUBLE);
+        }
+
+        Iterator(PrimitiveAsyncDoubleQueues queues, MessageSchema messageSchema) {
+            this.queues = queues;
+            this.arrayBuffer = messageSchema.layout() == MessageSchema.Layout.DOUBLE_ARRAY
+                ? new double[messageSchema.width()]
+                : null;
+        }
 
         void init(long nodeId) {
             this.nodeId = nodeId;
@@ -170,9 +263,39 @@ public final class PrimitiveAsyncDoubleQueues extends PrimitiveDoubleQueues {
             return queues.pop(nodeId);
         }
 
+        @Override
+        public long nextLong() {
+            return queues.popLong(nodeId);
+        }
+
         @Override
         public boolean isEmpty() {
             return queues.isEmpty(nodeId);
         }
+
+        @Override
+        public boolean nextMessage() {
+            if (queues.isEmpty(nodeId)) {
+                return false;
+            }
+            current = queues.popMessage(nodeId);
+            return true;
+        }
+
+        @Override
+        public long longValue() {
+            return queues.longQueues.get(nodeId)[current];
+        }
+
+        @Override
+        public double doubleValue() {
+            return queues.queues.get(nodeId)[current];
+        }
+
+        @Override
+        public double[] doubleArrayValue() {
+            System.arraycopy(queues.queues.get(nodeId), current, arrayBuffer, 0, arrayBuffer.length);
+            return arrayBuffer;
+        }
     }
 }
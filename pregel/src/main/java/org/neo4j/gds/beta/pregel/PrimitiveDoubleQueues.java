@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
@@ -29,6 +30,8 @@ import java.lang.invoke.VarHandle;
 public abstract class PrimitiveDoubleQueues {
     // Used to insert into a single message queue array.
     private static final VarHandle ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(double[].class);
+    // Used to insert into a single long message queue array.
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
     // Minimum capacity for the individual queue arrays.
     static final int MIN_CAPACITY = 42;
     // 🦀
@@ -38,24 +41,114 @@ public abstract class PrimitiveDoubleQueues {
     private final HugeAtomicLongArray referenceCounts;
 
     // Manages a queue (double array) for each node.
-    HugeObjectArray<double[]> queues;
+    // Null, if messages don't have a double component.
+    @Nullable HugeObjectArray<double[]> queues;
+    // Manages a queue (long array) for each node.
+    // Null, if messages don't have a long component.
+    @Nullable HugeObjectArray<long[]> longQueues;
     // Stores the tail indexes for each queue. The tail
     // index is used to insert a new message during push.
+    // Both component queues of a node share the same index.
     HugeAtomicLongArray tails;
 
     PrimitiveDoubleQueues(
-        HugeObjectArray<double[]> queues,
+        @Nullable HugeObjectArray<double[]> queues,
+        @Nullable HugeObjectArray<long[]> longQueues,
         HugeAtomicLongArray tails,
         HugeAtomicLongArray referenceCounts
     ) {
+        assert queues != null || longQueues != null;
         this.tails = tails;
         this.queues = queues;
+        this.longQueues = longQueues;
         this.referenceCounts = referenceCounts;
     }
 
-    abstract void grow(long nodeId, int newCapacity);
+    abstract double[] grow(double[] queue, int newCapacity);
+
+    abstract long[] grow(long[] queue, int newCapacity);
 
     public void push(long nodeId, double message) {
+        long idx = reserve(nodeId, 1);
+
+        // Multiple threads can concurrently update the queue, we need
+        // to signal this with a shared reference to the array.
+        getSharedReference(nodeId);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Inserts a message that consists of a single long value.
+     */
+    public void pushLong(long nodeId, long message) {
+        long idx = reserve(nodeId, 1);
+
+        getSharedReference(nodeId);
+        LONG_ARRAY_HANDLE.setVolatile(longQueues.get(nodeId), (int) idx, message);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Inserts a message that consists of an id and a value
+     * using a single reservation. The id is stored in the
+     * long queue and the value in the double queue.
+     */
+    public void push(long nodeId, long id, double value) {
+        int idx = (int) reserve(nodeId, 1);
+
+        getSharedReference(nodeId);
+        // The double component is written last, readers of
+        // asynchronous queues rely on it to detect the message.
+        LONG_ARRAY_HANDLE.setVolatile(longQueues.get(nodeId), idx, id);
+        ARRAY_HANDLE.setVolatile(queues.get(nodeId), idx, value);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Inserts a message that consists of {@code message.length}
+     * consecutive slots using a single reservation.
+     */
+    public void push(long nodeId, double[] message) {
+        int idx = (int) reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        // The first slot is written last, readers of asynchronous
+        // queues rely on it to detect the message.
+        for (int i = message.length - 1; i >= 0; i--) {
+            ARRAY_HANDLE.setVolatile(queue, idx + i, message[i]);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Grows all component queues of the given node by 50%,
+     * but at least to the requested capacity.
+     */
+    private void grow(long nodeId, int minCapacity) {
+        var capacity = capacity(nodeId);
+        var newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+        if (queues != null) {
+            queues.set(nodeId, grow(queues.get(nodeId), newCapacity));
+        }
+        if (longQueues != null) {
+            longQueues.set(nodeId, grow(longQueues.get(nodeId), newCapacity));
+        }
+    }
+
+    int capacity(long nodeId) {
+        return queues != null
+            ? queues.get(nodeId).length
+            : longQueues.get(nodeId).length;
+    }
+
+    /**
+     * Reserves {@code width} consecutive slots in the queue of the given
+     * node and returns the index of the first slot. The queue is grown
+     * if necessary.
+     */
+    private long reserve(long nodeId, int width) {
         // The index which we will eventually use to
         // insert the message into the nodes' queue.
         long idx;
@@ -69,7 +162,7 @@ public abstract class PrimitiveDoubleQueues {
                 // When the thread is done growing, the index will
                 // turn positive again, so we go ahead and try to
                 // set the next index.
-                var nextId = -idx + 1;
+                var nextId = -idx + width;
 
                 while (true) {
                     var currentIdx = tails.compareAndExchange(nodeId, -idx, nextId);
@@ -91,9 +184,9 @@ public abstract class PrimitiveDoubleQueues {
                     // trying to set the next index.
                 }
             }
-            // We basically perform and getAndIncrement and try
+            // We basically perform and getAndAdd and try
             // to update the tail with the next index.
-            long nextIdx = idx + 1;
+            long nextIdx = idx + width;
 
             if (hasSpaceLeft(nodeId, (int) nextIdx)) {
                 // There is still room in the local queue.
@@ -112,14 +205,15 @@ public abstract class PrimitiveDoubleQueues {
                 if (currentIdx == idx) {
                     // Only a single thread gets into this block.
                     // We grow the queue and make sure there is
-                    // enough space for the next index.
+                    // enough space for the next index as well as
+                    // for a message of a thread waiting for us.
 
                     // We need to get exclusive access to the queue
                     // since we will grow and replace it. We have to
                     // make sure that no other thread is currently
                     // inserting into the queue.
                     getExclusiveReference(nodeId);
-                    grow(nodeId, (int) nextIdx);
+                    grow(nodeId, (int) (nextIdx + width));
                     dropExclusiveReference(nodeId);
 
                     // We turn the index back to the positive value to notify
@@ -137,11 +231,7 @@ public abstract class PrimitiveDoubleQueues {
         // in order to avoid reading from the queue before it is grown.
         VarHandle.fullFence();
 
-        // Multiple threads can concurrently update the queue, we need
-        // to signal this with a shared reference to the array.
-        getSharedReference(nodeId);
-        ARRAY_HANDLE.setVolatile(queues.get(nodeId), (int) idx, message);
-        dropSharedReference(nodeId);
+        return idx;
     }
 
     private void getSharedReference(long nodeId) {
@@ -193,11 +283,16 @@ public abstract class PrimitiveDoubleQueues {
     }
 
     private boolean hasSpaceLeft(long nodeId, int minCapacity) {
-        return queues.get(nodeId).length >= minCapacity;
+        return capacity(nodeId) >= minCapacity;
     }
 
     void release() {
-        this.queues.release();
+        if (this.queues != null) {
+            this.queues.release();
+        }
+        if (this.longQueues != null) {
+            this.longQueues.release();
+        }
         this.tails.release();
         this.referenceCounts.release();
     }
@@ -211,4 +306,9 @@ public abstract class PrimitiveDoubleQueues {
     double[] queue(long nodeId) {
         return queues.get(nodeId);
     }
+
+    @TestOnly
+    long[] longQueue(long nodeId) {
+        return longQueues.get(nodeId);
+    }
 }
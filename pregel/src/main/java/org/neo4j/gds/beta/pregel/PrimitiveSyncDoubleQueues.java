@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
@@ -30,7 +31,8 @@ import java.util.Arrays;
 public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     // Represents the queues of the previous iteration.
     // super.queues and prevQueues are being toggled after each iteration.
-    private HugeObjectArray<double[]> prevQueues;
+    private @Nullable HugeObjectArray<double[]> prevQueues;
+    private @Nullable HugeObjectArray<long[]> prevLongQueues;
     private HugeAtomicLongArray prevTails;
 
     public static PrimitiveSyncDoubleQueues of(long nodeCount) {
@@ -38,25 +40,73 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     public static PrimitiveSyncDoubleQueues of(long nodeCount, int initialQueueCapacity) {
+        return of(nodeCount, initialQueueCapacity, MessageSchema.DOUBLE);
+    }
+
+    public static PrimitiveSyncDoubleQueues of(long nodeCount, MessageSchema messageSchema) {
+        return of(nodeCount, MIN_CAPACITY, messageSchema);
+    }
+
+    public static PrimitiveSyncDoubleQueues of(
+        long nodeCount,
+        int initialQueueCapacity,
+        MessageSchema messageSchema
+    ) {
         var currentTails = HugeAtomicLongArray.newArray(nodeCount);
         var prevTails = HugeAtomicLongArray.newArray(nodeCount);
 
-        var currentQueues = HugeObjectArray.newArray(double[].class, nodeCount);
-        var prevQueues = HugeObjectArray.newArray(double[].class, nodeCount);
-
         var referenceCounts = HugeAtomicLongArray.newArray(nodeCount);
 
         var capacity = Math.max(initialQueueCapacity, MIN_CAPACITY);
-        currentQueues.setAll(value -> new double[capacity]);
-        prevQueues.setAll(value -> new double[capacity]);
 
-        return new PrimitiveSyncDoubleQueues(currentQueues, currentTails, prevQueues, prevTails, referenceCounts);
+        HugeObjectArray<double[]> currentQueues = null;
+        HugeObjectArray<double[]> prevQueues = null;
+        if (messageSchema.hasDoubleComponent()) {
+            currentQueues = HugeObjectArray.newArray(double[].class, nodeCount);
+            prevQueues = HugeObjectArray.newArray(double[].class, nodeCount);
+            currentQueues.setAll(value -> new double[capacity]);
+            prevQueues.setAll(value -> new double[capacity]);
+        }
+
+        HugeObjectArray<long[]> currentLongQueues = null;
+        HugeObjectArray<long[]> prevLongQueues = null;
+        if (messageSchema.hasLongComponent()) {
+            currentLongQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+            prevLongQueues = HugeObjectArray.newArray(long[].class, nodeCount);
+            currentLongQueues.setAll(value -> new long[capacity]);
+            prevLongQueues.setAll(value -> new long[capacity]);
+        }
+
+        return new PrimitiveSyncDoubleQueues(
+            currentQueues,
+            currentLongQueues,
+            currentTails,
+            prevQueues,
+            prevLongQueues,
+            prevTails,
+            referenceCounts
+        );
     }
 
     public static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(PrimitiveSyncDoubleQueues.class)
-            .add("current queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
-            .add("previous queues", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY)))
+        return memoryEstimation(MessageSchema.DOUBLE);
+    }
+
+    public static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        var builder = MemoryEstimations.builder(PrimitiveSyncDoubleQueues.class);
+        if (messageSchema.hasDoubleComponent()) {
+            var queueSize = MemoryUsage.sizeOfDoubleArray(MIN_CAPACITY);
+            builder
+                .add("current queues", HugeObjectArray.memoryEstimation(queueSize))
+                .add("previous queues", HugeObjectArray.memoryEstimation(queueSize));
+        }
+        if (messageSchema.hasLongComponent()) {
+            var queueSize = MemoryUsage.sizeOfLongArray(MIN_CAPACITY);
+            builder
+                .add("current long queues", HugeObjectArray.memoryEstimation(queueSize))
+                .add("previous long queues", HugeObjectArray.memoryEstimation(queueSize));
+        }
+        return builder
             .perNode("current tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("previous tails", HugeAtomicLongArray::memoryEstimation)
             .perNode("reference counts", HugeAtomicLongArray::memoryEstimation)
@@ -64,14 +114,17 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     }
 
     private PrimitiveSyncDoubleQueues(
-        HugeObjectArray<double[]> currentQueues,
+        @Nullable HugeObjectArray<double[]> currentQueues,
+        @Nullable HugeObjectArray<long[]> currentLongQueues,
         HugeAtomicLongArray currentTails,
-        HugeObjectArray<double[]> prevQueues,
+        @Nullable HugeObjectArray<double[]> prevQueues,
+        @Nullable HugeObjectArray<long[]> prevLongQueues,
         HugeAtomicLongArray prevTails,
         HugeAtomicLongArray referenceCounts
     ) {
-        super(currentQueues, currentTails, referenceCounts);
+        super(currentQueues, currentLongQueues, currentTails, referenceCounts);
         this.prevQueues = prevQueues;
+        this.prevLongQueues = prevLongQueues;
         this.prevTails = prevTails;
     }
 
@@ -85,37 +138,69 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
         var tmpQueues = queues;
         this.queues = prevQueues;
         this.prevQueues = tmpQueues;
+        var tmpLongQueues = longQueues;
+        this.longQueues = prevLongQueues;
+        this.prevLongQueues = tmpLongQueues;
     }
 
     void initIterator(Iterator iterator, long nodeId) {
-        iterator.init(prevQueues.get(nodeId), (int) prevTails.get(nodeId));
+        iterator.init(
+            prevQueues != null ? prevQueues.get(nodeId) : null,
+            prevLongQueues != null ? prevLongQueues.get(nodeId) : null,
+            (int) prevTails.get(nodeId)
+        );
+    }
+
+    @Override
+    double[] grow(double[] queue, int newCapacity) {
+        return Arrays.copyOf(queue, newCapacity);
     }
 
     @Override
-    void grow(long nodeId, int minCapacity) {
-        var queue = queues.get(nodeId);
-        var capacity = queue.length;
-        // grow by 50%
-        var newCapacity = capacity + (capacity >> 1);
-        queues.set(nodeId, Arrays.copyOf(queue, newCapacity));
+    long[] grow(long[] queue, int newCapacity) {
+        return Arrays.copyOf(queue, newCapacity);
     }
 
     @Override
     void release() {
         super.release();
         this.prevTails.release();
-        this.prevQueues.release();
+        if (this.prevQueues != null) {
+            this.prevQueues.release();
+        }
+        if (this.prevLongQueues != null) {
+            this.prevLongQueues.release();
+        }
     }
 
     static class Iterator implements Messages.MessageIterator {
 
+        private final int width;
+        private final double[] arrayBuffer;
+
         double[] queue;
+        long[] longQueue;
         private int length;
         private int pos;
+        // start index of the message the cursor is positioned at
+        private int current;
 
-        void init(double[] queue, int length) {
+        Iterator() {
+            this(MessageSchema.DOUBLE);
+        }
+
+        Iterator(MessageSchema messageSchema) {
+            this.width = messageSchema.width();
+            this.arrayBuffer = messageSchema.layout() == MessageSchema.Layout.DOUBLE_ARRAY
+                ? new double[width]
+                : null;
+        }
+
+        void init(@Nullable double[] queue, @Nullable long[] longQueue, int length) {
             this.queue = queue;
+            this.longQueue = longQueue;
             this.pos = 0;
+            this.current = 0;
             this.length = length;
         }
 
@@ -129,9 +214,40 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
             return queue[pos++];
         }
 
+        @Override
+        public long nextLong() {
+            return longQueue[pos++];
+        }
+
         @Override
         public boolean isEmpty() {
             return length == 0;
         }
+
+        @Override
+        public boolean nextMessage() {
+            if (pos >= length) {
+                return false;
+            }
+            current = pos;
+            pos += width;
+            return true;
+        }
+
+        @Override
+        public long longValue() {
+            return longQueue[current];
+        }
+
+        @Override
+        public double doubleValue() {
+            return queue[current];
+        }
+
+        @Override
+        public double[] doubleArrayValue() {
+            System.arraycopy(queue, current, arrayBuffer, 0, width);
+            return arrayBuffer;
+        }
     }
 }
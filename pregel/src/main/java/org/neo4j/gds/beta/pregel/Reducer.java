@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface Reducer {
 
     /**
@@ -31,6 +33,67 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Whether partially reduced values can be merged using {@link #combine(double, double)}.
+     * Only combinable reducers are used to pre-reduce messages at the sender side.
+     * Custom reducers that are not decomposable, i.e. whose result depends on
+     * seeing every single message, must not return true.
+     */
+    default boolean isCombinable() {
+        return false;
+    }
+
+    /**
+     * Combines two values that have each been reduced from a subset
+     * of the messages sent to a node. This is only called if the
+     * reducer {@link #isCombinable() is combinable}.
+     * <br>
+     * The default implementation treats a reduced value like a message,
+     * which is correct for reducers such as sum, minimum or maximum.
+     */
+    default double combine(double current, double reduced) {
+        return reduce(current, reduced);
+    }
+
+    /**
+     * Whether the reducer can be applied to messages of the
+     * {@link MessageSchema#LONG} schema.
+     */
+    default boolean supportsLongMessages() {
+        return false;
+    }
+
+    /**
+     * The identity element for messages of the {@link MessageSchema#LONG} schema.
+     */
+    default long longIdentity() {
+        throw unsupportedLongMessages();
+    }
+
+    /**
+     * Computes a new value based on the current value and the long message.
+     */
+    default long reduceLong(long current, long message) {
+        throw unsupportedLongMessages();
+    }
+
+    /**
+     * Whether the reduced value is always one of the reduced messages, e.g.
+     * the minimum or the maximum. Only selective reducers can be applied
+     * to {@link MessageSchema#LONG_DOUBLE} messages, where the value is
+     * reduced and the id of the selected message is kept.
+     */
+    default boolean isSelective() {
+        return false;
+    }
+
+    private UnsupportedOperationException unsupportedLongMessages() {
+        return new UnsupportedOperationException(formatWithLocale(
+            "%s does not support long messages.",
+            getClass().getSimpleName()
+        ));
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +106,25 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsLongMessages() {
+            return true;
+        }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return current + message;
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +138,31 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsLongMessages() {
+            return true;
+        }
+
+        @Override
+        public long longIdentity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return Math.min(current, message);
+        }
+
+        @Override
+        public boolean isSelective() {
+            return true;
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +176,31 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsLongMessages() {
+            return true;
+        }
+
+        @Override
+        public long longIdentity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return Math.max(current, message);
+        }
+
+        @Override
+        public boolean isSelective() {
+            return true;
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +214,30 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public boolean isCombinable() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double reduced) {
+            return current + reduced;
+        }
+
+        @Override
+        public boolean supportsLongMessages() {
+            return true;
+        }
+
+        @Override
+        public long longIdentity() {
+            return 0;
+        }
+
+        @Override
+        public long reduceLong(long current, long message) {
+            return current + 1;
+        }
     }
 }
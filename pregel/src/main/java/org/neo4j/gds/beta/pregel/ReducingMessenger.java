@@ -19,17 +19,27 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 /**
  * A messenger implementation that is backed by two double arrays used
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * If a spill directory is given, both arrays are kept in memory-mapped
+ * files outside the JVM heap, of which only a bounded number of pages
+ * is mapped at the same time.
+ * If the reducer {@link Reducer#isCombinable() is combinable}, compute steps
+ * pre-reduce their outgoing messages using a {@link MessageCombiner} to
+ * reduce contention on the target slots.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
@@ -41,23 +51,54 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     private HugeAtomicDoubleArray receiveArray;
 
     ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+        this(graph, config, reducer, Optional.empty());
+    }
+
+    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, Optional<Path> spillDirectory) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
 
-        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
-        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
+        this.receiveArray = newArray(graph.nodeCount(), spillDirectory, config);
+        this.sendArray = newArray(graph.nodeCount(), spillDirectory, config);
+    }
+
+    private static HugeAtomicDoubleArray newArray(long nodeCount, Optional<Path> spillDirectory, PregelConfig config) {
+        if (spillDirectory.isEmpty()) {
+            return HugeAtomicDoubleArray.newArray(nodeCount);
+        }
+        int numberOfPages = (int) ((nodeCount + MappedHugeAtomicDoubleArray.PAGE_SIZE - 1) >>> MappedHugeAtomicDoubleArray.PAGE_SHIFT);
+        return MappedHugeAtomicDoubleArray.of(
+            nodeCount,
+            spillDirectory.get(),
+            config.messageSpillMaxMappedPages().orElse(Math.max(numberOfPages, 1))
+        );
     }
 
-    static MemoryEstimation memoryEstimation() {
+    /**
+     * If messages are spilled, the message arrays only contribute
+     * their on-heap bookkeeping, the pages are mapped outside the heap.
+     */
+    static MemoryEstimation memoryEstimation(boolean spillMessages) {
+        if (spillMessages) {
+            return MemoryEstimations.builder(ReducingMessenger.class)
+                .perNode("send array", MappedHugeAtomicDoubleArray::memoryEstimation)
+                .perNode("receive array", MappedHugeAtomicDoubleArray::memoryEstimation)
+                .build();
+        }
         return MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
             .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
             .build();
     }
 
+    @Override
+    public MessageSchema messageSchema() {
+        return MessageSchema.DOUBLE;
+    }
+
     @Override
     public void initIteration(int iteration) {
         // Swap arrays
@@ -80,6 +121,24 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    /**
+     * Reduces a value that has already been combined at the
+     * sender side into the target's slot.
+     */
+    void sendCombined(long targetNodeId, double combinedMessage) {
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.combine(current, combinedMessage)
+        );
+    }
+
+    @Override
+    public @Nullable MessageCombiner newCombiner(long partitionNodeCount) {
+        return reducer.isCombinable()
+            ? new MessageCombiner(this, reducer, partitionNodeCount)
+            : null;
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
         return new SingleMessageIterator();
@@ -24,13 +24,20 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final MessageSchema messageSchema;
 
-    SyncQueueMessenger(long nodeCount) {
-        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+    SyncQueueMessenger(long nodeCount, MessageSchema messageSchema) {
+        this.queues = PrimitiveSyncDoubleQueues.of(nodeCount, messageSchema);
+        this.messageSchema = messageSchema;
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return PrimitiveSyncDoubleQueues.memoryEstimation();
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        return PrimitiveSyncDoubleQueues.memoryEstimation(messageSchema);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
     }
 
     @Override
@@ -43,9 +50,24 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        queues.pushLong(targetNodeId, message);
+    }
+
+    @Override
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        queues.push(targetNodeId, id, value);
+    }
+
+    @Override
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        queues.push(targetNodeId, message);
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
-        return new PrimitiveSyncDoubleQueues.Iterator();
+        return new PrimitiveSyncDoubleQueues.Iterator(messageSchema);
     }
 
     @Override
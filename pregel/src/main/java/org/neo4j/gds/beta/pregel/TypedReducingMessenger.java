@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A messenger implementation for computations with a {@link Reducer}
+ * and a message schema other than {@link MessageSchema#DOUBLE}.
+ * All incoming messages of a node are reduced into a single message,
+ * whose components are stored in primitive arrays:
+ * <ul>
+ *     <li>{@link MessageSchema.Layout#LONG} messages are atomically reduced using {@link Reducer#reduceLong(long, long)}.</li>
+ *     <li>{@link MessageSchema.Layout#LONG_DOUBLE} messages require a {@link Reducer#isSelective() selective} reducer.
+ *     The double values are reduced and the id of the selected message is kept. Both components are updated under a striped lock.</li>
+ *     <li>{@link MessageSchema.Layout#DOUBLE_ARRAY} messages are reduced element-wise, each element is updated atomically.</li>
+ * </ul>
+ */
+class TypedReducingMessenger implements Messenger<TypedReducingMessenger.SingleMessageIterator> {
+
+    private static final int LOCK_COUNT = 1 << 10;
+    private static final int LOCK_MASK = LOCK_COUNT - 1;
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final Reducer reducer;
+    private final MessageSchema messageSchema;
+    private final int width;
+
+    private @Nullable HugeAtomicLongArray sendLongs;
+    private @Nullable HugeAtomicLongArray receiveLongs;
+    private @Nullable HugeAtomicDoubleArray sendDoubles;
+    private @Nullable HugeAtomicDoubleArray receiveDoubles;
+    private HugeAtomicBitSet sendBits;
+    private HugeAtomicBitSet receiveBits;
+
+    private final @Nullable ReentrantLock[] locks;
+
+    TypedReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, MessageSchema messageSchema) {
+        assert messageSchema.layout() != MessageSchema.Layout.DOUBLE;
+
+        this.graph = graph;
+        this.config = config;
+        this.reducer = reducer;
+        this.messageSchema = messageSchema;
+        this.width = messageSchema.width();
+
+        var nodeCount = graph.nodeCount();
+        if (messageSchema.hasLongComponent()) {
+            this.sendLongs = HugeAtomicLongArray.newArray(nodeCount);
+            this.receiveLongs = HugeAtomicLongArray.newArray(nodeCount);
+        }
+        if (messageSchema.hasDoubleComponent()) {
+            this.sendDoubles = HugeAtomicDoubleArray.newArray(nodeCount * width);
+            this.receiveDoubles = HugeAtomicDoubleArray.newArray(nodeCount * width);
+        }
+        this.sendBits = HugeAtomicBitSet.create(nodeCount);
+        this.receiveBits = HugeAtomicBitSet.create(nodeCount);
+
+        if (messageSchema.layout() == MessageSchema.Layout.LONG_DOUBLE) {
+            this.locks = new ReentrantLock[LOCK_COUNT];
+            for (int i = 0; i < LOCK_COUNT; i++) {
+                locks[i] = new ReentrantLock();
+            }
+        } else {
+            this.locks = null;
+        }
+    }
+
+    static MemoryEstimation memoryEstimation(MessageSchema messageSchema) {
+        var width = messageSchema.width();
+        var builder = MemoryEstimations.builder(TypedReducingMessenger.class);
+        if (messageSchema.hasLongComponent()) {
+            builder
+                .perNode("send long array", HugeAtomicLongArray::memoryEstimation)
+                .perNode("receive long array", HugeAtomicLongArray::memoryEstimation);
+        }
+        if (messageSchema.hasDoubleComponent()) {
+            builder
+                .perNode("send double array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+                .perNode("receive double array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width));
+        }
+        if (messageSchema.layout() == MessageSchema.Layout.LONG_DOUBLE) {
+            builder.fixed("locks", MemoryUsage.sizeOfObjectArray(LOCK_COUNT) + LOCK_COUNT * MemoryUsage.sizeOfInstance(ReentrantLock.class));
+        }
+        return builder
+            .perNode("send bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("receive bits", HugeAtomicBitSet::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmpLongs = receiveLongs;
+        this.receiveLongs = sendLongs;
+        this.sendLongs = tmpLongs;
+
+        var tmpDoubles = receiveDoubles;
+        this.receiveDoubles = sendDoubles;
+        this.sendDoubles = tmpDoubles;
+
+        var tmpBits = receiveBits;
+        this.receiveBits = sendBits;
+        this.sendBits = tmpBits;
+
+        sendBits.clear();
+        ParallelUtil.parallelForEachNode(graph, config.concurrency(), this::reset);
+    }
+
+    private void reset(long nodeId) {
+        if (sendLongs != null && messageSchema.layout() == MessageSchema.Layout.LONG) {
+            sendLongs.set(nodeId, reducer.longIdentity());
+        }
+        if (sendDoubles != null) {
+            var offset = nodeId * width;
+            for (int i = 0; i < width; i++) {
+                sendDoubles.set(offset + i, reducer.identity());
+            }
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Messages of layout `%s` are not supported by %s.",
+            MessageSchema.Layout.DOUBLE,
+            getClass().getSimpleName()
+        ));
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        sendLongs.update(targetNodeId, current -> reducer.reduceLong(current, message));
+        sendBits.set(targetNodeId);
+    }
+
+    @Override
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        var lock = locks[(int) (targetNodeId & LOCK_MASK)];
+        lock.lock();
+        try {
+            var current = sendDoubles.get(targetNodeId);
+            var reduced = reducer.reduce(current, value);
+            // The first message is always selected, afterwards only
+            // messages that replace the current value are selected.
+            if (!sendBits.get(targetNodeId) || reduced != current) {
+                sendDoubles.set(targetNodeId, reduced);
+                sendLongs.set(targetNodeId, id);
+                sendBits.set(targetNodeId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        var offset = targetNodeId * width;
+        for (int i = 0; i < width; i++) {
+            var value = message[i];
+            sendDoubles.update(offset + i, current -> reducer.reduce(current, value));
+        }
+        sendBits.set(targetNodeId);
+    }
+
+    @Override
+    public SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator(width);
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleMessageIterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        if (!receiveBits.get(nodeId)) {
+            messageIterator.hasNext = false;
+            return;
+        }
+        if (receiveLongs != null) {
+            messageIterator.longValue = receiveLongs.get(nodeId);
+        }
+        if (receiveDoubles != null) {
+            var offset = nodeId * width;
+            for (int i = 0; i < width; i++) {
+                messageIterator.doubleValues[i] = receiveDoubles.get(offset + i);
+            }
+        }
+        messageIterator.hasNext = true;
+    }
+
+    @Override
+    public void release() {
+        if (sendLongs != null) {
+            sendLongs.release();
+            receiveLongs.release();
+        }
+        if (sendDoubles != null) {
+            sendDoubles.release();
+            receiveDoubles.release();
+        }
+    }
+
+    static class SingleMessageIterator implements Messages.MessageIterator {
+
+        boolean hasNext;
+        long longValue;
+        final double[] doubleValues;
+
+        SingleMessageIterator(int width) {
+            this.doubleValues = new double[width];
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            hasNext = false;
+            return doubleValues[0];
+        }
+
+        @Override
+        public long nextLong() {
+            hasNext = false;
+            return longValue;
+        }
+
+        @Override
+        public boolean nextMessage() {
+            var hadNext = hasNext;
+            hasNext = false;
+            return hadNext;
+        }
+
+        @Override
+        public long longValue() {
+            return longValue;
+        }
+
+        @Override
+        public double doubleValue() {
+            return doubleValues[0];
+        }
+
+        @Override
+        public double[] doubleArrayValue() {
+            return doubleValues;
+        }
+    }
+}
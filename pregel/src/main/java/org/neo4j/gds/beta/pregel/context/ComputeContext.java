@@ -35,9 +35,13 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         this.sendMessagesFunction = config.hasRelationshipWeightProperty()
             ? computeStep::sendToNeighborsWeighted
             : computeStep::sendToNeighbors;
+        this.sendPairsFunction = config.hasRelationshipWeightProperty()
+            ? computeStep::sendPairToNeighborsWeighted
+            : computeStep::sendPairToNeighbors;
     }
 
     private final SendMessagesFunction sendMessagesFunction;
+    private final SendPairsFunction sendPairsFunction;
 
     /**
      * Returns the node value for the given node schema key.
@@ -127,8 +131,70 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Requires the {@link org.neo4j.gds.beta.pregel.MessageSchema#LONG} message schema.
+     */
+    public void sendLongToNeighbors(long message) {
+        computeStep.sendLongToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Requires the {@link org.neo4j.gds.beta.pregel.MessageSchema#LONG} message schema.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        computeStep.sendLongTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends a single message consisting of the given id and value to all neighbors of the node.
+     * If the graph is weighted, the relationship weight is applied to the value.
+     * Requires the {@link org.neo4j.gds.beta.pregel.MessageSchema#LONG_DOUBLE} message schema.
+     */
+    public void sendPairToNeighbors(long id, double value) {
+        sendPairsFunction.sendToNeighbors(nodeId, id, value);
+    }
+
+    /**
+     * Sends a single message consisting of the given id and value to the target node.
+     * Requires the {@link org.neo4j.gds.beta.pregel.MessageSchema#LONG_DOUBLE} message schema.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendPairTo(long targetNodeId, long id, double value) {
+        computeStep.sendPairTo(targetNodeId, id, value);
+    }
+
+    /**
+     * Sends the given array as a single message to all neighbors of the node.
+     * Requires a {@link org.neo4j.gds.beta.pregel.MessageSchema#doubleArray(int)} message
+     * schema and the array length to match the schema.
+     */
+    public void sendArrayToNeighbors(double[] message) {
+        computeStep.sendArrayToNeighbors(nodeId, message);
+    }
+
+    /**
+     * Sends the given array as a single message to the target node.
+     * Requires a {@link org.neo4j.gds.beta.pregel.MessageSchema#doubleArray(int)} message
+     * schema and the array length to match the schema.
+     *
+     * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
+     */
+    public void sendArrayTo(long targetNodeId, double[] message) {
+        computeStep.sendArrayTo(targetNodeId, message);
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
     }
+
+    @FunctionalInterface
+    interface SendPairsFunction {
+        void sendToNeighbors(long sourceNodeId, long id, double value);
+    }
 }
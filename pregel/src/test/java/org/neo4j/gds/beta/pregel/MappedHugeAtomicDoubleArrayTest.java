@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedHugeAtomicDoubleArrayTest {
+
+    @Test
+    void keepsValuesOfEvictedPages(@TempDir Path directory) {
+        long size = 3L * MappedHugeAtomicDoubleArray.PAGE_SIZE;
+        var array = MappedHugeAtomicDoubleArray.of(size, directory, 1);
+
+        for (long i = 0; i < size; i += MappedHugeAtomicDoubleArray.PAGE_SIZE / 2) {
+            array.set(i, i);
+            assertThat(array.mappedPages()).isLessThanOrEqualTo(1);
+        }
+
+        for (long i = 0; i < size; i += MappedHugeAtomicDoubleArray.PAGE_SIZE / 2) {
+            assertThat(array.getAndAdd(i, 1.0)).isEqualTo(i);
+            assertThat(array.get(i)).isEqualTo(i + 1.0);
+            assertThat(array.mappedPages()).isLessThanOrEqualTo(1);
+        }
+
+        array.release();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void rejectsNonPositiveNumberOfMappedPages(@TempDir Path directory) {
+        assertThatThrownBy(() -> MappedHugeAtomicDoubleArray.of(42, directory, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The number of mapped pages must be positive, got 0.");
+    }
+}
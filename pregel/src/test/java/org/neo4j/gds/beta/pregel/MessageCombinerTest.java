@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageCombinerTest {
+
+    static Stream<Arguments> reducers() {
+        return Stream.of(
+            Arguments.of(new Reducer.Sum(), 20.0),
+            Arguments.of(new Reducer.Min(), 2.0),
+            Arguments.of(new Reducer.Max(), 2.0),
+            Arguments.of(new Reducer.Count(), 10.0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("reducers")
+    void combinesMessagesWithEviction(Reducer reducer, double expected) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(5_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder().maxIterations(1).build();
+        var messenger = new ReducingMessenger(graph, config, reducer);
+        messenger.initIteration(0);
+
+        var combiner = messenger.newCombiner(graph.nodeCount());
+        // node 0 and node 4096 share the same slot and evict each other
+        for (int i = 0; i < 10; i++) {
+            combiner.sendTo(0, 2.0);
+            combiner.sendTo(4096, 2.0);
+        }
+        combiner.sendTo(1, 2.0);
+        combiner.flush();
+
+        messenger.initIteration(1);
+        var iterator = messenger.messageIterator();
+
+        for (long nodeId : new long[]{0, 4096}) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            assertThat(iterator.hasNext()).isTrue();
+            assertThat(iterator.nextDouble()).isEqualTo(expected);
+        }
+
+        messenger.initMessageIterator(iterator, 2, false);
+        assertThat(iterator.isEmpty()).isTrue();
+    }
+
+    @Test
+    void doesNotCombineCustomReducers() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // the average of all messages cannot be computed from partial averages
+        var average = new Reducer() {
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double reduce(double current, double message) {
+                return (current + message) / 2;
+            }
+        };
+
+        var config = ImmutablePregelConfig.builder().maxIterations(1).build();
+
+        assertThat(new ReducingMessenger(graph, config, average).newCombiner(graph.nodeCount())).isNull();
+        assertThat(new ReducingMessenger(graph, config, new Reducer.Sum()).newCombiner(graph.nodeCount())).isNotNull();
+    }
+
+    @Test
+    void sizesBufferByPartition() {
+        assertThat(MessageCombiner.capacity(0)).isEqualTo(1);
+        assertThat(MessageCombiner.capacity(3)).isEqualTo(4);
+        assertThat(MessageCombiner.capacity(1000)).isEqualTo(1024);
+        assertThat(MessageCombiner.capacity(1_000_000)).isEqualTo(MessageCombiner.MAX_CAPACITY);
+
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(8).build();
+        assertThat(MessageCombiner.memoryEstimation().estimate(dimensions, 4).memoryUsage())
+            .isEqualTo(MemoryRange.of(4 * (MemoryUsage.sizeOfInstance(MessageCombiner.class)
+                                           + MemoryUsage.sizeOfLongArray(2)
+                                           + MemoryUsage.sizeOfDoubleArray(2))));
+    }
+}
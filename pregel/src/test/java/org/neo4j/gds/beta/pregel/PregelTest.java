@@ -21,6 +21,7 @@ package org.neo4j.gds.beta.pregel;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -41,8 +42,10 @@ import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.SpillLocationService;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
@@ -52,7 +55,9 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.utils.ExceptionUtil;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -60,6 +65,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -375,8 +381,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441712L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442288L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -385,7 +391,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9441784L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -395,12 +401,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9442360L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841672L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842248L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -409,7 +415,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5841744L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -419,12 +425,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5842320L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 307192L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 406648L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -433,7 +439,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2307264L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -443,7 +449,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2406720L
             )
         );
     }
@@ -471,6 +477,28 @@ class PregelTest {
         );
     }
 
+    @Test
+    void memoryEstimationExcludesSpilledMessageArrays() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var pregelSchema = new PregelSchema.Builder().add("key", ValueType.LONG).build();
+
+        var onHeap = Pregel
+            .memoryEstimation(pregelSchema, false, false, false)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var spilled = Pregel
+            .memoryEstimation(pregelSchema, false, false, true)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        var savedPerArray = HugeAtomicDoubleArray.memoryEstimation(10_000) - MappedHugeAtomicDoubleArray.memoryEstimation(10_000);
+        assertEquals(onHeap.max - 2 * savedPerArray, spilled.max);
+        assertEquals(onHeap.min - 2 * savedPerArray, spilled.min);
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -532,6 +560,213 @@ class PregelTest {
         ));
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendsLongDoubleMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongDoubleMessages(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertThat(nodeValues.longProperties(TestLongDoubleMessages.ID_KEY).toArray()).containsExactly(-1L, 0L, 0L);
+        assertThat(nodeValues.doubleProperties(TestLongDoubleMessages.VALUE_KEY).toArray()).containsExactly(Double.NaN, 42.0, 42.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void sendsDoubleArrayMessages(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestDoubleArrayMessages(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertThat(nodeValues.doubleArrayProperties(KEY).get(0)).isNull();
+        assertThat(nodeValues.doubleArrayProperties(KEY).get(1)).containsExactly(0.0, 1.0, 2.0);
+        assertThat(nodeValues.doubleArrayProperties(KEY).get(2)).containsExactly(0.0, 1.0, 2.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void spillsReducedMessagesToDisk(Partitioning partitioning, @TempDir Path exportLocation) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .messageSpillDirectory("messages")
+            .messageSpillMaxMappedPages(1)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestReduciblePregelComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            SpillLocationService.of(exportLocation)
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertArrayEquals(new double[]{0.0, 1.0, 1.0}, nodeValues.doubleProperties(KEY).toArray());
+
+        pregelJob.release();
+        assertThat(exportLocation.resolve(SpillLocationService.SPILL_DIR).resolve("messages")).isEmptyDirectory();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"../messages", "/tmp/messages"})
+    void rejectsSpillDirectoriesOutsideOfTheSpillLocation(String spillDirectory, @TempDir Path exportLocation) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .messageSpillDirectory(spillDirectory)
+            .build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestReduciblePregelComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            SpillLocationService.of(exportLocation)
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("attempts to write into a forbidden directory");
+    }
+
+    @Test
+    void rejectsSpillingWithoutExportLocation() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .messageSpillDirectory("messages")
+            .build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestReduciblePregelComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("gds.export.location");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void sendsTypedMessagesInAsynchronousComputation(boolean useForkJoin) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .isAsynchronous(true)
+            .partitioning(useForkJoin ? Partitioning.AUTO : Partitioning.RANGE)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestLongDoubleMessages(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+        assertThat(nodeValues.longProperties(TestLongDoubleMessages.ID_KEY).toArray()).containsExactly(-1L, 0L, 0L);
+        assertThat(nodeValues.doubleProperties(TestLongDoubleMessages.VALUE_KEY).toArray()).containsExactly(Double.NaN, 42.0, 42.0);
+    }
+
+    @Test
+    void reducesLongMessages() {
+        var nodeValues = runTypedReducerComputation(MessageSchema.LONG, new Reducer.Max());
+
+        assertThat(nodeValues.longProperties(TestTypedReducerComputation.ID_KEY).get(0)).isEqualTo(12L);
+    }
+
+    @Test
+    void reducesLongDoubleMessages() {
+        var nodeValues = runTypedReducerComputation(MessageSchema.LONG_DOUBLE, new Reducer.Min());
+
+        assertThat(nodeValues.longProperties(TestTypedReducerComputation.ID_KEY).get(0)).isEqualTo(1L);
+        assertThat(nodeValues.doubleProperties(TestTypedReducerComputation.VALUE_KEY).get(0)).isEqualTo(2.0);
+    }
+
+    @Test
+    void reducesDoubleArrayMessages() {
+        var nodeValues = runTypedReducerComputation(MessageSchema.doubleArray(2), new Reducer.Sum());
+
+        assertThat(nodeValues.doubleArrayProperties(TestTypedReducerComputation.ARRAY_KEY).get(0)).containsExactly(2.0, 3.0);
+    }
+
+    @Test
+    void rejectsNonSelectiveReducerForLongDoubleMessages() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestTypedReducerComputation(MessageSchema.LONG_DOUBLE, new Reducer.Sum()),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Messages of layout `LONG_DOUBLE` require a selective reducer");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void rejectsMessagesThatDoNotMatchTheSchema(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestDoubleArrayMessages() {
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    context.sendArrayToNeighbors(new double[]{1.0, 2.0});
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelJob::run)
+            .satisfies(e -> assertThat(ExceptionUtil.rootCause(e))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot send a message of layout `DOUBLE_ARRAY` with width 2, the message schema of the computation is `DOUBLE_ARRAY` with width 3."));
+    }
+
+    private NodeValue runTypedReducerComputation(MessageSchema messageSchema, Reducer reducer) {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestTypedReducerComputation(messageSchema, reducer),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        return pregelJob.run().nodeValues();
+    }
+
     static Stream<Arguments> partitioningAndAsynchronous() {
         return crossArguments(PregelTest::partitionings, TestSupport::trueFalseArguments);
     }
@@ -718,6 +953,140 @@ class PregelTest {
         }
     }
 
+    static class TestLongDoubleMessages implements PregelComputation<PregelConfig> {
+        static final String ID_KEY = "id";
+        static final String VALUE_KEY = "value";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(ID_KEY, ValueType.LONG)
+                .add(VALUE_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.LONG_DOUBLE;
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(ID_KEY, -1L);
+            context.setNodeValue(VALUE_KEY, Double.NaN);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendPairToNeighbors(context.nodeId(), 42.0);
+            } else {
+                var cursor = messages.cursor();
+                while (cursor.nextMessage()) {
+                    context.setNodeValue(ID_KEY, cursor.longValue());
+                    context.setNodeValue(VALUE_KEY, cursor.doubleValue());
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestDoubleArrayMessages implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return MessageSchema.doubleArray(3);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendArrayToNeighbors(new double[]{context.nodeId(), 1.0, 2.0});
+            } else {
+                var cursor = messages.cursor();
+                while (cursor.nextMessage()) {
+                    context.setNodeValue(KEY, cursor.doubleArrayValue().clone());
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestTypedReducerComputation implements PregelComputation<PregelConfig> {
+
+        static final String ID_KEY = "id";
+        static final String VALUE_KEY = "value";
+        static final String ARRAY_KEY = "array";
+
+        private final MessageSchema messageSchema;
+        private final Reducer reducer;
+
+        TestTypedReducerComputation(MessageSchema messageSchema, Reducer reducer) {
+            this.messageSchema = messageSchema;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(ID_KEY, ValueType.LONG)
+                .add(VALUE_KEY, ValueType.DOUBLE)
+                .add(ARRAY_KEY, ValueType.DOUBLE_ARRAY)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return messageSchema;
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(reducer);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            var nodeId = context.nodeId();
+            if (context.isInitialSuperstep()) {
+                // all nodes except the first one send a message to the first one
+                if (nodeId > 0) {
+                    switch (messageSchema.layout()) {
+                        case LONG:
+                            context.sendLongTo(0, nodeId + 10);
+                            break;
+                        case LONG_DOUBLE:
+                            context.sendPairTo(0, nodeId, nodeId * 2.0);
+                            break;
+                        default:
+                            context.sendArrayTo(0, new double[]{1.0, nodeId});
+                    }
+                }
+            } else {
+                var cursor = messages.cursor();
+                while (cursor.nextMessage()) {
+                    switch (messageSchema.layout()) {
+                        case LONG:
+                            context.setNodeValue(ID_KEY, cursor.longValue());
+                            break;
+                        case LONG_DOUBLE:
+                            context.setNodeValue(ID_KEY, cursor.longValue());
+                            context.setNodeValue(VALUE_KEY, cursor.doubleValue());
+                            break;
+                        default:
+                            context.setNodeValue(ARRAY_KEY, cursor.doubleArrayValue().clone());
+                    }
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
     static class TestEmptyMessageInInitialSuperstep implements PregelComputation<PregelConfig> {
         @Override
         public PregelSchema schema(PregelConfig config) {
@@ -191,6 +191,72 @@ class PrimitiveAsyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
             assertThat(sum).isEqualTo(IntStream.range(0, 2 * initialCapacity).sum());
         }
 
+        @Test
+        void iterateLongMessages() {
+            var initialCapacity = 42;
+            var queue = PrimitiveAsyncDoubleQueues.of(1, initialCapacity, MessageSchema.LONG);
+
+            for (int i = 0; i < 2 * initialCapacity; i++) {
+                queue.pushLong(0, Long.MAX_VALUE - i);
+            }
+
+            var iterator = new PrimitiveAsyncDoubleQueues.Iterator(queue, MessageSchema.LONG);
+            iterator.init(0);
+
+            var count = 0;
+            while (iterator.nextMessage()) {
+                assertThat(iterator.longValue()).isEqualTo(Long.MAX_VALUE - count);
+                count++;
+            }
+
+            assertThat(count).isEqualTo(2 * initialCapacity);
+        }
+
+        @Test
+        void iterateLongDoubleMessages() {
+            var initialCapacity = 42;
+            var queue = PrimitiveAsyncDoubleQueues.of(1, initialCapacity, MessageSchema.LONG_DOUBLE);
+
+            for (int i = 0; i < initialCapacity; i++) {
+                queue.push(0, (long) i, i * 2.0);
+            }
+            assertThat(queue.tail(0)).isEqualTo(initialCapacity);
+
+            var iterator = new PrimitiveAsyncDoubleQueues.Iterator(queue, MessageSchema.LONG_DOUBLE);
+            iterator.init(0);
+
+            var count = 0;
+            while (iterator.nextMessage()) {
+                assertThat(iterator.longValue()).isEqualTo(count);
+                assertThat(iterator.doubleValue()).isEqualTo(count * 2.0);
+                count++;
+            }
+
+            assertThat(count).isEqualTo(initialCapacity);
+        }
+
+        @Test
+        void iterateDoubleArrayMessagesAfterCompaction() {
+            var queue = PrimitiveAsyncDoubleQueues.of(1, 42, MessageSchema.doubleArray(3));
+            var iterator = new PrimitiveAsyncDoubleQueues.Iterator(queue, MessageSchema.doubleArray(3));
+            iterator.init(0);
+
+            for (int i = 0; i < 20; i++) {
+                queue.push(0, new double[]{i, i + 1, i + 2});
+            }
+            // consume enough messages to trigger compaction
+            for (int i = 0; i < 10; i++) {
+                assertThat(iterator.nextMessage()).isTrue();
+            }
+            queue.compact();
+
+            for (int i = 10; i < 20; i++) {
+                assertThat(iterator.nextMessage()).isTrue();
+                assertThat(iterator.doubleArrayValue()).containsExactly(i, i + 1, i + 2);
+            }
+            assertThat(iterator.nextMessage()).isFalse();
+        }
+
         @Test
         void iterateEmptyQueue() {
             var initialCapacity = 42;
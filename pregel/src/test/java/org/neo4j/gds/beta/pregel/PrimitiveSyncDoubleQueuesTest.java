@@ -79,6 +79,55 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
             assertThat(sum).isEqualTo(IntStream.range(0, 2 * initialCapacity).sum());
         }
 
+        @Test
+        void iterateLongDoubleMessages() {
+            var initialCapacity = 42;
+            var queue = PrimitiveSyncDoubleQueues.of(1, initialCapacity, MessageSchema.LONG_DOUBLE);
+
+            // a pair occupies a single slot in each component queue
+            for (int i = 0; i < initialCapacity; i++) {
+                queue.push(0, (long) i, i * 2.0);
+            }
+            assertThat(queue.tail(0)).isEqualTo(initialCapacity);
+
+            queue.swapQueues();
+
+            var iterator = new PrimitiveSyncDoubleQueues.Iterator(MessageSchema.LONG_DOUBLE);
+            queue.initIterator(iterator, 0);
+
+            var count = 0;
+            while (iterator.nextMessage()) {
+                assertThat(iterator.longValue()).isEqualTo(count);
+                assertThat(iterator.doubleValue()).isEqualTo(count * 2.0);
+                count++;
+            }
+
+            assertThat(count).isEqualTo(initialCapacity);
+        }
+
+        @Test
+        void iterateDoubleArrayMessages() {
+            var arrayLength = 50;
+            var queue = getQueue(1, 42);
+
+            for (int i = 0; i < 3; i++) {
+                var message = new double[arrayLength];
+                Arrays.fill(message, i);
+                queue.push(0, message);
+            }
+
+            queue.swapQueues();
+
+            var iterator = new PrimitiveSyncDoubleQueues.Iterator(MessageSchema.doubleArray(arrayLength));
+            queue.initIterator(iterator, 0);
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(iterator.nextMessage()).isTrue();
+                assertThat(iterator.doubleArrayValue()).hasSize(arrayLength).containsOnly((double) i);
+            }
+            assertThat(iterator.nextMessage()).isFalse();
+        }
+
         @Test
         void iterateEmptyQueue() {
             var initialCapacity = 42;
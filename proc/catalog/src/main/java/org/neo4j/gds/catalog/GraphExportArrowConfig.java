@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphExportArrowConfig extends BaseConfig {
+
+    @Value.Default
+    default List<String> nodeProperties() {
+        return Collections.emptyList();
+    }
+
+    @Value.Default
+    default List<String> nodeLabels() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    @Value.Default
+    default List<String> relationshipTypes() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    Optional<String> relationshipProperty();
+
+    /**
+     * Name of the directory within the export location to write the Arrow files to.
+     */
+    Optional<String> exportName();
+
+    /**
+     * Address of the form `host:port` to stream the Arrow data to.
+     */
+    Optional<String> address();
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int batchSize() {
+        return 10_000;
+    }
+
+    @Value.Check
+    default void validateTarget() {
+        if (exportName().isPresent() == address().isPresent()) {
+            throw new IllegalArgumentException("Exactly one of `exportName` and `address` must be specified.");
+        }
+    }
+
+    static GraphExportArrowConfig of(CypherMapWrapper config) {
+        return new GraphExportArrowConfigImpl(config);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.compat.GraphStoreExportSettings;
+import org.neo4j.gds.config.GraphStreamNodePropertiesConfig;
+import org.neo4j.gds.config.GraphStreamRelationshipPropertiesConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.io.arrow.ArrowExportResult;
+import org.neo4j.gds.core.utils.io.arrow.ArrowGraphExporter;
+import org.neo4j.gds.core.utils.io.file.GraphStoreExporterUtil;
+import org.neo4j.gds.preconditions.ClusterRestrictions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphExportArrowProc extends BaseProc {
+
+    static final String NODES_FILE = "nodes.arrows";
+    static final String RELATIONSHIPS_FILE = "relationships.arrows";
+
+    @Procedure(name = "gds.alpha.graph.export.arrow", mode = READ)
+    @Description("Exports node properties and relationships of a named graph as Arrow IPC streams.")
+    public Stream<ArrowExportProcResult> arrow(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ClusterRestrictions.disallowRunningOnCluster(api, "Export a graph to Arrow");
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = GraphExportArrowConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+
+        var nodePropertiesConfig = GraphStreamNodePropertiesConfig.of(
+            graphName,
+            config.nodeProperties(),
+            config.nodeLabels(),
+            CypherMapWrapper.empty()
+        );
+        nodePropertiesConfig.validate(graphStore);
+        var nodeLabels = nodePropertiesConfig.validNodeLabels(graphStore);
+
+        var relationshipsConfig = GraphStreamRelationshipPropertiesConfig.of(
+            graphName,
+            config.relationshipProperty().map(List::of).orElse(List.of()),
+            config.relationshipTypes(),
+            CypherMapWrapper.empty()
+        );
+        if (config.relationshipProperty().isPresent()) {
+            relationshipsConfig.validate(graphStore);
+        }
+
+        Graph nodeGraph = graphStore.getGraph(nodeLabels, graphStore.relationshipTypes(), Optional.empty());
+        Graph relationshipGraph = graphStore.getGraph(
+            nodeLabels,
+            relationshipsConfig.validRelationshipTypes(graphStore),
+            config.relationshipProperty()
+        );
+
+        Function<WritableByteChannel, ArrowExportResult> exportNodes = channel -> ArrowGraphExporter.exportNodeProperties(
+            nodeGraph,
+            config.nodeProperties(),
+            config.batchSize(),
+            channel
+        );
+        Function<WritableByteChannel, ArrowExportResult> exportRelationships = channel -> ArrowGraphExporter.exportRelationships(
+            relationshipGraph,
+            config.relationshipProperty(),
+            config.batchSize(),
+            channel
+        );
+
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        var start = System.nanoTime();
+        ArrowExportResult nodesResult;
+        ArrowExportResult relationshipsResult;
+        if (config.exportName().isPresent()) {
+            var exportPath = GraphStoreExporterUtil.exportLocation(neo4jConfig, config.exportName().get());
+            nodesResult = writeToFile(exportPath.resolve(NODES_FILE), exportNodes);
+            relationshipsResult = writeToFile(exportPath.resolve(RELATIONSHIPS_FILE), exportRelationships);
+        } else {
+            // Both streams are written to the same connection, one after the other.
+            var address = allowedSocketAddress(neo4jConfig, config.address().get());
+            try (var channel = SocketChannel.open(address)) {
+                nodesResult = exportNodes.apply(channel);
+                relationshipsResult = exportRelationships.apply(channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        var end = System.nanoTime();
+
+        return Stream.of(new ArrowExportProcResult(
+            graphName,
+            nodesResult.rowCount(),
+            relationshipsResult.rowCount(),
+            nodesResult.batchCount() + relationshipsResult.batchCount(),
+            nodesResult.bytesWritten() + relationshipsResult.bytesWritten(),
+            TimeUnit.NANOSECONDS.toMillis(end - start)
+        ));
+    }
+
+    private static ArrowExportResult writeToFile(Path file, Function<WritableByteChannel, ArrowExportResult> export) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            return export.apply(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Only hosts that are configured on the server can receive exported data,
+     * which prevents users from sending graph data to arbitrary destinations.
+     */
+    static InetSocketAddress allowedSocketAddress(Config neo4jConfig, String address) {
+        var socketAddress = socketAddress(address);
+        var allowedHosts = neo4jConfig.get(GraphStoreExportSettings.arrow_export_allowed_hosts_setting);
+        if (allowedHosts.stream().noneMatch(host -> host.equalsIgnoreCase(socketAddress.getHostString()))) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The host `%s` is not allowed to receive Arrow exports. Allowed hosts can be configured via '%s'.",
+                socketAddress.getHostString(),
+                GraphStoreExportSettings.arrow_export_allowed_hosts_setting.name()
+            ));
+        }
+        return socketAddress;
+    }
+
+    static InetSocketAddress socketAddress(String address) {
+        int separator = address.lastIndexOf(':');
+        if (separator > 0 && separator < address.length() - 1) {
+            try {
+                int port = Integer.parseInt(address.substring(separator + 1));
+                return new InetSocketAddress(address.substring(0, separator), port);
+            } catch (IllegalArgumentException e) {
+                // fall through to the error below
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected an address of the form `host:port`, but got `%s`.",
+            address
+        ));
+    }
+
+    @SuppressWarnings("unused")
+    public static class ArrowExportProcResult {
+        public final String graphName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long batchCount;
+        public final long bytesWritten;
+        public final long writeMillis;
+
+        public ArrowExportProcResult(
+            String graphName,
+            long nodeCount,
+            long relationshipCount,
+            long batchCount,
+            long bytesWritten,
+            long writeMillis
+        ) {
+            this.graphName = graphName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.batchCount = batchCount;
+            this.bytesWritten = bytesWritten;
+            this.writeMillis = writeMillis;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.compat.GraphStoreExportSettings;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.core.utils.io.file.GraphStoreExporterUtil.EXPORT_DIR;
+
+class GraphExportArrowProcTest extends BaseProcTest {
+
+    private static final byte[] END_OF_STREAM = {-1, -1, -1, -1, 0, 0, 0, 0};
+
+    @TempDir
+    Path tempDir;
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { score: 1.0 })" +
+        ", (b { score: 2.0 })" +
+        ", (c { score: 3.0 })" +
+        ", (a)-[:REL { weight: 0.5 }]->(b)" +
+        ", (b)-[:REL { weight: 1.5 }]->(c)";
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(GraphStoreExportSettings.export_location_setting, tempDir);
+        builder.setConfig(GraphStoreExportSettings.arrow_export_allowed_hosts_setting, List.of("localhost"));
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphExportArrowProc.class);
+        runQuery(DB_CYPHER);
+        runQuery(
+            "CALL gds.graph.project('g', '*', {REL: {properties: 'weight'}}, {nodeProperties: 'score'})"
+        );
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void exportToFiles() throws IOException {
+        var bytesWritten = new long[1];
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.graph.export.arrow('g', {" +
+            "  exportName: 'arrow', nodeProperties: ['score'], relationshipProperty: 'weight', batchSize: 2" +
+            "})",
+            row -> {
+                assertThat(row.getString("graphName")).isEqualTo("g");
+                assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(3);
+                assertThat(row.getNumber("relationshipCount").longValue()).isEqualTo(2);
+                assertThat(row.getNumber("batchCount").longValue()).isEqualTo(3);
+                bytesWritten[0] = row.getNumber("bytesWritten").longValue();
+            }
+        );
+
+        var exportDir = tempDir.resolve(EXPORT_DIR).resolve("arrow");
+        var nodes = Files.readAllBytes(exportDir.resolve(GraphExportArrowProc.NODES_FILE));
+        var relationships = Files.readAllBytes(exportDir.resolve(GraphExportArrowProc.RELATIONSHIPS_FILE));
+
+        assertThat(nodes.length + relationships.length).isEqualTo(bytesWritten[0]);
+        assertThat(Arrays.copyOfRange(nodes, nodes.length - 8, nodes.length)).isEqualTo(END_OF_STREAM);
+        assertThat(Arrays.copyOfRange(relationships, relationships.length - 8, relationships.length)).isEqualTo(END_OF_STREAM);
+    }
+
+    @Test
+    void exportToSocket() throws Exception {
+        try (var server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            int port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+
+            var received = CompletableFuture.supplyAsync(() -> {
+                try (var client = server.accept()) {
+                    var out = new ByteArrayOutputStream();
+                    var buffer = ByteBuffer.allocate(4096);
+                    while (client.read(buffer) != -1) {
+                        out.write(buffer.array(), 0, buffer.position());
+                        buffer.clear();
+                    }
+                    return out.toByteArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            var bytesWritten = new long[1];
+            runQueryWithRowConsumer(
+                "CALL gds.alpha.graph.export.arrow('g', {address: 'localhost:" + port + "', nodeProperties: ['score']})",
+                row -> {
+                    assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(3);
+                    assertThat(row.getNumber("relationshipCount").longValue()).isEqualTo(2);
+                    bytesWritten[0] = row.getNumber("bytesWritten").longValue();
+                }
+            );
+
+            var bytes = received.get(30, TimeUnit.SECONDS);
+            assertThat(bytes.length).isEqualTo(bytesWritten[0]);
+            assertThat(Arrays.copyOfRange(bytes, bytes.length - 8, bytes.length)).isEqualTo(END_OF_STREAM);
+        }
+    }
+
+    @Test
+    void failsWithoutExportTarget() {
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.graph.export.arrow('g', {})"))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Exactly one of `exportName` and `address` must be specified.");
+    }
+
+    @Test
+    void failsOnInvalidAddress() {
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.graph.export.arrow('g', {address: 'localhost'})"))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected an address of the form `host:port`, but got `localhost`.");
+    }
+
+    @Test
+    void failsOnHostThatIsNotAllowed() {
+        assertThatThrownBy(() -> runQuery("CALL gds.alpha.graph.export.arrow('g', {address: '127.0.0.2:4242'})"))
+            .getRootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "The host `127.0.0.2` is not allowed to receive Arrow exports. " +
+                "Allowed hosts can be configured via 'gds.export.arrow.allowed_hosts'."
+            );
+    }
+}
@@ -248,7 +248,7 @@ class ArticleRankProcTest extends BaseProcTest {
 
         assertCypherResult(
             queryBuilder.yields("bytesMin", "bytesMax"),
-            List.of(Map.of("bytesMin", 552L, "bytesMax", 552L))
+            List.of(Map.of("bytesMin", 904L, "bytesMax", 904L))
         );
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.TaskRegistry;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps track of the background jobs that write the results of procedures called with {@code asyncWrite}.
+ * A job is known from the moment it is submitted until it has finished, and can be cancelled in between.
+ */
+public final class AsyncWriteJobs {
+
+    // asynchronous writes are executed one after another to not compete for locks
+    private static final ExecutorService ASYNC_WRITE_POOL = Pools.createSingleThreadPool("async-write");
+
+    private static final Map<JobId, Job> JOBS = new ConcurrentHashMap<>();
+
+    private AsyncWriteJobs() {}
+
+    /**
+     * Submits the given write job and registers its task, so that the job is listed from now on.
+     * The job is passed a termination flag that turns false once the job is cancelled.
+     */
+    static void submit(String username, TaskRegistry taskRegistry, Task task, WriteJob writeJob) {
+        var jobId = taskRegistry.jobId();
+        var job = new Job(username);
+        if (JOBS.putIfAbsent(jobId, job) != null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "An asynchronous write with job id `%s` is already running.",
+                jobId.asString()
+            ));
+        }
+        taskRegistry.registerTask(task);
+        try {
+            ASYNC_WRITE_POOL.execute(() -> {
+                try {
+                    writeJob.run(job);
+                } finally {
+                    JOBS.remove(jobId);
+                }
+            });
+        } catch (RuntimeException e) {
+            taskRegistry.unregisterTask();
+            JOBS.remove(jobId);
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels the asynchronous write with the given job id, if it was submitted by the given user.
+     * The write stops at the next termination check; properties that have already been written are kept.
+     *
+     * @return whether a job was cancelled
+     */
+    public static boolean cancel(String username, JobId jobId) {
+        var job = JOBS.get(jobId);
+        if (job == null || !job.username.equals(username)) {
+            return false;
+        }
+        job.cancelled = true;
+        return true;
+    }
+
+    @TestOnly
+    static ExecutorService pool() {
+        return ASYNC_WRITE_POOL;
+    }
+
+    @FunctionalInterface
+    interface WriteJob {
+        void run(TerminationFlag terminationFlag);
+    }
+
+    private static final class Job implements TerminationFlag {
+        private final String username;
+        private volatile boolean cancelled;
+
+        private Job(String username) {
+            this.username = username;
+        }
+
+        @Override
+        public boolean running() {
+            return !cancelled;
+        }
+    }
+}
@@ -24,8 +24,12 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.write.NodePropertyExporter;
 import org.neo4j.gds.core.write.NodePropertyExporterBuilder;
 import org.neo4j.gds.executor.ComputationResult;
@@ -36,6 +40,7 @@ import org.neo4j.gds.result.AbstractResultBuilder;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm<ALGO_RESULT>, ALGO_RESULT, CONFIG extends WritePropertyConfig & AlgoBaseConfig, RESULT>
     implements ComputationResultConsumer<ALGO, ALGO_RESULT, CONFIG, Stream<RESULT>> {
@@ -74,8 +79,12 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
                 .withConfig(config);
 
             if (!computationResult.isGraphEmpty()) {
-                writeToNeo(builder, computationResult, executionContext);
-                computationResult.graph().releaseProperties();
+                if (config.asyncWrite()) {
+                    writeToNeoAsync(builder, computationResult, executionContext);
+                } else {
+                    writeToNeo(builder, computationResult, executionContext);
+                    computationResult.graph().releaseProperties();
+                }
             }
             return Stream.of(builder.build());
         });
@@ -106,6 +115,69 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
         }
     }
 
+    /**
+     * Hands the computed properties to a background job and returns immediately.
+     * The job is registered under the configured job id as soon as it is submitted, so that it is listed by
+     * {@code gds.beta.listProgress} until all properties are written, and can be cancelled using
+     * {@code gds.alpha.asyncWrite.cancel}.
+     */
+    void writeToNeoAsync(
+        AbstractResultBuilder<?> resultBuilder,
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
+        ExecutionContext executionContext
+    ) {
+        var config = computationResult.config();
+        var graph = computationResult.graph();
+        var jobId = config.jobId().map(JobId::fromString).orElseGet(JobId::new);
+        var log = executionContext.log();
+        var nodeProperties = nodePropertyListFunction.apply(computationResult);
+
+        var jobTask = Tasks.task(
+            this.procedureName + " :: AsyncWrite",
+            NodePropertyExporter.baseTask(this.procedureName, graph.nodeCount())
+        );
+        var taskRegistry = executionContext.taskRegistryFactory().newInstance(jobId);
+        var progressTracker = new TaskProgressTracker(jobTask, log, config.writeConcurrency(), () -> taskRegistry);
+        // the job keeps the computed properties alive until they are written
+        progressTracker.setEstimatedResourceFootprint(
+            MemoryRange.of(nodeProperties.size() * HugeLongArray.memoryEstimation(graph.nodeCount())),
+            config.writeConcurrency()
+        );
+
+        AsyncWriteJobs.submit(executionContext.username(), taskRegistry, jobTask, terminationFlag -> {
+            progressTracker.beginSubTask();
+            try {
+                // the procedure transaction is closed before the job runs, so only the job itself can be terminated
+                var exporter = nodePropertyExporterBuilder
+                    .withIdMap(graph)
+                    .withTerminationFlag(terminationFlag)
+                    .withProgressTracker(progressTracker)
+                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .build();
+                exporter.write(nodeProperties);
+                progressTracker.endSubTask();
+                log.info(formatWithLocale(
+                    "%s :: Job %s wrote %d node properties",
+                    this.procedureName,
+                    jobId.asString(),
+                    exporter.propertiesWritten()
+                ));
+            } catch (RuntimeException e) {
+                if (terminationFlag.running()) {
+                    log.warn(formatWithLocale("%s :: Job %s failed to write node properties", this.procedureName, jobId.asString()), e);
+                } else {
+                    log.info(formatWithLocale("%s :: Job %s was cancelled", this.procedureName, jobId.asString()));
+                }
+                progressTracker.endSubTaskWithFailure();
+            } finally {
+                progressTracker.release();
+                graph.releaseProperties();
+            }
+        });
+
+        resultBuilder.withWriteMillis(0L);
+    }
+
     ProgressTracker createProgressTracker(
         long taskVolume,
         int writeConcurrency,
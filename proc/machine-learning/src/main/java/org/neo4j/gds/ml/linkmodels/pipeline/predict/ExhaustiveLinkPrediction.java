@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import com.carrotsearch.hppc.LongHashSet;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.AtomicDouble;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -31,6 +32,7 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.ExhaustiveLinkPredictionResult;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
@@ -39,6 +41,11 @@ import java.util.Optional;
 import java.util.stream.LongStream;
 
 public class ExhaustiveLinkPrediction extends LinkPrediction {
+    // number of candidate targets of one source node that are scored with a single classifier call
+    static final int TARGET_BLOCK_SIZE = 64;
+    // feature bounds and scores are computed in a different order and may round differently
+    private static final double BOUND_TOLERANCE = 1e-9;
+
     private final int topN;
     private final double threshold;
 
@@ -65,8 +72,17 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
     public static MemoryEstimation estimate(LinkPredictionPredictPipelineBaseConfig config, int linkFeatureDimension) {
         return MemoryEstimations.builder(ExhaustiveLinkPrediction.class)
             .add("Priority queue", BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow()))
+            .perThread("Thread-local priority queues", BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow()))
+            .fixed("Feature ranges", 2 * MemoryUsage.sizeOfDoubleArray(linkFeatureDimension))
             .perGraphDimension("Predict links operation", (dim, threads) -> MemoryRange.of(
-                MemoryUsage.sizeOfDoubleArray(linkFeatureDimension) + MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
+                Matrix.sizeInBytes(TARGET_BLOCK_SIZE, linkFeatureDimension) +
+                MemoryUsage.sizeOfLongArray(TARGET_BLOCK_SIZE) +
+                MemoryUsage.sizeOfDoubleArray(TARGET_BLOCK_SIZE) +
+                // predicted probabilities for both classes
+                Matrix.sizeInBytes(TARGET_BLOCK_SIZE, 2) +
+                // feature bounds of the current source node
+                2 * MemoryUsage.sizeOfDoubleArray(linkFeatureDimension) +
+                MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
             ).times(threads))
             .build();
     }
@@ -76,7 +92,8 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
         Graph graph,
         LinkPredictionSimilarityComputer linkPredictionSimilarityComputer
     ) {
-        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        // A lower bound for the lowest probability in the final top N, which only ever increases.
+        var admissionThreshold = new AtomicDouble(threshold);
 
         var tasks = PartitionUtils.rangePartition(
             concurrency,
@@ -84,7 +101,8 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
             partition -> new LinkPredictionScoreByIdsConsumer(
                 graph.concurrentCopy(),
                 linkPredictionSimilarityComputer,
-                predictionQueue,
+                BoundedLongLongPriorityQueue.max(topN),
+                admissionThreshold,
                 partition,
                 progressTracker
             ),
@@ -93,6 +111,9 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
 
         ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
 
+        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        tasks.forEach(task -> task.predictionQueue.foreach(predictionQueue::offer));
+
         long linksConsidered = tasks.stream().mapToLong(LinkPredictionScoreByIdsConsumer::linksConsidered).sum();
         return new ExhaustiveLinkPredictionResult(predictionQueue, linksConsidered);
     }
@@ -101,47 +122,117 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
         private final Graph graph;
         private final LinkPredictionSimilarityComputer linkPredictionSimilarityComputer;
         private final BoundedLongLongPriorityQueue predictionQueue;
+        private final AtomicDouble admissionThreshold;
         private final ProgressTracker progressTracker;
         private final Partition partition;
+        private final long[] targetBlock;
+        private final Matrix featureBlock;
+        private final double[] probabilityBlock;
+        private final double[] featureLowerBounds;
+        private final double[] featureUpperBounds;
+        private int targetBlockSize;
         private long linksConsidered;
+        // thread-local view of the admission threshold
+        private double minProbability;
 
         LinkPredictionScoreByIdsConsumer(
             Graph graph,
             LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
             BoundedLongLongPriorityQueue predictionQueue,
+            AtomicDouble admissionThreshold,
             Partition partition,
             ProgressTracker progressTracker
         ) {
             this.graph = graph;
             this.linkPredictionSimilarityComputer = linkPredictionSimilarityComputer;
             this.predictionQueue = predictionQueue;
+            this.admissionThreshold = admissionThreshold;
             this.progressTracker = progressTracker;
             this.partition = partition;
+            this.targetBlock = new long[TARGET_BLOCK_SIZE];
+            this.featureBlock = new Matrix(TARGET_BLOCK_SIZE, linkPredictionSimilarityComputer.featureDimension());
+            this.probabilityBlock = new double[TARGET_BLOCK_SIZE];
+            this.featureLowerBounds = new double[linkPredictionSimilarityComputer.featureDimension()];
+            this.featureUpperBounds = new double[linkPredictionSimilarityComputer.featureDimension()];
+            this.targetBlockSize = 0;
             this.linksConsidered = 0;
+            this.minProbability = threshold;
         }
 
         @Override
         public void run() {
             partition.consume(sourceId -> {
+                // pick up thresholds raised by other threads
+                minProbability = Math.max(minProbability, admissionThreshold.get());
+
                 var largerNeighbors = largerNeighbors(sourceId);
                 // since graph is undirected, only process pairs where sourceId < targetId
                 var smallestTarget = sourceId + 1;
+
+                if (cannotEnterTopN(sourceId)) {
+                    // none of the links of this source is scored
+                    linksConsidered += graph.nodeCount() - smallestTarget - largerNeighbors.size();
+                    return;
+                }
+
                 LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
                         if (largerNeighbors.contains(targetId)) return;
-                        var probability = linkPredictionSimilarityComputer.similarity(sourceId, targetId);
-                        linksConsidered++;
-                        if (probability < threshold) return;
-
-                        synchronized (predictionQueue) {
-                            predictionQueue.offer(sourceId, targetId, probability);
+                        targetBlock[targetBlockSize++] = targetId;
+                        if (targetBlockSize == TARGET_BLOCK_SIZE) {
+                            scoreTargetBlock(sourceId);
                         }
                     }
                 );
+                if (targetBlockSize > 0) {
+                    scoreTargetBlock(sourceId);
+                }
             });
 
             progressTracker.logProgress(partition.nodeCount());
         }
 
+        private void scoreTargetBlock(long sourceId) {
+            linkPredictionSimilarityComputer.similarities(
+                sourceId,
+                targetBlock,
+                targetBlockSize,
+                featureBlock,
+                probabilityBlock
+            );
+            linksConsidered += targetBlockSize;
+
+            for (int i = 0; i < targetBlockSize; i++) {
+                var probability = probabilityBlock[i];
+                if (probability < minProbability) continue;
+
+                if (predictionQueue.offer(sourceId, targetBlock[i], probability) && predictionQueue.isFull()) {
+                    // The final top N contains at least as good links as the local top N.
+                    raiseAdmissionThreshold(predictionQueue.lastPriority());
+                }
+            }
+
+            targetBlockSize = 0;
+        }
+
+        private boolean cannotEnterTopN(long sourceId) {
+            if (minProbability <= 0) {
+                return false;
+            }
+            var maxProbability = linkPredictionSimilarityComputer.maxSimilarity(
+                sourceId,
+                featureLowerBounds,
+                featureUpperBounds
+            );
+            return maxProbability + BOUND_TOLERANCE < minProbability;
+        }
+
+        private void raiseAdmissionThreshold(double probability) {
+            if (probability > minProbability) {
+                minProbability = probability;
+                admissionThreshold.getAndUpdate(current -> Math.max(current, probability));
+            }
+        }
+
         private LongHashSet largerNeighbors(long sourceId) {
             var neighbors = new LongHashSet();
             graph.forEachRelationship(
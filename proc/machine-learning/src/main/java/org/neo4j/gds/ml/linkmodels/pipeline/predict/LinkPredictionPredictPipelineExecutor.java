@@ -95,7 +95,8 @@ public class LinkPredictionPredictPipelineExecutor extends PipelineExecutor<
             modelCatalog,
             pipeline.nodePropertySteps(),
             configuration.nodeLabels(),
-            configuration.relationshipTypes()
+            configuration.relationshipTypes(),
+            configuration
         );
 
         var strategyEstimation = configuration.isApproximateStrategy()
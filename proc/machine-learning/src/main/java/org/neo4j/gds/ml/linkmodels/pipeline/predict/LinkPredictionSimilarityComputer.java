@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
 import org.neo4j.gds.ml.splitting.EdgeSplitter;
@@ -27,6 +28,8 @@ import org.neo4j.gds.similarity.knn.NeighborFilter;
 import org.neo4j.gds.similarity.knn.NeighborFilterFactory;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
+import java.util.Arrays;
+
 class LinkPredictionSimilarityComputer implements SimilarityComputer {
 
     private final LinkFeatureExtractor linkFeatureExtractor;
@@ -48,6 +51,47 @@ class LinkPredictionSimilarityComputer implements SimilarityComputer {
         return classifier.predictProbabilities(features)[positiveClassLocalId];
     }
 
+    /**
+     * Computes the probabilities of the links from {@code sourceId} to the first {@code targetCount} ids in
+     * {@code targetIds} with a single classifier call.
+     * The feature matrix is overwritten and can be reused between calls, it needs a row for every target id.
+     */
+    void similarities(
+        long sourceId,
+        long[] targetIds,
+        int targetCount,
+        Matrix featureBlock,
+        double[] probabilities
+    ) {
+        var featureDimension = featureBlock.cols();
+        var featureData = featureBlock.data();
+        for (int i = 0; i < targetCount; i++) {
+            linkFeatureExtractor.extractFeatures(sourceId, targetIds[i], featureData, i * featureDimension);
+        }
+
+        var features = targetCount == featureBlock.rows()
+            ? featureBlock
+            : new Matrix(Arrays.copyOf(featureData, targetCount * featureDimension), targetCount, featureDimension);
+        var predictions = classifier.predictProbabilities(features);
+        for (int i = 0; i < targetCount; i++) {
+            probabilities[i] = predictions.dataAt(i, positiveClassLocalId);
+        }
+    }
+
+    /**
+     * Returns an upper bound of the probabilities of all links from {@code sourceId}.
+     * The bound arrays are overwritten and can be reused between calls.
+     */
+    double maxSimilarity(long sourceId, double[] featureLowerBounds, double[] featureUpperBounds) {
+        return linkFeatureExtractor.extractFeatureBounds(sourceId, featureLowerBounds, featureUpperBounds)
+            ? classifier.maxProbability(positiveClassLocalId, featureLowerBounds, featureUpperBounds)
+            : 1D;
+    }
+
+    int featureDimension() {
+        return linkFeatureExtractor.featureDimension();
+    }
+
     static final class LinkFilter implements NeighborFilter {
 
         private final Graph graph;
@@ -79,7 +79,8 @@ public class LinkPredictionTrainPipelineExecutor extends PipelineExecutor<LinkPr
             modelCatalog,
             pipeline.nodePropertySteps(),
             configuration.nodeLabels(),
-            List.of(pipeline.splitConfig().featureInputRelationshipType())
+            List.of(pipeline.splitConfig().featureInputRelationshipType()),
+            configuration
         );
 
         MemoryEstimation trainingEstimation = MemoryEstimations
@@ -102,7 +102,8 @@ public class NodeClassificationTrainPipelineAlgorithmFactory extends GraphStoreA
             ),
             NodeClassificationTrain.progressTask(
                 pipeline.splitConfig().validationFolds(),
-                pipeline.numberOfModelSelectionTrials()
+                pipeline.numberOfModelSelectionTrials(),
+                config.parallelModelSelection() || config.successiveHalving()
             )
         );
     }
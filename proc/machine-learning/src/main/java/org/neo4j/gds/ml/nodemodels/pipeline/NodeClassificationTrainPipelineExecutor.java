@@ -64,7 +64,8 @@ public class NodeClassificationTrainPipelineExecutor extends PipelineExecutor<
             modelCatalog,
             pipeline.nodePropertySteps(),
             configuration.nodeLabels(),
-            configuration.relationshipTypes()
+            configuration.relationshipTypes(),
+            configuration
         );
 
         var trainingEstimation = MemoryEstimations
@@ -22,12 +22,13 @@ package org.neo4j.gds.ml.nodemodels.pipeline.predict;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.ml.pipeline.NodePropertyStepCacheConfig;
 import org.neo4j.gds.model.ModelConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface NodeClassificationPredictPipelineBaseConfig extends AlgoBaseConfig, ModelConfig {
+public interface NodeClassificationPredictPipelineBaseConfig extends AlgoBaseConfig, ModelConfig, NodePropertyStepCacheConfig {
     boolean includePredictedProbabilities();
 
     // TODO make this a parameter
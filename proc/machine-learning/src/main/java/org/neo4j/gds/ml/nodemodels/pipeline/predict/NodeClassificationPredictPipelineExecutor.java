@@ -74,7 +74,8 @@ public class NodeClassificationPredictPipelineExecutor extends PipelineExecutor<
             modelCatalog,
             pipeline.nodePropertySteps(),
             configuration.nodeLabels(),
-            configuration.relationshipTypes()
+            configuration.relationshipTypes(),
+            configuration
         );
 
         var predictionEstimation = MemoryEstimations.builder().add(
@@ -20,6 +20,7 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.neo4j.gds.BaseProcTest;
@@ -35,9 +36,13 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.ml.core.batch.Batch;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.subgraph.LocalIdMap;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.PredictedLink;
+import org.neo4j.gds.ml.models.Classifier;
+import org.neo4j.gds.ml.models.Features;
 import org.neo4j.gds.ml.models.logisticregression.ImmutableLogisticRegressionData;
 import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionClassifier;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
@@ -47,6 +52,7 @@ import org.neo4j.gds.ml.pipeline.linkPipeline.train.LinkPredictionTrain;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -190,10 +196,86 @@ class ExhaustiveLinkPredictionTest extends BaseProcTest {
         assertThat(predictedLinks).allMatch(l -> l.probability() >= threshold);
     }
 
+    @Test
+    void shouldNotScoreLinksThatCannotReachTheThreshold() {
+        var featureStep = new L2FeatureStep(List.of("a", "b", "c"));
+
+        var modelData = ImmutableLogisticRegressionData.of(
+            LinkPredictionTrain.makeClassIdMap(),
+            new Weights<>(
+                new Matrix(
+                    WEIGHTS,
+                    1,
+                    WEIGHTS.length
+                )),
+            Weights.ofVector(0.0)
+        );
+
+        var graph = graphStore.getGraph(
+            List.of(NodeLabel.of("N")),
+            List.of(RelationshipType.of("T")),
+            Optional.empty()
+        );
+
+        var scoredLinks = new AtomicLong();
+        var logisticRegression = LogisticRegressionClassifier.from(modelData);
+        var classifier = new Classifier() {
+            @Override
+            public LocalIdMap classIdMap() {
+                return logisticRegression.classIdMap();
+            }
+
+            @Override
+            public double[] predictProbabilities(double[] features) {
+                scoredLinks.incrementAndGet();
+                return logisticRegression.predictProbabilities(features);
+            }
+
+            @Override
+            public Matrix predictProbabilities(Batch batch, Features features) {
+                scoredLinks.addAndGet(batch.size());
+                return logisticRegression.predictProbabilities(batch, features);
+            }
+
+            @Override
+            public Matrix predictProbabilities(Matrix features) {
+                scoredLinks.addAndGet(features.rows());
+                return logisticRegression.predictProbabilities(features);
+            }
+
+            @Override
+            public double maxProbability(int classId, double[] featureLowerBounds, double[] featureUpperBounds) {
+                return logisticRegression.maxProbability(classId, featureLowerBounds, featureUpperBounds);
+            }
+
+            @Override
+            public ClassifierData data() {
+                return logisticRegression.data();
+            }
+        };
+
+        // the L2 features are non-negative and the weight of the constant property is negative,
+        // so no link has a probability above 0.5
+        var linkPrediction = new ExhaustiveLinkPrediction(
+            classifier,
+            LinkFeatureExtractor.of(graph, List.of(featureStep)),
+            graph,
+            1,
+            6,
+            0.6,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var predictionResult = linkPrediction.compute();
+        assertThat(predictionResult.stream()).isEmpty();
+        assertThat(predictionResult.samplingStats()).containsEntry("linksConsidered", 6L);
+        assertThat(scoredLinks.get()).isZero();
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
-        "1, 3684",
-        "10, 3900"
+        "1, 222276",
+        "10, 223356"
     })
     void estimateWithDifferentTopN(int topN, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -212,8 +294,8 @@ class ExhaustiveLinkPredictionTest extends BaseProcTest {
 
     @ParameterizedTest
     @CsvSource(value = {
-        "10, 1020",
-        "1000, 32700"
+        "10, 31836",
+        "1000, 2138556"
     })
     void estimateWithDifferentLinkFeatureDimension(int linkFeatureDimension, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -92,7 +92,7 @@ class LinkPredictionPipelineStreamProcTest extends LinkPredictionPipelineProcTes
             "YIELD requiredMemory",
             Map.of("topN", 3),
             List.of(
-                Map.of("requiredMemory", "644 Bytes")
+                Map.of("requiredMemory", "15716 Bytes")
             )
         );
     }
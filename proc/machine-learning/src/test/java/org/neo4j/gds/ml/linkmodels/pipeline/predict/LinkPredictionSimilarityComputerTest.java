@@ -83,6 +83,39 @@ class LinkPredictionSimilarityComputerTest {
             0.7098853299317623, Offset.offset(1e-9));
     }
 
+    @Test
+    void computeSimilaritiesOfTargetBlock() {
+        var linkFeatureSteps = List.<LinkFeatureStep>of(
+            new CosineFeatureStep(List.of("prop2")),
+            new HadamardFeatureStep(List.of("prop1"))
+        );
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, linkFeatureSteps);
+        var modelData = ImmutableLogisticRegressionData.of(
+            LinkPredictionTrain.makeClassIdMap(),
+            new Weights<>(new Matrix(
+                new double[]{-1, -0.0001},
+                1,
+                2
+            )),
+            Weights.ofVector(0.0)
+        );
+        var lpSimComputer = new LinkPredictionSimilarityComputer(
+            linkFeatureExtractor,
+            LogisticRegressionClassifier.from(modelData)
+        );
+
+        var sourceId = graph.toMappedNodeId("a");
+        var targetIds = new long[]{graph.toMappedNodeId("b"), graph.toMappedNodeId("c"), -1};
+        var featureBlock = new Matrix(3, lpSimComputer.featureDimension());
+        var probabilities = new double[3];
+
+        // the block is only partially filled
+        lpSimComputer.similarities(sourceId, targetIds, 2, featureBlock, probabilities);
+
+        assertThat(probabilities[0]).isEqualTo(lpSimComputer.similarity(sourceId, targetIds[0]));
+        assertThat(probabilities[1]).isEqualTo(lpSimComputer.similarity(sourceId, targetIds[1]));
+    }
+
     @Test
     void filterExistingRelationships() {
         NeighborFilter filter = new LinkFilterFactory(graph).create();
@@ -35,12 +35,15 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.model.OpenModelCatalog;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.metrics.MetricSpecification;
 import org.neo4j.gds.ml.models.TrainingMethod;
 import org.neo4j.gds.ml.models.automl.TunableTrainerConfig;
@@ -274,11 +277,11 @@ class NodeClassificationTrainPipelineExecutorTest extends BaseProcTest {
             ),
             Arguments.of(
                 List.of(RandomForestTrainConfig.DEFAULT.toTunableConfig()),
-                MemoryRange.of(123_808L, 231_048L)
+                MemoryRange.of(123_632L, 230_872L)
             ),
             Arguments.of(
                 List.of(LogisticRegressionTrainConfig.DEFAULT.toTunableConfig(), RandomForestTrainConfig.DEFAULT.toTunableConfig()),
-                MemoryRange.of(31_839_432L, 31_906_672L)
+                MemoryRange.of(31_839_256L, 31_906_496L)
             ),
             Arguments.of(
                 List.of(
@@ -288,7 +291,7 @@ class NodeClassificationTrainPipelineExecutorTest extends BaseProcTest {
                     ),
                     RandomForestTrainConfig.DEFAULT.toTunableConfig()
                 ),
-                MemoryRange.of(31_839_432L, 31_906_672L)
+                MemoryRange.of(31_839_256L, 31_906_496L)
             ),
             Arguments.of(
                 List.of(
@@ -298,7 +301,7 @@ class NodeClassificationTrainPipelineExecutorTest extends BaseProcTest {
                     ),
                     RandomForestTrainConfig.DEFAULT.toTunableConfig()
                 ),
-                MemoryRange.of(3_629_038_632L, 3_629_105_872L)
+                MemoryRange.of(3_629_038_456L, 3_629_105_696L)
             )
         );
     }
@@ -349,6 +352,22 @@ class NodeClassificationTrainPipelineExecutorTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void shouldEstimateCachedEmbeddingsByTheirDimension() {
+        var step = NodePropertyStepFactory.createNodePropertyStep(
+            "fastRP",
+            Map.of("mutateProperty", "embedding", "embeddingDimension", 64)
+        );
+
+        var cachedProperty = step
+            .estimateMutatedProperty(new OpenModelCatalog())
+            .estimate(GraphDimensions.of(1_000), 4)
+            .memoryUsage();
+
+        assertThat(cachedProperty.min).isGreaterThanOrEqualTo(1_000 * MemoryUsage.sizeOfFloatArray(64));
+        assertThat(cachedProperty.min).isGreaterThan(HugeDoubleArray.memoryEstimation(1_000));
+    }
+
     @Test
     void failEstimateOnEmptyParameterSpace() {
         var pipeline = insertPipelineIntoCatalog();
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public class AsyncWriteCancelProc extends BaseProc {
+
+    @Procedure("gds.alpha.asyncWrite.cancel")
+    @Description("Cancels an asynchronous write that has not finished yet.")
+    public Stream<CancelResult> cancel(@Name(value = "jobId") String jobId) {
+        var cancelled = AsyncWriteJobs.cancel(username(), JobId.fromString(jobId));
+        return Stream.of(new CancelResult(jobId, cancelled));
+    }
+
+    public static final class CancelResult {
+        public final String jobId;
+        public final boolean cancelled;
+
+        CancelResult(String jobId, boolean cancelled) {
+            this.jobId = jobId;
+            this.cancelled = cancelled;
+        }
+    }
+}
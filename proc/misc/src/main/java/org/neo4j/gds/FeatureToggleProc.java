@@ -137,6 +137,51 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.usePrefetchingRelationshipImport")
+    @Description("Toggle whether relationship records should be decoded and imported in separate stages during graph creation.")
+    public void usePrefetchingRelationshipImport(@Name(value = "usePrefetchingRelationshipImport") boolean usePrefetchingRelationshipImport) {
+        GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT.toggle(usePrefetchingRelationshipImport);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePrefetchingRelationshipImport.reset")
+    @Description("Set the default behaviour of whether to decode and import relationship records in separate stages. That value is returned.")
+    public Stream<FeatureState> resetUsePrefetchingRelationshipImport() {
+        GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useTwoPassRelationshipImport")
+    @Description("Toggle whether node degrees should be counted in a separate pass before importing relationships.")
+    public void useTwoPassRelationshipImport(@Name(value = "useTwoPassRelationshipImport") boolean useTwoPassRelationshipImport) {
+        GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.toggle(useTwoPassRelationshipImport);
+    }
+
+    @Internal
+    @Procedure("gds.features.useTwoPassRelationshipImport.reset")
+    @Description("Set the default behaviour of whether to count node degrees before importing relationships. That value is returned.")
+    public Stream<FeatureState> resetUseTwoPassRelationshipImport() {
+        GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useCalibratedMemoryEstimation")
+    @Description("Toggle whether memory estimations should be calibrated by adjacency lists sampled from earlier projections.")
+    public void useCalibratedMemoryEstimation(@Name(value = "useCalibratedMemoryEstimation") boolean useCalibratedMemoryEstimation) {
+        GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.toggle(useCalibratedMemoryEstimation);
+    }
+
+    @Internal
+    @Procedure("gds.features.useCalibratedMemoryEstimation.reset")
+    @Description("Set the default behaviour of whether to calibrate memory estimations by earlier projections. That value is returned.")
+    public Stream<FeatureState> resetUseCalibratedMemoryEstimation() {
+        GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.maxArrayLengthShift.reset")
     @Description("Set the value of the max array size before paging to the default. That value is returned.")
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.embeddings.fastrp.FastRPWriteProc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncWriteCancelProcTest extends BaseProgressTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)";
+
+    private static final String WRITE_QUERY =
+        "CALL gds.fastRP.write('graph', {embeddingDimension: 4, writeProperty: 'embedding', asyncWrite: true, jobId: $jobId})";
+
+    private final CountDownLatch writesBlocked = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() throws Exception {
+        GraphDatabaseApiProxy.registerProcedures(
+            db,
+            GraphProjectProc.class,
+            FastRPWriteProc.class,
+            ListProgressProc.class,
+            AsyncWriteCancelProc.class
+        );
+        runQuery(DB_CYPHER);
+        runQuery("CALL gds.graph.project('graph', 'Node', 'REL')");
+
+        // keep asynchronous writes pending until the test releases them
+        AsyncWriteJobs.pool().execute(() -> {
+            try {
+                writesBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        writesBlocked.countDown();
+        awaitAsyncWrites();
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldWriteAsynchronously() throws Exception {
+        var jobId = new JobId().asString();
+        runQuery(WRITE_QUERY, Map.of("jobId", jobId));
+
+        assertThat(listedJobs()).containsEntry(jobId, "PENDING");
+        assertThat(nodesWithEmbedding()).isZero();
+
+        writesBlocked.countDown();
+        awaitAsyncWrites();
+
+        assertThat(nodesWithEmbedding()).isEqualTo(3L);
+        assertThat(listedJobs()).doesNotContainKey(jobId);
+    }
+
+    @Test
+    void shouldCancelAsynchronousWrite() throws Exception {
+        var jobId = new JobId().asString();
+        runQuery(WRITE_QUERY, Map.of("jobId", jobId));
+
+        assertCypherResult(
+            "CALL gds.alpha.asyncWrite.cancel($jobId)",
+            Map.of("jobId", jobId),
+            List.of(Map.of("jobId", jobId, "cancelled", true))
+        );
+
+        writesBlocked.countDown();
+        awaitAsyncWrites();
+
+        assertThat(nodesWithEmbedding()).isZero();
+        assertThat(listedJobs()).doesNotContainKey(jobId);
+    }
+
+    @Test
+    void shouldNotCancelWritesOfOtherUsers() {
+        var jobId = new JobId().asString();
+        runQuery(WRITE_QUERY, Map.of("jobId", jobId));
+
+        boolean cancelled = runQuery(
+            "Bob",
+            "CALL gds.alpha.asyncWrite.cancel('" + jobId + "') YIELD cancelled RETURN cancelled",
+            result -> (boolean) result.next().get("cancelled")
+        );
+
+        assertThat(cancelled).isFalse();
+    }
+
+    private Map<String, String> listedJobs() {
+        var jobs = new HashMap<String, String>();
+        runQueryWithRowConsumer(
+            "CALL gds.beta.listProgress() YIELD jobId, status RETURN jobId, status",
+            row -> jobs.put(row.getString("jobId"), row.getString("status"))
+        );
+        return jobs;
+    }
+
+    private long nodesWithEmbedding() {
+        return runQuery(
+            "MATCH (n:Node) WHERE n.embedding IS NOT NULL RETURN count(n) AS count",
+            result -> (long) result.next().get("count")
+        );
+    }
+
+    private static void awaitAsyncWrites() throws Exception {
+        // the pool runs one job at a time, so all jobs submitted before this one have finished
+        AsyncWriteJobs.pool().submit(() -> {}).get(1, TimeUnit.MINUTES);
+    }
+}
@@ -31,10 +31,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
 class FeatureToggleProcTest extends BaseProcTest {
@@ -139,6 +143,63 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_REORDERED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUsePrefetchingRelationshipImport() {
+        var usePrefetchingRelationshipImport = USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled();
+        runQuery("CALL gds.features.usePrefetchingRelationshipImport($value)", Map.of("value", !usePrefetchingRelationshipImport));
+        assertEquals(!usePrefetchingRelationshipImport, USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled());
+        runQuery("CALL gds.features.usePrefetchingRelationshipImport($value)", Map.of("value", usePrefetchingRelationshipImport));
+        assertEquals(usePrefetchingRelationshipImport, USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void resetUsePrefetchingRelationshipImport() {
+        USE_PREFETCHING_RELATIONSHIP_IMPORT.reset();
+        assertCypherResult(
+            "CALL gds.features.usePrefetchingRelationshipImport.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void toggleUseTwoPassRelationshipImport() {
+        var useTwoPassRelationshipImport = USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled();
+        runQuery("CALL gds.features.useTwoPassRelationshipImport($value)", Map.of("value", !useTwoPassRelationshipImport));
+        assertEquals(!useTwoPassRelationshipImport, USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+        runQuery("CALL gds.features.useTwoPassRelationshipImport($value)", Map.of("value", useTwoPassRelationshipImport));
+        assertEquals(useTwoPassRelationshipImport, USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void resetUseTwoPassRelationshipImport() {
+        USE_TWO_PASS_RELATIONSHIP_IMPORT.reset();
+        assertCypherResult(
+            "CALL gds.features.useTwoPassRelationshipImport.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void toggleUseCalibratedMemoryEstimation() {
+        var useCalibratedMemoryEstimation = USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled();
+        runQuery("CALL gds.features.useCalibratedMemoryEstimation($value)", Map.of("value", !useCalibratedMemoryEstimation));
+        assertEquals(!useCalibratedMemoryEstimation, USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled());
+        runQuery("CALL gds.features.useCalibratedMemoryEstimation($value)", Map.of("value", useCalibratedMemoryEstimation));
+        assertEquals(useCalibratedMemoryEstimation, USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled());
+    }
+
+    @Test
+    void resetUseCalibratedMemoryEstimation() {
+        USE_CALIBRATED_MEMORY_ESTIMATION.reset();
+        assertCypherResult(
+            "CALL gds.features.useCalibratedMemoryEstimation.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled());
+    }
+
     @Test
     void toggleMaxArrayLengthShift() {
         var maxArrayLengthShift = GdsFeatureToggles.MAX_ARRAY_LENGTH_SHIFT.get();
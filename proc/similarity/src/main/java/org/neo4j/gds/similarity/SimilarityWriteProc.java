@@ -25,6 +25,7 @@ import org.neo4j.gds.WriteRelationshipsProc;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.config.WriteRelationshipConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.RelationshipExporter;
@@ -85,10 +86,13 @@ public abstract class SimilarityWriteProc<
                     procedureName() + " write-back failed",
                     () -> {
                         try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
+                            var writeConcurrency = config.parallelRelationshipWrite()
+                                ? config.writeConcurrency()
+                                : RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY;
                             var progressTracker = new TaskProgressTracker(
                                 RelationshipExporter.baseTask(name(), similarityGraph.relationshipCount()),
                                 executionContext().log(),
-                                RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
+                                writeConcurrency,
                                 executionContext().taskRegistryFactory()
                             );
                             var exporter = relationshipExporterBuilder
@@ -96,6 +100,8 @@ public abstract class SimilarityWriteProc<
                                 .withGraph(similarityGraph)
                                 .withTerminationFlag(algorithm.getTerminationFlag())
                                 .withProgressTracker(progressTracker)
+                                .withBatchSize(config.writeBatchSize())
+                                .parallel(Pools.DEFAULT, writeConcurrency)
                                 .build();
 
                             if (SimilarityProc.shouldComputeHistogram(executionContext().callContext())) {
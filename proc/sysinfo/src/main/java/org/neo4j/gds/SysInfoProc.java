@@ -110,7 +110,10 @@ public class SysInfoProc {
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
             .add(value("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featurePrefetchingRelationshipImport", GdsFeatureToggles.USE_PREFETCHING_RELATIONSHIP_IMPORT.isEnabled()))
+            .add(value("featureTwoPassRelationshipImport", GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()))
+            .add(value("featureCalibratedMemoryEstimation", GdsFeatureToggles.USE_CALIBRATED_MEMORY_ESTIMATION.isEnabled()));
     }
 
     private static void buildInfo(BuildInfoProperties properties, Stream.Builder<DebugValue> builder) {
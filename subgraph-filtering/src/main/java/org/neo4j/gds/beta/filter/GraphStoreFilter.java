@@ -84,6 +84,22 @@ public final class GraphStoreFilter {
     ) throws ParseException, SemanticErrors {
         var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
 
+        if (config.lazy()) {
+            progressTracker.beginSubTask();
+            try {
+                return LazyGraphStoreFilter.filter(
+                    graphStore,
+                    expressions.nodeExpression(),
+                    expressions.relationshipExpression(),
+                    config.concurrency(),
+                    executorService,
+                    progressTracker
+                );
+            } finally {
+                progressTracker.endSubTask();
+            }
+        }
+
         var inputNodes = graphStore.nodes();
 
         progressTracker.beginSubTask();
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.NodeFilteredGraphStore;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Creates a {@link NodeFilteredGraphStore} view instead of copying the filtered graph.
+ * Only the node filter is evaluated eagerly, relationships are filtered by type when the view is created
+ * and by their end nodes when a graph of the view is traversed.
+ */
+final class LazyGraphStoreFilter {
+
+    private static final double[] NO_PROPERTIES = new double[0];
+
+    static NodeFilteredGraphStore filter(
+        GraphStore graphStore,
+        Expression nodeExpression,
+        Expression relationshipExpression,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (ExpressionCompiler.readsProperties(relationshipExpression)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Lazy subgraphs only support relationship filters on relationship types, got `%s`.",
+                relationshipExpression.prettyString()
+            ));
+        }
+
+        var rootGraphStore = rootGraphStore(graphStore);
+
+        progressTracker.beginSubTask();
+        var nodes = filterNodes(graphStore, rootGraphStore, nodeExpression, concurrency, executorService, progressTracker);
+        progressTracker.endSubTask();
+
+        // node properties are shared with the root graph store
+        progressTracker.beginSubTask();
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var relationshipTypes = graphStore
+            .relationshipTypes()
+            .stream()
+            .filter(relationshipType -> ExpressionCompiler
+                .compileRelationshipFilter(relationshipExpression, relationshipType.name, Map.of())
+                .test(NO_PROPERTIES))
+            .collect(Collectors.toSet());
+        progressTracker.endSubTask();
+
+        return NodeFilteredGraphStore.of(rootGraphStore, nodes, relationshipTypes);
+    }
+
+    private static CSRGraphStore rootGraphStore(GraphStore graphStore) {
+        if (graphStore instanceof NodeFilteredGraphStore) {
+            return ((NodeFilteredGraphStore) graphStore).rootGraphStore();
+        }
+        if (graphStore instanceof CSRGraphStore) {
+            return (CSRGraphStore) graphStore;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Lazy subgraphs are not supported for graph stores of type `%s`.",
+            graphStore.getClass().getSimpleName()
+        ));
+    }
+
+    /**
+     * Returns the ids of the root graph store of all nodes of the given graph store that match the expression.
+     */
+    private static BitSet filterNodes(
+        GraphStore graphStore,
+        CSRGraphStore rootGraphStore,
+        Expression nodeExpression,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var idMap = graphStore.nodes();
+        var matchingNodes = HugeAtomicBitSet.create(rootGraphStore.nodeCount());
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graphStore.nodeCount(),
+            partition -> (Runnable) () -> {
+                var nodeFilter = ExpressionCompiler.compileNodeFilter(nodeExpression, graphStore);
+                partition.consume(node -> {
+                    if (nodeFilter.test(node)) {
+                        matchingNodes.set(idMap.toRootNodeId(node));
+                    }
+                });
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        var nodes = new BitSet(rootGraphStore.nodeCount());
+        matchingNodes.forEachSetBit(nodes::set);
+        return nodes;
+    }
+
+    private LazyGraphStoreFilter() {}
+}
@@ -27,8 +27,8 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.NodeProperty;
 import org.neo4j.gds.api.NodePropertyStore;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
@@ -47,6 +47,7 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 
 final class NodesFilter {
 
@@ -235,8 +236,7 @@ final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final LongPredicate nodeFilter;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
@@ -274,10 +274,9 @@ final class NodesFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore);
+            this.nodeFilter = ExpressionCompiler.compileNodeFilter(expression, inputGraphStore);
             this.progressTracker = progressTracker;
         }
 
@@ -285,8 +284,7 @@ final class NodesFilter {
         public void run() {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
-                nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (nodeFilter.test(node)) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
@@ -29,8 +29,8 @@ import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.RelationshipProperty;
 import org.neo4j.gds.api.RelationshipPropertyStore;
 import org.neo4j.gds.api.Relationships;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -200,14 +201,12 @@ final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final Predicate<double[]> relationshipFilter;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
         private final IdMap outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
@@ -221,13 +220,11 @@ final class RelationshipsFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+            this.relationshipFilter = ExpressionCompiler.compileRelationshipFilter(expression, relType.name, propertyIndices);
             this.progressTracker = progressTracker;
         }
 
@@ -242,9 +239,7 @@ final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType.name, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (relationshipFilter.test(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+/**
+ * Turns a validated {@link Expression} into a tree of specialised lambdas.
+ *
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, the compiled expression
+ * does not look up properties, labels or relationship types by name for every element.
+ * Property values are read from pre-resolved node properties or relationship property indices,
+ * relationship type checks are folded into constants and comparisons on long values
+ * skip the round-trip through the double representation.
+ *
+ * A compiled expression evaluates to the same values as the interpreted one.
+ * Instances are not thread-safe and should be compiled per task.
+ */
+public abstract class ExpressionCompiler {
+
+    @FunctionalInterface
+    interface CompiledExpression {
+        double evaluate(long id, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface CompiledLongExpression {
+        long evaluate(long id, double[] properties);
+    }
+
+    public static LongPredicate compileNodeFilter(Expression expression, GraphStore graphStore) {
+        var compiled = new NodeExpressionCompiler(graphStore).compile(expression);
+        return nodeId -> compiled.evaluate(nodeId, null) == TRUE;
+    }
+
+    public static Predicate<double[]> compileRelationshipFilter(
+        Expression expression,
+        String relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        var compiled = new RelationshipExpressionCompiler(relationshipType, propertyIndices).compile(expression);
+        return properties -> compiled.evaluate(0, properties) == TRUE;
+    }
+
+    /**
+     * Returns whether evaluating the expression might read a property.
+     */
+    public static boolean readsProperties(Expression expression) {
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            return true;
+        }
+        if (expression instanceof Expression.UnaryExpression) {
+            return readsProperties(((Expression.UnaryExpression) expression).in());
+        }
+        if (expression instanceof Expression.BinaryExpression) {
+            var binaryExpression = (Expression.BinaryExpression) expression;
+            return readsProperties(binaryExpression.lhs()) || readsProperties(binaryExpression.rhs());
+        }
+        return false;
+    }
+
+    abstract CompiledExpression property(Expression.UnaryExpression.Property property);
+
+    abstract CompiledLongExpression longProperty(Expression.UnaryExpression.Property property);
+
+    abstract CompiledExpression hasLabelsOrTypes(Expression.UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes);
+
+    /**
+     * Fallback for expressions without a specialised implementation.
+     */
+    abstract CompiledExpression interpreted(Expression expression);
+
+    CompiledExpression compile(Expression expression) {
+        if (expression instanceof Expression.Literal.TrueLiteral) {
+            return constant(TRUE);
+        }
+        if (expression instanceof Expression.Literal.FalseLiteral) {
+            return constant(FALSE);
+        }
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            return constant(Double.longBitsToDouble(((Expression.Literal.LongLiteral) expression).value()));
+        }
+        if (expression instanceof Expression.Literal.DoubleLiteral) {
+            return constant(((Expression.Literal.DoubleLiteral) expression).value());
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return constant(Expression.VARIABLE);
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            return property((Expression.UnaryExpression.Property) expression);
+        }
+        if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+            return hasLabelsOrTypes((Expression.UnaryExpression.HasLabelsOrTypes) expression);
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            var in = compile(((Expression.UnaryExpression.Not) expression).in());
+            return (id, properties) -> in.evaluate(id, properties) == TRUE ? FALSE : TRUE;
+        }
+        if (expression instanceof Expression.BinaryExpression.BinaryArithmeticExpression) {
+            return compileArithmetic((Expression.BinaryExpression.BinaryArithmeticExpression) expression);
+        }
+        if (expression instanceof Expression.BinaryExpression) {
+            return compileLogical((Expression.BinaryExpression) expression);
+        }
+        return interpreted(expression);
+    }
+
+    private CompiledExpression compileLogical(Expression.BinaryExpression expression) {
+        var lhs = compile(expression.lhs());
+        var rhs = compile(expression.rhs());
+
+        if (expression instanceof Expression.BinaryExpression.And) {
+            return (id, properties) -> lhs.evaluate(id, properties) == TRUE && rhs.evaluate(id, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            return (id, properties) -> lhs.evaluate(id, properties) == TRUE || rhs.evaluate(id, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            return (id, properties) -> lhs.evaluate(id, properties) == TRUE ^ rhs.evaluate(id, properties) == TRUE
+                ? TRUE
+                : FALSE;
+        }
+        return interpreted(expression);
+    }
+
+    private CompiledExpression compileArithmetic(Expression.BinaryExpression.BinaryArithmeticExpression expression) {
+        // It is sufficient to check one of the input types
+        // as validation made sure that the types are equal.
+        if (expression.lhs().valueType() == ValueType.LONG) {
+            return compileLongComparison(expression);
+        }
+
+        var lhs = compile(expression.lhs());
+        var rhs = compile(expression.rhs());
+
+        if (expression instanceof Expression.BinaryExpression.Equal) {
+            return (id, properties) -> Math.abs(lhs.evaluate(id, properties) - rhs.evaluate(id, properties)) < EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.NotEqual) {
+            return (id, properties) -> Math.abs(lhs.evaluate(id, properties) - rhs.evaluate(id, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+            return (id, properties) -> (lhs.evaluate(id, properties) - rhs.evaluate(id, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+            return (id, properties) -> {
+                var lhsValue = lhs.evaluate(id, properties);
+                var rhsValue = rhs.evaluate(id, properties);
+                return lhsValue > rhsValue || Math.abs(lhsValue - rhsValue) < EPSILON ? TRUE : FALSE;
+            };
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThan) {
+            return (id, properties) -> (rhs.evaluate(id, properties) - lhs.evaluate(id, properties)) > EPSILON
+                ? TRUE
+                : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+            return (id, properties) -> {
+                var lhsValue = lhs.evaluate(id, properties);
+                var rhsValue = rhs.evaluate(id, properties);
+                return lhsValue < rhsValue || (rhsValue - lhsValue) > -EPSILON ? TRUE : FALSE;
+            };
+        }
+        return (id, properties) -> expression.evaluateDouble(lhs.evaluate(id, properties), rhs.evaluate(id, properties));
+    }
+
+    private CompiledExpression compileLongComparison(Expression.BinaryExpression.BinaryArithmeticExpression expression) {
+        var lhs = compileLong(expression.lhs());
+        var rhs = compileLong(expression.rhs());
+
+        if (expression instanceof Expression.BinaryExpression.Equal) {
+            return (id, properties) -> lhs.evaluate(id, properties) == rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.NotEqual) {
+            return (id, properties) -> lhs.evaluate(id, properties) != rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+            return (id, properties) -> lhs.evaluate(id, properties) > rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+            return (id, properties) -> lhs.evaluate(id, properties) >= rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThan) {
+            return (id, properties) -> lhs.evaluate(id, properties) < rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+            return (id, properties) -> lhs.evaluate(id, properties) <= rhs.evaluate(id, properties) ? TRUE : FALSE;
+        }
+        return (id, properties) -> expression.evaluateLong(lhs.evaluate(id, properties), rhs.evaluate(id, properties));
+    }
+
+    private CompiledLongExpression compileLong(Expression expression) {
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            var value = ((Expression.Literal.LongLiteral) expression).value();
+            return (id, properties) -> value;
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            return longProperty((Expression.UnaryExpression.Property) expression);
+        }
+        var compiled = compile(expression);
+        return (id, properties) -> Double.doubleToRawLongBits(compiled.evaluate(id, properties));
+    }
+
+    private static CompiledExpression constant(double value) {
+        return (id, properties) -> value;
+    }
+
+    static final class NodeExpressionCompiler extends ExpressionCompiler {
+
+        private final GraphStore graphStore;
+        private final IdMap idMap;
+        private final EvaluationContext.NodeEvaluationContext fallbackContext;
+
+        NodeExpressionCompiler(GraphStore graphStore) {
+            this.graphStore = graphStore;
+            this.idMap = graphStore.nodes();
+            this.fallbackContext = new EvaluationContext.NodeEvaluationContext(graphStore);
+        }
+
+        @Override
+        CompiledExpression property(Expression.UnaryExpression.Property property) {
+            if (!graphStore.hasNodeProperty(property.propertyKey())) {
+                return constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+            var nodeProperties = graphStore.nodePropertyValues(property.propertyKey());
+            return property.valueType() == ValueType.LONG
+                ? (nodeId, properties) -> Double.longBitsToDouble(nodeProperties.longValue(nodeId))
+                : (nodeId, properties) -> nodeProperties.doubleValue(nodeId);
+        }
+
+        @Override
+        CompiledLongExpression longProperty(Expression.UnaryExpression.Property property) {
+            if (!graphStore.hasNodeProperty(property.propertyKey())) {
+                var fallback = Double.doubleToRawLongBits(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                return (nodeId, properties) -> fallback;
+            }
+            var nodeProperties = graphStore.nodePropertyValues(property.propertyKey());
+            return (nodeId, properties) -> nodeProperties.longValue(nodeId);
+        }
+
+        @Override
+        CompiledExpression hasLabelsOrTypes(Expression.UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes) {
+            var labels = hasLabelsOrTypes.labelsOrTypes().stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+            return (nodeId, properties) -> {
+                for (NodeLabel label : labels) {
+                    if (!idMap.hasLabel(nodeId, label)) {
+                        return FALSE;
+                    }
+                }
+                return TRUE;
+            };
+        }
+
+        @Override
+        CompiledExpression interpreted(Expression expression) {
+            return (nodeId, properties) -> {
+                fallbackContext.init(nodeId);
+                return expression.evaluate(fallbackContext);
+            };
+        }
+    }
+
+    static final class RelationshipExpressionCompiler extends ExpressionCompiler {
+
+        private final String relationshipType;
+        private final Map<String, Integer> propertyIndices;
+        private final EvaluationContext.RelationshipEvaluationContext fallbackContext;
+
+        RelationshipExpressionCompiler(String relationshipType, Map<String, Integer> propertyIndices) {
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+            this.fallbackContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+        }
+
+        @Override
+        CompiledExpression property(Expression.UnaryExpression.Property property) {
+            var index = propertyIndices.get(property.propertyKey());
+            if (index == null) {
+                // the property does not exist for this relationship type, the expression might never read it
+                return interpreted(property);
+            }
+            int propertyIndex = index;
+            return (relationshipId, properties) -> properties[propertyIndex];
+        }
+
+        @Override
+        CompiledLongExpression longProperty(Expression.UnaryExpression.Property property) {
+            var index = propertyIndices.get(property.propertyKey());
+            if (index == null) {
+                var interpreted = interpreted(property);
+                return (relationshipId, properties) -> Double.doubleToRawLongBits(interpreted.evaluate(relationshipId, properties));
+            }
+            int propertyIndex = index;
+            return (relationshipId, properties) -> Double.doubleToRawLongBits(properties[propertyIndex]);
+        }
+
+        @Override
+        CompiledExpression hasLabelsOrTypes(Expression.UnaryExpression.HasLabelsOrTypes hasLabelsOrTypes) {
+            // the relationship type is fixed for the compiled expression, so the check is a constant
+            List<String> types = hasLabelsOrTypes.labelsOrTypes();
+            return constant(types.contains(relationshipType) ? TRUE : FALSE);
+        }
+
+        @Override
+        CompiledExpression interpreted(Expression expression) {
+            return (relationshipId, properties) -> {
+                fallbackContext.init(relationshipType, properties);
+                return expression.evaluate(fallbackContext);
+            };
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: -1.0, p2: 0 })" +
+        ", (d { p1: 42.000001, p2: -42 })";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "n:A",
+        "n:A:B",
+        "NOT n:B",
+        "n:A OR n:C",
+        "n:B XOR n.p2 > 100",
+        "n.p1 = 42.0",
+        "n.p1 <> 42.0",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p2 = 42",
+        "n.p2 <> 42",
+        "n.p2 > 0",
+        "n.p2 >= 0",
+        "n.p2 < 1337",
+        "n.p2 <= 1337",
+        "n.p2 > n.p2",
+        "n:B AND n.p1 > 100.0 AND n.p2 >= 1337",
+        "NOT (n.p2 < 0 OR n.p1 < 0.0)",
+    })
+    void nodeFilterMatchesInterpretedExpression(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter, Map.of("p1", ValueType.DOUBLE, "p2", ValueType.LONG));
+        var compiled = ExpressionCompiler.compileNodeFilter(expression, graphStore);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(compiled.test(nodeId))
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "r:REL",
+        "r:REL:OTHER",
+        "r:OTHER",
+        "r.w > 1.0",
+        "r.w <= 1.0 AND r.v = 2.0",
+        "r:OTHER AND r.missing > 0.0",
+        "NOT r:OTHER OR r.w < 0.0",
+    })
+    void relationshipFilterMatchesInterpretedExpression(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(
+            filter,
+            Map.of("w", ValueType.DOUBLE, "v", ValueType.DOUBLE, "missing", ValueType.DOUBLE)
+        );
+        var propertyIndices = Map.of("w", 0, "v", 1);
+        var compiled = ExpressionCompiler.compileRelationshipFilter(expression, "REL", propertyIndices);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+
+        for (double[] properties : new double[][]{{0.5, 2.0}, {1.0, 2.0}, {1.5, 3.0}, {-1.0, 2.0}}) {
+            context.init("REL", properties);
+            assertThat(compiled.test(properties)).isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+}